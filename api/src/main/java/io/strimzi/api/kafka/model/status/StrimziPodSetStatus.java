@@ -0,0 +1,60 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model.status;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import io.strimzi.api.kafka.model.Constants;
+import io.strimzi.crdgenerator.annotations.Description;
+import io.sundr.builder.annotations.Buildable;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Represents a status of the StrimziPodSet resource
+ */
+@Buildable(
+        editableEnabled = false,
+        generateBuilderPackage = false,
+        builderPackage = Constants.FABRIC8_KUBERNETES_API
+)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({ "conditions", "observedGeneration", "pods", "readyPods", "currentPods" })
+@EqualsAndHashCode
+@ToString(callSuper = true)
+public class StrimziPodSetStatus extends Status {
+    private static final long serialVersionUID = 1L;
+
+    private int pods;
+    private int readyPods;
+    private int currentPods;
+
+    @Description("Number of pods managed by this `StrimziPodSet` resource.")
+    public int getPods() {
+        return pods;
+    }
+
+    public void setPods(int pods) {
+        this.pods = pods;
+    }
+
+    @Description("Number of pods managed by this `StrimziPodSet` resource that are ready.")
+    public int getReadyPods() {
+        return readyPods;
+    }
+
+    public void setReadyPods(int readyPods) {
+        this.readyPods = readyPods;
+    }
+
+    @Description("Number of pods managed by this `StrimziPodSet` resource that have the current revision.")
+    public int getCurrentPods() {
+        return currentPods;
+    }
+
+    public void setCurrentPods(int currentPods) {
+        this.currentPods = currentPods;
+    }
+}
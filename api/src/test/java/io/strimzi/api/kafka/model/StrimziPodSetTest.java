@@ -0,0 +1,17 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model;
+
+/**
+ * The purpose of this test is to ensure:
+ *
+ * 1. we get a correct tree of POJOs when reading a JSON/YAML `StrimziPodSet` resource.
+ */
+public class StrimziPodSetTest extends AbstractCrdTest<StrimziPodSet> {
+
+    public StrimziPodSetTest() {
+        super(StrimziPodSet.class);
+    }
+}
@@ -33,7 +33,8 @@ public class StructuralCrdIT extends AbstractCrdIT {
             "kafkabridges.kafka.strimzi.io", "046-Crd-kafkabridge.yaml",
             "kafkaconnectors.kafka.strimzi.io", "047-Crd-kafkaconnector.yaml",
             "kafkamirrormaker2s.kafka.strimzi.io", "048-Crd-kafkamirrormaker2.yaml",
-            "kafkarebalances.kafka.strimzi.io", "049-Crd-kafkarebalance.yaml"
+            "kafkarebalances.kafka.strimzi.io", "049-Crd-kafkarebalance.yaml",
+            "strimzipodsets.core.strimzi.io", "042-Crd-strimzipodset.yaml"
     );
     
     @Test
@@ -12,6 +12,7 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.StrimziPodSetController;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.common.MetricsProvider;
@@ -64,6 +65,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator;
     private final KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator;
     private final KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator;
+    private StrimziPodSetController podSetController;
 
     public ClusterOperator(String namespace,
                            ClusterOperatorConfig config,
@@ -111,6 +113,14 @@ public class ClusterOperator extends AbstractVerticle {
         watchFutures.add(AbstractConnectOperator.createConnectorWatch(kafkaConnectAssemblyOperator, namespace, config.getCustomResourceSelector()));
         watchFutures.add(kafkaRebalanceAssemblyOperator.createRebalanceWatch(namespace));
 
+        if (config.featureGates().useStrimziPodSetsEnabled()) {
+            watchFutures.add(kafkaAssemblyOperator.createPodSetWatch(namespace)
+                    .map(controller -> {
+                        this.podSetController = controller;
+                        return null;
+                    }));
+        }
+
         CompositeFuture.join(watchFutures)
                 .compose(f -> {
                     LOGGER.info("Setting up periodic reconciliation for namespace {}", namespace);
@@ -138,6 +148,19 @@ public class ClusterOperator extends AbstractVerticle {
         stop.complete();
     }
 
+    /**
+     * Triggers the reconciliation of all resources in the namespace of this verticle. It is used when the namespaces
+     * owned by this operator instance change.
+     *
+     * @param trigger   Trigger of the reconciliation
+     */
+    public void triggerReconciliation(String trigger) {
+        context.runOnContext(v -> {
+            LOGGER.info("Triggering {} reconciliation for namespace {}", trigger, namespace);
+            reconcileAll(trigger);
+        });
+    }
+
     /**
       Periodical reconciliation (in case we lost some event)
      */
@@ -149,6 +172,10 @@ public class ClusterOperator extends AbstractVerticle {
         kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, ignore);
         kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, ignore);
         kafkaRebalanceAssemblyOperator.reconcileAll(trigger, namespace, ignore);
+
+        if (podSetController != null) {
+            podSetController.reconcileAll(namespace);
+        }
     }
 
     /**
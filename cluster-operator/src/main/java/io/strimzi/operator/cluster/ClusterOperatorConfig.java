@@ -55,6 +55,12 @@ public class ClusterOperatorConfig {
     public static final boolean DEFAULT_CREATE_CLUSTER_ROLES = false;
     public static final String STRIMZI_NETWORK_POLICY_GENERATION = "STRIMZI_NETWORK_POLICY_GENERATION";
     public static final boolean DEFAULT_NETWORK_POLICY_GENERATION = true;
+    public static final String STRIMZI_SHARDING_ENABLED = "STRIMZI_SHARDING_ENABLED";
+    public static final boolean DEFAULT_SHARDING_ENABLED = false;
+    public static final String STRIMZI_LEADER_ELECTION_ENABLED = "STRIMZI_LEADER_ELECTION_ENABLED";
+    public static final boolean DEFAULT_LEADER_ELECTION_ENABLED = false;
+    public static final String STRIMZI_LEADER_ELECTION_LEASE_NAME = "STRIMZI_LEADER_ELECTION_LEASE_NAME";
+    public static final String DEFAULT_LEADER_ELECTION_LEASE_NAME = "strimzi-cluster-operator";
 
     // Env vars for configuring images
     public static final String STRIMZI_KAFKA_IMAGES = "STRIMZI_KAFKA_IMAGES";
@@ -92,6 +98,9 @@ public class ClusterOperatorConfig {
     private final Labels customResourceSelector;
     private final FeatureGates featureGates;
     private final int operationsThreadPoolSize;
+    private final boolean shardingEnabled;
+    private final boolean leaderElectionEnabled;
+    private final String leaderElectionLeaseName;
 
     /**
      * Constructor
@@ -111,6 +120,9 @@ public class ClusterOperatorConfig {
      * @param customResourceSelector Labels used to filter the custom resources seen by the cluster operator
      * @param featureGates Configuration string with feature gates settings
      * @param operationsThreadPoolSize The size of the thread pool used for various operations
+     * @param shardingEnabled true to split the watched namespaces between the replicas of the operator
+     * @param leaderElectionEnabled true to reconcile the resources only in the replica which is the leader
+     * @param leaderElectionLeaseName Name of the Lease used for the leader election
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(
@@ -128,7 +140,10 @@ public class ClusterOperatorConfig {
             RbacScope rbacScope,
             Labels customResourceSelector,
             String featureGates,
-            int operationsThreadPoolSize) {
+            int operationsThreadPoolSize,
+            boolean shardingEnabled,
+            boolean leaderElectionEnabled,
+            String leaderElectionLeaseName) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -144,6 +159,9 @@ public class ClusterOperatorConfig {
         this.customResourceSelector = customResourceSelector;
         this.featureGates = new FeatureGates(featureGates);
         this.operationsThreadPoolSize = operationsThreadPoolSize;
+        this.shardingEnabled = shardingEnabled;
+        this.leaderElectionEnabled = leaderElectionEnabled;
+        this.leaderElectionLeaseName = leaderElectionLeaseName;
     }
 
     /**
@@ -193,6 +211,9 @@ public class ClusterOperatorConfig {
         Labels customResourceSelector = parseLabels(map, STRIMZI_CUSTOM_RESOURCE_SELECTOR);
         String featureGates = map.getOrDefault(STRIMZI_FEATURE_GATES, "");
         int operationsThreadPoolSize = parseInt(map.get(STRIMZI_OPERATIONS_THREAD_POOL_SIZE), DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE);
+        boolean shardingEnabled = parseShardingEnabled(map.get(STRIMZI_SHARDING_ENABLED), operatorNamespace);
+        boolean leaderElectionEnabled = parseLeaderElectionEnabled(map.get(STRIMZI_LEADER_ELECTION_ENABLED), operatorNamespace, shardingEnabled);
+        String leaderElectionLeaseName = map.getOrDefault(STRIMZI_LEADER_ELECTION_LEASE_NAME, DEFAULT_LEADER_ELECTION_LEASE_NAME);
 
         return new ClusterOperatorConfig(
                 namespaces,
@@ -209,7 +230,10 @@ public class ClusterOperatorConfig {
                 rbacScope,
                 customResourceSelector,
                 featureGates,
-                operationsThreadPoolSize);
+                operationsThreadPoolSize,
+                shardingEnabled,
+                leaderElectionEnabled,
+                leaderElectionLeaseName);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -281,6 +305,39 @@ public class ClusterOperatorConfig {
         return networkPolicyGeneration;
     }
 
+    private static boolean parseShardingEnabled(String shardingEnabledEnvVar, String operatorNamespace) {
+        boolean shardingEnabled = DEFAULT_SHARDING_ENABLED;
+
+        if (shardingEnabledEnvVar != null) {
+            shardingEnabled = Boolean.parseBoolean(shardingEnabledEnvVar);
+        }
+
+        if (shardingEnabled && operatorNamespace == null) {
+            throw new InvalidConfigurationException(STRIMZI_SHARDING_ENABLED
+                    + " requires the " + STRIMZI_OPERATOR_NAMESPACE + " environment variable to be set");
+        }
+
+        return shardingEnabled;
+    }
+
+    private static boolean parseLeaderElectionEnabled(String leaderElectionEnabledEnvVar, String operatorNamespace, boolean shardingEnabled) {
+        boolean leaderElectionEnabled = DEFAULT_LEADER_ELECTION_ENABLED;
+
+        if (leaderElectionEnabledEnvVar != null) {
+            leaderElectionEnabled = Boolean.parseBoolean(leaderElectionEnabledEnvVar);
+        }
+
+        if (leaderElectionEnabled && operatorNamespace == null) {
+            throw new InvalidConfigurationException(STRIMZI_LEADER_ELECTION_ENABLED
+                    + " requires the " + STRIMZI_OPERATOR_NAMESPACE + " environment variable to be set");
+        } else if (leaderElectionEnabled && shardingEnabled) {
+            throw new InvalidConfigurationException(STRIMZI_LEADER_ELECTION_ENABLED
+                    + " cannot be used together with " + STRIMZI_SHARDING_ENABLED);
+        }
+
+        return leaderElectionEnabled;
+    }
+
     /**
      * enum to represent the various permission modes the cluster operator can be set to
      *
@@ -504,6 +561,27 @@ public class ClusterOperatorConfig {
         return operationsThreadPoolSize;
     }
 
+    /**
+     * @return  Indicates whether the watched namespaces are split between the replicas of the operator
+     */
+    public boolean isShardingEnabled() {
+        return shardingEnabled;
+    }
+
+    /**
+     * @return  Indicates whether only the replica which is the leader reconciles the resources
+     */
+    public boolean isLeaderElectionEnabled() {
+        return leaderElectionEnabled;
+    }
+
+    /**
+     * @return  Name of the Lease used for the leader election
+     */
+    public String getLeaderElectionLeaseName() {
+        return leaderElectionLeaseName;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -521,6 +599,9 @@ public class ClusterOperatorConfig {
                 ",rbacScope=" + rbacScope +
                 ",customResourceSelector=" + customResourceSelector +
                 ",featureGates=" + featureGates +
+                ",shardingEnabled=" + shardingEnabled +
+                ",leaderElectionEnabled=" + leaderElectionEnabled +
+                ",leaderElectionLeaseName=" + leaderElectionLeaseName +
                 ")";
     }
 }
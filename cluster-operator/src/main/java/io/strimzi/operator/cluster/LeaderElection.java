@@ -0,0 +1,203 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderCallbacks;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectionConfig;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectionConfigBuilder;
+import io.fabric8.kubernetes.client.extended.leaderelection.resourcelock.LeaseLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Elects the leader among the replicas of the Cluster Operator using a Lease in the namespace of the operator. Only the
+ * leader reconciles the resources. The other replicas are warm standbys: they create their watches and keep their
+ * clients and caches up to date in the same way as the leader, but they ignore all reconciliations. When a standby
+ * acquires the Lease, the reconciliation of all resources is triggered immediately.
+ *
+ * When the leader loses the Lease, it stops starting new reconciliations. Reconciliations waiting for their lock are
+ * dropped once they acquire it. If no reconciliation is in progress, the instance becomes a standby. Otherwise, it
+ * exits, because the new leader could otherwise act on the same resources at the same time. When it shuts down, it
+ * shortens its Lease so that a standby can take over without waiting for the Lease to expire.
+ */
+public class LeaderElection implements Predicate<String> {
+    private static final Logger LOGGER = LogManager.getLogger(LeaderElection.class.getName());
+
+    /* test */ static final Duration LEASE_DURATION = Duration.ofSeconds(15);
+    /* test */ static final Duration RENEW_DEADLINE = Duration.ofSeconds(10);
+    /* test */ static final Duration RETRY_PERIOD = Duration.ofSeconds(2);
+    private static final int RELEASED_LEASE_DURATION_SECONDS = 1;
+
+    private final KubernetesClient client;
+    private final String namespace;
+    private final String leaseName;
+    private final String identity;
+    private final Supplier<Set<String>> reconcilingNamespaces;
+    private final Runnable onStartLeading;
+    private final Runnable onStopLeadingWhileReconciling;
+
+    private volatile boolean leader = false;
+    private volatile boolean stopped = false;
+    private Thread electionThread;
+
+    /**
+     * Constructs the leader election
+     *
+     * @param client                          Kubernetes client
+     * @param namespace                       Namespace of the Lease (the namespace of the operator)
+     * @param leaseName                       Name of the Lease
+     * @param identity                        Unique identity of this operator instance (the name of its pod)
+     * @param reconcilingNamespaces           Supplies the namespaces with reconciliations in progress
+     * @param onStartLeading                  Called when this operator instance becomes the leader
+     * @param onStopLeadingWhileReconciling   Called when this operator instance loses the leadership while it still
+     *                                        has reconciliations in progress (exits the process)
+     */
+    public LeaderElection(KubernetesClient client, String namespace, String leaseName, String identity,
+                          Supplier<Set<String>> reconcilingNamespaces, Runnable onStartLeading, Runnable onStopLeadingWhileReconciling) {
+        this.client = client;
+        this.namespace = namespace;
+        this.leaseName = leaseName;
+        this.identity = identity;
+        this.reconcilingNamespaces = reconcilingNamespaces;
+        this.onStartLeading = onStartLeading;
+        this.onStopLeadingWhileReconciling = onStopLeadingWhileReconciling;
+    }
+
+    /**
+     * Starts competing for the leadership in a separate thread. The Lease is released when the JVM shuts down.
+     */
+    public synchronized void start() {
+        LOGGER.info("Starting the leader election for Lease {} in namespace {} as {}", leaseName, namespace, identity);
+
+        electionThread = new Thread(this::run, "leader-election");
+        electionThread.setDaemon(true);
+        electionThread.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "leader-election-shutdown"));
+    }
+
+    /**
+     * Stops competing for the leadership. If this instance is the leader, its Lease is shortened so that another
+     * instance can take over quickly.
+     */
+    public synchronized void stop() {
+        if (stopped) {
+            return;
+        }
+
+        stopped = true;
+
+        if (electionThread != null) {
+            electionThread.interrupt();
+        }
+
+        if (leader) {
+            leader = false;
+            release();
+        }
+    }
+
+    /**
+     * @return  True if this operator instance is the leader. False otherwise.
+     */
+    public boolean isLeader() {
+        return leader;
+    }
+
+    /**
+     * Only the leader reconciles the resources, regardless of their namespace.
+     *
+     * @param namespace Namespace of the reconciled resource
+     *
+     * @return  True if this operator instance is the leader. False otherwise.
+     */
+    @Override
+    public boolean test(String namespace) {
+        return leader;
+    }
+
+    private void run() {
+        while (!stopped) {
+            try {
+                client.leaderElector()
+                        .withConfig(config())
+                        .build()
+                        .run();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Leader election for Lease {} failed", leaseName, e);
+            }
+
+            if (!stopped) {
+                try {
+                    Thread.sleep(RETRY_PERIOD.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /* test */ LeaderElectionConfig config() {
+        return new LeaderElectionConfigBuilder()
+                .withName(leaseName)
+                .withLock(new LeaseLock(namespace, leaseName, identity))
+                .withLeaseDuration(LEASE_DURATION)
+                .withRenewDeadline(RENEW_DEADLINE)
+                .withRetryPeriod(RETRY_PERIOD)
+                .withLeaderCallbacks(new LeaderCallbacks(this::startLeading, this::stopLeading, this::newLeader))
+                .build();
+    }
+
+    /* test */ void startLeading() {
+        LOGGER.info("Cluster Operator {} became the leader", identity);
+        leader = true;
+        onStartLeading.run();
+    }
+
+    /* test */ void stopLeading() {
+        if (leader) {
+            // The reconciliations which did not check the ownership yet see the lost leadership once they get their lock
+            leader = false;
+            Set<String> namespaces = reconcilingNamespaces.get();
+
+            if (namespaces.isEmpty()) {
+                LOGGER.warn("Cluster Operator {} lost the leadership and becomes a standby", identity);
+            } else {
+                LOGGER.error("Cluster Operator {} lost the leadership while reconciling namespaces {}. Exiting before another instance takes over.", identity, namespaces);
+                onStopLeadingWhileReconciling.run();
+            }
+        }
+    }
+
+    private void newLeader(String newLeader) {
+        LOGGER.info("Cluster Operator {} is the leader", newLeader);
+    }
+
+    private void release() {
+        try {
+            Lease lease = client.leases().inNamespace(namespace).withName(leaseName).get();
+
+            if (lease != null && lease.getSpec() != null && identity.equals(lease.getSpec().getHolderIdentity())) {
+                client.leases().inNamespace(namespace).withName(leaseName).patch(new LeaseBuilder(lease)
+                        .editSpec()
+                            .withLeaseDurationSeconds(RELEASED_LEASE_DURATION_SECONDS)
+                        .endSpec()
+                        .build());
+                LOGGER.info("Released the Lease {}", leaseName);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to release the Lease {}", leaseName, e);
+        }
+    }
+}
@@ -18,10 +18,12 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOpe
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.ClusterRoleOperator;
+import io.strimzi.operator.common.operator.resource.LeaseOperator;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
@@ -34,8 +36,12 @@ import java.nio.charset.StandardCharsets;
 import java.security.Security;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 import io.vertx.core.VertxOptions;
@@ -127,7 +133,15 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator =
                 new KafkaRebalanceAssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
 
-        List<Future> futures = new ArrayList<>(config.getNamespaces().size());
+        List<ClusterOperator> clusterOperators = new CopyOnWriteArrayList<>();
+        List<AbstractOperator<?, ?, ?, ?>> operators = List.of(kafkaClusterOperations, kafkaConnectClusterOperations,
+                kafkaMirrorMakerAssemblyOperator, kafkaMirrorMaker2AssemblyOperator, kafkaBridgeAssemblyOperator,
+                kafkaRebalanceAssemblyOperator);
+        List<Future> futures = new ArrayList<>(config.getNamespaces().size() + 1);
+
+        futures.add(maybeStartNamespaceSharding(vertx, client, config, clusterOperators, operators));
+        maybeStartLeaderElection(client, config, clusterOperators, operators);
+
         for (String namespace : config.getNamespaces()) {
             Promise<String> prom = Promise.promise();
             futures.add(prom.future());
@@ -144,6 +158,8 @@ public class Main {
             vertx.deployVerticle(operator,
                 res -> {
                     if (res.succeeded()) {
+                        clusterOperators.add(operator);
+
                         if (config.getCustomResourceSelector() != null) {
                             LOGGER.info("Cluster Operator verticle started in namespace {} with label selector {}", namespace, config.getCustomResourceSelector());
                         } else {
@@ -159,6 +175,88 @@ public class Main {
         return CompositeFuture.join(futures);
     }
 
+    /**
+     * When the namespace sharding is enabled, joins the shard group and restricts the operators to the namespaces
+     * owned by this operator instance. Until it joins, this instance does not own any namespaces. Whenever the owned
+     * namespaces might have changed, the reconciliation of all resources is triggered in the Cluster Operator
+     * verticles.
+     *
+     * @param vertx             Vertx instance
+     * @param client            Kubernetes client
+     * @param config            Cluster Operator configuration
+     * @param clusterOperators  Deployed Cluster Operator verticles
+     * @param operators         Operators which should reconcile only the owned namespaces
+     *
+     * @return  Future which completes when this operator instance joined the shard group
+     */
+    private static Future<Void> maybeStartNamespaceSharding(Vertx vertx, KubernetesClient client, ClusterOperatorConfig config,
+                                                            List<ClusterOperator> clusterOperators, List<AbstractOperator<?, ?, ?, ?>> operators) {
+        if (config.isShardingEnabled()) {
+            Runnable onOwnershipChange = () -> clusterOperators.forEach(operator -> operator.triggerReconciliation("sharding"));
+            NamespaceSharding sharding = new NamespaceSharding(vertx, new LeaseOperator(vertx, client), config.getOperatorNamespace(),
+                    operatorIdentity(), () -> reconcilingNamespaces(operators), onOwnershipChange, () -> System.exit(1));
+
+            for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+                operator.setNamespaceOwnership(sharding);
+            }
+
+            return sharding.start();
+        } else {
+            return Future.succeededFuture();
+        }
+    }
+
+    /**
+     * When the leader election is enabled, starts competing for the leadership and restricts the operators to
+     * reconcile only while this operator instance is the leader. The standby instances deploy the Cluster Operator
+     * verticles with all their watches as well, so that the reconciliation of all resources can be triggered as soon
+     * as this instance becomes the leader. This reconciliation also resyncs the StrimziPodSet controller. An instance
+     * which loses the leadership while it is still reconciling exits.
+     *
+     * @param client            Kubernetes client
+     * @param config            Cluster Operator configuration
+     * @param clusterOperators  Deployed Cluster Operator verticles
+     * @param operators         Operators which should reconcile only while this instance is the leader
+     */
+    private static void maybeStartLeaderElection(KubernetesClient client, ClusterOperatorConfig config,
+                                                 List<ClusterOperator> clusterOperators, List<AbstractOperator<?, ?, ?, ?>> operators) {
+        if (config.isLeaderElectionEnabled()) {
+            Runnable onStartLeading = () -> clusterOperators.forEach(operator -> operator.triggerReconciliation("leader-election"));
+            LeaderElection leaderElection = new LeaderElection(client, config.getOperatorNamespace(), config.getLeaderElectionLeaseName(),
+                    operatorIdentity(), () -> reconcilingNamespaces(operators), onStartLeading, () -> System.exit(1));
+
+            for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+                operator.setNamespaceOwnership(leaderElection);
+            }
+
+            leaderElection.start();
+        }
+    }
+
+    /**
+     * @param operators Operators of this operator instance
+     *
+     * @return  Namespaces in which any of the operators has reconciliations in progress
+     */
+    private static Set<String> reconcilingNamespaces(List<AbstractOperator<?, ?, ?, ?>> operators) {
+        Set<String> namespaces = new HashSet<>();
+
+        for (AbstractOperator<?, ?, ?, ?> operator : operators) {
+            namespaces.addAll(operator.reconcilingNamespaces());
+        }
+
+        return namespaces;
+    }
+
+    /**
+     * @return  Identity of this operator instance. Kubernetes sets the HOSTNAME environment variable to the name of
+     *          the pod.
+     */
+    private static String operatorIdentity() {
+        String hostname = System.getenv("HOSTNAME");
+        return hostname != null ? hostname : UUID.randomUUID().toString();
+    }
+
     /*test*/ static Future<Void> maybeCreateClusterRoles(Vertx vertx, ClusterOperatorConfig config, KubernetesClient client)  {
         if (config.isCreateClusterRoles()) {
             List<Future> futures = new ArrayList<>();
@@ -0,0 +1,401 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.LeaseOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import org.apache.kafka.common.utils.Utils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Splits the watched namespaces between the replicas of the Cluster Operator. Each replica is a member of the shard
+ * group for as long as it keeps renewing its own Lease in the namespace of the operator. Every namespace is owned by
+ * exactly one member which is chosen using rendezvous hashing of the member identities and the namespace name. When a
+ * member joins or leaves the group, only the namespaces owned by that member move to another member.
+ *
+ * All replicas keep watching all resources, but each of them reconciles only the resources in the namespaces it owns.
+ * To hand the namespaces over cleanly, a member stops starting new reconciliations in the namespaces it loses as soon
+ * as it sees the new group, but starts reconciling the namespaces it gains only once the group has been stable for a
+ * whole Lease duration. Each member publishes in its Lease the group as it sees it and the namespaces in which it still
+ * has reconciliations in progress. A gained namespace is reconciled only once all other members have seen the new
+ * group and finished their reconciliations in it. The reconciliation of all resources is then triggered so that the
+ * gained namespaces are reconciled.
+ *
+ * A member which cannot renew its Lease stops owning any namespaces once the Lease expires. Its reconciliations which
+ * are still in progress cannot be cancelled, so it exits before another member takes its namespaces over.
+ */
+public class NamespaceSharding implements Predicate<String> {
+    private static final Logger LOGGER = LogManager.getLogger(NamespaceSharding.class.getName());
+
+    /* test */ static final String LEASE_NAME_PREFIX = "strimzi-cluster-operator-shard-";
+    /* test */ static final String SHARD_LABEL = Labels.STRIMZI_DOMAIN + "cluster-operator-shard";
+    /* test */ static final Labels MEMBER_LABELS = Labels.fromMap(Collections.singletonMap(SHARD_LABEL, "true"));
+    /* test */ static final String MEMBERS_ANNOTATION = Labels.STRIMZI_DOMAIN + "shard-members";
+    /* test */ static final String RECONCILING_NAMESPACES_ANNOTATION = Labels.STRIMZI_DOMAIN + "reconciling-namespaces";
+    /* test */ static final long DEFAULT_RENEW_INTERVAL_MS = 5_000;
+    /* test */ static final int DEFAULT_LEASE_DURATION_SECONDS = 15;
+
+    private final Vertx vertx;
+    private final LeaseOperator leaseOperator;
+    private final String namespace;
+    private final String identity;
+    private final String leaseName;
+    private final long renewIntervalMs;
+    private final int leaseDurationSeconds;
+    private final LongSupplier clock;
+    private final Supplier<Set<String>> reconcilingNamespaces;
+    private final Runnable onOwnershipChange;
+    private final Runnable onLeaseExpired;
+
+    /** The members as of the last renewal */
+    private volatile List<String> members = List.of();
+    /** The members as of the last renewal which have been stable for a Lease duration */
+    private volatile List<String> settledMembers = List.of();
+    /** The settled members whose namespaces were all handed over to them */
+    private volatile List<String> previousSettledMembers = List.of();
+    /** The Leases of the other members as of the last renewal indexed by their identity */
+    private volatile Map<String, Lease> memberLeases = Map.of();
+    private volatile boolean handOverPending = false;
+    private volatile long validUntil = 0;
+
+    /**
+     * Constructs the namespace sharding with the default renew interval and Lease duration
+     *
+     * @param vertx                 Vertx instance
+     * @param leaseOperator         Lease operator used to manage the Leases of the members
+     * @param namespace             Namespace in which the Leases are stored (the namespace of the operator)
+     * @param identity              Unique identity of this operator instance (the name of its pod)
+     * @param reconcilingNamespaces Supplier of the namespaces with reconciliations in progress in this instance
+     * @param onOwnershipChange     Called when the namespaces owned by this instance might have changed
+     * @param onLeaseExpired        Called when the Lease expired while reconciliations are in progress
+     */
+    public NamespaceSharding(Vertx vertx, LeaseOperator leaseOperator, String namespace, String identity,
+                             Supplier<Set<String>> reconcilingNamespaces, Runnable onOwnershipChange, Runnable onLeaseExpired) {
+        this(vertx, leaseOperator, namespace, identity, DEFAULT_RENEW_INTERVAL_MS, DEFAULT_LEASE_DURATION_SECONDS, System::currentTimeMillis,
+                reconcilingNamespaces, onOwnershipChange, onLeaseExpired);
+    }
+
+    /**
+     * Constructs the namespace sharding
+     *
+     * @param vertx                 Vertx instance
+     * @param leaseOperator         Lease operator used to manage the Leases of the members
+     * @param namespace             Namespace in which the Leases are stored (the namespace of the operator)
+     * @param identity              Unique identity of this operator instance (the name of its pod)
+     * @param renewIntervalMs       Interval in which the Lease is renewed and the members are refreshed
+     * @param leaseDurationSeconds  Duration after which the Lease of a member which did not renew it expires
+     * @param clock                 Supplier of the current time in milliseconds
+     * @param reconcilingNamespaces Supplier of the namespaces with reconciliations in progress in this instance
+     * @param onOwnershipChange     Called when the namespaces owned by this instance might have changed
+     * @param onLeaseExpired        Called when the Lease expired while reconciliations are in progress
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    /* test */ NamespaceSharding(Vertx vertx, LeaseOperator leaseOperator, String namespace, String identity, long renewIntervalMs, int leaseDurationSeconds, LongSupplier clock,
+                                 Supplier<Set<String>> reconcilingNamespaces, Runnable onOwnershipChange, Runnable onLeaseExpired) {
+        this.vertx = vertx;
+        this.leaseOperator = leaseOperator;
+        this.namespace = namespace;
+        this.identity = identity;
+        this.leaseName = LEASE_NAME_PREFIX + identity;
+        this.renewIntervalMs = renewIntervalMs;
+        this.leaseDurationSeconds = leaseDurationSeconds;
+        this.clock = clock;
+        this.reconcilingNamespaces = reconcilingNamespaces;
+        this.onOwnershipChange = onOwnershipChange;
+        this.onLeaseExpired = onLeaseExpired;
+    }
+
+    /**
+     * Joins the shard group and starts renewing the Lease periodically
+     *
+     * @return  Future which completes when this instance joined the group
+     */
+    public Future<Void> start() {
+        LOGGER.info("Joining the Cluster Operator shard group in namespace {} as {}", namespace, identity);
+
+        return refresh()
+                .onSuccess(v -> {
+                    scheduleRefresh();
+                    // Independent of the renewals which might be stuck while the Kubernetes API is not available
+                    vertx.setPeriodic(renewIntervalMs, t -> checkLeaseExpiry());
+                });
+    }
+
+    /**
+     * Decides whether the namespace is owned by this operator instance
+     *
+     * @param namespace Namespace of the reconciled resource
+     *
+     * @return  True when the resources in this namespace should be reconciled by this instance. False otherwise.
+     */
+    @Override
+    public boolean test(String namespace) {
+        if (clock.getAsLong() >= validUntil) {
+            return false;
+        }
+
+        if (!identity.equals(owner(members, namespace))
+                || !identity.equals(owner(settledMembers, namespace))) {
+            return false;
+        }
+
+        return identity.equals(owner(previousSettledMembers, namespace))
+                || isHandedOver(namespace);
+    }
+
+    /**
+     * A gained namespace is handed over once all other members have seen the current group, so that they do not start
+     * any new reconciliations in it, and none of them reconciles it anymore.
+     *
+     * @param namespace Namespace gained by this instance
+     *
+     * @return  True when the other members do not reconcile the namespace anymore. False otherwise.
+     */
+    private boolean isHandedOver(String namespace) {
+        for (Lease lease : memberLeases.values()) {
+            if (!annotationValues(lease, MEMBERS_ANNOTATION).equals(settledMembers)
+                    || annotationValues(lease, RECONCILING_NAMESPACES_ANNOTATION).contains(namespace)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return  True when some namespaces gained by this instance might not have been handed over yet
+     */
+    private boolean isHandOverPending() {
+        for (Lease lease : memberLeases.values()) {
+            if (!annotationValues(lease, MEMBERS_ANNOTATION).equals(settledMembers)) {
+                return true;
+            }
+
+            for (String namespace : annotationValues(lease, RECONCILING_NAMESPACES_ANNOTATION)) {
+                if (identity.equals(owner(settledMembers, namespace))
+                        && !identity.equals(owner(previousSettledMembers, namespace))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return  The identities of the current members of the shard group
+     */
+    /* test */ List<String> members() {
+        return members;
+    }
+
+    /**
+     * Renews the Lease of this instance and refreshes the members of the group. Leases which expired a long time ago
+     * are deleted.
+     *
+     * @return  Future which completes when the members are refreshed
+     */
+    /* test */ Future<Void> refresh() {
+        long now = clock.getAsLong();
+        // The members are read first: once the other members see the members they expect, the published namespaces
+        // include all reconciliations which might have been started in the namespaces they gained
+        List<String> publishedMembers = members;
+        Set<String> publishedNamespaces = new TreeSet<>(reconcilingNamespaces.get());
+
+        return leaseOperator.reconcile(reconciliation(leaseName), namespace, leaseName, desiredLease(now, publishedMembers, publishedNamespaces))
+                .compose(i -> {
+                    validUntil = now + leaseDurationSeconds * 1_000L;
+                    return leaseOperator.listAsync(namespace, MEMBER_LABELS);
+                })
+                .compose(leases -> {
+                    List<String> members = new ArrayList<>();
+                    members.add(identity);
+                    Map<String, Lease> memberLeases = new HashMap<>();
+                    List<Future> deletions = new ArrayList<>();
+
+                    for (Lease lease : leases) {
+                        long expiresAt = expiresAt(lease);
+
+                        if (expiresAt > now && lease.getSpec().getHolderIdentity() != null && !identity.equals(lease.getSpec().getHolderIdentity())) {
+                            members.add(lease.getSpec().getHolderIdentity());
+                            memberLeases.put(lease.getSpec().getHolderIdentity(), lease);
+                        } else if (expiresAt + leaseDurationSeconds * 1_000L < now) {
+                            String name = lease.getMetadata().getName();
+                            LOGGER.info("Deleting expired Lease {} of a former Cluster Operator shard member", name);
+                            deletions.add(leaseOperator.reconcile(reconciliation(name), namespace, name, null));
+                        }
+                    }
+
+                    this.memberLeases = memberLeases;
+                    updateMembers(members);
+                    maybeCompleteHandOver();
+
+                    return CompositeFuture.join(deletions)
+                            .recover(error -> {
+                                LOGGER.warn("Failed to delete expired Leases", error);
+                                return Future.succeededFuture();
+                            })
+                            .mapEmpty();
+                });
+    }
+
+    private void scheduleRefresh() {
+        vertx.setTimer(renewIntervalMs, t -> refresh()
+                .onFailure(error -> LOGGER.warn("Failed to renew the Lease {} of the Cluster Operator shard member", leaseName, error))
+                .onComplete(res -> scheduleRefresh()));
+    }
+
+    private void updateMembers(List<String> newMembers) {
+        newMembers.sort(String::compareTo);
+
+        if (!newMembers.equals(members)) {
+            LOGGER.info("Members of the Cluster Operator shard group changed from {} to {}", members, newMembers);
+            members = newMembers;
+            vertx.setTimer(leaseDurationSeconds * 1_000L, t -> settle(newMembers));
+        }
+    }
+
+    private void settle(List<String> newMembers) {
+        // A later change of the members will settle in its own time
+        if (members == newMembers) {
+            LOGGER.info("Members of the Cluster Operator shard group {} settled", newMembers);
+            settledMembers = newMembers;
+            handOverPending = true;
+            maybeCompleteHandOver();
+        }
+    }
+
+    private void maybeCompleteHandOver() {
+        if (handOverPending) {
+            if (isHandOverPending()) {
+                LOGGER.info("Waiting for the other members of the Cluster Operator shard group to hand the namespaces over to {}", identity);
+            } else {
+                LOGGER.info("Namespaces were handed over to {}", identity);
+                previousSettledMembers = settledMembers;
+                handOverPending = false;
+                onOwnershipChange.run();
+            }
+        }
+    }
+
+    private void checkLeaseExpiry() {
+        if (clock.getAsLong() >= validUntil) {
+            Set<String> namespaces = reconcilingNamespaces.get();
+
+            if (!namespaces.isEmpty()) {
+                LOGGER.error("The Lease {} of the Cluster Operator shard member expired while reconciling namespaces {}. "
+                        + "Exiting before another member takes them over.", leaseName, namespaces);
+                onLeaseExpired.run();
+            }
+        }
+    }
+
+    private Lease desiredLease(long now, List<String> publishedMembers, Set<String> publishedNamespaces) {
+        return new LeaseBuilder()
+                .withNewMetadata()
+                    .withName(leaseName)
+                    .withNamespace(namespace)
+                    .withLabels(MEMBER_LABELS.toMap())
+                    .withAnnotations(Map.of(MEMBERS_ANNOTATION, String.join(",", publishedMembers),
+                            RECONCILING_NAMESPACES_ANNOTATION, String.join(",", publishedNamespaces)))
+                .endMetadata()
+                .withNewSpec()
+                    .withHolderIdentity(identity)
+                    .withLeaseDurationSeconds(leaseDurationSeconds)
+                    .withRenewTime(ZonedDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneOffset.UTC))
+                .endSpec()
+                .build();
+    }
+
+    private Reconciliation reconciliation(String name) {
+        return new Reconciliation("namespace-sharding", "Lease", namespace, name);
+    }
+
+    /**
+     * Returns the comma-separated values of the annotation of the Lease
+     *
+     * @param lease         The Lease
+     * @param annotation    Name of the annotation
+     *
+     * @return  List of the values or an empty list when the annotation is not set
+     */
+    /* test */ static List<String> annotationValues(Lease lease, String annotation) {
+        String value = lease.getMetadata().getAnnotations() != null ? lease.getMetadata().getAnnotations().get(annotation) : null;
+
+        if (value == null || value.isEmpty()) {
+            return List.of();
+        }
+
+        return List.of(value.split(","));
+    }
+
+    /**
+     * Returns the time when the Lease expires. Leases without the renew time or the duration are considered expired.
+     *
+     * @param lease     The Lease
+     *
+     * @return  Time in milliseconds when the Lease expires
+     */
+    /* test */ static long expiresAt(Lease lease) {
+        if (lease.getSpec() == null
+                || lease.getSpec().getRenewTime() == null
+                || lease.getSpec().getLeaseDurationSeconds() == null) {
+            return 0;
+        }
+
+        return lease.getSpec().getRenewTime().toInstant().toEpochMilli() + lease.getSpec().getLeaseDurationSeconds() * 1_000L;
+    }
+
+    /**
+     * Finds the owner of the namespace using rendezvous hashing: the owner is the member with the highest weight for
+     * the namespace.
+     *
+     * @param members   Members of the shard group
+     * @param namespace Namespace
+     *
+     * @return  The identity of the owning member or null if there are no members
+     */
+    /* test */ static String owner(List<String> members, String namespace) {
+        String owner = null;
+        int ownerWeight = -1;
+
+        for (String member : members) {
+            int weight = weight(member, namespace);
+
+            if (weight > ownerWeight) {
+                owner = member;
+                ownerWeight = weight;
+            }
+        }
+
+        return owner;
+    }
+
+    private static int weight(String member, String namespace) {
+        return Utils.toPositive(Utils.murmur2((member + "/" + namespace).getBytes(StandardCharsets.UTF_8)));
+    }
+}
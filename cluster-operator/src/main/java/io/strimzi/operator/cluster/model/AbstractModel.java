@@ -72,6 +72,8 @@ import io.strimzi.api.kafka.model.JvmOptions;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.Logging;
 import io.strimzi.api.kafka.model.MetricsConfig;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
 import io.strimzi.api.kafka.model.SystemProperty;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.storage.JbodStorage;
@@ -100,6 +102,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -1067,6 +1070,94 @@ public abstract class AbstractModel {
         return statefulSet;
     }
 
+    /**
+     * Creates a StrimziPodSet with one pod for each replica. The pods are named and labeled in the same way as the pods
+     * of a StatefulSet, so that the per-pod services and the other components can address them in the same way.
+     * Each pod carries its revision in an annotation, which is used to decide whether it needs to be rolled.
+     *
+     * @param replicas          Number of pods in the pod set
+     * @param setAnnotations    Annotations of the StrimziPodSet
+     * @param podAnnotations    Annotations of the pods
+     * @param volumes           Function providing the volumes for a pod with given name
+     * @param affinity          Affinity rules of the pods
+     * @param initContainers    Init containers of the pods
+     * @param containers        Containers of the pods
+     * @param imagePullSecrets  Image pull secrets of the pods
+     * @param isOpenShift       Flag indicating whether we are on OpenShift
+     *
+     * @return  The generated StrimziPodSet
+     */
+    protected StrimziPodSet createPodSet(
+            int replicas,
+            Map<String, String> setAnnotations,
+            Map<String, String> podAnnotations,
+            Function<String, List<Volume>> volumes,
+            Affinity affinity,
+            List<Container> initContainers,
+            List<Container> containers,
+            List<LocalObjectReference> imagePullSecrets,
+            boolean isOpenShift) {
+
+        PodSecurityContext securityContext = templateSecurityContext;
+
+        // See createStatefulSet(...) for why the FS group is set
+        if (ModelUtils.containsPersistentStorage(storage) && !isOpenShift && securityContext == null) {
+            securityContext = new PodSecurityContextBuilder()
+                    .withFsGroup(AbstractModel.DEFAULT_FS_GROUPID)
+                    .build();
+        }
+
+        List<Pod> pods = new ArrayList<>(replicas);
+
+        for (int i = 0; i < replicas; i++) {
+            String podName = name + "-" + i;
+
+            Pod pod = new PodBuilder()
+                    .withNewMetadata()
+                        .withName(podName)
+                        .withLabels(getLabelsWithStrimziName(name, templatePodLabels).withStatefulSetPod(podName).toMap())
+                        .withNamespace(namespace)
+                        .withAnnotations(Util.mergeLabelsOrAnnotations(podAnnotations, templatePodAnnotations))
+                    .endMetadata()
+                    .withNewSpec()
+                        .withRestartPolicy("Always")
+                        .withHostname(podName)
+                        .withSubdomain(headlessServiceName)
+                        .withServiceAccountName(getServiceAccountName())
+                        .withEnableServiceLinks(templatePodEnableServiceLinks)
+                        .withAffinity(affinity)
+                        .withInitContainers(initContainers)
+                        .withContainers(containers)
+                        .withVolumes(volumes.apply(podName))
+                        .withTolerations(getTolerations())
+                        .withTerminationGracePeriodSeconds(Long.valueOf(templateTerminationGracePeriodSeconds))
+                        .withImagePullSecrets(templateImagePullSecrets != null ? templateImagePullSecrets : imagePullSecrets)
+                        .withSecurityContext(securityContext)
+                        .withPriorityClassName(templatePodPriorityClassName)
+                        .withSchedulerName(templatePodSchedulerName != null ? templatePodSchedulerName : "default-scheduler")
+                        .withHostAliases(templatePodHostAliases)
+                        .withTopologySpreadConstraints(templatePodTopologySpreadConstraints)
+                    .endSpec()
+                    .build();
+
+            pods.add(PodRevision.withRevision(pod));
+        }
+
+        return new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withLabels(getLabelsWithStrimziName(name, templateStatefulSetLabels).toMap())
+                    .withNamespace(namespace)
+                    .withAnnotations(Util.mergeLabelsOrAnnotations(setAnnotations, templateStatefulSetAnnotations))
+                    .withOwnerReferences(createOwnerReference())
+                .endMetadata()
+                .withNewSpec()
+                    .withSelector(new LabelSelectorBuilder().withMatchLabels(getSelectorLabels().toMap()).build())
+                    .withPods(PodSetUtils.podsToMaps(pods))
+                .endSpec()
+                .build();
+    }
+
     protected Pod createPod(
             String name,
             Map<String, String> podAnnotations,
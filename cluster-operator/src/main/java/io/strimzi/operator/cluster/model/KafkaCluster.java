@@ -61,6 +61,7 @@ import io.strimzi.api.kafka.model.Logging;
 import io.strimzi.api.kafka.model.Probe;
 import io.strimzi.api.kafka.model.ProbeBuilder;
 import io.strimzi.api.kafka.model.Rack;
+import io.strimzi.api.kafka.model.StrimziPodSet;
 import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationOAuth;
 import io.strimzi.api.kafka.model.listener.NodeAddressType;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
@@ -95,6 +96,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.strimzi.operator.cluster.model.ListenersUtils.isListenerWithOAuth;
@@ -119,6 +121,9 @@ public class KafkaCluster extends AbstractModel {
     protected static final String REPLICATION_PORT_NAME = "tcp-replication";
     public static final int CONTROLPLANE_PORT = 9090;
     protected static final String CONTROLPLANE_PORT_NAME = "tcp-ctrlplane"; // port name is up to 15 characters
+    // Port of the readiness and liveness endpoints served by the kafka-agent
+    public static final int HEALTHCHECK_PORT = 8080;
+    protected static final String HEALTHCHECK_PORT_NAME = "healthcheck";
 
     // Ingress and Route listeners advertise port 443 regardless what port is used in Kafka, so we store them here
     protected static final int ROUTE_PORT = 443;
@@ -1283,6 +1288,48 @@ public class KafkaCluster extends AbstractModel {
                 isOpenShift);
     }
 
+    /**
+     * Generates the StrimziPodSet with the Kafka broker pods. It is used instead of the StatefulSet when the
+     * UseStrimziPodSets feature gate is enabled.
+     *
+     * @param replicas                  Number of broker pods in the pod set
+     * @param isOpenShift               Flag indicating whether we are on OpenShift
+     * @param imagePullPolicy           Image pull policy
+     * @param imagePullSecrets          Image pull secrets
+     * @param additionalPodAnnotations  Annotations computed by the assembly operator which should be set on the pods
+     *                                  (for example the CA generations)
+     *
+     * @return The generated StrimziPodSet
+     */
+    public StrimziPodSet generatePodSet(int replicas,
+                                        boolean isOpenShift,
+                                        ImagePullPolicy imagePullPolicy,
+                                        List<LocalObjectReference> imagePullSecrets,
+                                        Map<String, String> additionalPodAnnotations) {
+        Map<String, String> setAnnotations = new HashMap<>(2);
+        setAnnotations.put(ANNO_STRIMZI_IO_KAFKA_VERSION, kafkaVersion.version());
+        setAnnotations.put(ANNO_STRIMZI_IO_STORAGE, ModelUtils.encodeStorageToJson(storage));
+
+        Map<String, String> podAnnotations = new HashMap<>(additionalPodAnnotations);
+        podAnnotations.put(ANNO_STRIMZI_IO_STORAGE, ModelUtils.encodeStorageToJson(storage));
+        podAnnotations.put(ANNO_STRIMZI_IO_KAFKA_VERSION, kafkaVersion.version());
+        podAnnotations.put(ANNO_STRIMZI_IO_LOG_MESSAGE_FORMAT_VERSION, getLogMessageFormatVersion());
+        podAnnotations.put(ANNO_STRIMZI_IO_INTER_BROKER_PROTOCOL_VERSION, getInterBrokerProtocolVersion());
+
+        Function<String, List<Volume>> volumes = podName -> getPodSetVolumes(podName, isOpenShift);
+
+        return createPodSet(
+                replicas,
+                setAnnotations,
+                podAnnotations,
+                volumes,
+                getMergedAffinity(),
+                getInitContainers(imagePullPolicy),
+                getContainers(imagePullPolicy),
+                imagePullSecrets,
+                isOpenShift);
+    }
+
     /**
      * Generate the Secret containing the Kafka brokers certificates signed by the cluster CA certificate used for TLS based
      * internal communication with Zookeeper.
@@ -1320,9 +1367,10 @@ public class KafkaCluster extends AbstractModel {
     }
 
     private List<ContainerPort> getContainerPortList() {
-        List<ContainerPort> ports = new ArrayList<>(listeners.size() + 3);
+        List<ContainerPort> ports = new ArrayList<>(listeners.size() + 4);
         ports.add(createContainerPort(CONTROLPLANE_PORT_NAME, CONTROLPLANE_PORT, "TCP"));
         ports.add(createContainerPort(REPLICATION_PORT_NAME, REPLICATION_PORT, "TCP"));
+        ports.add(createContainerPort(HEALTHCHECK_PORT_NAME, HEALTHCHECK_PORT, "TCP"));
 
         for (GenericKafkaListener listener : listeners) {
             ports.add(createContainerPort(ListenersUtils.backwardsCompatiblePortName(listener), listener.getPort(), "TCP"));
@@ -1396,6 +1444,18 @@ public class KafkaCluster extends AbstractModel {
 
     private List<Volume> getVolumes(boolean isOpenShift) {
         List<Volume> volumeList = new ArrayList<>(dataVolumes);
+        volumeList.addAll(getNonDataVolumes(isOpenShift));
+        return volumeList;
+    }
+
+    private List<Volume> getPodSetVolumes(String podName, boolean isOpenShift) {
+        List<Volume> volumeList = new ArrayList<>(VolumeUtils.getPodSetDataVolumes(podName, storage));
+        volumeList.addAll(getNonDataVolumes(isOpenShift));
+        return volumeList;
+    }
+
+    private List<Volume> getNonDataVolumes(boolean isOpenShift) {
+        List<Volume> volumeList = new ArrayList<>();
 
         if (rack != null || isExposedWithNodePort()) {
             volumeList.add(VolumeUtils.createEmptyDirVolume(INIT_VOLUME_NAME, null));
@@ -1569,15 +1629,9 @@ public class KafkaCluster extends AbstractModel {
                 .withEnv(getEnvVars())
                 .withVolumeMounts(getVolumeMounts())
                 .withPorts(getContainerPortList())
-                .withLivenessProbe(ProbeGenerator.defaultBuilder(livenessProbeOptions)
-                        .withNewExec()
-                            .withCommand("/opt/kafka/kafka_liveness.sh")
-                        .endExec().build())
-                .withReadinessProbe(ProbeGenerator.defaultBuilder(readinessProbeOptions)
-                        .withNewExec()
-                            // The kafka-agent will create /var/opt/kafka/kafka-ready in the container
-                            .withCommand("test", "-f", "/var/opt/kafka/kafka-ready")
-                        .endExec().build())
+                // The kafka-agent serves the readiness and liveness endpoints based on the broker state
+                .withLivenessProbe(ProbeGenerator.httpProbe(livenessProbeOptions, "/healthy", HEALTHCHECK_PORT_NAME))
+                .withReadinessProbe(ProbeGenerator.httpProbe(readinessProbeOptions, "/ready", HEALTHCHECK_PORT_NAME))
                 .withResources(getResources())
                 .withImagePullPolicy(determineImagePullPolicy(imagePullPolicy, getImage()))
                 .withCommand("/opt/kafka/kafka_run.sh")
@@ -1721,8 +1775,8 @@ public class KafkaCluster extends AbstractModel {
                 .build();
 
         // List of network policy rules for all ports
-        // Default size is number of listeners configured by the user + 4 (Control Plane listener, replication listener, metrics and JMX)
-        List<NetworkPolicyIngressRule> rules = new ArrayList<>(listeners.size() + 4);
+        // Default size is number of listeners configured by the user + 5 (Control Plane listener, replication listener, health check, metrics and JMX)
+        List<NetworkPolicyIngressRule> rules = new ArrayList<>(listeners.size() + 5);
 
         // Control Plane rule covers the control plane listener.
         // Control plane listener is used by Kafka for internal coordination only
@@ -1748,6 +1802,18 @@ public class KafkaCluster extends AbstractModel {
         replicationRule.setFrom(List.of(clusterOperatorPeer, kafkaClusterPeer, entityOperatorPeer, kafkaExporterPeer, cruiseControlPeer));
         rules.add(replicationRule);
 
+        // Health check rule covers the endpoints of the kafka-agent.
+        // The Kubelet probes are not subject to the network policies, so only the Cluster Operator reading the broker state needs access
+        NetworkPolicyIngressRule healthCheckRule = new NetworkPolicyIngressRuleBuilder()
+                .addNewPort()
+                .withNewPort(HEALTHCHECK_PORT)
+                .withProtocol("TCP")
+                .endPort()
+                .build();
+
+        healthCheckRule.setFrom(List.of(clusterOperatorPeer));
+        rules.add(healthCheckRule);
+
         // User-configured listeners are by default open for all.
         // But users can pass peers in the Kafka CR
         for (GenericKafkaListener listener : listeners) {
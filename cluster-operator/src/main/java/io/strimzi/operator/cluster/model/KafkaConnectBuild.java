@@ -34,6 +34,7 @@ import io.strimzi.api.kafka.model.template.KafkaConnectTemplate;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Util;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -222,6 +223,31 @@ public class KafkaConnectBuild extends AbstractModel {
         return new KafkaConnectDockerfile(baseImage, build);
     }
 
+    /**
+     * Generates the key identifying the container image built by this build. Builds with the same key produce the same
+     * container image, so a completed build can be reused by other Kafka Connect clusters. The key is a hash of the
+     * Dockerfile (which contains the base image) and of the build output. Image streams are namespaced, so the key of
+     * builds with an image stream output contains also the namespace.
+     *
+     * @param dockerfile    Instance of the KafkaConnectDockerfile class with the prepared Dockerfile
+     *
+     * @return  Key identifying the built container image
+     */
+    public String generateBuildCacheKey(KafkaConnectDockerfile dockerfile)  {
+        StringBuilder content = new StringBuilder(dockerfile.getDockerfile())
+                .append("\n# output ").append(build.getOutput().getType()).append(" ").append(build.getOutput().getImage());
+
+        if (build.getOutput() instanceof ImageStreamOutput) {
+            content.append(" ").append(namespace);
+        }
+
+        if (additionalKanikoOptions != null) {
+            content.append("\n# kaniko ").append(String.join(" ", additionalKanikoOptions));
+        }
+
+        return Util.stringHash(content.toString());
+    }
+
     /**
      * Generates builder Pod for building a new KafkaConnect container image with additional connector plugins
      *
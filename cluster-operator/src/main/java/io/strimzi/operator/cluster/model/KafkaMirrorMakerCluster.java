@@ -45,6 +45,9 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
     protected static final String OAUTH_TLS_CERTS_BASE_VOLUME_MOUNT_CONSUMER = "/opt/kafka/consumer-oauth-certs/";
     protected static final String OAUTH_TLS_CERTS_BASE_VOLUME_MOUNT_PRODUCER = "/opt/kafka/producer-oauth-certs/";
 
+    protected static final int HEALTHCHECK_PORT = 8080;
+    protected static final String HEALTHCHECK_PORT_NAME = "healthcheck";
+
     // Configuration defaults
     private static final int DEFAULT_HEALTHCHECK_DELAY = 60;
     private static final int DEFAULT_HEALTHCHECK_TIMEOUT = 5;
@@ -205,7 +208,8 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
     }
 
     protected List<ContainerPort> getContainerPortList() {
-        List<ContainerPort> portList = new ArrayList<>(1);
+        List<ContainerPort> portList = new ArrayList<>(2);
+        portList.add(createContainerPort(HEALTHCHECK_PORT_NAME, HEALTHCHECK_PORT, "TCP"));
         if (isMetricsEnabled) {
             portList.add(createContainerPort(METRICS_PORT_NAME, METRICS_PORT, "TCP"));
         }
@@ -296,15 +300,9 @@ public class KafkaMirrorMakerCluster extends AbstractModel {
                 .withCommand("/opt/kafka/kafka_mirror_maker_run.sh")
                 .withEnv(getEnvVars())
                 .withPorts(getContainerPortList())
-                .withLivenessProbe(ProbeGenerator.defaultBuilder(livenessProbeOptions)
-                        .withNewExec()
-                            .withCommand("/opt/kafka/kafka_mirror_maker_liveness.sh")
-                        .endExec().build())
-                .withReadinessProbe(ProbeGenerator.defaultBuilder(readinessProbeOptions)
-                        .withNewExec()
-                            // The mirror-maker-agent will create /tmp/mirror-maker-ready in the container
-                            .withCommand("test", "-f", "/tmp/mirror-maker-ready")
-                        .endExec().build())
+                // The mirror-maker-agent serves the health check endpoints from the metrics of the Mirror Maker clients
+                .withLivenessProbe(ProbeGenerator.httpProbe(livenessProbeOptions, "/healthy", HEALTHCHECK_PORT_NAME))
+                .withReadinessProbe(ProbeGenerator.httpProbe(readinessProbeOptions, "/ready", HEALTHCHECK_PORT_NAME))
                 .withVolumeMounts(getVolumeMounts())
                 .withResources(getResources())
                 .withImagePullPolicy(determineImagePullPolicy(imagePullPolicy, getImage()))
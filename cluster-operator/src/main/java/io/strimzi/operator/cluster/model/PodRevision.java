@@ -0,0 +1,83 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.Util;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Revision of the pods managed through StrimziPodSets. StatefulSets track the revision of their pods through the
+ * controller revisions. With StrimziPodSets, each pod carries a hash of its own definition in an annotation which is
+ * compared with the hash of the desired pod to decide whether the pod needs to be rolled.
+ */
+public class PodRevision {
+    public static final String STRIMZI_REVISION_ANNOTATION = Annotations.STRIMZI_DOMAIN + "revision";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    /**
+     * Computes the revision of the pod from its labels, annotations and spec. The revision annotation itself is
+     * ignored.
+     *
+     * @param pod   Pod for which the revision should be computed
+     *
+     * @return  The revision of the pod
+     */
+    public static String getRevision(Pod pod) {
+        Map<String, String> annotations = pod.getMetadata().getAnnotations() != null ? new HashMap<>(pod.getMetadata().getAnnotations()) : new HashMap<>();
+        annotations.remove(STRIMZI_REVISION_ANNOTATION);
+
+        Map<String, Object> data = new LinkedHashMap<>(3);
+        data.put("labels", pod.getMetadata().getLabels());
+        data.put("annotations", annotations);
+        data.put("spec", pod.getSpec());
+
+        try {
+            return Util.stringHash(MAPPER.writeValueAsString(data)).substring(0, 8);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to compute the revision of pod " + pod.getMetadata().getName(), e);
+        }
+    }
+
+    /**
+     * Computes the revision of the pod and stores it in its revision annotation
+     *
+     * @param pod   Pod which should be annotated with its revision
+     *
+     * @return  The annotated pod
+     */
+    public static Pod withRevision(Pod pod) {
+        String revision = getRevision(pod);
+
+        Map<String, String> annotations = pod.getMetadata().getAnnotations() != null ? new HashMap<>(pod.getMetadata().getAnnotations()) : new HashMap<>(1);
+        annotations.put(STRIMZI_REVISION_ANNOTATION, revision);
+        pod.getMetadata().setAnnotations(annotations);
+
+        return pod;
+    }
+
+    /**
+     * Checks whether the revision of the current pod differs from the revision of the desired pod
+     *
+     * @param currentPod    Pod currently running in the cluster
+     * @param desiredPod    Desired pod from the StrimziPodSet
+     *
+     * @return  True if the revisions differ and the pod should be rolled. False otherwise.
+     */
+    public static boolean hasChanged(Pod currentPod, Pod desiredPod) {
+        String currentRevision = Annotations.stringAnnotation(currentPod, STRIMZI_REVISION_ANNOTATION, null);
+        String desiredRevision = Annotations.stringAnnotation(desiredPod, STRIMZI_REVISION_ANNOTATION, null);
+
+        return desiredRevision == null || !desiredRevision.equals(currentRevision);
+    }
+}
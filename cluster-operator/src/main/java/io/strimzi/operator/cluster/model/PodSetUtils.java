@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Shared methods for working with StrimziPodSets. The pods are stored in the StrimziPodSet as generic maps, so that
+ * the CRD does not need to contain the whole Pod schema.
+ */
+public class PodSetUtils {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> POD_TYPE = new TypeReference<>() { };
+
+    /**
+     * Converts a Pod to a Map for storing it in the StrimziPodSet
+     *
+     * @param pod   Pod which should be converted
+     *
+     * @return  Map representing the pod
+     */
+    public static Map<String, Object> podToMap(Pod pod) {
+        return MAPPER.convertValue(pod, POD_TYPE);
+    }
+
+    /**
+     * Converts a list of Pods to a list of Maps for storing them in the StrimziPodSet
+     *
+     * @param pods  List of pods which should be converted
+     *
+     * @return  List of maps representing the pods
+     */
+    public static List<Map<String, Object>> podsToMaps(List<Pod> pods) {
+        return pods.stream().map(PodSetUtils::podToMap).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts a Map from the StrimziPodSet back to a Pod
+     *
+     * @param map   Map representing the pod
+     *
+     * @return  Pod created from the map
+     */
+    public static Pod mapToPod(Map<String, Object> map) {
+        return MAPPER.convertValue(map, Pod.class);
+    }
+
+    /**
+     * Converts a list of Maps from the StrimziPodSet back to a list of Pods
+     *
+     * @param maps  List of maps representing the pods
+     *
+     * @return  List of pods
+     */
+    public static List<Pod> mapsToPods(List<Map<String, Object>> maps) {
+        return maps.stream().map(PodSetUtils::mapToPod).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the pods from the StrimziPodSet
+     *
+     * @param podSet    The StrimziPodSet
+     *
+     * @return  List of pods or empty list if the pod set has no pods
+     */
+    public static List<Pod> podSetToPods(StrimziPodSet podSet) {
+        if (podSet != null
+                && podSet.getSpec() != null
+                && podSet.getSpec().getPods() != null) {
+            return mapsToPods(podSet.getSpec().getPods());
+        } else {
+            return List.of();
+        }
+    }
+
+    /**
+     * Returns the names of the pods in the StrimziPodSet
+     *
+     * @param podSet    The StrimziPodSet
+     *
+     * @return  List of pod names
+     */
+    public static List<String> podNames(StrimziPodSet podSet) {
+        return podSetToPods(podSet).stream().map(pod -> pod.getMetadata().getName()).collect(Collectors.toList());
+    }
+}
@@ -191,6 +191,25 @@ public class VolumeUtils {
         return volume;
     }
 
+    /**
+     * Creates a volume referencing an existing persistent volume claim
+     *
+     * @param name      Name of the Volume
+     * @param pvcName   Name of the persistent volume claim
+     * @return The Volume created
+     */
+    public static Volume createPvcVolume(String name, String pvcName) {
+        String validName = getValidVolumeName(name);
+
+        Volume volume = new VolumeBuilder()
+                .withName(validName)
+                .withNewPersistentVolumeClaim()
+                    .withClaimName(pvcName)
+                .endPersistentVolumeClaim()
+                .build();
+        return volume;
+    }
+
     /**
      * Creates a PVC template
      *
@@ -261,6 +280,40 @@ public class VolumeUtils {
         return volumes;
     }
 
+    /**
+     * Creates the data volumes of a single pod managed through a StrimziPodSet. Unlike with StatefulSets, there are no
+     * volume claim templates, so the persistent claim storage is mounted by referencing the claim of the given pod.
+     *
+     * @param podName   Name of the pod for which the volumes are created
+     * @param storage   Storage configuration
+     * @return List with the data volumes of the pod
+     */
+    public static List<Volume> getPodSetDataVolumes(String podName, Storage storage) {
+        List<Volume> volumes = new ArrayList<>();
+
+        if (storage != null) {
+            if (storage instanceof JbodStorage) {
+                for (SingleVolumeStorage volume : ((JbodStorage) storage).getVolumes()) {
+                    if (volume.getId() == null)
+                        throw new InvalidResourceException("Volumes under JBOD storage type have to have 'id' property");
+                    // it's called recursively for setting the information from the current volume
+                    volumes.addAll(getPodSetDataVolumes(podName, volume));
+                }
+            } else if (storage instanceof EphemeralStorage) {
+                Integer id = ((EphemeralStorage) storage).getId();
+                String name = getVolumePrefix(id);
+                String sizeLimit = ((EphemeralStorage) storage).getSizeLimit();
+                volumes.add(createEmptyDirVolume(name, sizeLimit));
+            } else if (storage instanceof PersistentClaimStorage) {
+                Integer id = ((PersistentClaimStorage) storage).getId();
+                String name = getVolumePrefix(id);
+                volumes.add(createPvcVolume(name, name + "-" + podName));
+            }
+        }
+
+        return volumes;
+    }
+
     public static List<PersistentVolumeClaim> getDataPersistentVolumeClaims(Storage storage) {
         List<PersistentVolumeClaim> pvcs = new ArrayList<>();
 
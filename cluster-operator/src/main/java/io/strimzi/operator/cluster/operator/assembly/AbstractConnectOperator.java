@@ -205,6 +205,11 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                     String connectName = kafkaConnector.getMetadata().getLabels() == null ? null : kafkaConnector.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
                     String connectNamespace = connectorNamespace;
 
+                    if (!connectOperator.ownsNamespace(connectorNamespace)) {
+                        LOGGER.debugOp("{} {} in namespace {} was {}, but the namespace is reconciled by another operator instance and will be ignored", connectorKind, connectorName, connectorNamespace, action);
+                        return;
+                    }
+
                     switch (action) {
                         case ADDED:
                         case DELETED:
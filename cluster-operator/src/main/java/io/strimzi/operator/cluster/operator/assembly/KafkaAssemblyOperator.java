@@ -5,12 +5,12 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Node;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
 import io.fabric8.kubernetes.api.model.Pod;
-import io.fabric8.kubernetes.api.model.PodTemplateSpec;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
@@ -24,6 +24,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.openshift.api.model.Route;
 import io.strimzi.api.kafka.KafkaList;
+import io.strimzi.api.kafka.StrimziPodSetList;
 import io.strimzi.api.kafka.model.CertAndKeySecretSource;
 import io.strimzi.api.kafka.model.CertificateAuthority;
 import io.strimzi.api.kafka.model.Constants;
@@ -31,6 +32,8 @@ import io.strimzi.api.kafka.model.Kafka;
 import io.strimzi.api.kafka.model.KafkaBuilder;
 import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.KafkaSpec;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
 import io.strimzi.api.kafka.model.listener.NodeAddressType;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListener;
 import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerConfigurationBroker;
@@ -68,6 +71,8 @@ import io.strimzi.operator.cluster.model.KafkaVersionChange;
 import io.strimzi.operator.cluster.model.ListenersUtils;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.NodeUtils;
+import io.strimzi.operator.cluster.model.PodRevision;
+import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.cluster.model.StorageDiff;
 import io.strimzi.operator.cluster.model.StorageUtils;
@@ -129,10 +134,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.function.Function;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -158,6 +166,11 @@ import static java.util.Collections.emptyMap;
 public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesClient, Kafka, KafkaList, Resource<Kafka>, KafkaSpec, KafkaStatus> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAssemblyOperator.class.getName());
 
+    /**
+     * Maximal number of PVCs which are reconciled or resized at the same time
+     */
+    /* test */ static final int PVC_RECONCILIATION_PARALLELISM = 10;
+
     private final long operationTimeoutMs;
     private final String operatorNamespace;
     private final Labels operatorNamespaceLabels;
@@ -177,8 +190,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final StorageClassOperator storageClassOperator;
     private final NodeOperator nodeOperator;
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> crdOperator;
+    private final CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> strimziPodSetOperator;
     private final ZookeeperScalerProvider zkScalerProvider;
     private final AdminClientProvider adminClientProvider;
+    private final List<StrimziPodSetController> podSetControllers = new CopyOnWriteArrayList<>();
 
     /**
      * @param vertx The Vertx instance
@@ -211,6 +226,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         this.ingressV1Beta1Operations = supplier.ingressV1Beta1Operations;
         this.storageClassOperator = supplier.storageClassOperations;
         this.crdOperator = supplier.kafkaOperator;
+        this.strimziPodSetOperator = supplier.strimziPodSetOperator;
         this.nodeOperator = supplier.nodeOperator;
         this.zkScalerProvider = supplier.zkScalerProvider;
         this.adminClientProvider = supplier.adminClientProvider;
@@ -367,6 +383,37 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return chainPromise.future();
     }
 
+    /**
+     * Creates the watches of the controller managing the pods of the StrimziPodSets. It is used only when the
+     * UseStrimziPodSets feature gate is enabled.
+     *
+     * @param watchNamespaceOrWildcard  The namespace to watch or * for all namespaces
+     *
+     * @return  Future with the controller which completes when the watches are created
+     */
+    public Future<StrimziPodSetController> createPodSetWatch(String watchNamespaceOrWildcard) {
+        StrimziPodSetController controller = new StrimziPodSetController(vertx, podOperations, strimziPodSetOperator, this::ownsNamespace);
+        podSetControllers.add(controller);
+        return controller.createWatches(watchNamespaceOrWildcard).map(controller);
+    }
+
+    /**
+     * The pods of the StrimziPodSets are managed by their controllers outside of the Kafka reconciliations, so their
+     * reconciliations are included as well.
+     *
+     * @return  Namespaces with reconciliations in progress
+     */
+    @Override
+    public Set<String> reconcilingNamespaces() {
+        Set<String> namespaces = super.reconcilingNamespaces();
+
+        for (StrimziPodSetController controller : podSetControllers) {
+            namespaces.addAll(controller.reconcilingNamespaces());
+        }
+
+        return namespaces;
+    }
+
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
         return new ReconciliationState(reconciliation, kafkaAssembly);
     }
@@ -399,6 +446,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         /* test */ KafkaStatus kafkaStatus = new KafkaStatus();
 
         /* test */ ReconcileResult<StatefulSet> kafkaDiffs;
+        /* test */ StrimziPodSet kafkaPodSet;
         private final Set<String> kafkaBootstrapDnsName = new HashSet<>();
         private final Set<String> kafkaAdvertisedHostnames = new TreeSet<>();
         private final Set<String> kafkaAdvertisedPorts = new TreeSet<>();
@@ -733,12 +781,24 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                 } else {
                     zkRollFuture = Future.succeededFuture();
                 }
-                return zkRollFuture
-                        .compose(i -> kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
-                        .compose(sts -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
-                            () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
-                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
-                            .rollingRestart(rollPodAndLogReason))
+                Future<Void> kafkaRollFuture;
+                if (featureGates.useStrimziPodSetsEnabled()) {
+                    kafkaRollFuture = zkRollFuture
+                            .compose(i -> strimziPodSetOperator.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
+                            .compose(podSet -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
+                                () -> new BackOff(250, 2, 10), namespace, name, PodSetUtils.podSetToPods(podSet).size(), clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
+                                kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
+                                .rollingRestart(rollPodAndLogReason));
+                } else {
+                    kafkaRollFuture = zkRollFuture
+                            .compose(i -> kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
+                            .compose(sts -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
+                                () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
+                                kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
+                                .rollingRestart(rollPodAndLogReason));
+                }
+
+                return kafkaRollFuture
                         .compose(i -> rollDeploymentIfExists(EntityOperator.entityOperatorName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(KafkaExporter.kafkaExporterName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(CruiseControl.cruiseControlName(name), reason.toString()))
@@ -775,6 +835,17 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * @return  Future with the result of the rolling update
          */
         Future<Void> kafkaManualPodRollingUpdate(StatefulSet sts) {
+            return kafkaManualPodRollingUpdate(podNeedsRestart -> maybeRollKafka(sts, podNeedsRestart));
+        }
+
+        /**
+         * Does rolling update of Kafka pods based on the annotation on Pod level
+         *
+         * @param roll  Function which rolls the Kafka pods for which the passed function returns restart reasons
+         *
+         * @return  Future with the result of the rolling update
+         */
+        private Future<Void> kafkaManualPodRollingUpdate(Function<Function<Pod, List<String>>, Future<Void>> roll) {
             return podOperations.listAsync(namespace, kafkaCluster.getSelectorLabels())
                     .compose(pods -> {
                         List<String> podsToRoll = new ArrayList<>(0);
@@ -786,7 +857,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         }
 
                         if (!podsToRoll.isEmpty())  {
-                            return maybeRollKafka(sts, pod -> {
+                            return roll.apply(pod -> {
                                 if (pod != null && podsToRoll.contains(pod.getMetadata().getName())) {
                                     LOGGER.debugCr(reconciliation, "Rolling Kafka pod {} due to manual rolling update annotation on a pod", pod.getMetadata().getName());
                                     return singletonList("manual rolling update annotation on a pod");
@@ -809,6 +880,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * @return  Future with the result of the rolling update
          */
         Future<ReconciliationState> kafkaManualRollingUpdate() {
+            if (featureGates.useStrimziPodSetsEnabled()) {
+                return kafkaPodSetManualRollingUpdate();
+            }
+
             Future<StatefulSet> futsts = kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name));
             if (futsts != null) {
                 return futsts.compose(sts -> {
@@ -837,6 +912,40 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return Future.succeededFuture(this);
         }
 
+        /**
+         * Does manual rolling update of Kafka pods based on an annotation on the StrimziPodSet or on the Pods. It works
+         * in the same way as the manual rolling update with StatefulSets.
+         *
+         * @return  Future with the result of the rolling update
+         */
+        private Future<ReconciliationState> kafkaPodSetManualRollingUpdate() {
+            return strimziPodSetOperator.getAsync(namespace, KafkaCluster.kafkaClusterName(name))
+                    .compose(podSet -> {
+                        if (podSet != null) {
+                            int replicas = PodSetUtils.podSetToPods(podSet).size();
+
+                            if (Annotations.booleanAnnotation(podSet, Annotations.ANNO_STRIMZI_IO_MANUAL_ROLLING_UPDATE, false)) {
+                                // User trigger rolling update of the whole StrimziPodSet
+                                return maybeRollKafka(replicas, pod -> {
+                                    if (pod == null) {
+                                        throw new ConcurrentDeletionException("Unexpectedly pod no longer exists during roll of StrimziPodSet.");
+                                    }
+                                    LOGGER.debugCr(reconciliation, "Rolling Kafka pod {} due to manual rolling update annotation",
+                                            pod.getMetadata().getName());
+                                    return singletonList("manual rolling update");
+                                }, true);
+                            } else {
+                                // The StrimziPodSet is not annotated to roll all pods.
+                                // But maybe the individual pods are annotated to restart only some of them.
+                                return kafkaManualPodRollingUpdate(podNeedsRestart -> maybeRollKafka(replicas, podNeedsRestart, true));
+                            }
+                        } else {
+                            // StrimziPodSet does not exist => nothing to roll
+                            return Future.succeededFuture();
+                        }
+                    }).map(i -> this);
+        }
+
         /**
          * Does rolling update of Zoo pods based on the annotation on Pod level
          *
@@ -1121,9 +1230,22 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * @return succeeded future if kafka pod was rolled and is ready
          */
         Future<Void> maybeRollKafka(StatefulSet sts, Function<Pod, List<String>> podNeedsRestart, boolean allowReconfiguration) {
+            return maybeRollKafka(sts.getSpec().getReplicas(), podNeedsRestart, allowReconfiguration);
+        }
+
+        /**
+         * Rolls Kafka pods if needed
+         *
+         * @param replicas Number of Kafka pods which should be considered for rolling
+         * @param podNeedsRestart this function serves as a predicate whether to roll pod or not
+         * @param allowReconfiguration defines whether the rolling update should also attempt to do dynamic reconfiguration or not
+         *
+         * @return succeeded future if kafka pod was rolled and is ready
+         */
+        Future<Void> maybeRollKafka(int replicas, Function<Pod, List<String>> podNeedsRestart, boolean allowReconfiguration) {
             return adminClientSecrets()
                 .compose(compositeFuture -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
-                    () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
+                    () -> new BackOff(250, 2, 10), namespace, name, replicas, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
                         kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration)
                     .rollingRestart(podNeedsRestart));
         }
@@ -1449,11 +1571,14 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return resultPromise.future();
         }
 
-        /*test*/ Future<ReconciliationState> getKafkaClusterDescription() {
+        /**
+         * Collects the current state of the Kafka brokers from their StatefulSet
+         *
+         * @return  Future with the storage configuration used by the current StatefulSet
+         */
+        private Future<Storage> kafkaCurrentStateFromStatefulSet() {
             return kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name))
-                    .compose(sts -> {
-                        Storage oldStorage = getOldStorage(sts);
-
+                    .map(sts -> {
                         this.kafkaCurrentReplicas = 0;
                         if (sts != null && sts.getSpec() != null)   {
                             this.kafkaCurrentReplicas = sts.getSpec().getReplicas();
@@ -1461,6 +1586,36 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                             this.kafkaStsAlreadyExists = true;
                         }
 
+                        return getOldStorage(sts);
+                    });
+        }
+
+        /**
+         * Collects the current state of the Kafka brokers from their StrimziPodSet. When the StrimziPodSet does not
+         * exist yet, the StatefulSet is used instead, because the cluster might be just migrating from it.
+         *
+         * @return  Future with the storage configuration used by the current StrimziPodSet or StatefulSet
+         */
+        private Future<Storage> kafkaCurrentStateFromPodSet() {
+            return strimziPodSetOperator.getAsync(namespace, KafkaCluster.kafkaClusterName(name))
+                    .compose(podSet -> {
+                        if (podSet != null) {
+                            this.kafkaCurrentReplicas = PodSetUtils.podSetToPods(podSet).size();
+                            this.currentStsVersion = Annotations.annotations(podSet).get(ANNO_STRIMZI_IO_KAFKA_VERSION);
+                            this.kafkaStsAlreadyExists = true;
+
+                            return Future.succeededFuture(getOldStorage(podSet));
+                        } else {
+                            return kafkaCurrentStateFromStatefulSet();
+                        }
+                    });
+        }
+
+        /*test*/ Future<ReconciliationState> getKafkaClusterDescription() {
+            Future<Storage> oldStorageFuture = featureGates.useStrimziPodSetsEnabled() ? kafkaCurrentStateFromPodSet() : kafkaCurrentStateFromStatefulSet();
+
+            return oldStorageFuture
+                    .compose(oldStorage -> {
                         this.kafkaCluster = KafkaCluster.fromCrd(reconciliation, kafkaAssembly, versions, oldStorage, kafkaCurrentReplicas);
                         this.kafkaBootstrapDnsName.addAll(ListenersUtils.alternativeNames(kafkaCluster.getListeners()));
 
@@ -1570,6 +1725,26 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         }
 
         Future<ReconciliationState> kafkaScaleDown() {
+            if (featureGates.useStrimziPodSetsEnabled()) {
+                return strimziPodSetOperator.getAsync(namespace, kafkaCluster.getName())
+                        .compose(podSet -> {
+                            if (podSet != null && podSet.getSpec().getPods().size() > kafkaCluster.getReplicas()) {
+                                LOGGER.infoCr(reconciliation, "Scaling Kafka down from {} to {} replicas", podSet.getSpec().getPods().size(), kafkaCluster.getReplicas());
+
+                                // The removed pods are deleted by the StrimziPodSet controller
+                                StrimziPodSet scaledDown = new StrimziPodSetBuilder(podSet)
+                                        .editSpec()
+                                            .withPods(podSet.getSpec().getPods().subList(0, kafkaCluster.getReplicas()))
+                                        .endSpec()
+                                        .build();
+
+                                return withVoid(strimziPodSetOperator.reconcile(reconciliation, namespace, kafkaCluster.getName(), scaledDown));
+                            } else {
+                                return Future.succeededFuture(this);
+                            }
+                        });
+            }
+
             return withVoid(kafkaSetOperations.scaleDown(reconciliation, namespace, kafkaCluster.getName(), kafkaCluster.getReplicas()));
         }
 
@@ -2484,53 +2659,104 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return Integer.parseInt(podName.substring(podName.lastIndexOf("-") + 1));
         }
 
+        /**
+         * Reconciles the PVCs of a cluster and resizes them when their size changed. The current PVCs are fetched with a
+         * single list request and the individual PVCs are reconciled with at most {@link #PVC_RECONCILIATION_PARALLELISM}
+         * requests in flight. PVCs which are resizing or waiting for the file system resize are reported in a warning
+         * condition in the Kafka status.
+         *
+         * @param pvcs      List of the desired PVCs
+         * @param cluster   Model of the cluster which owns the PVCs
+         *
+         * @return  Future which completes when all PVCs are reconciled
+         */
         Future<ReconciliationState> maybeResizeReconcilePvcs(List<PersistentVolumeClaim> pvcs, AbstractModel cluster) {
-            List<Future> futures = new ArrayList<>(pvcs.size());
-
-            for (PersistentVolumeClaim desiredPvc : pvcs)  {
-                Promise<Void> resultPromise = Promise.promise();
-
-                pvcOperations.getAsync(namespace, desiredPvc.getMetadata().getName()).onComplete(res -> {
-                    if (res.succeeded())    {
-                        PersistentVolumeClaim currentPvc = res.result();
-
-                        if (currentPvc == null || currentPvc.getStatus() == null || !"Bound".equals(currentPvc.getStatus().getPhase())) {
-                            // This branch handles the following conditions:
-                            // * The PVC doesn't exist yet, we should create it
-                            // * The PVC is not Bound and we should reconcile it
-                            reconcilePvc(desiredPvc).onComplete(resultPromise);
-                        } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "Resizing".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
-                            // The PVC is Bound but it is already resizing => Nothing to do, we should let it resize
-                            LOGGER.debugCr(reconciliation, "The PVC {} is resizing, nothing to do", desiredPvc.getMetadata().getName());
-                            resultPromise.complete();
-                        } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "FileSystemResizePending".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
-                            // The PVC is Bound and resized but waiting for FS resizing => We need to restart the pod which is using it
-                            String podName = cluster.getPodName(getPodIndexFromPvcName(desiredPvc.getMetadata().getName()));
-                            fsResizingRestartRequest.add(podName);
-                            LOGGER.infoCr(reconciliation, "The PVC {} is waiting for file system resizing and the pod {} needs to be restarted.", desiredPvc.getMetadata().getName(), podName);
-                            resultPromise.complete();
-                        } else {
-                            // The PVC is Bound and resizing is not in progress => We should check if the SC supports resizing and check if size changed
-                            Long currentSize = StorageUtils.parseMemory(currentPvc.getSpec().getResources().getRequests().get("storage"));
-                            Long desiredSize = StorageUtils.parseMemory(desiredPvc.getSpec().getResources().getRequests().get("storage"));
-
-                            if (!currentSize.equals(desiredSize))   {
-                                // The sizes are different => we should resize (shrinking will be handled in StorageDiff, so we do not need to check that)
-                                resizePvc(currentPvc, desiredPvc).onComplete(resultPromise);
-                            } else  {
-                                // size didn't changed, just reconcile
-                                reconcilePvc(desiredPvc).onComplete(resultPromise);
-                            }
+            if (pvcs.isEmpty()) {
+                return Future.succeededFuture(this);
+            }
+
+            Set<String> resizingPvcs = new HashSet<>();
+            Set<String> fsResizingPvcs = new HashSet<>();
+
+            return pvcOperations.listAsync(namespace, cluster.getSelectorLabels())
+                    .compose(existingPvcs -> {
+                        Map<String, PersistentVolumeClaim> currentPvcs = existingPvcs.stream()
+                                .collect(Collectors.toMap(pvc -> pvc.getMetadata().getName(), pvc -> pvc));
+                        Queue<PersistentVolumeClaim> queue = new ConcurrentLinkedQueue<>(pvcs);
+                        List<Future> workers = new ArrayList<>(PVC_RECONCILIATION_PARALLELISM);
+
+                        for (int i = 0; i < Math.min(PVC_RECONCILIATION_PARALLELISM, pvcs.size()); i++) {
+                            workers.add(maybeResizeReconcileNextPvc(queue, currentPvcs, cluster, resizingPvcs, fsResizingPvcs));
                         }
-                    } else {
-                        resultPromise.fail(res.cause());
-                    }
-                });
 
-                futures.add(resultPromise.future());
+                        return CompositeFuture.join(workers);
+                    })
+                    .map(i -> {
+                        if (!resizingPvcs.isEmpty() || !fsResizingPvcs.isEmpty()) {
+                            kafkaStatus.addCondition(StatusUtils.buildWarningCondition("PersistentVolumeClaimsResizing",
+                                    "Resizing of " + (resizingPvcs.size() + fsResizingPvcs.size()) + " PersistentVolumeClaims of " + cluster.getName() + " is in progress. "
+                                            + resizingPvcs.size() + " PersistentVolumeClaims are resizing " + new TreeSet<>(resizingPvcs) + " and "
+                                            + fsResizingPvcs.size() + " are waiting for the file system resizing " + new TreeSet<>(fsResizingPvcs) + "."));
+                        }
+
+                        return this;
+                    });
+        }
+
+        /**
+         * Takes the PVCs one by one from the queue and reconciles them until the queue is empty. When some PVC fails,
+         * the remaining PVCs are still reconciled and the returned future fails with the error at the end.
+         */
+        private Future<Void> maybeResizeReconcileNextPvc(Queue<PersistentVolumeClaim> queue, Map<String, PersistentVolumeClaim> currentPvcs, AbstractModel cluster,
+                                                         Set<String> resizingPvcs, Set<String> fsResizingPvcs) {
+            PersistentVolumeClaim desiredPvc = queue.poll();
+
+            if (desiredPvc == null) {
+                return Future.succeededFuture();
             }
 
-            return withVoid(CompositeFuture.all(futures));
+            String pvcName = desiredPvc.getMetadata().getName();
+            // PVCs created by older versions might not have the labels and have to be fetched by their name
+            Future<PersistentVolumeClaim> currentPvc = currentPvcs.containsKey(pvcName) ? Future.succeededFuture(currentPvcs.get(pvcName)) : pvcOperations.getAsync(namespace, pvcName);
+
+            return currentPvc
+                    .compose(current -> maybeResizeReconcilePvc(current, desiredPvc, cluster, resizingPvcs, fsResizingPvcs))
+                    .compose(i -> maybeResizeReconcileNextPvc(queue, currentPvcs, cluster, resizingPvcs, fsResizingPvcs),
+                        error -> maybeResizeReconcileNextPvc(queue, currentPvcs, cluster, resizingPvcs, fsResizingPvcs).compose(i -> Future.failedFuture(error)));
+        }
+
+        private Future<Void> maybeResizeReconcilePvc(PersistentVolumeClaim currentPvc, PersistentVolumeClaim desiredPvc, AbstractModel cluster,
+                                                     Set<String> resizingPvcs, Set<String> fsResizingPvcs) {
+            if (currentPvc == null || currentPvc.getStatus() == null || !"Bound".equals(currentPvc.getStatus().getPhase())) {
+                // This branch handles the following conditions:
+                // * The PVC doesn't exist yet, we should create it
+                // * The PVC is not Bound and we should reconcile it
+                return reconcilePvc(desiredPvc);
+            } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "Resizing".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
+                // The PVC is Bound but it is already resizing => Nothing to do, we should let it resize
+                LOGGER.debugCr(reconciliation, "The PVC {} is resizing, nothing to do", desiredPvc.getMetadata().getName());
+                resizingPvcs.add(desiredPvc.getMetadata().getName());
+                return Future.succeededFuture();
+            } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "FileSystemResizePending".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
+                // The PVC is Bound and resized but waiting for FS resizing => We need to restart the pod which is using it
+                String podName = cluster.getPodName(getPodIndexFromPvcName(desiredPvc.getMetadata().getName()));
+                fsResizingRestartRequest.add(podName);
+                fsResizingPvcs.add(desiredPvc.getMetadata().getName());
+                LOGGER.infoCr(reconciliation, "The PVC {} is waiting for file system resizing and the pod {} needs to be restarted.", desiredPvc.getMetadata().getName(), podName);
+                return Future.succeededFuture();
+            } else {
+                // The PVC is Bound and resizing is not in progress => We should check if the SC supports resizing and check if size changed
+                Long currentSize = StorageUtils.parseMemory(currentPvc.getSpec().getResources().getRequests().get("storage"));
+                Long desiredSize = StorageUtils.parseMemory(desiredPvc.getSpec().getResources().getRequests().get("storage"));
+
+                if (!currentSize.equals(desiredSize))   {
+                    // The sizes are different => we should resize (shrinking will be handled in StorageDiff, so we do not need to check that)
+                    return resizePvc(currentPvc, desiredPvc);
+                } else  {
+                    // size didn't changed, just reconcile
+                    return reconcilePvc(desiredPvc);
+                }
+            }
         }
 
         Future<Void> reconcilePvc(PersistentVolumeClaim desired)  {
@@ -2610,25 +2836,25 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * this, it achieves the right order regardless who is controller but still makes sure that the replicas are
          * in-sync.
          *
-         * @param sts               StatefulSet which should be rolled
+         * @param replicas          Number of Kafka pods which should be considered for rolling
          * @param podNeedsRestart   Function to tell the rolling restart mechanism if given broker pod needs restart or not
          * @param nextPod           The sequence number of the next pod which should be considered for rolling
          * @param lastPod           Index of the last pod which should be considered for restart
          *
          * @return
          */
-        Future<ReconciliationState> maybeRollKafkaInSequence(StatefulSet sts, Function<Pod, List<String>> podNeedsRestart, int nextPod, int lastPod) {
+        Future<ReconciliationState> maybeRollKafkaInSequence(int replicas, Function<Pod, List<String>> podNeedsRestart, int nextPod, int lastPod) {
             if (nextPod <= lastPod)  {
                 final int podToRoll = nextPod;
 
-                return maybeRollKafka(sts, pod -> {
+                return maybeRollKafka(replicas, pod -> {
                     if (pod != null && pod.getMetadata().getName().endsWith("-" + podToRoll))    {
                         return podNeedsRestart.apply(pod);
                     } else {
                         return new ArrayList<>();
                     }
                 }, false)
-                        .compose(ignore -> maybeRollKafkaInSequence(sts, podNeedsRestart, nextPod + 1, lastPod));
+                        .compose(ignore -> maybeRollKafkaInSequence(replicas, podNeedsRestart, nextPod + 1, lastPod));
             } else {
                 // All pods checked for sequential RU => nothing more to do
                 return withVoid(Future.succeededFuture());
@@ -2657,13 +2883,22 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                     // At least one broker needs rolling update => we can trigger it without checking the other brokers
                                     LOGGER.debugCr(reconciliation, "Kafka brokers needs rolling update to add or remove JBOD volumes");
 
-                                    return kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name))
-                                            .compose(sts -> {
-                                                if (sts != null) {
+                                    Future<Integer> replicasFuture;
+                                    if (featureGates.useStrimziPodSetsEnabled()) {
+                                        replicasFuture = strimziPodSetOperator.getAsync(namespace, KafkaCluster.kafkaClusterName(name))
+                                                .map(podSet -> podSet != null ? podSet.getSpec().getPods().size() : null);
+                                    } else {
+                                        replicasFuture = kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name))
+                                                .map(sts -> sts != null ? sts.getSpec().getReplicas() : null);
+                                    }
+
+                                    return replicasFuture
+                                            .compose(replicas -> {
+                                                if (replicas != null) {
                                                     int lastPodIndex = Math.min(kafkaCurrentReplicas, kafkaCluster.getReplicas()) - 1;
-                                                    return maybeRollKafkaInSequence(sts, podToCheck -> needsRestartBecauseAddedOrRemovedJbodVolumes(podToCheck, jbodStorage, kafkaCurrentReplicas, kafkaCluster.getReplicas()), 0, lastPodIndex);
+                                                    return maybeRollKafkaInSequence(replicas, podToCheck -> needsRestartBecauseAddedOrRemovedJbodVolumes(podToCheck, jbodStorage, kafkaCurrentReplicas, kafkaCluster.getReplicas()), 0, lastPodIndex);
                                                 } else {
-                                                    // STS does not exist => nothing to roll
+                                                    // STS or StrimziPodSet does not exist => nothing to roll
                                                     return withVoid(Future.succeededFuture());
                                                 }
                                             });
@@ -2709,39 +2944,97 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         StatefulSet getKafkaStatefulSet()   {
             StatefulSet kafkaSts = kafkaCluster.generateStatefulSet(pfa.isOpenshift(), imagePullPolicy, imagePullSecrets);
-            PodTemplateSpec template = kafkaSts.getSpec().getTemplate();
+            Annotations.annotations(kafkaSts.getSpec().getTemplate()).putAll(kafkaPodAnnotations());
+
+            return kafkaSts;
+        }
+
+        StrimziPodSet getKafkaPodSet(int replicas)   {
+            return kafkaCluster.generatePodSet(replicas, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, kafkaPodAnnotations());
+        }
+
+        /**
+         * @return  Annotations of the Kafka pods which are computed during the reconciliation
+         */
+        private Map<String, String> kafkaPodAnnotations()   {
+            Map<String, String> podAnnotations = new HashMap<>(5);
 
             // Annotations with CA generations to help with rolling updates when CA changes
-            Annotations.annotations(template).put(
+            podAnnotations.put(
                     Ca.ANNO_STRIMZI_IO_CLUSTER_CA_CERT_GENERATION,
                     String.valueOf(getCaCertGeneration(this.clusterCa)));
-            Annotations.annotations(template).put(
+            podAnnotations.put(
                     Ca.ANNO_STRIMZI_IO_CLIENTS_CA_CERT_GENERATION,
                     String.valueOf(getCaCertGeneration(this.clientsCa)));
 
-            Annotations.annotations(template).put(Annotations.ANNO_STRIMZI_LOGGING_APPENDERS_HASH, kafkaLoggingAppendersHash);
-            Annotations.annotations(template).put(KafkaCluster.ANNO_STRIMZI_BROKER_CONFIGURATION_HASH, kafkaBrokerConfigurationHash);
+            podAnnotations.put(Annotations.ANNO_STRIMZI_LOGGING_APPENDERS_HASH, kafkaLoggingAppendersHash);
+            podAnnotations.put(KafkaCluster.ANNO_STRIMZI_BROKER_CONFIGURATION_HASH, kafkaBrokerConfigurationHash);
 
             // Annotations with custom cert thumbprints to help with rolling updates when they change
             if (!customListenerCertificateThumbprints.isEmpty()) {
-                Annotations.annotations(template).put(
+                podAnnotations.put(
                         KafkaCluster.ANNO_STRIMZI_CUSTOM_LISTENER_CERT_THUMBPRINTS,
                         customListenerCertificateThumbprints.toString());
             }
 
-            return kafkaSts;
+            return podAnnotations;
         }
 
         Future<ReconciliationState> kafkaStatefulSet() {
+            if (featureGates.useStrimziPodSetsEnabled()) {
+                // Scaling up is done only after the rolling update => we keep the current number of pods for now
+                int replicas = kafkaCurrentReplicas != null && kafkaCurrentReplicas > 0 ? Math.min(kafkaCurrentReplicas, kafkaCluster.getReplicas()) : kafkaCluster.getReplicas();
+                this.kafkaPodSet = getKafkaPodSet(replicas);
+
+                // When migrating from StatefulSet, the StatefulSet is deleted without deleting the pods. They are
+                // adopted by the StrimziPodSet controller and rolled to the pod set definition by the rolling update.
+                return kafkaSetOperations.getAsync(namespace, kafkaCluster.getName())
+                        .compose(sts -> {
+                            if (sts != null) {
+                                LOGGER.infoCr(reconciliation, "Deleting Kafka StatefulSet {} to migrate to StrimziPodSet", sts.getMetadata().getName());
+                                return kafkaSetOperations.deleteAsync(reconciliation, namespace, kafkaCluster.getName(), false);
+                            } else {
+                                return Future.succeededFuture();
+                            }
+                        })
+                        .compose(i -> withVoid(strimziPodSetOperator.reconcile(reconciliation, namespace, kafkaCluster.getName(), kafkaPodSet)));
+            }
+
             return withKafkaDiff(kafkaSetOperations.reconcile(reconciliation, namespace, kafkaCluster.getName(), getKafkaStatefulSet()));
         }
 
         Future<ReconciliationState> kafkaRollingUpdate() {
+            if (featureGates.useStrimziPodSetsEnabled()) {
+                Map<String, Pod> desiredPods = PodSetUtils.podSetToPods(kafkaPodSet).stream()
+                        .collect(Collectors.toMap(pod -> pod.getMetadata().getName(), pod -> pod));
+
+                return withVoid(maybeRollKafka(desiredPods.size(), pod -> {
+                    if (pod == null) {
+                        return new ArrayList<>();
+                    }
+
+                    // The revision covers the annotations with the custom listener certificate thumbprints as well
+                    Pod desiredPod = desiredPods.get(pod.getMetadata().getName());
+                    boolean isPodUpToDate = desiredPod != null && !PodRevision.hasChanged(pod, desiredPod);
+                    return getReasonsToRestartPod(pod, isPodUpToDate, true, existingKafkaCertsChanged, this.clusterCa, this.clientsCa);
+                }, true));
+            }
+
             return withVoid(maybeRollKafka(kafkaDiffs.resource(), pod ->
                     getReasonsToRestartPod(kafkaDiffs.resource(), pod, existingKafkaCertsChanged, this.clusterCa, this.clientsCa)));
         }
 
         Future<ReconciliationState> kafkaScaleUp() {
+            if (featureGates.useStrimziPodSetsEnabled()) {
+                if (PodSetUtils.podSetToPods(kafkaPodSet).size() < kafkaCluster.getReplicas()) {
+                    // The new pods are created by the StrimziPodSet controller in parallel
+                    this.kafkaPodSet = getKafkaPodSet(kafkaCluster.getReplicas());
+                    return withVoid(strimziPodSetOperator.reconcile(reconciliation, namespace, kafkaCluster.getName(), kafkaPodSet));
+                } else {
+                    return Future.succeededFuture(this);
+                }
+            }
+
             return withVoid(kafkaSetOperations.scaleUp(reconciliation, namespace, kafkaCluster.getName(), kafkaCluster.getReplicas()));
         }
 
@@ -2812,6 +3105,19 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * @return
          */
         Future<ReconciliationState> kafkaManualPodCleaning() {
+            if (featureGates.useStrimziPodSetsEnabled()) {
+                return podOperations.listAsync(namespace, kafkaCluster.getSelectorLabels())
+                        .compose(pods -> {
+                            for (Pod pod : pods) {
+                                if (Annotations.booleanAnnotation(pod, AbstractScalableResourceOperator.ANNO_STRIMZI_IO_DELETE_POD_AND_PVC, false)) {
+                                    LOGGER.warnCr(reconciliation, "Pod {} is annotated with {}, but the manual cleaning of pods and PVCs is not supported with StrimziPodSets", pod.getMetadata().getName(), AbstractScalableResourceOperator.ANNO_STRIMZI_IO_DELETE_POD_AND_PVC);
+                                }
+                            }
+
+                            return Future.succeededFuture(this);
+                        });
+            }
+
             String stsName = KafkaCluster.kafkaClusterName(name);
             Future<StatefulSet> futureSts = kafkaSetOperations.getAsync(namespace, stsName);
             Promise<Void> resultPromise = Promise.promise();
@@ -3484,6 +3790,13 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             boolean isPodUpToDate = isPodUpToDate(sts, pod);
             boolean areCustomListenerCertsUpToDate = isCustomCertUpToDate(sts, pod, KafkaCluster.ANNO_STRIMZI_CUSTOM_LISTENER_CERT_THUMBPRINTS);
 
+            return getReasonsToRestartPod(pod, isPodUpToDate, areCustomListenerCertsUpToDate, nodeCertsChange, cas);
+        }
+
+        private List<String> getReasonsToRestartPod(Pod pod, boolean isPodUpToDate,
+                                                    boolean areCustomListenerCertsUpToDate,
+                                                    boolean nodeCertsChange,
+                                                    Ca... cas) {
             List<String> reasons = new ArrayList<>(3);
 
             for (Ca ca: cas) {
@@ -3584,11 +3897,11 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     secret));
         }
 
-        private Storage getOldStorage(StatefulSet sts)  {
+        private Storage getOldStorage(HasMetadata resource)  {
             Storage storage = null;
 
-            if (sts != null)    {
-                String jsonStorage = Annotations.stringAnnotation(sts, ANNO_STRIMZI_IO_STORAGE, null);
+            if (resource != null)    {
+                String jsonStorage = Annotations.stringAnnotation(resource, ANNO_STRIMZI_IO_STORAGE, null);
 
                 if (jsonStorage != null)    {
                     storage = ModelUtils.decodeStorageFromJson(jsonStorage);
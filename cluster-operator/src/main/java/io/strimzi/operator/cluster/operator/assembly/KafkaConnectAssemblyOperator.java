@@ -47,6 +47,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * <p>Assembly operator for a "Kafka Connect" assembly, which manages:</p>
@@ -64,6 +65,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     private final BuildOperator buildOperator;
     private final KafkaVersion.Lookup versions;
     protected final long connectBuildTimeoutMs;
+    private final KafkaConnectBuildCache buildCache = new KafkaConnectBuildCache();
 
     /**
      * @param vertx The Vertx instance
@@ -262,12 +264,42 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
                 buildState.desiredImage = buildState.currentImage;
                 buildState.desiredBuildRevision = newBuildRevision;
                 return Future.succeededFuture();
-            } else if (pfa.supportsS2I()) {
-                // Revisions differ and we have S2I support => we are on OpenShift and should do a build
-                return openShiftBuild(reconciliation, namespace, connectBuild, buildState, dockerfile, newBuildRevision);
+            }
+
+            String cacheKey = connectBuild.generateBuildCacheKey(dockerfile);
+            Supplier<Future<String>> build = () -> {
+                Future<Void> result;
+
+                if (pfa.supportsS2I()) {
+                    // Revisions differ and we have S2I support => we are on OpenShift and should do a build
+                    result = openShiftBuild(reconciliation, namespace, connectBuild, buildState, dockerfile, newBuildRevision);
+                } else {
+                    // Revisions differ and no S2I support => we are on Kubernetes and should do a build
+                    result = kubernetesBuild(reconciliation, namespace, connectBuild, buildState, dockerFileConfigMap, newBuildRevision);
+                }
+
+                return result.map(i -> buildState.desiredImage);
+            };
+
+            if (buildState.forceRebuild) {
+                // Rebuild was forced => we do not use the cache, but we replace the cached image with the new one
+                return build.get()
+                        .compose(image -> {
+                            buildCache.put(cacheKey, image);
+                            return Future.succeededFuture();
+                        });
             } else {
-                // Revisions differ and no S2I support => we are on Kubernetes and should do a build
-                return kubernetesBuild(reconciliation, namespace, connectBuild, buildState, dockerFileConfigMap, newBuildRevision);
+                // The same image might have been already built (or is being built) for another Kafka Connect cluster
+                return buildCache.getOrBuild(cacheKey, build)
+                        .compose(image -> {
+                            if (!image.equals(buildState.desiredImage)) {
+                                LOGGER.infoCr(reconciliation, "Container image {} was already built with the same Dockerfile and output and will be used.", image);
+                                buildState.desiredImage = image;
+                                buildState.desiredBuildRevision = newBuildRevision;
+                            }
+
+                            return Future.succeededFuture();
+                        });
             }
         } else {
             // Build is not configured => we should delete resources
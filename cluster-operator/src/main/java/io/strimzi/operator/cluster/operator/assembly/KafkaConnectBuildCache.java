@@ -0,0 +1,113 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the container images built by Kafka Connect Builds, keyed by the content hash of the build (see
+ * {@link io.strimzi.operator.cluster.model.KafkaConnectBuild#generateBuildCacheKey}). It is shared by all Kafka Connect
+ * clusters managed by the operator. A Kafka Connect cluster which needs an image which was already built uses it
+ * directly instead of running its own build. Concurrent builds with the same key are deduplicated into a single build.
+ *
+ * The registry is kept only in memory and holds a limited number of images. The least recently used images are
+ * evicted first.
+ */
+public class KafkaConnectBuildCache {
+    /* test */ static final int DEFAULT_MAX_SIZE = 100;
+
+    private final Map<String, String> images;
+    private final Map<String, Future<String>> inProgress = new HashMap<>();
+
+    /**
+     * Constructs the cache with the default size
+     */
+    public KafkaConnectBuildCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructs the cache
+     *
+     * @param maxSize   Maximal number of images kept in the cache
+     */
+    public KafkaConnectBuildCache(int maxSize) {
+        this.images = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the image built for the key. When the image is not known, it is built using the build supplier. When
+     * another build with the same key is already running, it waits for it instead. If the other build fails, it runs
+     * its own build.
+     *
+     * @param key       Key of the build
+     * @param build     Supplier which runs the build and returns the future with the built image
+     *
+     * @return  Future with the container image
+     */
+    public Future<String> getOrBuild(String key, Supplier<Future<String>> build) {
+        Promise<String> promise = Promise.promise();
+
+        synchronized (this) {
+            String image = images.get(key);
+
+            if (image != null) {
+                return Future.succeededFuture(image);
+            }
+
+            Future<String> running = inProgress.get(key);
+
+            if (running != null) {
+                return running.recover(error -> build.get());
+            }
+
+            inProgress.put(key, promise.future());
+        }
+
+        build.get().onComplete(res -> {
+            synchronized (this) {
+                inProgress.remove(key);
+
+                if (res.succeeded()) {
+                    images.put(key, res.result());
+                }
+            }
+
+            promise.handle(res);
+        });
+
+        return promise.future();
+    }
+
+    /**
+     * Stores the image built for the key, replacing any previous image
+     *
+     * @param key       Key of the build
+     * @param image     The built container image
+     */
+    public synchronized void put(String key, String image) {
+        images.put(key, image);
+    }
+
+    /**
+     * @param key   Key of the build
+     *
+     * @return  The container image built for the key or null if it is not known
+     */
+    public synchronized String get(String key) {
+        return images.get(key);
+    }
+}
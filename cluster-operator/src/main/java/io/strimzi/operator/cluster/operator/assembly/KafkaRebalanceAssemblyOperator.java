@@ -34,7 +34,9 @@ import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControl
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApiImpl;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlLoadParameters;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRebalanceKeys;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlResponse;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskPoller;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskStatus;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RebalanceOptions;
 import io.strimzi.operator.common.AbstractOperator;
@@ -61,6 +63,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -140,6 +143,7 @@ public class KafkaRebalanceAssemblyOperator
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaRebalanceAssemblyOperator.class.getName());
 
     private static final long REBALANCE_POLLING_TIMER_MS = 5_000;
+    private static final long MAX_REBALANCE_POLLING_TIMER_MS = 60_000;
     private static final int MAX_API_RETRIES = 5;
     protected static final String BROKER_LOAD_KEY = "brokerLoad.json";
     private final CrdOperator<KubernetesClient, KafkaRebalance, KafkaRebalanceList> kafkaRebalanceOperator;
@@ -148,6 +152,8 @@ public class KafkaRebalanceAssemblyOperator
     private final Optional<LabelSelector> kafkaSelector;
 
     private final ConfigMapOperator configMapOperator;
+    private final Map<String, CruiseControlUserTaskPoller> userTaskPollers = new ConcurrentHashMap<>();
+
     /**
      * @param vertx The Vertx instance
      * @param pfa Platform features availability properties
@@ -173,6 +179,20 @@ public class KafkaRebalanceAssemblyOperator
         return new CruiseControlApiImpl(vertx);
     }
 
+    /**
+     * Returns the poller shared by all rebalances waiting for the user tasks of the same Cruise Control instance.
+     * The poller is removed again when it has no watches left.
+     *
+     * @param host Cruise Control service to poll
+     * @param apiClient Cruise Control REST API client instance
+     * @return the user task poller for the Cruise Control instance
+     */
+    private CruiseControlUserTaskPoller userTaskPoller(String host, CruiseControlApi apiClient) {
+        return userTaskPollers.computeIfAbsent(host,
+            h -> new CruiseControlUserTaskPoller(vertx, apiClient, h, CruiseControl.REST_API_PORT, REBALANCE_POLLING_TIMER_MS, MAX_REBALANCE_POLLING_TIMER_MS,
+                poller -> userTaskPollers.remove(h, poller)));
+    }
+
     /**
      * The Cruise Control hostname to connect to
      *
@@ -204,6 +224,11 @@ public class KafkaRebalanceAssemblyOperator
                             kafkaRebalance.getStatus() != null ? rebalanceStateConditionType(kafkaRebalance.getStatus()) : null,
                             ANNO_STRIMZI_IO_REBALANCE, rawRebalanceAnnotation(kafkaRebalance));
 
+                    if (!ownsNamespace(reconciliation.namespace())) {
+                        LOGGER.debugCr(reconciliation, "{} is reconciled by another operator instance and will be ignored", kafkaRebalance.getKind());
+                        return;
+                    }
+
                     withLock(reconciliation, LOCK_TIMEOUT_MS,
                         () -> reconcileRebalance(reconciliation, action == Action.DELETED ? null : kafkaRebalance));
                 }
@@ -709,7 +734,8 @@ public class KafkaRebalanceAssemblyOperator
 
     /**
      * This method handles the transition from {@code PendingProposal} state.
-     * It starts a periodic timer in order to check the status of the ongoing rebalance proposal processing on Cruise Control side.
+     * It uses the timer of the user task poller shared by all rebalances of the same Cruise Control instance in order to
+     * check the status of the ongoing rebalance proposal processing on Cruise Control side.
      * In order to do that, it calls the Cruise Control API for requesting the rebalance proposal.
      * When the proposal is ready, the next state is {@code ProposalReady}.
      * If the user sets the strimzi.io/rebalance=stop annotation, it stops polling the Cruise Control API for requesting the rebalance proposal.
@@ -733,7 +759,8 @@ public class KafkaRebalanceAssemblyOperator
         Promise<MapAndStatus<ConfigMap, KafkaRebalanceStatus>> p = Promise.promise();
         if (rebalanceAnnotation == KafkaRebalanceAnnotation.none) {
             LOGGER.debugCr(reconciliation, "Starting Cruise Control rebalance proposal request timer");
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t ->
+            CruiseControlUserTaskPoller poller = userTaskPoller(host, apiClient);
+            poller.watch(null, (t, ignored) ->
                 kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
                     .onSuccess(currentKafkaRebalance -> {
                         // Checking that the resource was not deleted between periodic polls
@@ -743,7 +770,7 @@ public class KafkaRebalanceAssemblyOperator
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.PendingProposal) {
                                 if (rebalanceAnnotation(reconciliation, currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     LOGGER.debugCr(reconciliation, "Stopping current Cruise Control proposal request timer");
-                                    vertx.cancelTimer(t);
+                                    poller.unwatch(t);
                                     p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, validate(reconciliation, currentKafkaRebalance)));
                                 } else {
 
@@ -754,7 +781,7 @@ public class KafkaRebalanceAssemblyOperator
                                             // is ready, so stop the polling
                                             if (rebalanceMapAndStatus.getStatus().getOptimizationResult() != null &&
                                                     !rebalanceMapAndStatus.getStatus().getOptimizationResult().isEmpty()) {
-                                                vertx.cancelTimer(t);
+                                                poller.unwatch(t);
                                                 LOGGER.debugCr(reconciliation, "Optimization proposal ready");
                                                 p.complete(rebalanceMapAndStatus);
                                             } else {
@@ -764,7 +791,7 @@ public class KafkaRebalanceAssemblyOperator
                                         })
                                         .onFailure(e -> {
                                             LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance proposal failed", e.getCause());
-                                            vertx.cancelTimer(t);
+                                            poller.unwatch(t);
                                             p.fail(e.getCause());
                                         });
                                 }
@@ -773,13 +800,13 @@ public class KafkaRebalanceAssemblyOperator
                             }
                         } else {
                             LOGGER.debugCr(reconciliation, "Rebalance resource was deleted, stopping the request time");
-                            vertx.cancelTimer(t);
+                            poller.unwatch(t);
                             p.complete();
                         }
                     })
                     .onFailure(e -> {
                         LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance resource failed", e.getCause());
-                        vertx.cancelTimer(t);
+                        poller.unwatch(t);
                         p.fail(e.getCause());
                     })
             );
@@ -829,8 +856,9 @@ public class KafkaRebalanceAssemblyOperator
 
     /**
      * This method handles the transition from {@code Rebalancing} state.
-     * It starts a periodic timer in order to check the status of the ongoing rebalance processing on Cruise Control side.
-     * In order to do that, it calls the related Cruise Control REST API about asking the user task status.
+     * It watches the status of the ongoing rebalance processing on Cruise Control side using the user task poller shared
+     * by all rebalances of the same Cruise Control instance, which gets the statuses of all their user tasks in a single
+     * request to the Cruise Control REST API.
      * When the rebalance is finished, the next state is {@code Ready}.
      * If the user sets the strimzi.io/rebalance annotation to 'stop', it calls the Cruise Control REST API for stopping the ongoing task
      * and then transitions to the {@code Stopped} state.
@@ -853,11 +881,13 @@ public class KafkaRebalanceAssemblyOperator
             LOGGER.infoCr(reconciliation, "Starting Cruise Control rebalance user task status timer");
             String sessionId = kafkaRebalance.getStatus().getSessionId();
             AtomicInteger ccApiErrorCount = new AtomicInteger();
-            vertx.setPeriodic(REBALANCE_POLLING_TIMER_MS, t -> {
+            CruiseControlUserTaskPoller poller = userTaskPoller(host, apiClient);
+            poller.watch(sessionId, (t, userTaskStatus) -> {
                 // Check that we have not already failed to contact the API beyond the allowed number of times.
                 if (ccApiErrorCount.get() >= MAX_API_RETRIES) {
-                    vertx.cancelTimer(t);
+                    poller.unwatch(t);
                     p.fail(new CruiseControlRestException("Unable to reach Cruise Control API after " + MAX_API_RETRIES + " attempts"));
+                    return;
                 }
                 kafkaRebalanceOperator.getAsync(kafkaRebalance.getMetadata().getNamespace(), kafkaRebalance.getMetadata().getName())
                     .onSuccess(currentKafkaRebalance -> {
@@ -868,7 +898,7 @@ public class KafkaRebalanceAssemblyOperator
                             if (state(currentKafkaRebalance) == KafkaRebalanceState.Rebalancing) {
                                 if (rebalanceAnnotation(reconciliation, currentKafkaRebalance) == KafkaRebalanceAnnotation.stop) {
                                     LOGGER.debugCr(reconciliation, "Stopping current Cruise Control rebalance user task");
-                                    vertx.cancelTimer(t);
+                                    poller.unwatch(t);
                                     apiClient.stopExecution(host, CruiseControl.REST_API_PORT)
                                         .onSuccess(r -> p.complete(buildRebalanceStatus(null, KafkaRebalanceState.Stopped, validate(reconciliation, kafkaRebalance))))
                                         .onFailure(e -> {
@@ -877,13 +907,13 @@ public class KafkaRebalanceAssemblyOperator
                                         });
                                 } else {
                                     LOGGER.infoCr(reconciliation, "Getting Cruise Control rebalance user task status");
-                                    apiClient.getUserTaskStatus(host, CruiseControl.REST_API_PORT, sessionId)
+                                    Future.<CruiseControlResponse>future(status -> status.handle(userTaskStatus))
                                         .onSuccess(cruiseControlResponse -> {
                                             JsonObject taskStatusJson = cruiseControlResponse.getJson();
                                             CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusJson.getString("Status"));
                                             switch (taskStatus) {
                                                 case COMPLETED:
-                                                    vertx.cancelTimer(t);
+                                                    poller.unwatch(t);
                                                     LOGGER.infoCr(reconciliation, "Rebalance ({}) is now complete", sessionId);
                                                     p.complete(buildRebalanceStatus(
                                                             kafkaRebalance, null, KafkaRebalanceState.Ready, taskStatusJson, validate(reconciliation, kafkaRebalance)));
@@ -894,7 +924,7 @@ public class KafkaRebalanceAssemblyOperator
                                                     // TODO: Once we can get the error details we need to add an error field to the Rebalance Status to hold
                                                     //       details of any issues while rebalancing.
                                                     LOGGER.errorCr(reconciliation, "Rebalance ({}) optimization proposal has failed to complete", sessionId);
-                                                    vertx.cancelTimer(t);
+                                                    poller.unwatch(t);
                                                     p.complete(buildRebalanceStatus(sessionId, KafkaRebalanceState.NotReady, validate(reconciliation, kafkaRebalance)));
                                                     break;
                                                 case IN_EXECUTION: // Rebalance is still in progress
@@ -906,7 +936,7 @@ public class KafkaRebalanceAssemblyOperator
                                                             currentKafkaRebalance.getStatus().getOptimizationResult().isEmpty()) {
                                                         LOGGER.infoCr(reconciliation, "Rebalance ({}) optimization proposal is now ready and has been added to the status", sessionId);
                                                         // Cancel the timer so that the status is returned and updated.
-                                                        vertx.cancelTimer(t);
+                                                        poller.unwatch(t);
                                                         p.complete(buildRebalanceStatus(
                                                                 kafkaRebalance, sessionId, KafkaRebalanceState.Rebalancing, taskStatusJson, validate(reconciliation, kafkaRebalance)));
                                                     }
@@ -924,7 +954,7 @@ public class KafkaRebalanceAssemblyOperator
                                                     break;
                                                 default:
                                                     LOGGER.errorCr(reconciliation, "Unexpected state {}", taskStatus);
-                                                    vertx.cancelTimer(t);
+                                                    poller.unwatch(t);
                                                     p.fail("Unexpected state " + taskStatus);
                                                     break;
                                             }
@@ -941,13 +971,13 @@ public class KafkaRebalanceAssemblyOperator
                             }
                         } else {
                             LOGGER.debugCr(reconciliation, "Rebalance resource was deleted, stopping the request time");
-                            vertx.cancelTimer(t);
+                            poller.unwatch(t);
                             p.complete();
                         }
                     })
                     .onFailure(e -> {
                         LOGGER.errorCr(reconciliation, "Cruise Control getting rebalance resource failed", e.getCause());
-                        vertx.cancelTimer(t);
+                        poller.unwatch(t);
                         p.fail(e.getCause());
                     });
             });
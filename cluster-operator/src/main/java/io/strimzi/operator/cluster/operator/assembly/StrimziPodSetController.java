@@ -0,0 +1,381 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.internal.readiness.Readiness;
+import io.strimzi.api.kafka.StrimziPodSetList;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
+import io.strimzi.api.kafka.model.status.StrimziPodSetStatus;
+import io.strimzi.operator.cluster.model.PodRevision;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.PodOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Controller for the StrimziPodSet resources. It takes over the role of the Kubernetes StatefulSet controller for the
+ * pods managed through StrimziPodSets: it creates the pods which are missing, deletes the pods which are not part of
+ * the pod set anymore and keeps the status of the pod set up to date. Unlike the StatefulSet controller, it creates
+ * and deletes all pods in parallel. The pods are never updated by the controller. Rolling them is left to the
+ * KafkaRoller which deletes them and waits for this controller to recreate them from the current pod definition.
+ *
+ * The reconciliations of the same pod set never run concurrently. When an event is received while the pod set is
+ * being reconciled, the pod set is reconciled once more after the current reconciliation finishes.
+ */
+public class StrimziPodSetController {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StrimziPodSetController.class);
+
+    private final Vertx vertx;
+    private final PodOperator podOperator;
+    private final CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> podSetOperator;
+    private final Predicate<String> namespaceOwnership;
+
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private Context context;
+
+    /**
+     * Constructs the StrimziPodSet controller
+     *
+     * @param vertx             Vertx instance
+     * @param podOperator       Pod operator for managing the pods
+     * @param podSetOperator    StrimziPodSet operator for managing the pod sets
+     */
+    public StrimziPodSetController(Vertx vertx, PodOperator podOperator, CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> podSetOperator) {
+        this(vertx, podOperator, podSetOperator, namespace -> true);
+    }
+
+    /**
+     * Constructs the StrimziPodSet controller which reconciles only the pod sets in the namespaces owned by this
+     * operator instance
+     *
+     * @param vertx                 Vertx instance
+     * @param podOperator           Pod operator for managing the pods
+     * @param podSetOperator        StrimziPodSet operator for managing the pod sets
+     * @param namespaceOwnership    Predicate deciding whether a namespace is owned by this operator instance
+     */
+    public StrimziPodSetController(Vertx vertx, PodOperator podOperator, CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> podSetOperator, Predicate<String> namespaceOwnership) {
+        this.vertx = vertx;
+        this.podOperator = podOperator;
+        this.podSetOperator = podSetOperator;
+        this.namespaceOwnership = namespaceOwnership;
+    }
+
+    /**
+     * Creates the watches for the StrimziPodSets and for the pods they manage. When a watch is closed because of an
+     * error, it is created again and all pod sets are reconciled to catch up with the events missed in the meantime.
+     *
+     * @param watchNamespaceOrWildcard  The namespace to watch or * for all namespaces
+     *
+     * @return  Future which completes when the watches are created
+     */
+    public Future<Void> createWatches(String watchNamespaceOrWildcard) {
+        this.context = vertx.getOrCreateContext();
+
+        return CompositeFuture.join(createPodSetWatch(watchNamespaceOrWildcard), createPodWatch(watchNamespaceOrWildcard))
+                .mapEmpty();
+    }
+
+    private Future<Watch> createPodSetWatch(String watchNamespaceOrWildcard) {
+        return Util.async(vertx, () -> podSetOperator.watch(watchNamespaceOrWildcard, new Watcher<StrimziPodSet>() {
+            @Override
+            public void eventReceived(Action action, StrimziPodSet podSet) {
+                if (action != Action.DELETED) {
+                    enqueue(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName());
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException e) {
+                if (e != null) {
+                    LOGGER.errorOp("StrimziPodSet watch closed with exception in namespace {}", watchNamespaceOrWildcard, e);
+                    recreateWatch(watchNamespaceOrWildcard, createPodSetWatch(watchNamespaceOrWildcard));
+                } else {
+                    LOGGER.infoOp("StrimziPodSet watch closed in namespace {}", watchNamespaceOrWildcard);
+                }
+            }
+        }));
+    }
+
+    private Future<Watch> createPodWatch(String watchNamespaceOrWildcard) {
+        return Util.async(vertx, () -> podOperator.watch(watchNamespaceOrWildcard,
+                new LabelSelectorBuilder().withMatchLabels(Map.of(Labels.STRIMZI_KIND_LABEL, Kafka.RESOURCE_KIND)).build(),
+                new Watcher<Pod>() {
+                    @Override
+                    public void eventReceived(Action action, Pod pod) {
+                        String podSetName = podSetName(pod);
+
+                        if (podSetName != null) {
+                            enqueue(pod.getMetadata().getNamespace(), podSetName);
+                        }
+                    }
+
+                    @Override
+                    public void onClose(WatcherException e) {
+                        if (e != null) {
+                            LOGGER.errorOp("StrimziPodSet pod watch closed with exception in namespace {}", watchNamespaceOrWildcard, e);
+                            recreateWatch(watchNamespaceOrWildcard, createPodWatch(watchNamespaceOrWildcard));
+                        } else {
+                            LOGGER.infoOp("StrimziPodSet pod watch closed in namespace {}", watchNamespaceOrWildcard);
+                        }
+                    }
+                }));
+    }
+
+    private void recreateWatch(String watchNamespaceOrWildcard, Future<Watch> watch) {
+        watch.onSuccess(w -> reconcileAll(watchNamespaceOrWildcard))
+                .onFailure(error -> LOGGER.errorOp("Failed to recreate the StrimziPodSet controller watch in namespace {}", watchNamespaceOrWildcard, error));
+    }
+
+    /**
+     * Reconciles all StrimziPodSets in the namespace. It is used periodically, when the watches are recreated and when
+     * the namespaces owned by this operator instance change, in case some events were missed or ignored.
+     *
+     * @param watchNamespaceOrWildcard  The namespace or * for all namespaces
+     *
+     * @return  Future which completes when the reconciliations of the pod sets are scheduled
+     */
+    public Future<Void> reconcileAll(String watchNamespaceOrWildcard) {
+        return podSetOperator.listAsync(watchNamespaceOrWildcard, Labels.EMPTY)
+                .onSuccess(podSets -> {
+                    for (StrimziPodSet podSet : podSets) {
+                        enqueue(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName());
+                    }
+                })
+                .onFailure(error -> LOGGER.warnOp("Failed to list the StrimziPodSets in namespace {}", watchNamespaceOrWildcard, error))
+                .mapEmpty();
+    }
+
+    /**
+     * Schedules the reconciliation of the pod set. If the pod set is already being reconciled, it will be reconciled
+     * again once the current reconciliation finishes.
+     *
+     * @param namespace Namespace of the pod set
+     * @param name      Name of the pod set
+     */
+    private void enqueue(String namespace, String name) {
+        if (!namespaceOwnership.test(namespace)) {
+            LOGGER.debugOp("Ignoring StrimziPodSet {}/{} from namespace owned by another operator instance", namespace, name);
+            return;
+        }
+
+        context.runOnContext(v -> {
+            String key = namespace + "/" + name;
+
+            if (inProgress.add(key)) {
+                // Checked again once the reconciliation is registered, so that the namespace is not handed over while it runs
+                if (!namespaceOwnership.test(namespace)) {
+                    inProgress.remove(key);
+                    pending.remove(key);
+                    return;
+                }
+
+                Reconciliation reconciliation = new Reconciliation("watch", StrimziPodSet.RESOURCE_KIND, namespace, name);
+
+                reconcile(reconciliation).onComplete(res -> {
+                    if (res.failed()) {
+                        LOGGER.warnCr(reconciliation, "Failed to reconcile the pod set", res.cause());
+                    }
+
+                    inProgress.remove(key);
+
+                    if (pending.remove(key)) {
+                        enqueue(namespace, name);
+                    }
+                });
+            } else {
+                pending.add(key);
+            }
+        });
+    }
+
+    /**
+     * @return  Namespaces with reconciliations of pod sets in progress
+     */
+    public Set<String> reconcilingNamespaces() {
+        return inProgress.stream()
+                .map(key -> key.substring(0, key.indexOf('/')))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Reconciles the pods of the pod set: creates the missing pods, adopts the pods without an owner (for example
+     * after migrating from a StatefulSet), deletes the pods which are owned by the pod set but not listed in it
+     * anymore and updates the status of the pod set.
+     *
+     * @param reconciliation    Reconciliation marker identifying the pod set
+     *
+     * @return  Future which completes when the pod set is reconciled
+     */
+    /* test */ Future<Void> reconcile(Reconciliation reconciliation) {
+        String namespace = reconciliation.namespace();
+
+        return podSetOperator.getAsync(namespace, reconciliation.name())
+                .compose(podSet -> {
+                    if (podSet == null || podSet.getMetadata().getDeletionTimestamp() != null) {
+                        // Pod set was deleted or is being deleted => the pods are garbage collected
+                        return Future.succeededFuture();
+                    }
+
+                    return podOperator.listAsync(namespace, Optional.ofNullable(podSet.getSpec().getSelector()))
+                            .compose(currentPods -> {
+                                List<Pod> desiredPods = PodSetUtils.podSetToPods(podSet);
+                                Map<String, Pod> podsByName = currentPods.stream().collect(Collectors.toMap(pod -> pod.getMetadata().getName(), Function.identity()));
+                                OwnerReference owner = ownerReference(podSet);
+                                List<Future> futures = new ArrayList<>(desiredPods.size());
+
+                                int readyPods = 0;
+                                int upToDatePods = 0;
+
+                                for (Pod desiredPod : desiredPods) {
+                                    String podName = desiredPod.getMetadata().getName();
+                                    Pod currentPod = podsByName.remove(podName);
+
+                                    if (currentPod == null) {
+                                        LOGGER.debugCr(reconciliation, "Creating pod {}", podName);
+                                        Pod pod = new PodBuilder(desiredPod)
+                                                .editMetadata()
+                                                    .withOwnerReferences(owner)
+                                                .endMetadata()
+                                                .build();
+
+                                        futures.add(podOperator.reconcile(reconciliation, namespace, podName, pod));
+                                    } else if (currentPod.getMetadata().getDeletionTimestamp() != null) {
+                                        // The pod is being deleted => it will be recreated after it is gone
+                                        LOGGER.debugCr(reconciliation, "Pod {} is terminating", podName);
+                                    } else {
+                                        if (!isOwnedBy(currentPod, podSet) && !hasController(currentPod)) {
+                                            LOGGER.infoCr(reconciliation, "Adopting pod {}", podName);
+                                            Pod pod = new PodBuilder(currentPod)
+                                                    .editMetadata()
+                                                        .addToOwnerReferences(owner)
+                                                    .endMetadata()
+                                                    .build();
+
+                                            futures.add(podOperator.reconcile(reconciliation, namespace, podName, pod));
+                                        }
+
+                                        if (Readiness.isPodReady(currentPod)) {
+                                            readyPods++;
+                                        }
+
+                                        if (!PodRevision.hasChanged(currentPod, desiredPod)) {
+                                            upToDatePods++;
+                                        }
+                                    }
+                                }
+
+                                // The remaining pods are not desired anymore
+                                for (Pod pod : podsByName.values()) {
+                                    if (isOwnedBy(pod, podSet) && pod.getMetadata().getDeletionTimestamp() == null) {
+                                        LOGGER.debugCr(reconciliation, "Deleting pod {}", pod.getMetadata().getName());
+                                        futures.add(podOperator.reconcile(reconciliation, namespace, pod.getMetadata().getName(), null));
+                                    }
+                                }
+
+                                StrimziPodSetStatus status = new StrimziPodSetStatus();
+                                status.setObservedGeneration(podSet.getMetadata().getGeneration() != null ? podSet.getMetadata().getGeneration() : 0L);
+                                status.setPods(desiredPods.size());
+                                status.setReadyPods(readyPods);
+                                status.setCurrentPods(upToDatePods);
+
+                                return CompositeFuture.join(futures)
+                                        .compose(ignore -> maybeUpdateStatus(reconciliation, podSet, status));
+                            });
+                });
+    }
+
+    private Future<Void> maybeUpdateStatus(Reconciliation reconciliation, StrimziPodSet podSet, StrimziPodSetStatus status) {
+        if (status.equals(podSet.getStatus())) {
+            return Future.succeededFuture();
+        } else {
+            StrimziPodSet updated = new StrimziPodSetBuilder(podSet)
+                    .withStatus(status)
+                    .build();
+
+            return podSetOperator.updateStatusAsync(reconciliation, updated).map((Void) null);
+        }
+    }
+
+    private static OwnerReference ownerReference(StrimziPodSet podSet) {
+        return new OwnerReferenceBuilder()
+                .withApiVersion(podSet.getApiVersion())
+                .withKind(podSet.getKind())
+                .withName(podSet.getMetadata().getName())
+                .withUid(podSet.getMetadata().getUid())
+                .withBlockOwnerDeletion(false)
+                .withController(true)
+                .build();
+    }
+
+    private static boolean isOwnedBy(Pod pod, StrimziPodSet podSet) {
+        return pod.getMetadata().getOwnerReferences() != null
+                && pod.getMetadata().getOwnerReferences().stream()
+                    .anyMatch(owner -> podSet.getMetadata().getUid() != null && podSet.getMetadata().getUid().equals(owner.getUid()));
+    }
+
+    private static boolean hasController(Pod pod) {
+        return pod.getMetadata().getOwnerReferences() != null
+                && pod.getMetadata().getOwnerReferences().stream()
+                    .anyMatch(owner -> Boolean.TRUE.equals(owner.getController()));
+    }
+
+    /**
+     * Finds the name of the StrimziPodSet which should be reconciled because of a change to the pod. For pods
+     * controlled by a StrimziPodSet, it is the name of their owner. Pods without any controller (for example the pods
+     * orphaned by the deleted StatefulSet) might be waiting to be adopted. The pod set which could adopt them is found
+     * based on their name label.
+     *
+     * @param pod   The pod
+     *
+     * @return  Name of the pod set or null if the pod is controlled by something else than a pod set
+     */
+    /* test */ static String podSetName(Pod pod) {
+        if (pod.getMetadata().getOwnerReferences() != null) {
+            Optional<String> owner = pod.getMetadata().getOwnerReferences().stream()
+                    .filter(ref -> StrimziPodSet.RESOURCE_KIND.equals(ref.getKind()))
+                    .map(OwnerReference::getName)
+                    .findFirst();
+
+            if (owner.isPresent()) {
+                return owner.get();
+            }
+        }
+
+        if (!hasController(pod) && pod.getMetadata().getLabels() != null) {
+            return pod.getMetadata().getLabels().get(Labels.STRIMZI_NAME_LABEL);
+        }
+
+        return null;
+    }
+}
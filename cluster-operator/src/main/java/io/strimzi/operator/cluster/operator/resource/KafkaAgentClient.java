@@ -0,0 +1,140 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.strimzi.operator.cluster.model.KafkaCluster;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Reads the state of a Kafka broker from the readiness endpoint of the kafka-agent running in the broker pod.
+ */
+public class KafkaAgentClient {
+    private static final String READINESS_PATH = "/ready";
+
+    private final Vertx vertx;
+    private final long requestTimeoutMs;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vertx instance
+     * @param requestTimeoutMs  Timeout of the requests to the agent
+     */
+    public KafkaAgentClient(Vertx vertx, long requestTimeoutMs) {
+        this.vertx = vertx;
+        this.requestTimeoutMs = requestTimeoutMs;
+    }
+
+    /**
+     * Gets the state of the broker. The readiness endpoint responds with the state whether the broker is ready or not.
+     *
+     * @param host  Hostname of the broker pod
+     *
+     * @return  Future with the state of the broker
+     */
+    public Future<BrokerState> brokerState(String host) {
+        HttpClientOptions options = new HttpClientOptions().setConnectTimeout((int) requestTimeoutMs);
+
+        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+            httpClient.request(HttpMethod.GET, KafkaCluster.HEALTHCHECK_PORT, host, READINESS_PATH, request -> {
+                if (request.succeeded()) {
+                    request.result().setTimeout(requestTimeoutMs);
+                    request.result().send(response -> {
+                        if (response.succeeded()) {
+                            if (response.result().statusCode() == 200 || response.result().statusCode() == 503) {
+                                response.result().bodyHandler(buffer -> {
+                                    try {
+                                        result.complete(BrokerState.fromJson(buffer.toJsonObject()));
+                                    } catch (RuntimeException e) {
+                                        result.fail(e);
+                                    }
+                                });
+                            } else {
+                                result.fail(new RuntimeException("Unexpected status code " + response.result().statusCode() + " for request to " + host + ":" + KafkaCluster.HEALTHCHECK_PORT + READINESS_PATH));
+                            }
+                        } else {
+                            result.fail(response.cause());
+                        }
+                    });
+                } else {
+                    result.fail(request.cause());
+                }
+            });
+        });
+    }
+
+    /**
+     * The state of the broker as reported by the kafka-agent
+     */
+    public static class BrokerState {
+        // See kafka.server.BrokerState
+        private static final int STARTING = 1;
+        private static final int RECOVERING_FROM_UNCLEAN_SHUTDOWN = 2;
+
+        private final Integer brokerState;
+        private final int loadedLogs;
+        private final Integer totalLogs;
+
+        /**
+         * Constructor
+         *
+         * @param brokerState   The broker state or null when the broker did not report it yet
+         * @param loadedLogs    The number of partition logs loaded so far
+         * @param totalLogs     The number of partition logs in the log directories or null when it is not known
+         */
+        public BrokerState(Integer brokerState, int loadedLogs, Integer totalLogs) {
+            this.brokerState = brokerState;
+            this.loadedLogs = loadedLogs;
+            this.totalLogs = totalLogs;
+        }
+
+        static BrokerState fromJson(JsonObject json) {
+            return new BrokerState(json.getInteger("brokerState"), json.getInteger("loadedLogs", 0), json.getInteger("totalLogs"));
+        }
+
+        /**
+         * The broker loads its logs while it is starting. When the total number of logs is not known, only the
+         * recovery after an unclean shutdown is recognized.
+         *
+         * @return  True when the broker is still loading (and possibly recovering) its logs
+         */
+        public boolean isLoadingLogs() {
+            if (brokerState == null) {
+                return false;
+            } else if (totalLogs == null) {
+                return brokerState == RECOVERING_FROM_UNCLEAN_SHUTDOWN;
+            } else {
+                return (brokerState == STARTING || brokerState == RECOVERING_FROM_UNCLEAN_SHUTDOWN) && loadedLogs < totalLogs;
+            }
+        }
+
+        /**
+         * @return  The number of partition logs loaded so far
+         */
+        public int loadedLogs() {
+            return loadedLogs;
+        }
+
+        /**
+         * @return  The number of partition logs in the log directories or null when it is not known
+         */
+        public Integer totalLogs() {
+            return totalLogs;
+        }
+
+        @Override
+        public String toString() {
+            return "BrokerState(" +
+                    "brokerState=" + brokerState +
+                    ", loadedLogs=" + loadedLogs +
+                    ", totalLogs=" + totalLogs +
+                    ")";
+        }
+    }
+}
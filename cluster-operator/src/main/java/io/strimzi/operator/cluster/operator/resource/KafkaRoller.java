@@ -107,6 +107,13 @@ public class KafkaRoller {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaRoller.class);
 
+    /**
+     * While the logs of a restarted broker are loaded, the readiness timeout is extended up to this multiple of the
+     * operation timeout.
+     */
+    private static final int MAX_LOG_LOADING_TIMEOUT_FACTOR = 4;
+    private static final long AGENT_REQUEST_TIMEOUT_MS = 5_000L;
+
     private final PodOperator podOperations;
     private final long pollingIntervalMs;
     protected final long operationTimeoutMs;
@@ -124,6 +131,7 @@ public class KafkaRoller {
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
     private Admin allClient;
+    private KafkaAgentClient agentClient;
 
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -138,9 +146,40 @@ public class KafkaRoller {
                        StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration) {
-        this.namespace = sts.getMetadata().getNamespace();
-        this.cluster = Labels.cluster(sts);
-        this.numPods = sts.getSpec().getReplicas();
+        this(reconciliation, vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts.getMetadata().getNamespace(), Labels.cluster(sts), sts.getSpec().getReplicas(), clusterCaCertSecret, coKeySecret,
+                adminClientProvider, kafkaConfig, kafkaLogging, kafkaVersion, allowReconfiguration);
+    }
+
+    /**
+     * Constructor used when the broker pods are not managed by a StatefulSet (for example when they are managed by a
+     * StrimziPodSet)
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param vertx                 Vertx instance
+     * @param podOperations         Pod operator for managing the pods
+     * @param pollingIntervalMs     Interval in which the pod readiness is polled
+     * @param operationTimeoutMs    Timeout for the operations
+     * @param backOffSupplier       Supplier of the back-off used when the pod cannot be restarted yet
+     * @param namespace             Namespace of the Kafka cluster
+     * @param cluster               Name of the Kafka cluster
+     * @param numPods               Number of the broker pods
+     * @param clusterCaCertSecret   Secret with the cluster CA certificate
+     * @param coKeySecret           Secret with the Cluster Operator key and certificate
+     * @param adminClientProvider   Provider of the Kafka Admin clients
+     * @param kafkaConfig           Desired Kafka broker configuration
+     * @param kafkaLogging          Desired Kafka broker logging configuration
+     * @param kafkaVersion          Kafka version of the cluster
+     * @param allowReconfiguration  Whether the brokers can be reconfigured dynamically instead of being restarted
+     */
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                       String namespace, String cluster, int numPods, Secret clusterCaCertSecret, Secret coKeySecret,
+                       AdminClientProvider adminClientProvider,
+                       String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration) {
+        this.namespace = namespace;
+        this.cluster = cluster;
+        this.numPods = numPods;
         this.backoffSupplier = backOffSupplier;
         this.clusterCaCertSecret = clusterCaCertSecret;
         this.coKeySecret = coKeySecret;
@@ -640,13 +679,97 @@ public class KafkaRoller {
         awaitReadiness(pod, timeout, unit);
     }
 
+    /**
+     * Synchronously wait for the given pod to be ready. While waiting, the progress of the log loading is checked
+     * using the kafka-agent in the pod:
+     * <ul>
+     *     <li>When the broker loads more logs between two checks, the timeout is extended to the given timeout from
+     *     now, but not beyond {@link #MAX_LOG_LOADING_TIMEOUT_FACTOR} times the given timeout from the start.</li>
+     *     <li>When the broker loads no logs for half of the given timeout, the waiting fails without waiting for the
+     *     rest of the timeout.</li>
+     * </ul>
+     * When the progress is not known, this just waits up to the given timeout.
+     *
+     * @param pod The Pod to wait for.
+     * @param timeout The timeout.
+     * @param unit The timeout unit.
+     */
     private void awaitReadiness(Pod pod, long timeout, TimeUnit unit) throws FatalProblem, InterruptedException {
         String podName = pod.getMetadata().getName();
         LOGGER.debugCr(reconciliation, "Waiting for restarted pod {} to become ready", podName);
-        await(isReady(pod), timeout, unit, e -> new FatalProblem("Error while waiting for restarted pod " + podName + " to become ready", e));
+
+        long timeoutMs = unit.toMillis(timeout);
+        long checkIntervalMs = Math.max(pollingIntervalMs, timeoutMs / 10);
+        long start = System.currentTimeMillis();
+        long maxDeadline = start + MAX_LOG_LOADING_TIMEOUT_FACTOR * timeoutMs;
+        long deadline = start + timeoutMs;
+        long lastProgress = start;
+        int loadedLogs = -1;
+
+        CompletableFuture<Void> ready = toCompletableFuture(isReady(pod.getMetadata().getNamespace(), podName, timeoutMs));
+        while (true) {
+            try {
+                ready.get(Math.max(1L, Math.min(checkIntervalMs, deadline - System.currentTimeMillis())), TimeUnit.MILLISECONDS);
+                break;
+            } catch (ExecutionException e) {
+                long remainingMs = deadline - System.currentTimeMillis();
+                if (e.getCause() instanceof io.strimzi.operator.common.operator.resource.TimeoutException && deadline > start + timeoutMs && remainingMs > 0) {
+                    // The readiness check timed out, but the timeout was extended because the broker is loading its logs
+                    ready = toCompletableFuture(isReady(pod.getMetadata().getNamespace(), podName, remainingMs));
+                } else {
+                    throw new FatalProblem("Error while waiting for restarted pod " + podName + " to become ready", e.getCause());
+                }
+            } catch (TimeoutException e) {
+                long now = System.currentTimeMillis();
+                if (now >= deadline) {
+                    throw new FatalProblem("Error while waiting for restarted pod " + podName + " to become ready", e);
+                }
+
+                KafkaAgentClient.BrokerState state = brokerState(podName);
+                if (state != null && state.isLoadingLogs()) {
+                    if (state.loadedLogs() > loadedLogs) {
+                        loadedLogs = state.loadedLogs();
+                        lastProgress = now;
+                        deadline = Math.max(deadline, Math.min(maxDeadline, now + timeoutMs));
+                        LOGGER.debugCr(reconciliation, "Pod {} has loaded {} of {} logs, waiting for it up to {}ms more", podName, loadedLogs, state.totalLogs(), deadline - now);
+                    } else if (now - lastProgress >= timeoutMs / 2) {
+                        throw new FatalProblem("Restarted pod " + podName + " stopped loading its logs (" + loadedLogs + " of " + state.totalLogs() + " logs loaded)");
+                    }
+                }
+            }
+        }
+
         LOGGER.debugCr(reconciliation, "Pod {} is now ready", podName);
     }
 
+    /**
+     * Gets the state of the broker in the given pod from its kafka-agent.
+     *
+     * @param podName The name of the pod.
+     * @return The state of the broker or null when the agent could not be reached.
+     */
+    private KafkaAgentClient.BrokerState brokerState(String podName) throws InterruptedException {
+        try {
+            return await(brokerStateFromAgent(podName), AGENT_REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS, e -> new ForceableProblem("Error while getting the state of pod " + podName, e));
+        } catch (ForceableProblem e) {
+            LOGGER.debugCr(reconciliation, "Could not get the state of pod {}: {}", podName, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Asynchronously gets the state of the broker in the given pod from its kafka-agent.
+     * @param podName The name of the pod.
+     * @return A Future with the state of the broker
+     */
+    protected Future<KafkaAgentClient.BrokerState> brokerStateFromAgent(String podName) {
+        if (agentClient == null) {
+            agentClient = new KafkaAgentClient(vertx, AGENT_REQUEST_TIMEOUT_MS);
+        }
+
+        return agentClient.brokerState(KafkaCluster.podDnsName(namespace, cluster, podName));
+    }
+
     /**
      * Block waiting for up to the given timeout for the given Future to complete, returning its result.
      * @param future The future to wait for.
@@ -663,6 +786,16 @@ public class KafkaRoller {
     private static <T, E extends Exception> T await(Future<T> future, long timeout, TimeUnit unit,
                                             Function<Throwable, E> exceptionMapper)
             throws E, InterruptedException {
+        try {
+            return toCompletableFuture(future).get(timeout, unit);
+        } catch (ExecutionException e) {
+            throw exceptionMapper.apply(e.getCause());
+        } catch (TimeoutException e) {
+            throw exceptionMapper.apply(e);
+        }
+    }
+
+    private static <T> CompletableFuture<T> toCompletableFuture(Future<T> future) {
         CompletableFuture<T> cf = new CompletableFuture<>();
         future.onComplete(ar -> {
             if (ar.succeeded()) {
@@ -671,13 +804,7 @@ public class KafkaRoller {
                 cf.completeExceptionally(ar.cause());
             }
         });
-        try {
-            return cf.get(timeout, unit);
-        } catch (ExecutionException e) {
-            throw exceptionMapper.apply(e.getCause());
-        } catch (TimeoutException e) {
-            throw exceptionMapper.apply(e);
-        }
+        return cf;
     }
 
     /**
@@ -796,12 +923,12 @@ public class KafkaRoller {
         return podToContext.toString();
     }
 
-    protected Future<Void> isReady(Pod pod) {
-        return isReady(pod.getMetadata().getNamespace(), pod.getMetadata().getName());
+    protected Future<Void> isReady(String namespace, String podName) {
+        return isReady(namespace, podName, operationTimeoutMs);
     }
 
-    protected Future<Void> isReady(String namespace, String podName) {
-        return podOperations.readiness(reconciliation, namespace, podName, pollingIntervalMs, operationTimeoutMs)
+    protected Future<Void> isReady(String namespace, String podName, long timeoutMs) {
+        return podOperations.readiness(reconciliation, namespace, podName, pollingIntervalMs, timeoutMs)
             .recover(error -> {
                 LOGGER.warnCr(reconciliation, "Error waiting for pod {}/{} to become ready: {}", namespace, podName, error);
                 return Future.failedFuture(error);
@@ -6,6 +6,9 @@ package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
 import io.vertx.core.Future;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Cruise Control REST API interface definition
  */
@@ -49,6 +52,17 @@ public interface CruiseControlApi {
      */
     Future<CruiseControlResponse> getUserTaskStatus(String host, int port, String userTaskID);
 
+    /**
+     *  Get the states of several tasks from the Cruise Control server using a single request.
+     *
+     * @param host The address of the Cruise Control server.
+     * @param port The port the Cruise Control Server is listening on.
+     * @param userTaskIDs The unique IDs of the tasks which should be retrieved.
+     * @return A future for a map with the states of the tasks keyed by the task ID. Tasks which are not known to the
+     *         Cruise Control server anymore are missing in the map.
+     */
+    Future<Map<String, CruiseControlResponse>> getUserTaskStatuses(String host, int port, Collection<String> userTaskIDs);
+
     /**
      *  Issue a stop command to the Cruise Control server. This will halt any task (e.g. a rebalance) which is currently
      *  in execution.
@@ -11,9 +11,13 @@ import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 import java.net.ConnectException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
 
 public class CruiseControlApiImpl implements CruiseControlApi {
@@ -21,6 +25,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     private static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1; // use default internal HTTP client timeout
     private static final String STATUS_KEY = "Status";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
 
     private final Vertx vertx;
     private final long idleTimeout;
@@ -214,38 +219,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                                                 "Error for request: " + host + ":" + port + path + ". Server returned: " +
                                                         json.getString(CC_REST_API_ERROR_KEY)));
                                     }
-                                    JsonObject statusJson = new JsonObject();
-                                    String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
-                                    statusJson.put(STATUS_KEY, taskStatusStr);
-                                    CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
-                                    switch (taskStatus) {
-                                        case ACTIVE:
-                                            // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
-                                            break;
-                                        case IN_EXECUTION:
-                                            // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
-                                            // We handle these in the same way as COMPLETED tasks so we drop down to that case.
-                                        case COMPLETED:
-                                            // Completed tasks will have the original rebalance proposal summary in their original response
-                                            JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
-                                                    CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
-                                            // Extract the load before/after information for the brokers
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
-                                            statusJson.put(
-                                                    CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
-                                                    originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
-                                            break;
-                                        case COMPLETED_WITH_ERROR:
-                                            // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
-                                            statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                            break;
-                                        default:
-                                            throw new IllegalStateException("Unexpected user task status: " + taskStatus);
-                                    }
+                                    JsonObject statusJson = userTaskStatusJson(jsonUserTask);
                                     result.complete(new CruiseControlResponse(userTaskID, statusJson));
                                 });
                             } else if (response.result().statusCode() == 500) {
@@ -281,6 +255,81 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
+    @Override
+    @SuppressWarnings("deprecation")
+    public Future<Map<String, CruiseControlResponse>> getUserTaskStatuses(String host, int port, Collection<String> userTaskIds) {
+
+        String path = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
+                .addParameter(CruiseControlParameters.JSON, "true")
+                .addParameter(CruiseControlParameters.FETCH_COMPLETE, "true")
+                .addParameter(CruiseControlParameters.USER_TASK_IDS, String.join(",", userTaskIds))
+                .build();
+
+        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
+
+        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+            httpClient.request(HttpMethod.GET, port, host, path, request -> {
+                if (request.succeeded()) {
+                    request.result().send(response -> {
+                        if (response.succeeded()) {
+                            if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
+                                response.result().bodyHandler(buffer -> {
+                                    try {
+                                        JsonArray jsonUserTasks = buffer.toJsonObject().getJsonArray("userTasks");
+                                        Map<String, CruiseControlResponse> statuses = new HashMap<>(jsonUserTasks.size());
+
+                                        for (int i = 0; i < jsonUserTasks.size(); i++) {
+                                            JsonObject jsonUserTask = jsonUserTasks.getJsonObject(i);
+                                            String userTaskId = jsonUserTask.getString(USER_TASK_ID_KEY);
+
+                                            if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
+                                                result.fail(new CruiseControlRestException(
+                                                        "Error for request: " + host + ":" + port + path + ". Server returned: " +
+                                                                jsonUserTask.getString(CC_REST_API_ERROR_KEY)));
+                                                return;
+                                            }
+
+                                            statuses.put(userTaskId, new CruiseControlResponse(userTaskId, userTaskStatusJson(jsonUserTask)));
+                                        }
+
+                                        result.complete(statuses);
+                                    } catch (RuntimeException e) {
+                                        result.fail(e);
+                                    }
+                                });
+                            } else if (response.result().statusCode() == 500) {
+                                response.result().bodyHandler(buffer -> {
+                                    JsonObject json = buffer.toJsonObject();
+                                    String errorString;
+                                    if (json.containsKey(CC_REST_API_ERROR_KEY)) {
+                                        errorString = json.getString(CC_REST_API_ERROR_KEY);
+                                    } else {
+                                        errorString = json.toString();
+                                    }
+                                    result.fail(new CruiseControlRestException(
+                                            "Error for request: " + host + ":" + port + path + ". Server returned: " + errorString));
+                                });
+                            } else {
+                                result.fail(new CruiseControlRestException(
+                                        "Unexpected status code " + response.result().statusCode() + " for GET request to " +
+                                                host + ":" + port + path));
+                            }
+                        } else {
+                            result.fail(response.cause());
+                        }
+                    });
+
+                    if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
+                        request.result().setTimeout(idleTimeout * 1000);
+                    }
+
+                } else {
+                    httpExceptionHandler(result, request.cause());
+                }
+            });
+        });
+    }
+
     @Override
     @SuppressWarnings("deprecation")
     public Future<CruiseControlResponse> stopExecution(String host, int port) {
@@ -326,7 +375,50 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
-    private void httpExceptionHandler(Promise<? extends CruiseControlResponse> result, Throwable t) {
+    /**
+     * Extracts the state of a task, and the rebalance summary and broker loads of its original response, from a task
+     * returned by the user tasks endpoint.
+     *
+     * @param jsonUserTask The task from the user tasks response
+     * @return The status JSON of the task
+     */
+    private static JsonObject userTaskStatusJson(JsonObject jsonUserTask) {
+        JsonObject statusJson = new JsonObject();
+        String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
+        statusJson.put(STATUS_KEY, taskStatusStr);
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
+        switch (taskStatus) {
+            case ACTIVE:
+                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
+                break;
+            case IN_EXECUTION:
+                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
+                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
+            case COMPLETED:
+                // Completed tasks will have the original rebalance proposal summary in their original response
+                JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
+                        CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
+                // Extract the load before/after information for the brokers
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+        }
+        return statusJson;
+    }
+
+    private void httpExceptionHandler(Promise<?> result, Throwable t) {
         if (t instanceof TimeoutException) {
             // Vert.x throws a NoStackTraceTimeoutException (inherits from TimeoutException) when the request times out
             // so we catch and raise a TimeoutException instead
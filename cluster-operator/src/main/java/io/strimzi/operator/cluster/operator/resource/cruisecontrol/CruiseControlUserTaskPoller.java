@@ -0,0 +1,233 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Polls the states of the user tasks of a single Cruise Control instance on behalf of all the reconciliations waiting
+ * for them. The states of all watched tasks are fetched with a single request to the user tasks endpoint and passed to
+ * the handlers of the watches.
+ *
+ * The poller uses a single timer which runs only while there are some watches. The polling interval starts at the
+ * minimum interval and is doubled up to the maximum interval when the states of the watched tasks did not change for
+ * several polls in a row. A new watch or a change in the state of any task resets it back to the minimum.
+ *
+ * Watches without a user task ID are called on every poll without any state. They are used to wait for an optimization
+ * proposal which does not have a user task yet and they keep the polling interval at the minimum.
+ */
+public class CruiseControlUserTaskPoller {
+    private static final Logger LOGGER = LogManager.getLogger(CruiseControlUserTaskPoller.class.getName());
+
+    /* test */ static final int UNCHANGED_POLLS_BEFORE_BACKOFF = 3;
+    private static final String STATUS_KEY = "Status";
+
+    private final Vertx vertx;
+    private final CruiseControlApi apiClient;
+    private final String host;
+    private final int port;
+    private final long minIntervalMs;
+    private final long maxIntervalMs;
+    private final Consumer<CruiseControlUserTaskPoller> onIdle;
+
+    private final Map<Long, Watch> watches = new HashMap<>();
+    private final Map<String, String> lastStates = new HashMap<>();
+    private long nextWatchId = 0;
+    private long intervalMs;
+    private int unchangedPolls = 0;
+    private boolean running = false;
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vertx instance
+     * @param apiClient     Cruise Control REST API client
+     * @param host          Address of the Cruise Control server
+     * @param port          Port of the Cruise Control server
+     * @param minIntervalMs Minimal polling interval
+     * @param maxIntervalMs Maximal polling interval
+     * @param onIdle        Called when the last watch is removed and the poller stops
+     */
+    public CruiseControlUserTaskPoller(Vertx vertx, CruiseControlApi apiClient, String host, int port, long minIntervalMs, long maxIntervalMs, Consumer<CruiseControlUserTaskPoller> onIdle) {
+        this.vertx = vertx;
+        this.apiClient = apiClient;
+        this.host = host;
+        this.port = port;
+        this.minIntervalMs = minIntervalMs;
+        this.maxIntervalMs = maxIntervalMs;
+        this.onIdle = onIdle;
+        this.intervalMs = minIntervalMs;
+    }
+
+    /**
+     * Watches the state of a user task. The handler is called after every poll with the ID of the watch and with the
+     * state of the task or with the error when it could not be retrieved. The watch has to be removed using the
+     * {@link #unwatch(long)} method when the state is not needed anymore.
+     *
+     * @param userTaskId    ID of the user task or null to get called on every poll without any state
+     * @param handler       Handler called with the ID of the watch and the state of the user task
+     *
+     * @return  ID of the watch
+     */
+    public synchronized long watch(String userTaskId, BiConsumer<Long, AsyncResult<CruiseControlResponse>> handler) {
+        long id = nextWatchId++;
+        watches.put(id, new Watch(userTaskId, handler));
+
+        intervalMs = minIntervalMs;
+        unchangedPolls = 0;
+
+        if (!running) {
+            running = true;
+            vertx.setTimer(intervalMs, t -> poll());
+        }
+
+        return id;
+    }
+
+    /**
+     * Removes a watch. The poller stops when there are no watches left.
+     *
+     * @param watchId   ID of the watch
+     */
+    public synchronized void unwatch(long watchId) {
+        Watch watch = watches.remove(watchId);
+
+        if (watch != null
+                && watch.userTaskId != null
+                && watches.values().stream().noneMatch(w -> watch.userTaskId.equals(w.userTaskId))) {
+            lastStates.remove(watch.userTaskId);
+        }
+    }
+
+    /**
+     * @return  The current polling interval
+     */
+    /* test */ synchronized long intervalMs() {
+        return intervalMs;
+    }
+
+    private void poll() {
+        Map<Long, Watch> polledWatches;
+        Set<String> userTaskIds = new HashSet<>();
+        boolean hasWatchesWithoutTask = false;
+
+        synchronized (this) {
+            if (watches.isEmpty()) {
+                stop();
+                return;
+            }
+
+            polledWatches = new HashMap<>(watches);
+            for (Watch watch : polledWatches.values()) {
+                if (watch.userTaskId != null) {
+                    userTaskIds.add(watch.userTaskId);
+                } else {
+                    hasWatchesWithoutTask = true;
+                }
+            }
+        }
+
+        LOGGER.debug("Polling the state of user tasks {} from Cruise Control {}:{}", userTaskIds, host, port);
+
+        Future<Map<String, CruiseControlResponse>> states = userTaskIds.isEmpty()
+                ? Future.succeededFuture(Map.of())
+                : apiClient.getUserTaskStatuses(host, port, userTaskIds);
+
+        boolean alwaysProgressed = hasWatchesWithoutTask;
+        states.onComplete(res -> {
+            boolean progressed = updateStates(res) || alwaysProgressed;
+
+            for (Map.Entry<Long, Watch> entry : polledWatches.entrySet()) {
+                if (isWatched(entry.getKey())) {
+                    entry.getValue().handler.accept(entry.getKey(), userTaskState(res, entry.getValue().userTaskId));
+                }
+            }
+
+            scheduleNextPoll(progressed);
+        });
+    }
+
+    private synchronized boolean isWatched(long watchId) {
+        return watches.containsKey(watchId);
+    }
+
+    private synchronized boolean updateStates(AsyncResult<Map<String, CruiseControlResponse>> res) {
+        boolean progressed = res.failed();
+
+        if (res.succeeded()) {
+            for (Map.Entry<String, CruiseControlResponse> state : res.result().entrySet()) {
+                JsonObject json = state.getValue().getJson();
+                String previousState = lastStates.put(state.getKey(), json != null ? json.getString(STATUS_KEY) : null);
+
+                if (!Objects.equals(previousState, lastStates.get(state.getKey()))) {
+                    progressed = true;
+                }
+            }
+        }
+
+        return progressed;
+    }
+
+    private synchronized void scheduleNextPoll(boolean progressed) {
+        if (progressed) {
+            unchangedPolls = 0;
+            intervalMs = minIntervalMs;
+        } else if (++unchangedPolls >= UNCHANGED_POLLS_BEFORE_BACKOFF) {
+            intervalMs = Math.min(intervalMs * 2, maxIntervalMs);
+        }
+
+        if (watches.isEmpty()) {
+            stop();
+        } else {
+            vertx.setTimer(intervalMs, t -> poll());
+        }
+    }
+
+    private void stop() {
+        running = false;
+        intervalMs = minIntervalMs;
+        unchangedPolls = 0;
+        lastStates.clear();
+        onIdle.accept(this);
+    }
+
+    private static AsyncResult<CruiseControlResponse> userTaskState(AsyncResult<Map<String, CruiseControlResponse>> res, String userTaskId) {
+        if (userTaskId == null) {
+            return Future.succeededFuture();
+        } else if (res.failed()) {
+            return Future.failedFuture(res.cause());
+        } else if (res.result().containsKey(userTaskId)) {
+            return Future.succeededFuture(res.result().get(userTaskId));
+        } else {
+            return Future.failedFuture(new CruiseControlRestException("User task " + userTaskId + " was not found in Cruise Control"));
+        }
+    }
+
+    /**
+     * Watch of a single user task
+     */
+    private static class Watch {
+        private final String userTaskId;
+        private final BiConsumer<Long, AsyncResult<CruiseControlResponse>> handler;
+
+        Watch(String userTaskId, BiConsumer<Long, AsyncResult<CruiseControlResponse>> handler) {
+            this.userTaskId = userTaskId;
+            this.handler = handler;
+        }
+    }
+}
@@ -82,7 +82,10 @@ public class ClusterOperatorConfigTest {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 null,
                 "",
-                10);
+                10,
+                false,
+                false,
+                ClusterOperatorConfig.DEFAULT_LEADER_ELECTION_LEASE_NAME);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -114,6 +117,9 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getOperationTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_OPERATION_TIMEOUT_MS));
         assertThat(config.getOperatorNamespace(), is(nullValue()));
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
+        assertThat(config.isShardingEnabled(), is(ClusterOperatorConfig.DEFAULT_SHARDING_ENABLED));
+        assertThat(config.isLeaderElectionEnabled(), is(ClusterOperatorConfig.DEFAULT_LEADER_ELECTION_ENABLED));
+        assertThat(config.getLeaderElectionLeaseName(), is(ClusterOperatorConfig.DEFAULT_LEADER_ELECTION_LEASE_NAME));
     }
 
     private Map<String, String> envWithImages() {
@@ -186,6 +192,52 @@ public class ClusterOperatorConfigTest {
         });
     }
 
+    @Test
+    public void testShardingEnabled() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_SHARDING_ENABLED, "true");
+
+        assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isShardingEnabled(), is(true));
+    }
+
+    @Test
+    public void testShardingEnabledWithoutOperatorNamespace() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_SHARDING_ENABLED, "true");
+        envVars.remove(ClusterOperatorConfig.STRIMZI_OPERATOR_NAMESPACE);
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testLeaderElection() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_LEADER_ELECTION_ENABLED, "true");
+        envVars.put(ClusterOperatorConfig.STRIMZI_LEADER_ELECTION_LEASE_NAME, "my-lease");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isLeaderElectionEnabled(), is(true));
+        assertThat(config.getLeaderElectionLeaseName(), is("my-lease"));
+    }
+
+    @Test
+    public void testLeaderElectionWithoutOperatorNamespace() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_LEADER_ELECTION_ENABLED, "true");
+        envVars.remove(ClusterOperatorConfig.STRIMZI_OPERATOR_NAMESPACE);
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testLeaderElectionWithSharding() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_LEADER_ELECTION_ENABLED, "true");
+        envVars.put(ClusterOperatorConfig.STRIMZI_SHARDING_ENABLED, "true");
+
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
     @Test
     public void testImagePullPolicyWithEnvVarNotDefined() {
         assertThat(ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getImagePullPolicy(), is(nullValue()));
@@ -0,0 +1,85 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.extended.leaderelection.LeaderElectionConfig;
+import io.fabric8.kubernetes.client.extended.leaderelection.resourcelock.LeaseLock;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class LeaderElectionTest {
+    @Test
+    public void testOnlyLeaderReconciles() {
+        AtomicInteger leaderships = new AtomicInteger();
+        AtomicInteger exits = new AtomicInteger();
+        LeaderElection election = new LeaderElection(mock(KubernetesClient.class), "operator-namespace", "my-lease", "operator-a", Set::of,
+                leaderships::incrementAndGet, exits::incrementAndGet);
+
+        // Standby until the Lease is acquired
+        assertThat(election.isLeader(), is(false));
+        assertThat(election.test("my-namespace"), is(false));
+
+        election.startLeading();
+        assertThat(election.isLeader(), is(true));
+        assertThat(election.test("my-namespace"), is(true));
+        assertThat(election.test("other-namespace"), is(true));
+        assertThat(leaderships.get(), is(1));
+
+        // Losing the Lease without reconciliations in progress makes it standby again
+        election.stopLeading();
+        assertThat(election.isLeader(), is(false));
+        assertThat(exits.get(), is(0));
+        assertThat(election.test("my-namespace"), is(false));
+
+        election.startLeading();
+        assertThat(election.isLeader(), is(true));
+        assertThat(leaderships.get(), is(2));
+    }
+
+    @Test
+    public void testExitsWhenLeadershipIsLostWhileReconciling() {
+        AtomicReference<Set<String>> reconcilingNamespaces = new AtomicReference<>(Set.of());
+        AtomicInteger exits = new AtomicInteger();
+        Runnable onStartLeading = () -> { };
+        LeaderElection election = new LeaderElection(mock(KubernetesClient.class), "operator-namespace", "my-lease", "operator-a", reconcilingNamespaces::get,
+                onStartLeading, exits::incrementAndGet);
+
+        election.startLeading();
+        reconcilingNamespaces.set(Set.of("my-namespace"));
+
+        // The new leader could act on the same resources while the reconciliation is still in progress
+        election.stopLeading();
+        assertThat(election.isLeader(), is(false));
+        assertThat(election.test("my-namespace"), is(false));
+        assertThat(exits.get(), is(1));
+
+        // Not the leader anymore
+        election.stopLeading();
+        assertThat(exits.get(), is(1));
+    }
+
+    @Test
+    public void testConfig() {
+        LeaderElection election = new LeaderElection(mock(KubernetesClient.class), "operator-namespace", "my-lease", "operator-a", Set::of, () -> { }, () -> { });
+        LeaderElectionConfig config = election.config();
+
+        assertThat(config.getName(), is("my-lease"));
+        assertThat(config.getLock(), instanceOf(LeaseLock.class));
+        assertThat(config.getLock().identity(), is("operator-a"));
+        assertThat(config.getLeaseDuration(), is(LeaderElection.LEASE_DURATION));
+        // The leader has to give up before the Lease can expire and be acquired by another instance
+        assertThat(config.getRenewDeadline().compareTo(config.getLeaseDuration()) < 0, is(true));
+        assertThat(config.getRetryPeriod().compareTo(config.getRenewDeadline()) < 0, is(true));
+    }
+}
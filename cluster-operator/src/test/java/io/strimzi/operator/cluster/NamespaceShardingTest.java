@@ -0,0 +1,336 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.LeaseOperator;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NamespaceShardingTest {
+    private static final String NAMESPACE = "operator-namespace";
+    private static final long RENEW_INTERVAL_MS = 5_000;
+    private static final int LEASE_DURATION_SECONDS = 15;
+    private static final List<String> NAMESPACES = IntStream.range(0, 100).mapToObj(i -> "namespace-" + i).collect(Collectors.toList());
+
+    @Test
+    public void testNamespacesAreSplitBetweenMembers() {
+        List<String> members = List.of("operator-a", "operator-b", "operator-c");
+        Map<String, List<String>> owned = NAMESPACES.stream().collect(Collectors.groupingBy(ns -> NamespaceSharding.owner(members, ns)));
+
+        assertThat(owned.keySet().size(), is(3));
+
+        // Only the namespaces of the removed member move to another member
+        List<String> remaining = List.of("operator-a", "operator-c");
+        for (String namespace : NAMESPACES) {
+            String owner = NamespaceSharding.owner(members, namespace);
+
+            if (!"operator-b".equals(owner)) {
+                assertThat(NamespaceSharding.owner(remaining, namespace), is(owner));
+            } else {
+                assertThat(NamespaceSharding.owner(remaining, namespace), is(not("operator-b")));
+            }
+        }
+
+        assertThat(NamespaceSharding.owner(List.of(), "namespace-0"), is(nullValue()));
+    }
+
+    @Test
+    public void testMembersAreRefreshedFromLeases() {
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        Map<String, Lease> leases = new ConcurrentHashMap<>();
+        leases.put("operator-b", lease("operator-b", clock.get() - 5_000));
+        // Expired, but not for long => not a member anymore, but not deleted
+        leases.put("operator-c", lease("operator-c", clock.get() - 20_000));
+        // Expired a long time ago => deleted
+        leases.put("operator-d", lease("operator-d", clock.get() - 60_000));
+
+        LeaseOperator leaseOperator = mockLeaseOperator(leases);
+        NamespaceSharding sharding = new NamespaceSharding(mock(Vertx.class), leaseOperator, NAMESPACE, "operator-a",
+                RENEW_INTERVAL_MS, LEASE_DURATION_SECONDS, clock::get, Set::of, () -> { }, () -> { });
+
+        assertThat(sharding.refresh().succeeded(), is(true));
+
+        assertThat(sharding.members(), is(List.of("operator-a", "operator-b")));
+        verify(leaseOperator, never()).reconcile(any(), eq(NAMESPACE), eq(NamespaceSharding.LEASE_NAME_PREFIX + "operator-c"), isNull());
+        verify(leaseOperator, times(1)).reconcile(any(), eq(NAMESPACE), eq(NamespaceSharding.LEASE_NAME_PREFIX + "operator-d"), isNull());
+    }
+
+    @Test
+    public void testGainedNamespacesAreOwnedOnceSettled() {
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        Map<String, Lease> leases = new ConcurrentHashMap<>();
+        Vertx vertx = mock(Vertx.class);
+        AtomicInteger ownershipChanges = new AtomicInteger();
+
+        NamespaceSharding sharding = new NamespaceSharding(vertx, mockLeaseOperator(leases), NAMESPACE, "operator-a",
+                RENEW_INTERVAL_MS, LEASE_DURATION_SECONDS, clock::get, Set::of, ownershipChanges::incrementAndGet, () -> { });
+
+        // Nothing is owned before joining the group
+        assertThat(NAMESPACES.stream().noneMatch(sharding), is(true));
+
+        sharding.refresh();
+
+        // Nothing is owned until the members settle
+        assertThat(NAMESPACES.stream().noneMatch(sharding), is(true));
+
+        settle(vertx, 1);
+        assertThat(NAMESPACES.stream().allMatch(sharding), is(true));
+        assertThat(ownershipChanges.get(), is(1));
+
+        // Another member joins => the namespaces it gains are released immediately
+        leases.put("operator-b", lease("operator-b", clock.get()));
+        sharding.refresh();
+
+        List<String> members = List.of("operator-a", "operator-b");
+        List<String> keptNamespaces = NAMESPACES.stream().filter(ns -> "operator-a".equals(NamespaceSharding.owner(members, ns))).collect(Collectors.toList());
+        List<String> lostNamespaces = new ArrayList<>(NAMESPACES);
+        lostNamespaces.removeAll(keptNamespaces);
+
+        assertThat(keptNamespaces.isEmpty(), is(false));
+        assertThat(lostNamespaces.isEmpty(), is(false));
+        assertThat(keptNamespaces.stream().allMatch(sharding), is(true));
+        assertThat(lostNamespaces.stream().noneMatch(sharding), is(true));
+
+        // The member leaves before the members settled => the namespaces were never handed over and are owned again
+        leases.remove("operator-b");
+        clock.addAndGet(RENEW_INTERVAL_MS);
+        sharding.refresh();
+
+        assertThat(NAMESPACES.stream().allMatch(sharding), is(true));
+
+        // The settle of the outdated members does nothing
+        settle(vertx, 2);
+        assertThat(ownershipChanges.get(), is(1));
+
+        settle(vertx, 3);
+        assertThat(ownershipChanges.get(), is(2));
+        assertThat(NAMESPACES.stream().allMatch(sharding), is(true));
+    }
+
+    @Test
+    public void testGainedNamespacesAreOwnedOnceHandedOver() {
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        Map<String, Lease> leases = new ConcurrentHashMap<>();
+        Vertx vertx = mock(Vertx.class);
+        AtomicInteger ownershipChanges = new AtomicInteger();
+
+        List<String> members = List.of("operator-a", "operator-b");
+        List<String> gainedNamespaces = NAMESPACES.stream().filter(ns -> "operator-b".equals(NamespaceSharding.owner(members, ns))).collect(Collectors.toList());
+        String reconciledNamespace = gainedNamespaces.get(0);
+
+        // The existing member has not seen the joining member yet and reconciles one of the namespaces it will lose
+        leases.put("operator-a", lease("operator-a", clock.get(), List.of("operator-a"), Set.of(reconciledNamespace)));
+
+        NamespaceSharding sharding = new NamespaceSharding(vertx, mockLeaseOperator(leases), NAMESPACE, "operator-b",
+                RENEW_INTERVAL_MS, LEASE_DURATION_SECONDS, clock::get, Set::of, ownershipChanges::incrementAndGet, () -> { });
+
+        sharding.refresh();
+        settle(vertx, 1);
+
+        // Nothing is handed over until the other member has seen the new members
+        assertThat(gainedNamespaces.stream().noneMatch(sharding), is(true));
+        assertThat(ownershipChanges.get(), is(0));
+
+        leases.put("operator-a", lease("operator-a", clock.get(), members, Set.of(reconciledNamespace)));
+        sharding.refresh();
+
+        // The namespace which is still reconciled by the other member is not handed over yet
+        assertThat(sharding.test(reconciledNamespace), is(false));
+        assertThat(gainedNamespaces.stream().filter(ns -> !reconciledNamespace.equals(ns)).allMatch(sharding), is(true));
+        assertThat(ownershipChanges.get(), is(0));
+
+        leases.put("operator-a", lease("operator-a", clock.get(), members, Set.of()));
+        sharding.refresh();
+
+        // All namespaces are handed over => the reconciliation is triggered
+        assertThat(gainedNamespaces.stream().allMatch(sharding), is(true));
+        assertThat(ownershipChanges.get(), is(1));
+
+        // The namespaces stay owned when the other member reconciles its own namespaces
+        List<String> keptNamespaces = new ArrayList<>(NAMESPACES);
+        keptNamespaces.removeAll(gainedNamespaces);
+        leases.put("operator-a", lease("operator-a", clock.get(), members, Set.copyOf(keptNamespaces)));
+        sharding.refresh();
+        assertThat(gainedNamespaces.stream().allMatch(sharding), is(true));
+        assertThat(keptNamespaces.stream().noneMatch(sharding), is(true));
+    }
+
+    @Test
+    public void testMembersAndReconcilingNamespacesArePublished() {
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        Map<String, Lease> leases = new ConcurrentHashMap<>();
+        leases.put("operator-b", lease("operator-b", clock.get()));
+
+        NamespaceSharding sharding = new NamespaceSharding(mock(Vertx.class), mockLeaseOperator(leases), NAMESPACE, "operator-a",
+                RENEW_INTERVAL_MS, LEASE_DURATION_SECONDS, clock::get, () -> Set.of("namespace-2", "namespace-1"), () -> { }, () -> { });
+
+        // The members are published as seen before the renewal
+        sharding.refresh();
+        assertThat(NamespaceSharding.annotationValues(leases.get("operator-a"), NamespaceSharding.MEMBERS_ANNOTATION), is(List.of()));
+        assertThat(NamespaceSharding.annotationValues(leases.get("operator-a"), NamespaceSharding.RECONCILING_NAMESPACES_ANNOTATION), is(List.of("namespace-1", "namespace-2")));
+
+        sharding.refresh();
+        assertThat(NamespaceSharding.annotationValues(leases.get("operator-a"), NamespaceSharding.MEMBERS_ANNOTATION), is(List.of("operator-a", "operator-b")));
+    }
+
+    @Test
+    public void testExitsWhenLeaseExpiresWhileReconciling() {
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        Map<String, Lease> leases = new ConcurrentHashMap<>();
+        LeaseOperator leaseOperator = mockLeaseOperator(leases);
+        Vertx vertx = mock(Vertx.class);
+        Set<String> reconcilingNamespaces = ConcurrentHashMap.newKeySet();
+        AtomicInteger exits = new AtomicInteger();
+
+        NamespaceSharding sharding = new NamespaceSharding(vertx, leaseOperator, NAMESPACE, "operator-a",
+                RENEW_INTERVAL_MS, LEASE_DURATION_SECONDS, clock::get, () -> Set.copyOf(reconcilingNamespaces), () -> { }, exits::incrementAndGet);
+
+        assertThat(sharding.start().succeeded(), is(true));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Handler<Long>> expiryCheck = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setPeriodic(eq(RENEW_INTERVAL_MS), expiryCheck.capture());
+
+        when(leaseOperator.reconcile(any(), anyString(), anyString(), any())).thenReturn(Future.failedFuture(new RuntimeException("Kubernetes API is not available")));
+        reconcilingNamespaces.add("namespace-0");
+
+        // Not expired yet
+        clock.addAndGet(LEASE_DURATION_SECONDS * 1_000L - 1);
+        expiryCheck.getValue().handle(0L);
+        assertThat(exits.get(), is(0));
+
+        // Expired, but nothing is reconciled anymore
+        clock.addAndGet(1);
+        reconcilingNamespaces.clear();
+        expiryCheck.getValue().handle(0L);
+        assertThat(exits.get(), is(0));
+
+        // Expired while reconciling
+        reconcilingNamespaces.add("namespace-0");
+        expiryCheck.getValue().handle(0L);
+        assertThat(exits.get(), is(1));
+    }
+
+    @Test
+    public void testNamespacesAreReleasedWhenLeaseCannotBeRenewed() {
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        Map<String, Lease> leases = new ConcurrentHashMap<>();
+        LeaseOperator leaseOperator = mockLeaseOperator(leases);
+        Vertx vertx = mock(Vertx.class);
+
+        NamespaceSharding sharding = new NamespaceSharding(vertx, leaseOperator, NAMESPACE, "operator-a",
+                RENEW_INTERVAL_MS, LEASE_DURATION_SECONDS, clock::get, Set::of, () -> { }, () -> { });
+
+        sharding.refresh();
+        settle(vertx, 1);
+        clock.addAndGet(RENEW_INTERVAL_MS);
+        assertThat(NAMESPACES.stream().allMatch(sharding), is(true));
+
+        when(leaseOperator.reconcile(any(), anyString(), anyString(), any())).thenReturn(Future.failedFuture(new RuntimeException("Kubernetes API is not available")));
+        assertThat(sharding.refresh().failed(), is(true));
+
+        clock.addAndGet(LEASE_DURATION_SECONDS * 1_000L - RENEW_INTERVAL_MS - 1);
+        assertThat(NAMESPACES.stream().allMatch(sharding), is(true));
+
+        clock.addAndGet(1);
+        assertThat(NAMESPACES.stream().noneMatch(sharding), is(true));
+    }
+
+    @Test
+    public void testExpiresAt() {
+        assertThat(NamespaceSharding.expiresAt(lease("operator-a", 1_000_000L)), is(1_000_000L + LEASE_DURATION_SECONDS * 1_000L));
+        assertThat(NamespaceSharding.expiresAt(new LeaseBuilder().withNewMetadata().withName("my-lease").endMetadata().build()), is(0L));
+    }
+
+    /**
+     * Runs the settle timer of the n-th change of the members
+     */
+    private static void settle(Vertx vertx, int change) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Handler<Long>> timer = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx, atLeast(change)).setTimer(eq(LEASE_DURATION_SECONDS * 1_000L), timer.capture());
+        timer.getAllValues().get(change - 1).handle(0L);
+    }
+
+    private static Lease lease(String identity, long renewTime) {
+        return lease(identity, renewTime, List.of(), Set.of());
+    }
+
+    private static Lease lease(String identity, long renewTime, List<String> members, Set<String> reconcilingNamespaces) {
+        return new LeaseBuilder()
+                .withNewMetadata()
+                    .withName(NamespaceSharding.LEASE_NAME_PREFIX + identity)
+                    .withNamespace(NAMESPACE)
+                    .withAnnotations(Map.of(NamespaceSharding.MEMBERS_ANNOTATION, String.join(",", members),
+                            NamespaceSharding.RECONCILING_NAMESPACES_ANNOTATION, String.join(",", reconcilingNamespaces)))
+                .endMetadata()
+                .withNewSpec()
+                    .withHolderIdentity(identity)
+                    .withLeaseDurationSeconds(LEASE_DURATION_SECONDS)
+                    .withRenewTime(ZonedDateTime.ofInstant(Instant.ofEpochMilli(renewTime), ZoneOffset.UTC))
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * Mocks the Lease operator backed by the map of Leases indexed by the holder identity. The reconciled Leases are
+     * stored in the map.
+     */
+    private static LeaseOperator mockLeaseOperator(Map<String, Lease> leases) {
+        LeaseOperator leaseOperator = mock(LeaseOperator.class);
+
+        when(leaseOperator.reconcile(any(), anyString(), anyString(), any())).thenAnswer(invocation -> {
+            Lease lease = invocation.getArgument(3);
+
+            if (lease != null) {
+                leases.put(lease.getSpec().getHolderIdentity(), lease);
+                return Future.succeededFuture(ReconcileResult.patched(lease));
+            } else {
+                String name = invocation.getArgument(2);
+                leases.values().removeIf(l -> name.equals(l.getMetadata().getName()));
+                return Future.succeededFuture(ReconcileResult.deleted());
+            }
+        });
+        when(leaseOperator.listAsync(anyString(), any(Labels.class)))
+                .thenAnswer(invocation -> Future.succeededFuture(new ArrayList<>(leases.values())));
+
+        return leaseOperator;
+    }
+}
@@ -699,6 +699,7 @@ public class ResourceUtils {
                 mock(CrdOperator.class),
                 mock(CrdOperator.class),
                 mock(CrdOperator.class),
+                mock(CrdOperator.class),
                 mock(StorageClassOperator.class),
                 mock(NodeOperator.class),
                 zookeeperScalerProvider(),
@@ -757,7 +758,10 @@ public class ResourceUtils {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 null,
                 "",
-                10);
+                10,
+                false,
+                false,
+                ClusterOperatorConfig.DEFAULT_LEADER_ELECTION_LEASE_NAME);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfigRolesOnly(KafkaVersion.Lookup versions, long operationTimeoutMs) {
@@ -776,7 +780,10 @@ public class ResourceUtils {
                 ClusterOperatorConfig.RbacScope.NAMESPACE,
                 null,
                 "",
-                10);
+                10,
+                false,
+                false,
+                ClusterOperatorConfig.DEFAULT_LEADER_ELECTION_LEASE_NAME);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions) {
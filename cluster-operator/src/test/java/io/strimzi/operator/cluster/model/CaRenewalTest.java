@@ -19,6 +19,8 @@ import java.io.IOException;
 import java.security.cert.X509Certificate;
 import java.util.Base64;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -332,4 +334,60 @@ public class CaRenewalTest {
         assertThat(new String(newCerts.get("pod2").keyStore()), is("old-keystore"));
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
-}
\ No newline at end of file
+
+    @ParallelTest
+    public void scaleUpGeneratesCertificatesInParallel() throws IOException {
+        // Each certificate generation waits until another one runs at the same time
+        CountDownLatch concurrentGenerations = new CountDownLatch(2);
+
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            public boolean certRenewed() {
+                return false;
+            }
+
+            @Override
+            public boolean isExpiring(Secret secret, String certKey)  {
+                return false;
+            }
+
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject,
+                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+                concurrentGenerations.countDown();
+
+                try {
+                    if (!concurrentGenerations.await(10, TimeUnit.SECONDS)) {
+                        throw new IOException("Certificates are not generated in parallel");
+                    }
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+
+                return new CertAndKey(
+                        ("new-key-" + subject.commonName()).getBytes(),
+                        ("new-cert-" + subject.commonName()).getBytes(),
+                        ("new-truststore-" + subject.commonName()).getBytes(),
+                        ("new-keystore-" + subject.commonName()).getBytes(),
+                        "new-password-" + subject.commonName()
+                );
+            }
+        };
+
+        int replicas = 10;
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName("pod" + i).build();
+        Function<Integer, String> podNameFn = i -> "pod" + i;
+
+        Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION, replicas,
+                subjectFn,
+                null,
+                podNameFn,
+                true);
+
+        assertThat(newCerts.size(), is(replicas));
+        for (int i = 0; i < replicas; i++) {
+            assertThat(new String(newCerts.get("pod" + i).cert()), is("new-cert-pod" + i));
+            assertThat(new String(newCerts.get("pod" + i).key()), is("new-key-pod" + i));
+        }
+    }
+}
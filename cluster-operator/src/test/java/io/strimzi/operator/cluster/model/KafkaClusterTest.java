@@ -18,6 +18,7 @@ import io.fabric8.kubernetes.api.model.LabelSelectorRequirementBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodSecurityContextBuilder;
 import io.fabric8.kubernetes.api.model.PodSpec;
 import io.fabric8.kubernetes.api.model.Quantity;
@@ -54,6 +55,7 @@ import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.api.kafka.model.MetricsConfig;
 import io.strimzi.api.kafka.model.Rack;
 import io.strimzi.api.kafka.model.RackBuilder;
+import io.strimzi.api.kafka.model.StrimziPodSet;
 import io.strimzi.api.kafka.model.SystemProperty;
 import io.strimzi.api.kafka.model.SystemPropertyBuilder;
 import io.strimzi.api.kafka.model.listener.KafkaListenerAuthenticationOAuthBuilder;
@@ -367,6 +369,49 @@ public class KafkaClusterTest {
         assertThat(sts.getSpec().getVolumeClaimTemplates().get(0).getSpec().getSelector(), is(nullValue()));
     }
 
+    @ParallelTest
+    public void testGeneratePodSet() {
+        Kafka kafkaAssembly = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, replicas,
+                image, healthDelay, healthTimeout, jmxMetricsConfig, configuration, emptyMap()))
+                .editSpec()
+                    .editKafka()
+                        .withStorage(new JbodStorageBuilder().withVolumes(
+                                new PersistentClaimStorageBuilder().withDeleteClaim(false).withId(0).withSize("100Gi").build(),
+                                new EphemeralStorageBuilder().withId(1).build())
+                                .build())
+                    .endKafka()
+                .endSpec()
+                .build();
+        KafkaCluster kc = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafkaAssembly, VERSIONS);
+        StrimziPodSet podSet = kc.generatePodSet(replicas, false, null, null, singletonMap("extra", "annotation"));
+
+        assertThat(podSet.getMetadata().getName(), is(KafkaCluster.kafkaClusterName(cluster)));
+        assertThat(podSet.getMetadata().getOwnerReferences().size(), is(1));
+        assertThat(podSet.getSpec().getSelector().getMatchLabels(), is(kc.getSelectorLabels().toMap()));
+
+        List<Pod> pods = PodSetUtils.podSetToPods(podSet);
+        assertThat(pods.size(), is(replicas));
+
+        for (int i = 0; i < replicas; i++) {
+            Pod pod = pods.get(i);
+            String podName = KafkaCluster.kafkaPodName(cluster, i);
+
+            assertThat(pod.getMetadata().getName(), is(podName));
+            assertThat(pod.getMetadata().getLabels().get(Labels.KUBERNETES_STATEFULSET_POD_LABEL), is(podName));
+            assertThat(pod.getMetadata().getAnnotations().get("extra"), is("annotation"));
+            assertThat(pod.getMetadata().getAnnotations().get(PodRevision.STRIMZI_REVISION_ANNOTATION), is(PodRevision.getRevision(pod)));
+            assertThat(pod.getSpec().getHostname(), is(podName));
+            assertThat(pod.getSpec().getSubdomain(), is(KafkaCluster.headlessServiceName(cluster)));
+            assertThat(pod.getSpec().getSecurityContext().getFsGroup(), is(0L));
+
+            Volume pvcVolume = pod.getSpec().getVolumes().stream().filter(vol -> "data-0".equals(vol.getName())).findFirst().orElseThrow();
+            assertThat(pvcVolume.getPersistentVolumeClaim().getClaimName(), is("data-0-" + podName));
+
+            Volume ephemeralVolume = pod.getSpec().getVolumes().stream().filter(vol -> "data-1".equals(vol.getName())).findFirst().orElseThrow();
+            assertThat(ephemeralVolume.getEmptyDir(), is(notNullValue()));
+        }
+    }
+
     @ParallelTest
     public void testGenerateStatefulSetWithSetSizeLimit() {
         String sizeLimit = "1Gi";
@@ -473,6 +518,10 @@ public class KafkaClusterTest {
         assertThat(containers.get(0).getReadinessProbe().getFailureThreshold(), is(Integer.valueOf(10)));
         assertThat(containers.get(0).getReadinessProbe().getSuccessThreshold(), is(Integer.valueOf(4)));
         assertThat(containers.get(0).getReadinessProbe().getPeriodSeconds(), is(Integer.valueOf(33)));
+        assertThat(containers.get(0).getLivenessProbe().getHttpGet().getPath(), is("/healthy"));
+        assertThat(containers.get(0).getLivenessProbe().getHttpGet().getPort().getStrVal(), is(KafkaCluster.HEALTHCHECK_PORT_NAME));
+        assertThat(containers.get(0).getReadinessProbe().getHttpGet().getPath(), is("/ready"));
+        assertThat(containers.get(0).getReadinessProbe().getHttpGet().getPort().getStrVal(), is(KafkaCluster.HEALTHCHECK_PORT_NAME));
         assertThat(AbstractModel.containerEnvVars(containers.get(0)).get(KafkaCluster.ENV_VAR_STRIMZI_KAFKA_GC_LOG_ENABLED), is(Boolean.toString(AbstractModel.DEFAULT_JVM_GC_LOGGING_ENABLED)));
         assertThat(containers.get(0).getVolumeMounts().get(1).getName(), is(AbstractModel.STRIMZI_TMP_DIRECTORY_DEFAULT_VOLUME_NAME));
         assertThat(containers.get(0).getVolumeMounts().get(1).getMountPath(), is(AbstractModel.STRIMZI_TMP_DIRECTORY_DEFAULT_MOUNT_PATH));
@@ -1794,6 +1843,12 @@ public class KafkaClusterTest {
         assertThat(rules.get(0).getFrom().size(), is(2));
         assertThat(rules.get(0).getFrom().contains(peer1), is(true));
         assertThat(rules.get(0).getFrom().contains(peer2), is(true));
+
+        // The kafka-agent endpoints are open only to the Cluster Operator
+        rules = np.getSpec().getIngress().stream().filter(ing -> ing.getPorts().get(0).getPort().equals(new IntOrString(KafkaCluster.HEALTHCHECK_PORT))).collect(Collectors.toList());
+        assertThat(rules.size(), is(1));
+        assertThat(rules.get(0).getFrom().size(), is(1));
+        assertThat(rules.get(0).getFrom().get(0).getPodSelector().getMatchLabels(), is(Map.of(Labels.STRIMZI_KIND_LABEL, "cluster-operator")));
     }
 
     @ParallelTest
@@ -31,6 +31,7 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -287,6 +288,62 @@ public class KafkaConnectBuildTest {
         assertThat(cm.getMetadata().getOwnerReferences().get(0), is(build.createOwnerReference()));
     }
 
+    @ParallelTest
+    public void testBuildCacheKey()   {
+        KafkaConnect kc = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withName(cluster)
+                    .withNamespace(namespace)
+                .endMetadata()
+                .withNewSpec()
+                    .withBootstrapServers("my-kafka:9092")
+                    .withNewBuild()
+                        .withNewDockerOutput()
+                            .withImage("my-image:latest")
+                        .endDockerOutput()
+                        .withPlugins(new PluginBuilder().withName("my-connector").withArtifacts(jarArtifactWithChecksum).build())
+                    .endBuild()
+                .endSpec()
+                .build();
+
+        KafkaConnectBuild build = KafkaConnectBuild.fromCrd(new Reconciliation("test", kc.getKind(), kc.getMetadata().getNamespace(), kc.getMetadata().getName()), kc, VERSIONS);
+        KafkaConnectDockerfile dockerfile = new KafkaConnectDockerfile("my-image:latest", kc.getSpec().getBuild());
+        String key = build.generateBuildCacheKey(dockerfile);
+
+        // Another cluster in another namespace with the same build shares the key
+        KafkaConnect otherKc = new KafkaConnectBuilder(kc)
+                .editMetadata()
+                    .withName("other-cluster")
+                    .withNamespace("other-namespace")
+                .endMetadata()
+                .build();
+        KafkaConnectBuild otherBuild = KafkaConnectBuild.fromCrd(new Reconciliation("test", otherKc.getKind(), otherKc.getMetadata().getNamespace(), otherKc.getMetadata().getName()), otherKc, VERSIONS);
+        assertThat(otherBuild.generateBuildCacheKey(new KafkaConnectDockerfile("my-image:latest", otherKc.getSpec().getBuild())), is(key));
+
+        // Different plugins change the key
+        KafkaConnect differentPlugins = new KafkaConnectBuilder(kc)
+                .editSpec()
+                    .editBuild()
+                        .withPlugins(new PluginBuilder().withName("my-connector2").withArtifacts(jarArtifactNoChecksum).build())
+                    .endBuild()
+                .endSpec()
+                .build();
+        assertThat(build.generateBuildCacheKey(new KafkaConnectDockerfile("my-image:latest", differentPlugins.getSpec().getBuild())), is(not(key)));
+
+        // Different output changes the key
+        KafkaConnect differentOutput = new KafkaConnectBuilder(kc)
+                .editSpec()
+                    .editBuild()
+                        .withNewDockerOutput()
+                            .withImage("my-other-image:latest")
+                        .endDockerOutput()
+                    .endBuild()
+                .endSpec()
+                .build();
+        KafkaConnectBuild differentOutputBuild = KafkaConnectBuild.fromCrd(new Reconciliation("test", kc.getKind(), kc.getMetadata().getNamespace(), kc.getMetadata().getName()), differentOutput, VERSIONS);
+        assertThat(differentOutputBuild.generateBuildCacheKey(new KafkaConnectDockerfile("my-image:latest", differentOutput.getSpec().getBuild())), is(not(key)));
+    }
+
     @ParallelTest
     public void testBuildconfigWithDockerOutput()   {
         Map<String, Quantity> limit = new HashMap<>();
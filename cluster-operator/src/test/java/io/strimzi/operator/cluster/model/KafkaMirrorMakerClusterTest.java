@@ -265,7 +265,8 @@ public class KafkaMirrorMakerClusterTest {
         assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getName(), is(KafkaMirrorMakerResources.deploymentName(this.cluster)));
         assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is(mm.image));
         assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getEnv(), is(getExpectedEnvVars()));
-        assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getPorts().size(), is(1));
+        assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getPorts().size(), is(2));
+        assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getPorts().get(0).getName(), is(KafkaMirrorMakerCluster.HEALTHCHECK_PORT_NAME));
         assertThat(dep.getSpec().getStrategy().getType(), is("RollingUpdate"));
         assertThat(dep.getSpec().getStrategy().getRollingUpdate().getMaxSurge().getIntVal(), is(Integer.valueOf(1)));
         assertThat(dep.getSpec().getStrategy().getRollingUpdate().getMaxUnavailable().getIntVal(), is(Integer.valueOf(0)));
@@ -819,14 +820,13 @@ public class KafkaMirrorMakerClusterTest {
         Probe livenessProbe = cont.getLivenessProbe();
         Probe readinessProbe = cont.getReadinessProbe();
 
-        assertThat(livenessProbe.getExec().getCommand().get(0), is("/opt/kafka/kafka_mirror_maker_liveness.sh"));
+        assertThat(livenessProbe.getHttpGet().getPath(), is("/healthy"));
+        assertThat(livenessProbe.getHttpGet().getPort().getStrVal(), is(KafkaMirrorMakerCluster.HEALTHCHECK_PORT_NAME));
         assertThat(livenessProbe.getInitialDelaySeconds(), is(Integer.valueOf(60)));
         assertThat(livenessProbe.getTimeoutSeconds(), is(Integer.valueOf(5)));
 
-        assertThat(readinessProbe.getExec().getCommand().size(), is(3));
-        assertThat(readinessProbe.getExec().getCommand().get(0), is("test"));
-        assertThat(readinessProbe.getExec().getCommand().get(1), is("-f"));
-        assertThat(readinessProbe.getExec().getCommand().get(2), is("/tmp/mirror-maker-ready"));
+        assertThat(readinessProbe.getHttpGet().getPath(), is("/ready"));
+        assertThat(readinessProbe.getHttpGet().getPort().getStrVal(), is(KafkaMirrorMakerCluster.HEALTHCHECK_PORT_NAME));
         assertThat(readinessProbe.getInitialDelaySeconds(), is(Integer.valueOf(60)));
         assertThat(readinessProbe.getTimeoutSeconds(), is(Integer.valueOf(5)));
 
@@ -857,15 +857,14 @@ public class KafkaMirrorMakerClusterTest {
         Probe livenessProbe = cont.getLivenessProbe();
         Probe readinessProbe = cont.getReadinessProbe();
 
-        assertThat(livenessProbe.getExec().getCommand().get(0), is("/opt/kafka/kafka_mirror_maker_liveness.sh"));
+        assertThat(livenessProbe.getHttpGet().getPath(), is("/healthy"));
+        assertThat(livenessProbe.getHttpGet().getPort().getStrVal(), is(KafkaMirrorMakerCluster.HEALTHCHECK_PORT_NAME));
         assertThat(livenessProbe.getInitialDelaySeconds(), is(Integer.valueOf(120)));
         assertThat(livenessProbe.getTimeoutSeconds(), is(Integer.valueOf(10)));
         assertThat(livenessProbe.getPeriodSeconds(), is(Integer.valueOf(60)));
 
-        assertThat(readinessProbe.getExec().getCommand().size(), is(3));
-        assertThat(readinessProbe.getExec().getCommand().get(0), is("test"));
-        assertThat(readinessProbe.getExec().getCommand().get(1), is("-f"));
-        assertThat(readinessProbe.getExec().getCommand().get(2), is("/tmp/mirror-maker-ready"));
+        assertThat(readinessProbe.getHttpGet().getPath(), is("/ready"));
+        assertThat(readinessProbe.getHttpGet().getPort().getStrVal(), is(KafkaMirrorMakerCluster.HEALTHCHECK_PORT_NAME));
         assertThat(readinessProbe.getInitialDelaySeconds(), is(Integer.valueOf(121)));
         assertThat(readinessProbe.getTimeoutSeconds(), is(Integer.valueOf(11)));
         assertThat(readinessProbe.getPeriodSeconds(), is(Integer.valueOf(61)));
@@ -0,0 +1,70 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ParallelSuite
+public class PodRevisionTest {
+    private static Pod pod() {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName("my-cluster-kafka-0")
+                    .withLabels(Map.of("label", "value"))
+                    .withAnnotations(Map.of("annotation", "value"))
+                .endMetadata()
+                .withNewSpec()
+                    .addNewContainer()
+                        .withName("kafka")
+                        .withImage("my-image:latest")
+                    .endContainer()
+                .endSpec()
+                .build();
+    }
+
+    @ParallelTest
+    public void testRevisionIsStable() {
+        Pod pod = PodRevision.withRevision(pod());
+
+        assertThat(PodRevision.getRevision(pod), is(PodRevision.getRevision(pod())));
+        assertThat(PodRevision.hasChanged(pod, PodRevision.withRevision(pod())), is(false));
+    }
+
+    @ParallelTest
+    public void testRevisionChangesWithPod() {
+        Pod pod = PodRevision.withRevision(pod());
+
+        Pod changedImage = PodRevision.withRevision(new PodBuilder(pod())
+                .editSpec()
+                    .editFirstContainer()
+                        .withImage("my-image:newer")
+                    .endContainer()
+                .endSpec()
+                .build());
+        assertThat(PodRevision.getRevision(changedImage), is(not(PodRevision.getRevision(pod))));
+        assertThat(PodRevision.hasChanged(pod, changedImage), is(true));
+
+        Pod changedAnnotation = PodRevision.withRevision(new PodBuilder(pod())
+                .editMetadata()
+                    .addToAnnotations("other", "value")
+                .endMetadata()
+                .build());
+        assertThat(PodRevision.hasChanged(pod, changedAnnotation), is(true));
+    }
+
+    @ParallelTest
+    public void testPodWithoutRevisionHasChanged() {
+        assertThat(PodRevision.hasChanged(pod(), PodRevision.withRevision(pod())), is(true));
+    }
+}
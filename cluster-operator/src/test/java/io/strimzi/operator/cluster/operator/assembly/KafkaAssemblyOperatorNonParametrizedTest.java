@@ -448,7 +448,10 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 Labels.fromMap(Map.of("selectorLabel", "value")),
                 "",
-                10);
+                10,
+                false,
+                false,
+                ClusterOperatorConfig.DEFAULT_LEADER_ELECTION_LEASE_NAME);
 
         KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_19), certManager, passwordGenerator,
                 supplier, config);
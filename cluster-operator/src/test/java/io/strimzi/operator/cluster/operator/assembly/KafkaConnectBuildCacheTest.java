@@ -0,0 +1,106 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaConnectBuildCacheTest {
+    private static final String KEY = "7d2c5f1a";
+    private static final String IMAGE = "my-registry/my-connect@sha256:blablabla";
+
+    @Test
+    public void testCachedImageIsReused() {
+        KafkaConnectBuildCache cache = new KafkaConnectBuildCache();
+        AtomicInteger builds = new AtomicInteger();
+
+        Future<String> first = cache.getOrBuild(KEY, () -> {
+            builds.incrementAndGet();
+            return Future.succeededFuture(IMAGE);
+        });
+        Future<String> second = cache.getOrBuild(KEY, () -> {
+            builds.incrementAndGet();
+            return Future.succeededFuture("my-registry/my-connect@sha256:other");
+        });
+
+        assertThat(first.result(), is(IMAGE));
+        assertThat(second.result(), is(IMAGE));
+        assertThat(builds.get(), is(1));
+    }
+
+    @Test
+    public void testConcurrentBuildsAreDeduplicated() {
+        KafkaConnectBuildCache cache = new KafkaConnectBuildCache();
+        AtomicInteger builds = new AtomicInteger();
+        Promise<String> running = Promise.promise();
+
+        Future<String> first = cache.getOrBuild(KEY, () -> {
+            builds.incrementAndGet();
+            return running.future();
+        });
+        Future<String> second = cache.getOrBuild(KEY, () -> {
+            builds.incrementAndGet();
+            return Future.succeededFuture(IMAGE);
+        });
+
+        assertThat(first.isComplete(), is(false));
+        assertThat(second.isComplete(), is(false));
+
+        running.complete(IMAGE);
+
+        assertThat(first.result(), is(IMAGE));
+        assertThat(second.result(), is(IMAGE));
+        assertThat(builds.get(), is(1));
+        assertThat(cache.get(KEY), is(IMAGE));
+    }
+
+    @Test
+    public void testFailedBuildIsRetriedByWaitingBuilds() {
+        KafkaConnectBuildCache cache = new KafkaConnectBuildCache();
+        Promise<String> running = Promise.promise();
+
+        Future<String> first = cache.getOrBuild(KEY, running::future);
+        Future<String> second = cache.getOrBuild(KEY, () -> Future.succeededFuture(IMAGE));
+
+        running.fail(new RuntimeException("Build failed"));
+
+        assertThat(first.failed(), is(true));
+        assertThat(second.result(), is(IMAGE));
+    }
+
+    @Test
+    public void testFailedBuildIsNotCached() {
+        KafkaConnectBuildCache cache = new KafkaConnectBuildCache();
+
+        Future<String> failed = cache.getOrBuild(KEY, () -> Future.failedFuture(new RuntimeException("Build failed")));
+        assertThat(failed.failed(), is(true));
+        assertThat(cache.get(KEY), is(nullValue()));
+
+        Future<String> retried = cache.getOrBuild(KEY, () -> Future.succeededFuture(IMAGE));
+        assertThat(retried.result(), is(IMAGE));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedImagesAreEvicted() {
+        KafkaConnectBuildCache cache = new KafkaConnectBuildCache(2);
+
+        cache.put("key-1", "image-1");
+        cache.put("key-2", "image-2");
+        // Use key-1 so that key-2 becomes the least recently used
+        assertThat(cache.get("key-1"), is("image-1"));
+        cache.put("key-3", "image-3");
+
+        assertThat(cache.get("key-1"), is("image-1"));
+        assertThat(cache.get("key-2"), is(nullValue()));
+        assertThat(cache.get("key-3"), is("image-3"));
+    }
+}
@@ -917,7 +917,10 @@ public class KafkaRebalanceAssemblyOperatorTest {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 Labels.fromMap(Map.of("selectorLabel", "value")),
                 "",
-                10);
+                10,
+                false,
+                false,
+                ClusterOperatorConfig.DEFAULT_LEADER_ELECTION_LEASE_NAME);
 
         kcrao = new KafkaRebalanceAssemblyOperator(Vertx.vertx(), pfa, supplier, config);
 
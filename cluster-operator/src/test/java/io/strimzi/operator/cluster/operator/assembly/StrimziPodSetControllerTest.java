@@ -0,0 +1,300 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.strimzi.api.kafka.StrimziPodSetList;
+import io.strimzi.api.kafka.model.StrimziPodSet;
+import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
+import io.strimzi.operator.cluster.model.PodRevision;
+import io.strimzi.operator.cluster.model.PodSetUtils;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.PodOperator;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.test.TestUtils;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class StrimziPodSetControllerTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String NAME = "my-cluster-kafka";
+    private static final String UID = "b0e5a4a4-4f8a-4b79-a7a0-0d1ee1b0b5c5";
+    private static final Map<String, String> LABELS = Map.of("strimzi.io/cluster", "my-cluster", "strimzi.io/name", NAME, "strimzi.io/kind", "Kafka");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        vertx.close();
+    }
+
+    private static Pod pod(String name) {
+        return PodRevision.withRevision(new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(LABELS)
+                .endMetadata()
+                .withNewSpec()
+                    .addNewContainer()
+                        .withName("kafka")
+                        .withImage("my-image:latest")
+                    .endContainer()
+                .endSpec()
+                .build());
+    }
+
+    private static Pod ownedPod(String name) {
+        return new PodBuilder(pod(name))
+                .editMetadata()
+                    .addNewOwnerReference()
+                        .withApiVersion(StrimziPodSet.RESOURCE_GROUP + "/" + StrimziPodSet.V1BETA2)
+                        .withKind(StrimziPodSet.RESOURCE_KIND)
+                        .withName(NAME)
+                        .withUid(UID)
+                        .withController(true)
+                    .endOwnerReference()
+                .endMetadata()
+                .withNewStatus()
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    private static StrimziPodSet podSet(int replicas) {
+        List<Pod> pods = new ArrayList<>(replicas);
+        for (int i = 0; i < replicas; i++) {
+            pods.add(pod(NAME + "-" + i));
+        }
+
+        return new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                    .withUid(UID)
+                    .withGeneration(2L)
+                .endMetadata()
+                .withNewSpec()
+                    .withSelector(new LabelSelectorBuilder().withMatchLabels(LABELS).build())
+                    .withPods(PodSetUtils.podsToMaps(pods))
+                .endSpec()
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testReconcileCreatesAndDeletesPods(VertxTestContext context) {
+        PodOperator podOps = mock(PodOperator.class);
+        CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> podSetOps = mock(CrdOperator.class);
+
+        when(podSetOps.getAsync(eq(NAMESPACE), eq(NAME))).thenReturn(Future.succeededFuture(podSet(3)));
+        // Pod 0 exists, pod 1 and 2 are missing and pod 3 is not part of the pod set anymore
+        when(podOps.listAsync(eq(NAMESPACE), any(Optional.class))).thenReturn(Future.succeededFuture(List.of(ownedPod(NAME + "-0"), ownedPod(NAME + "-3"))));
+
+        when(podOps.reconcile(any(), eq(NAMESPACE), any(), any())).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
+
+        ArgumentCaptor<StrimziPodSet> podSetCaptor = ArgumentCaptor.forClass(StrimziPodSet.class);
+        when(podSetOps.updateStatusAsync(any(), podSetCaptor.capture())).thenAnswer(i -> Future.succeededFuture(i.getArgument(1)));
+
+        StrimziPodSetController controller = new StrimziPodSetController(vertx, podOps, podSetOps);
+
+        Checkpoint async = context.checkpoint();
+        controller.reconcile(new Reconciliation("test", StrimziPodSet.RESOURCE_KIND, NAMESPACE, NAME))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    ArgumentCaptor<String> nameCaptor = ArgumentCaptor.forClass(String.class);
+                    ArgumentCaptor<Pod> podCaptor = ArgumentCaptor.forClass(Pod.class);
+                    verify(podOps, times(3)).reconcile(any(), eq(NAMESPACE), nameCaptor.capture(), podCaptor.capture());
+
+                    // Missing pods are created and owned by the pod set
+                    assertThat(nameCaptor.getAllValues(), is(List.of(NAME + "-1", NAME + "-2", NAME + "-3")));
+                    assertThat(podCaptor.getAllValues().get(0).getMetadata().getName(), is(NAME + "-1"));
+                    assertThat(podCaptor.getAllValues().get(0).getMetadata().getOwnerReferences().get(0).getUid(), is(UID));
+                    assertThat(podCaptor.getAllValues().get(1).getMetadata().getName(), is(NAME + "-2"));
+
+                    // Pod which is not part of the pod set anymore is deleted
+                    assertThat(podCaptor.getAllValues().get(2), is(nullValue()));
+
+                    StrimziPodSet updated = podSetCaptor.getValue();
+                    assertThat(updated.getStatus().getPods(), is(3));
+                    assertThat(updated.getStatus().getReadyPods(), is(1));
+                    assertThat(updated.getStatus().getCurrentPods(), is(1));
+                    assertThat(updated.getStatus().getObservedGeneration(), is(2L));
+
+                    async.flag();
+                })));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testReconcileAdoptsOrphanedPods(VertxTestContext context) {
+        PodOperator podOps = mock(PodOperator.class);
+        CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> podSetOps = mock(CrdOperator.class);
+
+        when(podSetOps.getAsync(eq(NAMESPACE), eq(NAME))).thenReturn(Future.succeededFuture(podSet(1)));
+        // Pod left behind by a StatefulSet deleted without cascading
+        when(podOps.listAsync(eq(NAMESPACE), any(Optional.class))).thenReturn(Future.succeededFuture(List.of(pod(NAME + "-0"))));
+
+        ArgumentCaptor<Pod> podCaptor = ArgumentCaptor.forClass(Pod.class);
+        when(podOps.reconcile(any(), eq(NAMESPACE), eq(NAME + "-0"), podCaptor.capture())).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
+        when(podSetOps.updateStatusAsync(any(), any())).thenAnswer(i -> Future.succeededFuture(i.getArgument(1)));
+
+        StrimziPodSetController controller = new StrimziPodSetController(vertx, podOps, podSetOps);
+
+        Checkpoint async = context.checkpoint();
+        controller.reconcile(new Reconciliation("test", StrimziPodSet.RESOURCE_KIND, NAMESPACE, NAME))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    Pod adopted = podCaptor.getValue();
+                    assertThat(adopted.getMetadata().getOwnerReferences().size(), is(1));
+                    assertThat(adopted.getMetadata().getOwnerReferences().get(0).getKind(), is(StrimziPodSet.RESOURCE_KIND));
+                    assertThat(adopted.getMetadata().getOwnerReferences().get(0).getUid(), is(UID));
+
+                    async.flag();
+                })));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testReconcileAllReconcilesOwnedPodSets() throws ExecutionException, InterruptedException {
+        PodOperator podOps = mock(PodOperator.class);
+        CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> podSetOps = mock(CrdOperator.class);
+        StrimziPodSet otherPodSet = new StrimziPodSetBuilder(podSet(1))
+                .editMetadata()
+                    .withNamespace("other-namespace")
+                .endMetadata()
+                .build();
+
+        when(podSetOps.watch(any(), any(Watcher.class))).thenReturn(mock(Watch.class));
+        when(podOps.watch(any(), any(LabelSelector.class), any())).thenReturn(mock(Watch.class));
+        when(podSetOps.listAsync(eq("*"), eq(Labels.EMPTY))).thenReturn(Future.succeededFuture(List.of(podSet(1), otherPodSet)));
+        when(podSetOps.getAsync(any(), any())).thenReturn(Future.succeededFuture(null));
+
+        StrimziPodSetController controller = new StrimziPodSetController(vertx, podOps, podSetOps, NAMESPACE::equals);
+
+        controller.createWatches("*").toCompletionStage().toCompletableFuture().get();
+        controller.reconcileAll("*").toCompletionStage().toCompletableFuture().get();
+
+        // Only the pod set in the owned namespace is reconciled
+        verify(podSetOps, timeout(5_000).times(1)).getAsync(NAMESPACE, NAME);
+        verify(podSetOps, after(500).never()).getAsync(eq("other-namespace"), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testWatchesAreRecreatedWhenClosedWithError() throws ExecutionException, InterruptedException {
+        PodOperator podOps = mock(PodOperator.class);
+        CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> podSetOps = mock(CrdOperator.class);
+
+        ArgumentCaptor<Watcher<StrimziPodSet>> podSetWatcher = ArgumentCaptor.forClass(Watcher.class);
+        when(podSetOps.watch(eq(NAMESPACE), podSetWatcher.capture())).thenReturn(mock(Watch.class));
+        ArgumentCaptor<Watcher<Pod>> podWatcher = ArgumentCaptor.forClass(Watcher.class);
+        when(podOps.watch(eq(NAMESPACE), any(LabelSelector.class), podWatcher.capture())).thenReturn(mock(Watch.class));
+        when(podSetOps.listAsync(eq(NAMESPACE), eq(Labels.EMPTY))).thenReturn(Future.succeededFuture(List.of(podSet(1))));
+        when(podSetOps.getAsync(any(), any())).thenReturn(Future.succeededFuture(null));
+
+        StrimziPodSetController controller = new StrimziPodSetController(vertx, podOps, podSetOps);
+
+        controller.createWatches(NAMESPACE).toCompletionStage().toCompletableFuture().get();
+
+        // Closed without error => not recreated
+        podSetWatcher.getValue().onClose(null);
+        verify(podSetOps, after(500).times(1)).watch(eq(NAMESPACE), any(Watcher.class));
+
+        // Closed with error => recreated and the pod sets are reconciled to catch up with the missed events
+        podSetWatcher.getValue().onClose(new WatcherException("Too old resource version"));
+        verify(podSetOps, timeout(5_000).times(2)).watch(eq(NAMESPACE), any(Watcher.class));
+        verify(podSetOps, timeout(5_000).times(1)).getAsync(NAMESPACE, NAME);
+
+        podWatcher.getValue().onClose(new WatcherException("Too old resource version"));
+        verify(podOps, timeout(5_000).times(2)).watch(eq(NAMESPACE), any(LabelSelector.class), any());
+        verify(podSetOps, timeout(5_000).times(2)).listAsync(NAMESPACE, Labels.EMPTY);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testReconcilingNamespaces() throws ExecutionException, InterruptedException {
+        PodOperator podOps = mock(PodOperator.class);
+        CrdOperator<KubernetesClient, StrimziPodSet, StrimziPodSetList> podSetOps = mock(CrdOperator.class);
+        Promise<StrimziPodSet> podSet = Promise.promise();
+
+        when(podSetOps.watch(any(), any(Watcher.class))).thenReturn(mock(Watch.class));
+        when(podOps.watch(any(), any(LabelSelector.class), any())).thenReturn(mock(Watch.class));
+        when(podSetOps.listAsync(eq(NAMESPACE), eq(Labels.EMPTY))).thenReturn(Future.succeededFuture(List.of(podSet(1))));
+        when(podSetOps.getAsync(NAMESPACE, NAME)).thenReturn(podSet.future());
+
+        StrimziPodSetController controller = new StrimziPodSetController(vertx, podOps, podSetOps);
+        controller.createWatches(NAMESPACE).toCompletionStage().toCompletableFuture().get();
+        controller.reconcileAll(NAMESPACE).toCompletionStage().toCompletableFuture().get();
+
+        verify(podSetOps, timeout(5_000).times(1)).getAsync(NAMESPACE, NAME);
+        assertThat(controller.reconcilingNamespaces(), is(Set.of(NAMESPACE)));
+
+        // Pod set was deleted
+        podSet.complete(null);
+        TestUtils.waitFor("the reconciliation to finish", 100, 5_000, () -> controller.reconcilingNamespaces().isEmpty());
+    }
+
+    @Test
+    public void testPodSetName() {
+        assertThat(StrimziPodSetController.podSetName(ownedPod(NAME + "-0")), is(NAME));
+        assertThat(StrimziPodSetController.podSetName(pod(NAME + "-0")), is(NAME));
+
+        Pod statefulSetPod = new PodBuilder(pod(NAME + "-0"))
+                .editMetadata()
+                    .addNewOwnerReference()
+                        .withKind("StatefulSet")
+                        .withName(NAME)
+                        .withController(true)
+                    .endOwnerReference()
+                .endMetadata()
+                .build();
+        assertThat(StrimziPodSetController.podSetName(statefulSetPod), is(nullValue()));
+    }
+}
@@ -25,10 +25,13 @@ import io.strimzi.operator.KubernetesVersion;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.MockCertManager;
 import io.strimzi.operator.common.operator.resource.PvcOperator;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -36,14 +39,20 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class VolumeResizingTest {
@@ -112,6 +121,7 @@ public class VolumeResizingTest {
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
 
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
         when(mockPvcOps.getAsync(eq(namespace), ArgumentMatchers.startsWith("data-"))).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
@@ -156,11 +166,7 @@ public class VolumeResizingTest {
         PvcOperator mockPvcOps = supplier.pvcOperations;
 
         List<PersistentVolumeClaim> realPvcs = kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage());
-        when(mockPvcOps.getAsync(eq(namespace), ArgumentMatchers.startsWith("data-")))
-                .thenAnswer(invocation -> {
-                    String pvcName = invocation.getArgument(1);
-                    return Future.succeededFuture(realPvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null));
-                });
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
         when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
@@ -213,11 +219,7 @@ public class VolumeResizingTest {
                     .build());
         }
 
-        when(mockPvcOps.getAsync(eq(namespace), ArgumentMatchers.startsWith("data-")))
-                .thenAnswer(invocation -> {
-                    String pvcName = invocation.getArgument(1);
-                    return Future.succeededFuture(realPvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null));
-                });
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
         when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
@@ -270,11 +272,7 @@ public class VolumeResizingTest {
                     .build());
         }
 
-        when(mockPvcOps.getAsync(eq(namespace), ArgumentMatchers.startsWith("data-")))
-                .thenAnswer(invocation -> {
-                    String pvcName = invocation.getArgument(1);
-                    return Future.succeededFuture(realPvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null));
-                });
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
         when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
@@ -330,11 +328,7 @@ public class VolumeResizingTest {
                     .build());
         }
 
-        when(mockPvcOps.getAsync(eq(namespace), ArgumentMatchers.startsWith("data-")))
-                .thenAnswer(invocation -> {
-                    String pvcName = invocation.getArgument(1);
-                    return Future.succeededFuture(realPvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null));
-                });
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
         when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
@@ -365,6 +359,11 @@ public class VolumeResizingTest {
                     assertThat(res.succeeded(), is(true));
                     // The volumes are resizing => no reconciliation
                     assertThat(pvcCaptor.getAllValues().size(), is(0));
+
+                    // The resizing is reported in the status
+                    assertThat(res.result().kafkaStatus.getConditions().size(), is(1));
+                    assertThat(res.result().kafkaStatus.getConditions().get(0).getReason(), is("PersistentVolumeClaimsResizing"));
+                    assertThat(res.result().kafkaStatus.getConditions().get(0).getMessage(), containsString("3 PersistentVolumeClaims are resizing"));
                 });
     }
 
@@ -390,11 +389,7 @@ public class VolumeResizingTest {
                     .build());
         }
 
-        when(mockPvcOps.getAsync(eq(namespace), ArgumentMatchers.startsWith("data-")))
-                .thenAnswer(invocation -> {
-                    String pvcName = invocation.getArgument(1);
-                    return Future.succeededFuture(realPvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null));
-                });
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
         when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
@@ -431,6 +426,9 @@ public class VolumeResizingTest {
                         assertThat(res.result().fsResizingRestartRequest.contains(kafkaCluster.getPodName(i)), is(true));
                     }
 
+                    assertThat(res.result().kafkaStatus.getConditions().get(0).getReason(), is("PersistentVolumeClaimsResizing"));
+                    assertThat(res.result().kafkaStatus.getConditions().get(0).getMessage(), containsString("3 are waiting for the file system resizing"));
+
                 });
     }
 
@@ -452,11 +450,7 @@ public class VolumeResizingTest {
                     .build());
         }
 
-        when(mockPvcOps.getAsync(eq(namespace), ArgumentMatchers.startsWith("data-")))
-                .thenAnswer(invocation -> {
-                    String pvcName = invocation.getArgument(1);
-                    return Future.succeededFuture(realPvcs.stream().filter(pvc -> pvcName.equals(pvc.getMetadata().getName())).findFirst().orElse(null));
-                });
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(realPvcs));
 
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
         when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
@@ -488,9 +482,62 @@ public class VolumeResizingTest {
 
                     assertThat(pvcCaptor.getAllValues().size(), is(3));
                     assertThat(pvcCaptor.getAllValues(), is(kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage())));
+
+                    // The current PVCs are fetched with a single list request
+                    verify(mockPvcOps, times(1)).listAsync(eq(namespace), any(Labels.class));
+                    verify(mockPvcOps, never()).getAsync(any(), any());
+                    assertThat(res.result().kafkaStatus.getConditions(), is(nullValue()));
                 });
     }
 
+    @Test
+    public void testVolumesReconciledWithBoundedParallelism()  {
+        Kafka kafka = new KafkaBuilder(getKafkaCrd())
+                .editSpec()
+                    .editKafka()
+                        .withReplicas(3 * KafkaAssemblyOperator.PVC_RECONCILIATION_PARALLELISM)
+                    .endKafka()
+                .endSpec()
+                .build();
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, VERSIONS);
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+
+        // Mock the PVC Operator
+        PvcOperator mockPvcOps = supplier.pvcOperations;
+
+        when(mockPvcOps.listAsync(eq(namespace), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(mockPvcOps.getAsync(eq(namespace), ArgumentMatchers.startsWith("data-"))).thenReturn(Future.succeededFuture());
+
+        // The reconciliations are completed only when the test completes them
+        List<Promise<ReconcileResult<PersistentVolumeClaim>>> inFlight = new ArrayList<>();
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), any())).thenAnswer(invocation -> {
+            Promise<ReconcileResult<PersistentVolumeClaim>> promise = Promise.promise();
+            inFlight.add(promise);
+            return promise.future();
+        });
+
+        MockKafkaAssemblyOperator kao = new MockKafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, kubernetesVersion),
+                certManager,
+                passwordGenerator,
+                supplier,
+                config);
+
+        Future<KafkaAssemblyOperator.ReconciliationState> result = kao.resizeVolumes(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, namespace, clusterName),
+                kafka, kafkaCluster.generatePersistentVolumeClaims(kafka.getSpec().getKafka().getStorage()), kafkaCluster);
+
+        for (int batch = 1; batch <= 3; batch++) {
+            assertThat(result.isComplete(), is(false));
+            assertThat(inFlight.size(), is(batch * KafkaAssemblyOperator.PVC_RECONCILIATION_PARALLELISM));
+
+            // Completing the reconciliations in flight starts the next ones
+            new ArrayList<>(inFlight).subList((batch - 1) * KafkaAssemblyOperator.PVC_RECONCILIATION_PARALLELISM, inFlight.size())
+                    .forEach(promise -> promise.complete(ReconcileResult.noop(null)));
+        }
+
+        assertThat(result.succeeded(), is(true));
+        assertThat(inFlight.size(), is(3 * KafkaAssemblyOperator.PVC_RECONCILIATION_PARALLELISM));
+    }
+
     // This allows to test the resizing on its own without any other methods being called and mocked
     class MockKafkaAssemblyOperator extends KafkaAssemblyOperator  {
         public MockKafkaAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa, CertManager certManager, PasswordGenerator passwordGenerator, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
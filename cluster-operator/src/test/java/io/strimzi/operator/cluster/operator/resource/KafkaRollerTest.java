@@ -29,6 +29,7 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.TimeoutException;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -56,6 +57,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -143,6 +145,51 @@ public class KafkaRollerTest {
         // TODO assert subsequent rolls
     }
 
+    @Test
+    public void testReadinessTimeoutIsExtendedWhileLogsAreLoading(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        AtomicInteger pod0ReadinessCalls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (podName2Number(invocation.getArgument(2)) != 0) {
+                return succeededFuture();
+            }
+
+            Promise<Void> ready = Promise.promise();
+            if (pod0ReadinessCalls.getAndIncrement() == 0) {
+                // The first readiness check times out while the logs are still loading
+                long timeoutMs = invocation.getArgument(4);
+                vertx.setTimer(timeoutMs, ignored -> ready.fail(new TimeoutException("Timeout")));
+            } else {
+                vertx.setTimer(200, ignored -> ready.complete());
+            }
+            return ready.future();
+        }).when(podOps).readiness(any(), any(), any(), anyLong(), anyLong());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2);
+        AtomicInteger loadedLogs = new AtomicInteger();
+        kafkaRoller.brokerStateFn = podId -> succeededFuture(new KafkaAgentClient.BrokerState(2, loadedLogs.addAndGet(100), 1000));
+
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 1, 3, 4, 2));
+    }
+
+    @Test
+    public void testRollFailsFastWhenLogLoadingStalls(VertxTestContext testContext) throws InterruptedException {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        // The readiness of pod 0 never completes
+        doAnswer(invocation -> podName2Number(invocation.getArgument(2)) == 0 ? Promise.promise().future() : succeededFuture())
+                .when(podOps).readiness(any(), any(), any(), anyLong(), anyLong());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerWithControllers(sts, podOps, 2);
+        kafkaRoller.brokerStateFn = podId -> succeededFuture(new KafkaAgentClient.BrokerState(2, 500, 1000));
+
+        doFailingRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                KafkaRoller.FatalProblem.class, "Restarted pod c-kafka-0 stopped loading its logs (500 of 1000 logs loaded)",
+                singletonList(0));
+    }
+
     @Test
     public void pod1NotReadyAfterRolling(VertxTestContext testContext) throws InterruptedException {
         PodOperator podOps = mockPodOps(podId ->
@@ -573,6 +620,7 @@ public class KafkaRollerTest {
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
         private final int[] controllers;
+        Function<Integer, Future<KafkaAgentClient.BrokerState>> brokerStateFn = podId -> failedFuture(new RuntimeException("No agent"));
 
         private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                                    PodOperator podOps,
@@ -677,6 +725,11 @@ public class KafkaRollerTest {
             }
         }
 
+        @Override
+        protected Future<KafkaAgentClient.BrokerState> brokerStateFromAgent(String podName) {
+            return brokerStateFn.apply(podName2Number(podName));
+        }
+
         @Override
         protected Future<Void> restart(Pod pod) {
             restarted.add(pod.getMetadata().getName());
@@ -17,6 +17,8 @@ import org.mockserver.integration.ClientAndServer;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Set;
 
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasEntry;
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasKeys;
@@ -147,4 +149,22 @@ public class CruiseControlClientTest {
             checkpoint.flag();
         }));
     }
+
+    @Test
+    public void testCCGetRebalanceUserTasks(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
+
+        MockCruiseControl.setupCCUserTasksResponseNoGoals(ccServer, 0, 0);
+
+        CruiseControlApi client = new CruiseControlApiImpl(vertx);
+        String userTaskID = MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID;
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getUserTaskStatuses(HOST, PORT, List.of(userTaskID)).onComplete(context.succeeding(result -> {
+            context.verify(() -> assertThat(result.keySet(), is(Set.of(userTaskID))));
+            context.verify(() -> assertThat(result.get(userTaskID).getUserTaskId(), is(userTaskID)));
+            context.verify(() -> assertThat(result.get(userTaskID).getJson().getString("Status"), is("Completed")));
+            context.verify(() -> assertThat(result.get(userTaskID).getJson().getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()), is(notNullValue())));
+            checkpoint.flag();
+        }));
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class CruiseControlUserTaskPollerTest {
+    private static final String HOST = "my-cluster-cruise-control.my-namespace.svc";
+    private static final int PORT = 9090;
+    private static final long MIN_INTERVAL_MS = 10;
+    private static final long MAX_INTERVAL_MS = 1_000;
+
+    private static CruiseControlResponse state(String userTaskId, String status) {
+        return new CruiseControlResponse(userTaskId, new JsonObject().put("Status", status));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testWatchedTasksArePolledTogether(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTaskStatuses(anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-a", state("task-a", "Active"), "task-b", state("task-b", "InExecution"))));
+
+        Checkpoint idle = context.checkpoint();
+        Checkpoint taskA = context.checkpoint();
+        Checkpoint taskB = context.checkpoint();
+        Checkpoint proposal = context.checkpoint();
+
+        CruiseControlUserTaskPoller poller = new CruiseControlUserTaskPoller(vertx, apiClient, HOST, PORT, MIN_INTERVAL_MS, MAX_INTERVAL_MS, p -> idle.flag());
+
+        poller.watch("task-a", (id, res) -> context.verify(() -> {
+            poller.unwatch(id);
+            assertThat(res.result().getJson().getString("Status"), is("Active"));
+            taskA.flag();
+        }));
+
+        poller.watch("task-b", (id, res) -> context.verify(() -> {
+            poller.unwatch(id);
+            assertThat(res.result().getJson().getString("Status"), is("InExecution"));
+            taskB.flag();
+        }));
+
+        poller.watch(null, (id, res) -> context.verify(() -> {
+            poller.unwatch(id);
+            assertThat(res.succeeded(), is(true));
+            proposal.flag();
+
+            ArgumentCaptor<Collection<String>> userTaskIds = ArgumentCaptor.forClass(Collection.class);
+            verify(apiClient, atLeastOnce()).getUserTaskStatuses(anyString(), anyInt(), userTaskIds.capture());
+            assertThat(Set.copyOf(userTaskIds.getValue()), is(Set.of("task-a", "task-b")));
+        }));
+    }
+
+    @Test
+    public void testIntervalBacksOffUntilTheStateChanges(Vertx vertx, VertxTestContext context) {
+        AtomicInteger polls = new AtomicInteger();
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTaskStatuses(anyString(), anyInt(), any())).thenAnswer(i -> {
+            String status = polls.incrementAndGet() < 6 ? "Active" : "InExecution";
+            return Future.succeededFuture(Map.of("task-a", state("task-a", status)));
+        });
+
+        Checkpoint async = context.checkpoint();
+        CruiseControlUserTaskPoller poller = new CruiseControlUserTaskPoller(vertx, apiClient, HOST, PORT, MIN_INTERVAL_MS, MAX_INTERVAL_MS, p -> { });
+
+        poller.watch("task-a", (id, res) -> context.verify(() -> {
+            if (polls.get() <= CruiseControlUserTaskPoller.UNCHANGED_POLLS_BEFORE_BACKOFF) {
+                // The first poll is a change and the next ones have to be unchanged several times before backing off
+                assertThat(poller.intervalMs(), is(MIN_INTERVAL_MS));
+            } else if (polls.get() == 6) {
+                // Polls 4 and 5 did not see any change
+                assertThat(poller.intervalMs(), is(4 * MIN_INTERVAL_MS));
+            } else if (polls.get() == 7) {
+                // Poll 6 saw the task moving to InExecution
+                assertThat(poller.intervalMs(), is(MIN_INTERVAL_MS));
+                poller.unwatch(id);
+                async.flag();
+            }
+        }));
+    }
+
+    @Test
+    public void testMissingTaskFails(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi apiClient = mock(CruiseControlApi.class);
+        when(apiClient.getUserTaskStatuses(anyString(), anyInt(), any())).thenReturn(Future.succeededFuture(Map.of()));
+
+        Checkpoint async = context.checkpoint();
+        CruiseControlUserTaskPoller poller = new CruiseControlUserTaskPoller(vertx, apiClient, HOST, PORT, MIN_INTERVAL_MS, MAX_INTERVAL_MS, p -> { });
+
+        poller.watch("task-a", (id, res) -> context.verify(() -> {
+            poller.unwatch(id);
+            assertThat(res.failed(), is(true));
+            assertThat(res.cause(), instanceOf(CruiseControlRestException.class));
+            async.flag();
+        }));
+    }
+}
@@ -71,6 +71,11 @@ EOF
 )
 fi
 
+# The metrics reporter collects the client metrics used by the Mirror Maker agent. It is added to the reporters
+# from the provided configuration.
+PROVIDED_METRIC_REPORTERS=$(echo "${KAFKA_MIRRORMAKER_CONFIGURATION_CONSUMER}" | sed -n 's/^metric\.reporters=//p')
+METRIC_REPORTERS="io.strimzi.mirrormaker.agent.MirrorMakerMetricsReporter${PROVIDED_METRIC_REPORTERS:+,${PROVIDED_METRIC_REPORTERS}}"
+
 # Write the config file
 cat <<EOF
 # Bootstrap servers
@@ -79,6 +84,7 @@ bootstrap.servers=${KAFKA_MIRRORMAKER_BOOTSTRAP_SERVERS_CONSUMER}
 group.id=${KAFKA_MIRRORMAKER_GROUPID_CONSUMER}
 # Provided configuration
 ${KAFKA_MIRRORMAKER_CONFIGURATION_CONSUMER}
+metric.reporters=${METRIC_REPORTERS}
 
 security.protocol=${SECURITY_PROTOCOL}
 ${TLS_CONFIGURATION}
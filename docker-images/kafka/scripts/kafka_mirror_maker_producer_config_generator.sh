@@ -71,12 +71,18 @@ EOF
 )
 fi
 
+# The metrics reporter collects the client metrics used by the Mirror Maker agent. It is added to the reporters
+# from the provided configuration.
+PROVIDED_METRIC_REPORTERS=$(echo "${KAFKA_MIRRORMAKER_CONFIGURATION_PRODUCER}" | sed -n 's/^metric\.reporters=//p')
+METRIC_REPORTERS="io.strimzi.mirrormaker.agent.MirrorMakerMetricsReporter${PROVIDED_METRIC_REPORTERS:+,${PROVIDED_METRIC_REPORTERS}}"
+
 # Write the config file
 cat <<EOF
 # Bootstrap servers
 bootstrap.servers=${KAFKA_MIRRORMAKER_BOOTSTRAP_SERVERS_PRODUCER}
 # Provided configuration
 ${KAFKA_MIRRORMAKER_CONFIGURATION_PRODUCER}
+metric.reporters=${METRIC_REPORTERS}
 
 security.protocol=${SECURITY_PROTOCOL}
 ${TLS_CONFIGURATION}
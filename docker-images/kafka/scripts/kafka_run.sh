@@ -14,7 +14,9 @@ if [ -z "$KAFKA_LOG4J_OPTS" ]; then
 fi
 
 rm -f /var/opt/kafka/kafka-ready /var/opt/kafka/zk-connected 2> /dev/null
-KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=/var/opt/kafka/kafka-ready:/var/opt/kafka/zk-connected"
+# The kafka-agent serves the readiness and liveness endpoints on port 8080 and reads the log directories from the
+# broker configuration to report the log recovery progress
+KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=/var/opt/kafka/kafka-ready:/var/opt/kafka/zk-connected:8080:/tmp/strimzi.properties"
 export KAFKA_OPTS
 
 . ./set_kafka_jmx_options.sh "${KAFKA_JMX_ENABLED}" "${KAFKA_JMX_USERNAME}" "${KAFKA_JMX_PASSWORD}"
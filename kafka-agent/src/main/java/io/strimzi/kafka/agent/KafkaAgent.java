@@ -4,6 +4,8 @@
  */
 package io.strimzi.kafka.agent;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import com.yammer.metrics.core.Gauge;
 import com.yammer.metrics.core.Metric;
 import com.yammer.metrics.core.MetricName;
@@ -14,36 +16,82 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 /**
- * A very simple Java agent which polls the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
- * Yammer Metric and once it reaches the value 3 (meaning "running as broker", see {@code kafka.server.BrokerState}),
- * creates a given file.
- * The presence of this file is tested via a Kube "exec" readiness probe to determine when the broker is ready.
+ * A very simple Java agent which tracks the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
+ * Yammer Metric to determine when the broker is ready. Once the metric reaches the value 3 (meaning "running as
+ * broker", see {@code kafka.server.BrokerState}), the broker is ready.
+ *
+ * When started with an HTTP port, the agent serves the {@code /ready} and {@code /healthy} endpoints used by the
+ * Kube "httpGet" readiness and liveness probes. The broker is healthy while its ZooKeeper session is connected until it
+ * is ready and while it is running as broker afterwards. The state of the broker is read from the metrics when the
+ * endpoints are requested, so there is no polling. The response body contains the broker state, the ZooKeeper session state,
+ * the number of under-replicated partitions and the number of logs loaded so far. When the agent knows the broker
+ * configuration file, the body contains also the total number of partition logs found in the log directories, so
+ * that the progress of the log recovery while the broker is starting can be followed from outside of the pod.
+ *
+ * Without the HTTP port, the agent polls the metrics and creates a given file once the broker is ready. The presence
+ * of this file is tested via a Kube "exec" readiness probe.
  */
 public class KafkaAgent {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaAgent.class);
 
+    private static final int BROKER_RUNNING_STATE = 3;
+    private static final Pattern PARTITION_DIR = Pattern.compile(".+-\\d+");
+
     private final File sessionConnectedFile;
     private File brokerReadyFile;
+    private final int httpPort;
+    private final File serverPropertiesFile;
     private MetricName brokerStateName;
-    private Gauge brokerState;
+    private volatile Gauge brokerState;
     private MetricName sessionStateName;
-    private Gauge sessionState;
+    private volatile Gauge sessionState;
+    private volatile Gauge underReplicatedPartitions;
+    private final AtomicInteger loadedLogs = new AtomicInteger();
+    private volatile boolean brokerReady = false;
+    private Integer totalLogs;
 
     public KafkaAgent(File brokerReadyFile, File sessionConnectedFile) {
+        this(brokerReadyFile, sessionConnectedFile, -1, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param brokerReadyFile       File created when the broker is ready (used only without the HTTP port)
+     * @param sessionConnectedFile  File present while the ZooKeeper session is connected (used only without the HTTP port)
+     * @param httpPort              Port of the readiness and liveness endpoints or -1 to use the files instead
+     * @param serverPropertiesFile  Broker configuration file used to find the log directories or null when unknown
+     */
+    public KafkaAgent(File brokerReadyFile, File sessionConnectedFile, int httpPort, File serverPropertiesFile) {
         this.brokerReadyFile = brokerReadyFile;
         this.sessionConnectedFile = sessionConnectedFile;
+        this.httpPort = httpPort;
+        this.serverPropertiesFile = serverPropertiesFile;
     }
 
-    private void run() {
+    /* test */ void run() {
         LOGGER.info("Starting metrics registry");
 
         MetricsRegistry metricsRegistry = KafkaYammerMetrics.defaultRegistry();
 
+        if (httpPort > 0) {
+            startHttpServer();
+        }
+
         metricsRegistry.addListener(new MetricsRegistryListener() {
             @Override
             public void onMetricRemoved(MetricName metricName) {
@@ -64,8 +112,23 @@ public class KafkaAgent {
                             && metric instanceof Gauge) {
                         sessionStateName = metricName;
                         sessionState = (Gauge) metric;
+                    } else if ("ReplicaManager".equals(metricName.getType())
+                            && "UnderReplicatedPartitions".equals(metricName.getName())
+                            && metric instanceof Gauge) {
+                        underReplicatedPartitions = (Gauge) metric;
                     }
+                } else if ("kafka.log".equals(metricName.getGroup())
+                        && "Log".equals(metricName.getType())
+                        && "Size".equals(metricName.getName())) {
+                    // Every partition log registers its metrics once it has been loaded (and recovered)
+                    loadedLogs.incrementAndGet();
                 }
+
+                if (httpPort > 0) {
+                    // The endpoints read the metrics on demand and need the listener to find the metrics added later
+                    return;
+                }
+
                 if (brokerState != null
                         && sessionState != null) {
                     metricsRegistry.removeListener(this);
@@ -79,6 +142,138 @@ public class KafkaAgent {
         });
     }
 
+    /**
+     * Starts the HTTP server with the readiness and liveness endpoints
+     */
+    private void startHttpServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(httpPort), 0);
+            server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "KafkaAgentHttpServer");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.createContext("/ready", exchange -> respond(exchange, isBrokerReady()));
+            server.createContext("/healthy", exchange -> respond(exchange, isBrokerAlive()));
+            server.start();
+
+            // Stops accepting probe requests while the broker is exiting
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(0), "KafkaAgentHttpServerShutdown"));
+            LOGGER.info("Readiness and liveness endpoints listening on port {}", httpPort);
+        } catch (IOException e) {
+            LOGGER.error("Could not start the HTTP server on port {}", httpPort, e);
+            System.exit(1);
+        }
+    }
+
+    private void respond(HttpExchange exchange, boolean success) throws IOException {
+        byte[] body = stateJson().getBytes(StandardCharsets.UTF_8);
+
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(success ? 200 : 503, body.length);
+
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * @return  The state of the broker as a JSON object
+     */
+    private String stateJson() {
+        Gauge brokerState = this.brokerState;
+        Gauge sessionState = this.sessionState;
+        Gauge underReplicatedPartitions = this.underReplicatedPartitions;
+
+        return "{\"brokerState\":" + (brokerState != null ? String.valueOf(brokerState.value()) : "null")
+                + ",\"zkSessionState\":" + (sessionState != null ? "\"" + sessionState.value() + "\"" : "null")
+                + ",\"underReplicatedPartitions\":" + (underReplicatedPartitions != null ? String.valueOf(underReplicatedPartitions.value()) : "null")
+                + ",\"loadedLogs\":" + loadedLogs.get()
+                + ",\"totalLogs\":" + totalLogs()
+                + "}";
+    }
+
+    /**
+     * Counts the partition directories in the log directories of the broker. The directories are counted only once,
+     * because the number is needed only while the logs are loaded after the broker start.
+     *
+     * @return  The number of partition logs in the log directories or null when it is not known
+     */
+    private synchronized Integer totalLogs() {
+        if (totalLogs == null && serverPropertiesFile != null) {
+            Properties properties = new Properties();
+
+            try (InputStream in = new FileInputStream(serverPropertiesFile)) {
+                properties.load(in);
+            } catch (IOException e) {
+                LOGGER.warn("Could not read the broker configuration {}", serverPropertiesFile, e);
+                return null;
+            }
+
+            String logDirs = properties.getProperty("log.dirs", properties.getProperty("log.dir"));
+            if (logDirs == null) {
+                return null;
+            }
+
+            int count = 0;
+            for (String logDir : logDirs.split(",")) {
+                File[] partitionDirs = new File(logDir.trim()).listFiles(file -> file.isDirectory() && PARTITION_DIR.matcher(file.getName()).matches());
+                if (partitionDirs != null) {
+                    count += partitionDirs.length;
+                }
+            }
+
+            LOGGER.info("Found {} partition logs in {}", count, logDirs);
+            totalLogs = count;
+        }
+
+        return totalLogs;
+    }
+
+    /**
+     * The broker stays ready once it was running as broker, in the same way as the readiness file stays in place.
+     *
+     * @return  True when the broker is or has been running as broker
+     */
+    private boolean isBrokerReady() {
+        if (!brokerReady) {
+            Gauge brokerState = this.brokerState;
+            brokerReady = brokerState != null && isRunning(brokerState.value());
+        }
+
+        return brokerReady;
+    }
+
+    /**
+     * Until the broker is ready, it is alive while its ZooKeeper session is connected, which covers the loading of the
+     * logs after the start. Once it has been ready, it is alive only while it is still running as broker, because the
+     * readiness does not change anymore.
+     *
+     * @return  True when the broker is alive
+     */
+    private boolean isBrokerAlive() {
+        if (isBrokerReady()) {
+            Gauge brokerState = this.brokerState;
+            return brokerState != null && isRunning(brokerState.value());
+        } else {
+            return isSessionConnected();
+        }
+    }
+
+    private boolean isSessionConnected() {
+        Gauge sessionState = this.sessionState;
+        return sessionState != null && "CONNECTED".equals(String.valueOf(sessionState.value()));
+    }
+
+    private static boolean isRunning(Object value) {
+        return (value instanceof Integer && ((Integer) value) == BROKER_RUNNING_STATE)
+                || (value instanceof Byte && ((Byte) value).intValue() == BROKER_RUNNING_STATE);
+    }
+
     private Runnable poller() {
         return new Runnable() {
             int i = 0;
@@ -106,11 +301,9 @@ public class KafkaAgent {
             boolean handleBrokerState() {
                 LOGGER.trace("Polling {}", brokerStateName);
                 boolean ready = false;
-                Integer running = Integer.valueOf(3);
                 Object value = brokerState.value();
 
-                if ((value instanceof Integer && running.equals(value))
-                        || (value instanceof Byte && running.equals(((Byte) value).intValue()))) {
+                if (isRunning(value)) {
                     try {
                         LOGGER.trace("Running as server according to {} => ready", brokerStateName);
                         touch(brokerReadyFile);
@@ -156,16 +349,28 @@ public class KafkaAgent {
 
     /**
      * Agent entry point
-     * @param agentArgs The agent arguments
+     * @param agentArgs The agent arguments in the format {@code <brokerReadyFile>:<sessionConnectedFile>[:<httpPort>[:<serverPropertiesFile>]]}
      */
     public static void premain(String agentArgs) {
-        int index = agentArgs.indexOf(':');
-        if (index == -1) {
+        String[] args = agentArgs.split(":");
+        if (args.length < 2 || args.length > 4) {
             LOGGER.error("Unable to parse arguments {}", agentArgs);
             System.exit(1);
         } else {
-            File brokerReadyFile = new File(agentArgs.substring(0, index));
-            File sessionConnectedFile = new File(agentArgs.substring(index + 1));
+            File brokerReadyFile = new File(args[0]);
+            File sessionConnectedFile = new File(args[1]);
+            int httpPort = -1;
+            File serverPropertiesFile = args.length == 4 ? new File(args[3]) : null;
+
+            if (args.length >= 3) {
+                try {
+                    httpPort = Integer.parseInt(args[2]);
+                } catch (NumberFormatException e) {
+                    LOGGER.error("Unable to parse HTTP port {}", args[2]);
+                    System.exit(1);
+                }
+            }
+
             if (brokerReadyFile.exists() && !brokerReadyFile.delete()) {
                 LOGGER.error("Broker readiness file already exists and could not be deleted: {}", brokerReadyFile);
                 System.exit(1);
@@ -173,8 +378,8 @@ public class KafkaAgent {
                 LOGGER.error("Session connected file already exists and could not be deleted: {}", sessionConnectedFile);
                 System.exit(1);
             } else {
-                LOGGER.info("Starting KafkaAgent with brokerReadyFile={} and sessionConnectedFile={}", brokerReadyFile, sessionConnectedFile);
-                new KafkaAgent(brokerReadyFile, sessionConnectedFile).run();
+                LOGGER.info("Starting KafkaAgent with brokerReadyFile={}, sessionConnectedFile={}, httpPort={} and serverPropertiesFile={}", brokerReadyFile, sessionConnectedFile, httpPort, serverPropertiesFile);
+                new KafkaAgent(brokerReadyFile, sessionConnectedFile, httpPort, serverPropertiesFile).run();
             }
         }
     }
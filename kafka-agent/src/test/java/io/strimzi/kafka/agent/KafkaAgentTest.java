@@ -0,0 +1,92 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import com.yammer.metrics.core.Gauge;
+import com.yammer.metrics.core.MetricName;
+import com.yammer.metrics.core.MetricsRegistry;
+import kafka.metrics.KafkaYammerMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaAgentTest {
+    private static final MetricName BROKER_STATE = new MetricName("kafka.server", "KafkaServer", "BrokerState");
+    private static final MetricName SESSION_STATE = new MetricName("kafka.server", "SessionExpireListener", "SessionState");
+
+    private final MetricsRegistry metricsRegistry = KafkaYammerMetrics.defaultRegistry();
+
+    @AfterEach
+    public void removeMetrics() {
+        metricsRegistry.removeMetric(BROKER_STATE);
+        metricsRegistry.removeMetric(SESSION_STATE);
+    }
+
+    @Test
+    public void testBrokerIsNotHealthyWhenItStopsRunningAfterItWasReady() throws IOException {
+        AtomicInteger brokerState = new AtomicInteger(0);
+        AtomicReference<String> sessionState = new AtomicReference<>("CONNECTING");
+        metricsRegistry.newGauge(BROKER_STATE, new Gauge<Integer>() {
+            @Override
+            public Integer value() {
+                return brokerState.get();
+            }
+        });
+        metricsRegistry.newGauge(SESSION_STATE, new Gauge<String>() {
+            @Override
+            public String value() {
+                return sessionState.get();
+            }
+        });
+
+        int port = freePort();
+        new KafkaAgent(new File("/tmp/kafka-ready"), new File("/tmp/zk-connected"), port, null).run();
+
+        assertThat(status(port, "/ready"), is(503));
+        assertThat(status(port, "/healthy"), is(503));
+
+        // Loading the logs
+        sessionState.set("CONNECTED");
+        brokerState.set(2);
+        assertThat(status(port, "/ready"), is(503));
+        assertThat(status(port, "/healthy"), is(200));
+
+        // Running as broker
+        brokerState.set(3);
+        assertThat(status(port, "/ready"), is(200));
+        assertThat(status(port, "/healthy"), is(200));
+
+        // The broker is not running anymore even though the ZooKeeper session is still connected
+        brokerState.set(7);
+        assertThat(status(port, "/ready"), is(200));
+        assertThat(status(port, "/healthy"), is(503));
+    }
+
+    private static int status(int port, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + path).openConnection();
+
+        try {
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
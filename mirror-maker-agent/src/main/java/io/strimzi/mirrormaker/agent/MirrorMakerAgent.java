@@ -4,6 +4,9 @@
  */
 package io.strimzi.mirrormaker.agent;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.kafka.common.metrics.KafkaMetric;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,8 +16,12 @@ import javax.management.ObjectName;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.Set;
+import java.util.concurrent.Executors;
 
 /**
  * A Java agent which helps with the Readiness and Liveness check in Kafka Mirror Maker.
@@ -26,6 +33,20 @@ import java.util.Set;
  * Readiness:
  *   Readiness checks the number of connections to the source and target Kafka clusters. If at least one connection
  *   exists to each of the clusters, the readiness file will be created. If not it will be deleted.
+ *
+ * When started with an HTTP port, the agent serves the {@code /ready} and {@code /healthy} endpoints used by the
+ * Kube "httpGet" probes instead of the files. The endpoints use the metrics of the Mirror Maker clients collected by
+ * the {@link MirrorMakerMetricsReporter}:
+ *
+ * Readiness:
+ *   At least one connection exists to each of the source and target Kafka clusters.
+ *
+ * Liveness:
+ *   The mirroring is not stalled. It is stalled when the consumers are lagging but do not consume any records, or when
+ *   the producer fails to send all records it tries to send.
+ *
+ * The response body contains the connection counts, the maximum consumer lag, the consumed and sent records per
+ * second and the producer error rate, so that the throughput of the mirror can be checked from outside of the pod.
  */
 public class MirrorMakerAgent {
     private static final Logger LOGGER = LoggerFactory.getLogger(MirrorMakerAgent.class);
@@ -34,18 +55,39 @@ public class MirrorMakerAgent {
     private final File readinessFile;
     private final long readinessSleepInterval;
     private final long livenessSleepInterval;
+    private final int httpPort;
 
     public MirrorMakerAgent(File readinessFile, File livenessFile, long readinessSleepInterval, long livenessSleepInterval) {
+        this(readinessFile, livenessFile, readinessSleepInterval, livenessSleepInterval, -1);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param readinessFile             File created when Mirror Maker is ready (used only without the HTTP port)
+     * @param livenessFile              File created periodically while Mirror Maker is alive (used only without the HTTP port)
+     * @param readinessSleepInterval    Interval of the readiness checks (used only without the HTTP port)
+     * @param livenessSleepInterval     Interval of the liveness checks (used only without the HTTP port)
+     * @param httpPort                  Port of the readiness and liveness endpoints or -1 to use the files instead
+     */
+    public MirrorMakerAgent(File readinessFile, File livenessFile, long readinessSleepInterval, long livenessSleepInterval, int httpPort) {
         this.readinessFile = readinessFile;
         this.livenessFile = livenessFile;
         this.readinessSleepInterval = readinessSleepInterval;
         this.livenessSleepInterval = livenessSleepInterval;
+        this.httpPort = httpPort;
     }
 
     /**
-     * Starts two poller threads - one for readiness and one for liveness.
+     * Starts the HTTP server with the readiness and liveness endpoints or two poller threads - one for readiness and
+     * one for liveness.
      */
-    private void run() {
+    /* test */ void run() {
+        if (httpPort > 0) {
+            startHttpServer();
+            return;
+        }
+
         LOGGER.info("Starting readiness poller");
         Thread readinessThread = new Thread(readinessPoller(), "ReadinessPoller");
         readinessThread.setDaemon(true);
@@ -57,6 +99,129 @@ public class MirrorMakerAgent {
         livenessThread.start();
     }
 
+    /**
+     * Starts the HTTP server with the readiness and liveness endpoints
+     */
+    private void startHttpServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(httpPort), 0);
+            server.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "MirrorMakerAgentHttpServer");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.createContext("/ready", exchange -> {
+                ClientMetrics metrics = ClientMetrics.collect();
+                respond(exchange, metrics, metrics.isConnected());
+            });
+            server.createContext("/healthy", exchange -> {
+                ClientMetrics metrics = ClientMetrics.collect();
+                respond(exchange, metrics, !metrics.isStalled());
+            });
+            server.start();
+
+            // Stops accepting probe requests while Mirror Maker is exiting
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(0), "MirrorMakerAgentHttpServerShutdown"));
+            LOGGER.info("Readiness and liveness endpoints listening on port {}", httpPort);
+        } catch (IOException e) {
+            LOGGER.error("Could not start the HTTP server on port {}", httpPort, e);
+            System.exit(1);
+        }
+    }
+
+    private void respond(HttpExchange exchange, ClientMetrics metrics, boolean success) throws IOException {
+        byte[] body = metrics.toJson().getBytes(StandardCharsets.UTF_8);
+
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(success ? 200 : 503, body.length);
+
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * The metrics of all Mirror Maker clients aggregated from the {@link MirrorMakerMetricsReporter}
+     */
+    static class ClientMetrics {
+        private double consumerConnections = 0.0D;
+        private double producerConnections = 0.0D;
+        private double recordsLagMax = 0.0D;
+        private double recordsConsumedRate = 0.0D;
+        private double recordSendRate = 0.0D;
+        private double recordErrorRate = 0.0D;
+
+        static ClientMetrics collect() {
+            ClientMetrics metrics = new ClientMetrics();
+
+            for (KafkaMetric metric : MirrorMakerMetricsReporter.metrics()) {
+                Object value = metric.metricValue();
+                if (!(value instanceof Double) || !Double.isFinite((Double) value)) {
+                    // Rates and maximums without any samples are not finite
+                    continue;
+                }
+
+                metrics.add(metric.metricName().group(), metric.metricName().name(), (Double) value);
+            }
+
+            return metrics;
+        }
+
+        private void add(String group, String name, double value) {
+            switch (group + "/" + name) {
+                case MirrorMakerMetricsReporter.CONSUMER_METRICS + "/connection-count":
+                    consumerConnections += value;
+                    break;
+                case MirrorMakerMetricsReporter.PRODUCER_METRICS + "/connection-count":
+                    producerConnections += value;
+                    break;
+                case MirrorMakerMetricsReporter.CONSUMER_FETCH_MANAGER_METRICS + "/records-lag-max":
+                    recordsLagMax = Math.max(recordsLagMax, value);
+                    break;
+                case MirrorMakerMetricsReporter.CONSUMER_FETCH_MANAGER_METRICS + "/records-consumed-rate":
+                    recordsConsumedRate += value;
+                    break;
+                case MirrorMakerMetricsReporter.PRODUCER_METRICS + "/record-send-rate":
+                    recordSendRate += value;
+                    break;
+                case MirrorMakerMetricsReporter.PRODUCER_METRICS + "/record-error-rate":
+                    recordErrorRate += value;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * @return  True if at least one connection exists to each of the source and target Kafka clusters
+         */
+        boolean isConnected() {
+            return consumerConnections > 0 && producerConnections > 0;
+        }
+
+        /**
+         * @return  True if the consumers are lagging without consuming any records or if all sent records fail
+         */
+        boolean isStalled() {
+            return (recordsLagMax > 0 && recordsConsumedRate == 0)
+                    || (recordErrorRate > 0 && recordErrorRate >= recordSendRate);
+        }
+
+        String toJson() {
+            return "{\"consumerConnections\":" + (long) consumerConnections
+                    + ",\"producerConnections\":" + (long) producerConnections
+                    + ",\"recordsLagMax\":" + (long) recordsLagMax
+                    + ",\"recordsConsumedRate\":" + recordsConsumedRate
+                    + ",\"recordSendRate\":" + recordSendRate
+                    + ",\"recordErrorRate\":" + recordErrorRate
+                    + "}";
+        }
+    }
+
     /**
      * Creates the poller thread for the liveness check
      *
@@ -198,12 +363,13 @@ public class MirrorMakerAgent {
     /**
      * Agent entry point
      *
-     * @param agentArgs The agent arguments
+     * @param agentArgs The agent arguments in the format
+     *                  {@code <readinessFile>:<livenessFile>:<readinessPeriod>:<livenessPeriod>[:<httpPort>]}
      */
     public static void premain(String agentArgs) {
         String[] args = agentArgs.split(":");
 
-        if (args.length != 4) {
+        if (args.length != 4 && args.length != 5) {
             LOGGER.error("Unexpected number of arguments ({}): {}", args.length, agentArgs);
             System.exit(1);
         } else {
@@ -219,8 +385,9 @@ public class MirrorMakerAgent {
             } else {
                 long readinessSleepInterval = Long.parseLong(args[2]) / 2L * 1000L;
                 long livenessSleepInterval = Long.parseLong(args[3]) / 2L * 1000L;
+                int httpPort = args.length == 5 ? Integer.parseInt(args[4]) : -1;
 
-                new MirrorMakerAgent(mirrorMakerReadyFile, livenessFile, readinessSleepInterval, livenessSleepInterval).run();
+                new MirrorMakerAgent(mirrorMakerReadyFile, livenessFile, readinessSleepInterval, livenessSleepInterval, httpPort).run();
             }
         }
     }
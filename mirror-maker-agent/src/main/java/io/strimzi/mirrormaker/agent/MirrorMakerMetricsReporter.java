@@ -0,0 +1,66 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.mirrormaker.agent;
+
+import org.apache.kafka.common.metrics.KafkaMetric;
+import org.apache.kafka.common.metrics.MetricsReporter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kafka metrics reporter which keeps the metrics of the Mirror Maker consumers and producer used by the
+ * {@link MirrorMakerAgent}. The Kafka clients create their own reporter instances, so the metrics of all clients are
+ * collected in a shared registry.
+ *
+ * The reporter is enabled by adding this class to the {@code metric.reporters} option of the consumer and producer.
+ */
+public class MirrorMakerMetricsReporter implements MetricsReporter {
+    static final String CONSUMER_METRICS = "consumer-metrics";
+    static final String CONSUMER_FETCH_MANAGER_METRICS = "consumer-fetch-manager-metrics";
+    static final String PRODUCER_METRICS = "producer-metrics";
+
+    private static final Set<String> GROUPS = Set.of(CONSUMER_METRICS, CONSUMER_FETCH_MANAGER_METRICS, PRODUCER_METRICS);
+    private static final Map<org.apache.kafka.common.MetricName, KafkaMetric> METRICS = new ConcurrentHashMap<>();
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+    }
+
+    @Override
+    public void init(List<KafkaMetric> metrics) {
+        for (KafkaMetric metric : metrics) {
+            metricChange(metric);
+        }
+    }
+
+    @Override
+    public void metricChange(KafkaMetric metric) {
+        // Only the client level metrics are kept, the per topic and per node metrics have additional tags
+        if (GROUPS.contains(metric.metricName().group())
+                && metric.metricName().tags().size() == 1) {
+            METRICS.put(metric.metricName(), metric);
+        }
+    }
+
+    @Override
+    public void metricRemoval(KafkaMetric metric) {
+        METRICS.remove(metric.metricName());
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * @return  The client level metrics of all Mirror Maker clients
+     */
+    static Collection<KafkaMetric> metrics() {
+        return METRICS.values();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.mirrormaker.agent;
+
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Gauge;
+import org.apache.kafka.common.metrics.KafkaMetric;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.utils.Time;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MirrorMakerAgentTest {
+    private final MirrorMakerMetricsReporter reporter = new MirrorMakerMetricsReporter();
+    private final List<KafkaMetric> metrics = new ArrayList<>();
+
+    private final AtomicReference<Double> consumerConnections = new AtomicReference<>(0.0);
+    private final AtomicReference<Double> producerConnections = new AtomicReference<>(0.0);
+    private final AtomicReference<Double> recordsLagMax = new AtomicReference<>(Double.NaN);
+    private final AtomicReference<Double> recordsConsumedRate = new AtomicReference<>(Double.NaN);
+    private final AtomicReference<Double> recordSendRate = new AtomicReference<>(Double.NaN);
+    private final AtomicReference<Double> recordErrorRate = new AtomicReference<>(Double.NaN);
+    private final AtomicReference<Double> topicRecordsLagMax = new AtomicReference<>(0.0);
+
+    private int port;
+
+    @BeforeEach
+    public void startAgent() throws IOException {
+        metrics.add(metric(MirrorMakerMetricsReporter.CONSUMER_METRICS, "connection-count", consumerConnections, Map.of("client-id", "consumer-1")));
+        metrics.add(metric(MirrorMakerMetricsReporter.CONSUMER_FETCH_MANAGER_METRICS, "records-lag-max", recordsLagMax, Map.of("client-id", "consumer-1")));
+        metrics.add(metric(MirrorMakerMetricsReporter.CONSUMER_FETCH_MANAGER_METRICS, "records-consumed-rate", recordsConsumedRate, Map.of("client-id", "consumer-1")));
+        // Per topic metric which is not used
+        metrics.add(metric(MirrorMakerMetricsReporter.CONSUMER_FETCH_MANAGER_METRICS, "records-lag-max", topicRecordsLagMax, Map.of("client-id", "consumer-1", "topic", "my-topic")));
+        reporter.init(metrics);
+
+        // The producer metrics are added later by another client
+        List<KafkaMetric> producerMetrics = List.of(
+                metric(MirrorMakerMetricsReporter.PRODUCER_METRICS, "connection-count", producerConnections, Map.of("client-id", "producer-1")),
+                metric(MirrorMakerMetricsReporter.PRODUCER_METRICS, "record-send-rate", recordSendRate, Map.of("client-id", "producer-1")),
+                metric(MirrorMakerMetricsReporter.PRODUCER_METRICS, "record-error-rate", recordErrorRate, Map.of("client-id", "producer-1")));
+        producerMetrics.forEach(reporter::metricChange);
+        metrics.addAll(producerMetrics);
+
+        port = freePort();
+        new MirrorMakerAgent(new File("/tmp/mirror-maker-ready"), new File("/tmp/mirror-maker-alive"), 1_000, 1_000, port).run();
+    }
+
+    @AfterEach
+    public void removeMetrics() {
+        metrics.forEach(reporter::metricRemoval);
+    }
+
+    @Test
+    public void testReadyWhenConnectedToBothClusters() throws IOException {
+        assertThat(status(port, "/ready"), is(503));
+
+        consumerConnections.set(1.0);
+        assertThat(status(port, "/ready"), is(503));
+
+        producerConnections.set(2.0);
+        assertThat(status(port, "/ready"), is(200));
+        assertThat(body(port, "/ready"), is("{\"consumerConnections\":1,\"producerConnections\":2,\"recordsLagMax\":0,"
+                + "\"recordsConsumedRate\":0.0,\"recordSendRate\":0.0,\"recordErrorRate\":0.0}"));
+    }
+
+    @Test
+    public void testHealthyWithoutSamples() throws IOException {
+        consumerConnections.set(1.0);
+        producerConnections.set(1.0);
+
+        // The rates and maximums are NaN or infinite until they have samples
+        recordSendRate.set(Double.POSITIVE_INFINITY);
+        assertThat(status(port, "/healthy"), is(200));
+        assertThat(body(port, "/healthy"), is("{\"consumerConnections\":1,\"producerConnections\":1,\"recordsLagMax\":0,"
+                + "\"recordsConsumedRate\":0.0,\"recordSendRate\":0.0,\"recordErrorRate\":0.0}"));
+    }
+
+    @Test
+    public void testStalledWhenLaggingWithoutConsuming() throws IOException {
+        consumerConnections.set(1.0);
+        producerConnections.set(1.0);
+        recordsConsumedRate.set(0.0);
+
+        // The lag of a single topic is not used
+        topicRecordsLagMax.set(1_000.0);
+        assertThat(status(port, "/healthy"), is(200));
+
+        recordsLagMax.set(100.0);
+        assertThat(status(port, "/healthy"), is(503));
+        assertThat(body(port, "/healthy"), is("{\"consumerConnections\":1,\"producerConnections\":1,\"recordsLagMax\":100,"
+                + "\"recordsConsumedRate\":0.0,\"recordSendRate\":0.0,\"recordErrorRate\":0.0}"));
+
+        recordsConsumedRate.set(10.0);
+        assertThat(status(port, "/healthy"), is(200));
+    }
+
+    @Test
+    public void testStalledWhenAllSendsFail() throws IOException {
+        consumerConnections.set(1.0);
+        producerConnections.set(1.0);
+        recordSendRate.set(5.0);
+        recordErrorRate.set(5.0);
+
+        assertThat(status(port, "/healthy"), is(503));
+        assertThat(body(port, "/healthy"), is("{\"consumerConnections\":1,\"producerConnections\":1,\"recordsLagMax\":0,"
+                + "\"recordsConsumedRate\":0.0,\"recordSendRate\":5.0,\"recordErrorRate\":5.0}"));
+
+        // Only some sends fail
+        recordErrorRate.set(1.0);
+        assertThat(status(port, "/healthy"), is(200));
+        // The readiness does not depend on the failed sends
+        recordErrorRate.set(5.0);
+        assertThat(status(port, "/ready"), is(200));
+    }
+
+    private static KafkaMetric metric(String group, String name, AtomicReference<Double> value, Map<String, String> tags) {
+        return new KafkaMetric(new Object(), new MetricName(name, group, "", tags), (Gauge<Double>) (config, now) -> value.get(),
+                new MetricConfig(), Time.SYSTEM);
+    }
+
+    private static int status(int port, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + path).openConnection();
+
+        try {
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static String body(int port, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + path).openConnection();
+
+        try (InputStream in = connection.getResponseCode() == 200 ? connection.getInputStream() : connection.getErrorStream()) {
+            assertThat(connection.getContentType(), is("application/json"));
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
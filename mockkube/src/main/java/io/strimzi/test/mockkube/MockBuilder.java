@@ -18,6 +18,7 @@ import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.mockito.ArgumentMatchers;
@@ -82,6 +83,9 @@ class MockBuilder<T extends HasMetadata,
     protected final Map<String, T> db;
     protected final String resourceType;
     protected final Collection<PredicatedWatcher<T>> watchers = Collections.synchronizedList(new ArrayList<>(2));
+    // Mockito keeps only weak references to the mocks, so the label scoped mocks created on the fly have to be kept
+    // here. Otherwise they could be garbage collected while a list() call on them is still being handled.
+    private final Collection<MixedOperation<T, L, R>> labelScopedMocks = Collections.synchronizedList(new ArrayList<>());
     private List<Observer<T>> observers = null;
 
     public void assertNumWatchers(int expectedNumWatchers) {
@@ -116,7 +120,8 @@ class MockBuilder<T extends HasMetadata,
         if (resource == null) {
             return null;
         } else {
-            ObjectMapper objectMapper = new ObjectMapper();
+            // The client's mapper knows how to (de)serialize the java.time fields, such as those of a Lease
+            ObjectMapper objectMapper = Serialization.jsonMapper();
             try {
                 ByteArrayOutputStream baos = new ByteArrayOutputStream();
                 objectMapper.writeValue(baos, resource);
@@ -241,6 +246,7 @@ class MockBuilder<T extends HasMetadata,
     @SuppressWarnings("unchecked")
     MixedOperation<T, L, R> mockWithLabelPredicate(Predicate<T> predicate) {
         MixedOperation<T, L, R> mixedWithLabels = mock(MixedOperation.class);
+        labelScopedMocks.add(mixedWithLabels);
         when(mixedWithLabels.list()).thenAnswer(i2 -> {
             return mockList(predicate);
         });
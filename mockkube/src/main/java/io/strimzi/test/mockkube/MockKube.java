@@ -27,6 +27,8 @@ import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetList;
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseList;
 import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
 import io.fabric8.kubernetes.api.model.networking.v1.IngressList;
 import io.fabric8.kubernetes.api.model.networking.v1.NetworkPolicy;
@@ -105,6 +107,7 @@ public class MockKube {
     private final Map<String, ClusterRoleBinding> pdbCrb = db(emptySet());
     private final Map<String, Ingress> ingressDb = db(emptySet());
     private final Map<String, io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress> ingressV1Beta1Db = db(emptySet());
+    private final Map<String, Lease> leaseDb = db(emptySet());
 
     private Map<String, CreateOrReplaceable> crdMixedOps = new HashMap<>();
     private MockBuilder<ConfigMap, ConfigMapList, Resource<ConfigMap>> configMapMockBuilder;
@@ -123,6 +126,7 @@ public class MockKube {
     private MockBuilder<PersistentVolumeClaim, PersistentVolumeClaimList, Resource<PersistentVolumeClaim>> persistentVolumeClaimMockBuilder;
     private MockBuilder<Ingress, IngressList, Resource<Ingress>> ingressMockBuilder;
     private MockBuilder<io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress, io.fabric8.kubernetes.api.model.networking.v1beta1.IngressList, Resource<io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress>> ingressV1Beta1MockBuilder;
+    private MockBuilder<Lease, LeaseList, Resource<Lease>> leaseMockBuilder;
     private DeploymentMockBuilder deploymentMockBuilder;
     private KubernetesClient mockClient;
 
@@ -266,6 +270,7 @@ public class MockKube {
         networkPolicyMockBuilder = addMockBuilder("networkpolicies", new MockBuilder<>(NetworkPolicy.class, NetworkPolicyList.class, MockBuilder.castClass(Resource.class), policyDb));
         ingressMockBuilder = addMockBuilder("ingresses",  new MockBuilder<>(Ingress.class, IngressList.class, MockBuilder.castClass(Resource.class), ingressDb));
         ingressV1Beta1MockBuilder = addMockBuilder("ingresses",  new MockBuilder<>(io.fabric8.kubernetes.api.model.networking.v1beta1.Ingress.class, io.fabric8.kubernetes.api.model.networking.v1beta1.IngressList.class, MockBuilder.castClass(Resource.class), ingressV1Beta1Db));
+        leaseMockBuilder = addMockBuilder("leases", new MockBuilder<>(Lease.class, LeaseList.class, MockBuilder.castClass(Resource.class), leaseDb));
 
         podMockBuilder = addMockBuilder("pods", new MockBuilder<>(Pod.class, PodList.class, MockBuilder.castClass(PodResource.class), podDb));
         MixedOperation<Pod, PodList, PodResource<Pod>> mockPods = podMockBuilder.build();
@@ -284,6 +289,7 @@ public class MockKube {
         serviceAccountMockBuilder.build2(mockClient::serviceAccounts);
         when(mockClient.pods()).thenReturn(mockPods);
         endpointMockBuilder.build2(mockClient::endpoints);
+        leaseMockBuilder.build2(mockClient::leases);
         when(mockClient.persistentVolumeClaims()).thenReturn(mockPersistentVolumeClaims);
 
         // API group
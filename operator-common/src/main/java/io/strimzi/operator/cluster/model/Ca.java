@@ -41,8 +41,13 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -96,6 +101,12 @@ public abstract class Ca {
     public static final String ANNO_STRIMZI_IO_CLIENTS_CA_CERT_GENERATION = Annotations.STRIMZI_DOMAIN + "clients-ca-cert-generation";
     public static final int INIT_GENERATION = 0;
 
+    /**
+     * Below this number of certificates, the certificates are generated one after another, because the parallel
+     * generation is not worth starting the threads.
+     */
+    private static final int PARALLEL_CERT_GENERATION_THRESHOLD = 4;
+
     private final PasswordGenerator passwordGenerator;
     protected final Reconciliation reconciliation;
 
@@ -357,13 +368,10 @@ public abstract class Ca {
             replicasInSecret = (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
         }
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
         int replicasInNewSecret = Math.min(replicasInSecret, replicas);
-        Map<String, CertAndKey> certs = new HashMap<>(replicasInNewSecret);
+        Map<String, CertAndKey> certs = new HashMap<>(replicas);
+        // the certificates which have to be (re)generated are collected first and generated together
+        Map<String, Subject> certsToGenerate = new LinkedHashMap<>();
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -404,9 +412,7 @@ public abstract class Ca {
 
             if (!reasons.isEmpty())  {
                 LOGGER.debugCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
-
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
+                certsToGenerate.put(podName, subject);
             }   else {
                 certs.put(podName, certAndKey);
             }
@@ -419,18 +425,81 @@ public abstract class Ca {
             String podName = podNameFn.apply(i);
 
             LOGGER.debugCr(reconciliation, "Certificate for {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
+            certsToGenerate.put(podName, subjectFn.apply(i));
         }
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
+
+        certs.putAll(generateSignedCerts(reconciliation, certsToGenerate));
 
         return certs;
     }
 
+    /**
+     * Generates the certificates for the given pods. When many certificates are needed (e.g. when a cluster is scaled
+     * up by many replicas), they are generated in parallel, each with its own temporary files.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param subjects          Map with the pod names and the subjects of their certificates
+     *
+     * @return  Map with the pod names and their new certificates
+     *
+     * @throws IOException  If any of the certificates could not be generated
+     */
+    private Map<String, CertAndKey> generateSignedCerts(Reconciliation reconciliation, Map<String, Subject> subjects) throws IOException {
+        Map<String, CertAndKey> certs = new HashMap<>(subjects.size());
+
+        if (subjects.size() < PARALLEL_CERT_GENERATION_THRESHOLD) {
+            for (Map.Entry<String, Subject> subject : subjects.entrySet()) {
+                certs.put(subject.getKey(), generateSignedCert(reconciliation, subject.getValue()));
+            }
+
+            return certs;
+        }
+
+        int threads = Math.min(subjects.size(), Math.max(2, Runtime.getRuntime().availableProcessors()));
+        LOGGER.debugCr(reconciliation, "Generating {} certificates using {} threads", subjects.size(), threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            Map<String, Future<CertAndKey>> futures = new HashMap<>(subjects.size());
+            for (Map.Entry<String, Subject> subject : subjects.entrySet()) {
+                futures.put(subject.getKey(), executor.submit(() -> generateSignedCert(reconciliation, subject.getValue())));
+            }
+
+            for (Map.Entry<String, Future<CertAndKey>> future : futures.entrySet()) {
+                certs.put(future.getKey(), future.getValue().get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else {
+                throw new IOException("Failed to generate certificates", e.getCause());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating certificates", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return certs;
+    }
+
+    private CertAndKey generateSignedCert(Reconciliation reconciliation, Subject subject) throws IOException {
+        File csrFile = File.createTempFile("tls", "broker-csr");
+        File keyFile = File.createTempFile("tls", "broker-key");
+        File certFile = File.createTempFile("tls", "broker-cert");
+        File keyStoreFile = File.createTempFile("tls", "broker-p12");
+
+        try {
+            return generateSignedCert(subject, csrFile, keyFile, certFile, keyStoreFile);
+        } finally {
+            delete(reconciliation, csrFile);
+            delete(reconciliation, keyFile);
+            delete(reconciliation, certFile);
+            delete(reconciliation, keyStoreFile);
+        }
+    }
+
     /**
      * Returns whether the certificate is expiring or not
      *
@@ -35,6 +35,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.shareddata.Lock;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Collections;
@@ -44,6 +45,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static io.strimzi.operator.common.Util.async;
@@ -94,6 +96,10 @@ public abstract class AbstractOperator<
     private final Timer reconciliationsTimer;
     private final Map<String, AtomicInteger> resourcesStateCounter;
 
+    private volatile Predicate<String> namespaceOwnership = namespace -> true;
+    /** Number of the reconciliations holding or waiting for a lock per namespace */
+    private final Map<String, Integer> reconciliationsInProgress = new ConcurrentHashMap<>();
+
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
         this.vertx = vertx;
         this.kind = kind;
@@ -145,6 +151,37 @@ public abstract class AbstractOperator<
         return kind;
     }
 
+    /**
+     * Sets the predicate deciding whether this operator instance owns a namespace. The resources in the namespaces
+     * which are not owned are not reconciled because they are reconciled by another operator instance. By default,
+     * all namespaces are owned.
+     *
+     * @param namespaceOwnership    Predicate which returns true for the namespaces owned by this operator instance
+     */
+    public void setNamespaceOwnership(Predicate<String> namespaceOwnership) {
+        this.namespaceOwnership = namespaceOwnership;
+    }
+
+    /**
+     * @param namespace The namespace
+     *
+     * @return  True if this operator instance owns the namespace and reconciles the resources in it. False otherwise.
+     */
+    public boolean ownsNamespace(String namespace) {
+        return namespaceOwnership.test(namespace);
+    }
+
+    /**
+     * Returns the namespaces in which this operator holds or waits for some locks. It is used to find out when the
+     * namespaces which are not owned anymore are not reconciled by this operator instance anymore and can be handed
+     * over to another instance.
+     *
+     * @return  Namespaces with reconciliations in progress
+     */
+    public Set<String> reconcilingNamespaces() {
+        return new HashSet<>(reconciliationsInProgress.keySet());
+    }
+
     /**
      * Gets the name of the lock to be used for operating on the given {@code namespace} and
      * cluster {@code name}
@@ -192,6 +229,11 @@ public abstract class AbstractOperator<
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
+        if (!ownsNamespace(namespace)) {
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} is reconciled by another operator instance and will be ignored", kind(), name, namespace);
+            return Future.succeededFuture();
+        }
+
         reconciliationsCounter.increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics.meterRegistry());
 
@@ -378,6 +420,8 @@ public abstract class AbstractOperator<
      * and call the given {@code callable} with the lock held.
      * Once the callable returns (or if it throws) release the lock and complete the returned Future.
      * If the lock cannot be acquired the given {@code callable} is not called and the returned Future is completed with {@link UnableToAcquireLockException}.
+     * If the namespace is not owned by this operator instance anymore once the lock is acquired, the given {@code callable}
+     * is not called either and the returned Future is completed with null.
      * @param reconciliation
      * @param callable
      * @param <T>
@@ -389,11 +433,26 @@ public abstract class AbstractOperator<
         String name = reconciliation.name();
         final String lockName = getLockName(namespace, name);
         LOGGER.debugCr(reconciliation, "Try to acquire lock {}", lockName);
+        // Registered before the ownership is checked, so that the namespace is not handed over while the lock is held
+        if (namespace != null) {
+            reconciliationsInProgress.merge(namespace, 1, Integer::sum);
+            handler.future().onComplete(ignore -> reconciliationsInProgress.computeIfPresent(namespace, (ns, count) -> count > 1 ? count - 1 : null));
+        }
+
         vertx.sharedData().getLockWithTimeout(lockName, lockTimeoutMs, res -> {
             if (res.succeeded()) {
                 LOGGER.debugCr(reconciliation, "Lock {} acquired", lockName);
 
                 Lock lock = res.result();
+
+                if (!ownsNamespace(namespace)) {
+                    // The namespace was handed over to another operator instance while waiting for the lock
+                    lock.release();
+                    LOGGER.debugCr(reconciliation, "Lock {} released because namespace {} is reconciled by another operator instance", lockName, namespace);
+                    handler.complete();
+                    return;
+                }
+
                 long timerId = vertx.setPeriodic(PROGRESS_WARNING, timer -> {
                     LOGGER.infoCr(reconciliation, "Reconciliation is in progress");
                 });
@@ -23,7 +23,16 @@ public class MicrometerMetricsProvider implements MetricsProvider {
      * Constructor of the Micrometer metrics provider
      */
     public MicrometerMetricsProvider() {
-        this.metrics = BackendRegistries.getDefaultNow();
+        this(BackendRegistries.getDefaultNow());
+    }
+
+    /**
+     * Constructor of the Micrometer metrics provider
+     *
+     * @param metrics   The Micrometer MeterRegistry in which the metrics are registered
+     */
+    public MicrometerMetricsProvider(MeterRegistry metrics) {
+        this.metrics = metrics;
     }
 
     /**
@@ -38,6 +38,10 @@ public class Reconciliation {
         this.marker = MarkerManager.getMarker(this.kind + "(" + this.namespace + "/" + this.name + ")");
     }
 
+    public String trigger() {
+        return trigger;
+    }
+
     public String kind() {
         return kind;
     }
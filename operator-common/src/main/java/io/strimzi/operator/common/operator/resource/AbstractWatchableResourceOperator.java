@@ -52,6 +52,19 @@ public abstract class AbstractWatchableResourceOperator<
         }
     }
 
+    /**
+     * Watches a single resource
+     *
+     * @param namespace The namespace of the resource
+     * @param name      The name of the resource
+     * @param watcher   The watcher
+     *
+     * @return  The watch
+     */
+    public Watch watch(String namespace, String name, Watcher<T> watcher) {
+        return operation().inNamespace(namespace).withName(name).watch(watcher);
+    }
+
     public Watch watch(String namespace, Optional<LabelSelector> selector, Watcher<T> watcher) {
         FilterWatchListDeletable<T, L> operation
                 = ANY_NAMESPACE.equals(namespace) ? operation().inAnyNamespace() : operation().inNamespace(namespace);
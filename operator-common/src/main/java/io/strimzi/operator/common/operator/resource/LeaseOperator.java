@@ -0,0 +1,36 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.vertx.core.Vertx;
+
+/**
+ * Operations for {@code Lease}s.
+ */
+public class LeaseOperator extends AbstractResourceOperator<
+        KubernetesClient,
+        Lease,
+        LeaseList,
+        Resource<Lease>> {
+
+    /**
+     * Constructor
+     * @param vertx The Vertx instance
+     * @param client The Kubernetes client
+     */
+    public LeaseOperator(Vertx vertx, KubernetesClient client) {
+        super(vertx, client, "Lease");
+    }
+
+    @Override
+    protected MixedOperation<Lease, LeaseList, Resource<Lease>> operation() {
+        return client.leases();
+    }
+}
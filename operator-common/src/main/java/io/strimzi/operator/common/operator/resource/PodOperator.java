@@ -5,6 +5,7 @@
 package io.strimzi.operator.common.operator.resource;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.client.KubernetesClient;
@@ -52,6 +53,23 @@ public class PodOperator extends AbstractReadyResourceOperator<KubernetesClient,
         return operation().inNamespace(namespace).withName(name).watch(watcher);
     }
 
+    /**
+     * Watch the pods matching the given {@code selector} in the given {@code namespace} using the given
+     * {@code watcher}.
+     *
+     * @param namespace The namespace or * for all namespaces
+     * @param selector The label selector
+     * @param watcher The watcher
+     * @return The watch
+     */
+    public Watch watch(String namespace, LabelSelector selector, Watcher<Pod> watcher) {
+        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace)) {
+            return operation().inAnyNamespace().withLabelSelector(selector).watch(watcher);
+        } else {
+            return operation().inNamespace(namespace).withLabelSelector(selector).watch(watcher);
+        }
+    }
+
     /**
      * Asynchronously delete the given pod, return a Future which completes when the Pod has been recreated.
      * Note: The pod might not be "ready" when the returned Future completes.
@@ -19,6 +19,7 @@ import io.strimzi.api.kafka.model.status.Status;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.AbstractWatchableStatusedResourceOperator;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -37,6 +38,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Collections.emptySet;
 import static java.util.Collections.emptyMap;
@@ -269,6 +272,108 @@ public class OperatorMetricsTest {
                 })));
     }
 
+    @Test
+    public void testReconcileInNotOwnedNamespace(VertxTestContext context)  {
+        MetricsProvider metrics = createCleanMetricsProvider();
+
+        AbstractWatchableStatusedResourceOperator resourceOperator = resourceOperatorWithExistingResourceWithSelectorLabel(null);
+
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metrics, null) {
+            @Override
+            protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
+                return Future.failedFuture(new RuntimeException("Resource in a not owned namespace should not be reconciled"));
+            }
+
+            @Override
+            public Set<Condition> validate(Reconciliation reconciliation, CustomResource resource) {
+                return emptySet();
+            }
+
+            @Override
+            protected Future<Boolean> delete(Reconciliation reconciliation) {
+                return null;
+            }
+
+            @Override
+            protected Status createStatus() {
+                return new Status() { };
+            }
+        };
+
+        operator.setNamespaceOwnership(namespace -> !"my-namespace".equals(namespace));
+
+        Checkpoint async = context.checkpoint();
+        operator.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(operator.ownsNamespace("my-namespace"), is(false));
+                    assertThat(operator.ownsNamespace("my-other-namespace"), is(true));
+
+                    MeterRegistry registry = metrics.meterRegistry();
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations").tag("kind", "TestResource").counter().count(), is(0.0));
+                    assertThat(registry.get(AbstractOperator.METRICS_PREFIX + "reconciliations.failed").tag("kind", "TestResource").counter().count(), is(0.0));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testNamespaceLostWhileWaitingForLock(VertxTestContext context)  {
+        MetricsProvider metrics = createCleanMetricsProvider();
+
+        AbstractWatchableStatusedResourceOperator resourceOperator = resourceOperatorWithExistingResourceWithSelectorLabel(null);
+        AtomicBoolean owned = new AtomicBoolean(true);
+        AtomicInteger createOrUpdates = new AtomicInteger();
+        Promise<Status> firstReconciliation = Promise.promise();
+
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metrics, null) {
+            @Override
+            protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
+                createOrUpdates.incrementAndGet();
+                return firstReconciliation.future();
+            }
+
+            @Override
+            public Set<Condition> validate(Reconciliation reconciliation, CustomResource resource) {
+                return emptySet();
+            }
+
+            @Override
+            protected Future<Boolean> delete(Reconciliation reconciliation) {
+                return null;
+            }
+
+            @Override
+            protected Status createStatus() {
+                return new Status() { };
+            }
+        };
+
+        operator.setNamespaceOwnership(namespace -> owned.get());
+
+        Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
+        Future<Void> first = operator.reconcile(reconciliation);
+        // Waits for the lock held by the first reconciliation
+        Future<Void> second = operator.reconcile(reconciliation);
+
+        vertx.setTimer(100, t -> {
+            context.verify(() -> assertThat(operator.reconcilingNamespaces(), is(Set.of("my-namespace"))));
+
+            // The namespace is handed over to another operator instance while the first reconciliation is in progress
+            owned.set(false);
+            firstReconciliation.complete();
+        });
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, second)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    // The second reconciliation did nothing once it got the lock
+                    assertThat(createOrUpdates.get(), is(1));
+                    assertThat(operator.reconcilingNamespaces(), is(Set.of()));
+
+                    async.flag();
+                })));
+    }
+
     @Test
     public void testFailingWithLockReconcile(VertxTestContext context)  {
         MetricsProvider metrics = createCleanMetricsProvider();
@@ -0,0 +1,63 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.vertx.core.Vertx;
+
+import static java.util.Collections.singletonMap;
+import static org.mockito.Mockito.when;
+
+public class LeaseOperatorTest extends AbstractResourceOperatorTest<KubernetesClient, Lease, LeaseList, Resource<Lease>> {
+
+    @Override
+    protected void mocker(KubernetesClient mockClient, MixedOperation mockLeases) {
+        when(mockClient.leases()).thenReturn(mockLeases);
+    }
+
+    @Override
+    protected AbstractResourceOperator<KubernetesClient, Lease, LeaseList, Resource<Lease>> createResourceOperations(Vertx vertx, KubernetesClient mockClient) {
+        return new LeaseOperator(vertx, mockClient);
+    }
+
+    @Override
+    protected Class<KubernetesClient> clientType() {
+        return KubernetesClient.class;
+    }
+
+    @Override
+    protected Class<? extends Resource> resourceType() {
+        return Resource.class;
+    }
+
+    @Override
+    protected Lease resource() {
+        return new LeaseBuilder()
+                .withNewMetadata()
+                    .withName(RESOURCE_NAME)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(singletonMap("foo", "bar"))
+                .endMetadata()
+                .withNewSpec()
+                    .withHolderIdentity("my-operator-0")
+                    .withLeaseDurationSeconds(15)
+                .endSpec()
+                .build();
+    }
+
+    @Override
+    protected Lease modifiedResource() {
+        return new LeaseBuilder(resource())
+                .editSpec()
+                    .withHolderIdentity("my-operator-1")
+                .endSpec()
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.NewPartitions;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.config.ConfigResource;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A {@link KafkaImpl} which, rather than sending one Admin request per topic,
+ * holds topic creations, deletions, config changes and partition increases for up to {@code lingerMs}
+ * and sends all the operations of the same kind in a single multi-topic Admin request.
+ * The per-topic results of the request are used to complete the Futures returned to each of the callers,
+ * each on the context of its caller, so that the work for a topic stays on the context which owns the topic.
+ */
+public class BatchingKafkaImpl extends KafkaImpl {
+
+    private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingKafkaImpl.class);
+
+    private final long lingerMs;
+    private final int maxBatchSize;
+
+    private final Batch<NewTopic> creates;
+    private final Batch<TopicName> deletes;
+    private final Batch<Config> configUpdates;
+    private final Batch<NewPartitions> partitionIncreases;
+
+    public BatchingKafkaImpl(Admin adminClient, Vertx vertx, long lingerMs, int maxBatchSize) {
+        super(adminClient, vertx);
+        this.lingerMs = lingerMs;
+        this.maxBatchSize = maxBatchSize;
+        this.creates = new Batch<>("CreateTopics",
+            requests -> adminClient.createTopics(requests.values()).values());
+        this.deletes = new Batch<>("DeleteTopics",
+            requests -> adminClient.deleteTopics(requests.keySet()).values());
+        this.configUpdates = new Batch<>("AlterConfigs", this::alterConfigs);
+        this.partitionIncreases = new Batch<>("CreatePartitions",
+            requests -> adminClient.createPartitions(requests).values());
+    }
+
+    @Override
+    public Future<Void> createTopic(Reconciliation reconciliation, Topic topic) {
+        try {
+            NewTopic newTopic = TopicSerialization.toNewTopic(topic, null);
+            LOGGER.debugCr(reconciliation, "Queueing creation of topic {}", newTopic);
+            return creates.add(newTopic.name(), newTopic);
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    @Override
+    public Future<Void> deleteTopic(Reconciliation reconciliation, TopicName topicName) {
+        LOGGER.debugCr(reconciliation, "Queueing deletion of topic {}", topicName);
+        return deletes.add(topicName.toString(), topicName);
+    }
+
+    @Override
+    public Future<Void> updateTopicConfig(Reconciliation reconciliation, Topic topic) {
+        Map.Entry<ConfigResource, Config> config = TopicSerialization.toTopicConfig(topic).entrySet().iterator().next();
+        LOGGER.debugCr(reconciliation, "Queueing config update of topic {}", topic.getTopicName());
+        return configUpdates.add(config.getKey().name(), config.getValue());
+    }
+
+    @Override
+    public Future<Void> increasePartitions(Reconciliation reconciliation, Topic topic) {
+        NewPartitions newPartitions = NewPartitions.increaseTo(topic.getNumPartitions());
+        LOGGER.debugCr(reconciliation, "Queueing partition increase of topic {} {}", topic.getTopicName(), newPartitions);
+        return partitionIncreases.add(topic.getTopicName().toString(), newPartitions);
+    }
+
+    @SuppressWarnings("deprecation")
+    private Map<String, KafkaFuture<Void>> alterConfigs(Map<String, Config> requests) {
+        Map<ConfigResource, Config> configs = new HashMap<>(requests.size());
+        for (Map.Entry<String, Config> entry : requests.entrySet()) {
+            configs.put(new ConfigResource(ConfigResource.Type.TOPIC, entry.getKey()), entry.getValue());
+        }
+        Map<String, KafkaFuture<Void>> result = new HashMap<>(requests.size());
+        for (Map.Entry<ConfigResource, KafkaFuture<Void>> entry : adminClient.alterConfigs(configs).values().entrySet()) {
+            result.put(entry.getKey().name(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * The pending operations of one kind, keyed by topic name.
+     * A topic can only appear once in a given Admin request, so adding an operation for a topic which
+     * is already pending sends the pending batch first. This also keeps the operations on a topic in order.
+     * @param <T> The type of the per-topic request.
+     */
+    class Batch<T> {
+        private final String kind;
+        private final Function<Map<String, T>, Map<String, KafkaFuture<Void>>> send;
+        private Map<String, T> requests = new LinkedHashMap<>();
+        private Map<String, Waiter> waiters = new HashMap<>();
+        private Long timerId;
+
+        Batch(String kind, Function<Map<String, T>, Map<String, KafkaFuture<Void>>> send) {
+            this.kind = kind;
+            this.send = send;
+        }
+
+        synchronized Future<Void> add(String topicName, T request) {
+            if (requests.containsKey(topicName)) {
+                flush();
+            }
+            Waiter waiter = new Waiter(vertx.getOrCreateContext());
+            requests.put(topicName, request);
+            waiters.put(topicName, waiter);
+            if (requests.size() >= maxBatchSize) {
+                flush();
+            } else if (timerId == null) {
+                timerId = vertx.setTimer(lingerMs, id -> {
+                    synchronized (this) {
+                        timerId = null;
+                        flush();
+                    }
+                });
+            }
+            return waiter.promise.future();
+        }
+
+        private void flush() {
+            if (timerId != null) {
+                vertx.cancelTimer(timerId);
+                timerId = null;
+            }
+            if (requests.isEmpty()) {
+                return;
+            }
+            Map<String, T> requests = this.requests;
+            Map<String, Waiter> waiters = this.waiters;
+            this.requests = new LinkedHashMap<>();
+            this.waiters = new HashMap<>();
+            LOGGER.debugOp("Sending {} request for {} topics", kind, requests.size());
+
+            Map<String, KafkaFuture<Void>> futures;
+            try {
+                futures = send.apply(requests);
+            } catch (Exception e) {
+                waiters.values().forEach(waiter -> waiter.fail(e));
+                return;
+            }
+            for (Map.Entry<String, Waiter> entry : waiters.entrySet()) {
+                KafkaFuture<Void> future = futures.get(entry.getKey());
+                Waiter waiter = entry.getValue();
+                if (future == null) {
+                    waiter.fail(new IllegalStateException("No " + kind + " result for topic " + entry.getKey()));
+                } else {
+                    mapFuture(future, waiter.context).onComplete(waiter.promise);
+                }
+            }
+        }
+    }
+
+    /**
+     * The promise of a caller waiting for the result of its operation, and the context of that caller,
+     * on which the promise gets completed.
+     */
+    private static class Waiter {
+        private final Context context;
+        private final Promise<Void> promise = Promise.promise();
+
+        Waiter(Context context) {
+            this.context = context;
+        }
+
+        void fail(Throwable error) {
+            context.runOnContext(ignored -> promise.fail(error));
+        }
+    }
+}
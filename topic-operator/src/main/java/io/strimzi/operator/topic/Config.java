@@ -133,6 +133,18 @@ public class Config {
 
     public static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
 
+    public static final String TC_ADMIN_BATCH_LINGER_MS = "STRIMZI_ADMIN_BATCH_LINGER_MS";
+    public static final String TC_ADMIN_BATCH_MAX_SIZE = "STRIMZI_ADMIN_BATCH_MAX_SIZE";
+
+    public static final String TC_EVENT_LOOP_PARTITIONS = "STRIMZI_EVENT_LOOP_PARTITIONS";
+
+    public static final String TC_SHARDING_ENABLED = "STRIMZI_SHARDING_ENABLED";
+    public static final String TC_SHARD_ID = "STRIMZI_SHARD_ID";
+    public static final String TC_SHARD_LEASE_DURATION_MS = "STRIMZI_SHARD_LEASE_DURATION_MS";
+
+    public static final String TC_EVENT_FLUSH_INTERVAL_MS = "STRIMZI_EVENT_FLUSH_INTERVAL_MS";
+    public static final String TC_EVENT_RATE_LIMIT = "STRIMZI_EVENT_RATE_LIMIT";
+
     private static final Map<String, Value<?>> CONFIG_VALUES = new HashMap<>();
 
     /** A comma-separated list of key=value pairs for selecting Resources that describe topics. */
@@ -213,6 +225,35 @@ public class Config {
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
 
+    /**
+     * How long topic creations, deletions, config changes and partition increases are held
+     * so that they can be sent to Kafka in a single Admin request. 0 disables the batching.
+     */
+    public static final Value<Long> ADMIN_BATCH_LINGER_MS = new Value<>(TC_ADMIN_BATCH_LINGER_MS, DURATION, "0");
+    /** The maximum number of topics in a single batched Admin request. */
+    public static final Value<Integer> ADMIN_BATCH_MAX_SIZE = new Value<>(TC_ADMIN_BATCH_MAX_SIZE, POSITIVE_INTEGER, "1000");
+
+    /**
+     * The number of event loops between which the topics are partitioned (by the hash of the topic name).
+     * With 1 all the work runs on the event loop of the Session verticle.
+     */
+    public static final Value<Integer> EVENT_LOOP_PARTITIONS = new Value<>(TC_EVENT_LOOP_PARTITIONS, POSITIVE_INTEGER, "1");
+
+    /**
+     * Whether the topics are split between several topic operator replicas,
+     * each of which holds a Lease and reconciles only the topics it owns.
+     */
+    public static final Value<Boolean> SHARDING_ENABLED = new Value<>(TC_SHARDING_ENABLED, BOOLEAN, "false");
+    /** The identity of this replica when sharding is enabled. Defaults to the host name (i.e. the pod name). */
+    public static final Value<String> SHARD_ID = new Value<>(TC_SHARD_ID, STRING, "");
+    /** How long the Lease of a replica lasts without being renewed before its topics are handed to the other replicas. */
+    public static final Value<Long> SHARD_LEASE_DURATION_MS = new Value<>(TC_SHARD_LEASE_DURATION_MS, DURATION, "15000");
+
+    /** How often the recorded Kubernetes Events are written, in batches. */
+    public static final Value<Long> EVENT_FLUSH_INTERVAL_MS = new Value<>(TC_EVENT_FLUSH_INTERVAL_MS, DURATION, "1000");
+    /** The maximum number of Kubernetes Events written (created or updated) per second. */
+    public static final Value<Integer> EVENT_RATE_LIMIT = new Value<>(TC_EVENT_RATE_LIMIT, POSITIVE_INTEGER, "10");
+
     static {
         Map<String, Value<?>> configValues = CONFIG_VALUES;
         addConfigValue(configValues, LABELS);
@@ -244,6 +285,14 @@ public class Config {
         addConfigValue(configValues, APPLICATION_SERVER);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
+        addConfigValue(configValues, ADMIN_BATCH_LINGER_MS);
+        addConfigValue(configValues, ADMIN_BATCH_MAX_SIZE);
+        addConfigValue(configValues, EVENT_LOOP_PARTITIONS);
+        addConfigValue(configValues, SHARDING_ENABLED);
+        addConfigValue(configValues, SHARD_ID);
+        addConfigValue(configValues, SHARD_LEASE_DURATION_MS);
+        addConfigValue(configValues, EVENT_FLUSH_INTERVAL_MS);
+        addConfigValue(configValues, EVENT_RATE_LIMIT);
     }
 
     static void addConfigValue(Map<String, Value<?>> configValues, Value<?> cv) {
@@ -0,0 +1,288 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.EventBuilder;
+import io.fabric8.kubernetes.api.model.MicroTime;
+import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>Writes Kubernetes Events asynchronously, aggregating repeated events and limiting the rate at which they are written.</p>
+ *
+ * <p>An event with the same involved object, type, reason and message as one recorded in the last
+ * {@link #AGGREGATION_WINDOW_MS} does not create a new Event, but increments the count (and series) of the existing one.
+ * New Events for a given involved object are limited by a token bucket (a burst of {@link #OBJECT_BURST},
+ * then one every {@link #OBJECT_REFILL_MS}); events over that limit are dropped.
+ * The recorded events are written in batches every {@code flushIntervalMs}, with at most
+ * {@code maxEventsPerSecond} writes per second; the writes over that limit are deferred to a later batch,
+ * where they are aggregated with any repeats recorded in the meantime.</p>
+ */
+class EventRecorder {
+
+    private final static Logger LOGGER = LogManager.getLogger(EventRecorder.class);
+
+    /** Repeats of an event within this window are aggregated into a single Event. */
+    static final long AGGREGATION_WINDOW_MS = 10 * 60_000L;
+    /** The number of new Events which can be created for an object in a burst. */
+    static final int OBJECT_BURST = 25;
+    /** How often a further new Event can be created for an object once the burst is used up. */
+    static final long OBJECT_REFILL_MS = 5 * 60_000L;
+    /** The maximum number of aggregates and of per-object rate limiters which are remembered. */
+    static final int MAX_CACHE_ENTRIES = 4096;
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+    private static final DateTimeFormatter MICRO_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'");
+
+    private final Vertx vertx;
+    private final KubernetesClient client;
+    private final String namespace;
+    private final long flushIntervalMs;
+    private final int maxEventsPerSecond;
+
+    private final Map<Key, Aggregate> aggregates = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Aggregate> eldest) {
+            return size() > MAX_CACHE_ENTRIES;
+        }
+    };
+    private final Map<String, TokenBucket> objectLimiters = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+            return size() > MAX_CACHE_ENTRIES;
+        }
+    };
+    private Long timerId;
+    private long dropped;
+
+    EventRecorder(Vertx vertx, KubernetesClient client, String namespace, long flushIntervalMs, int maxEventsPerSecond) {
+        this.vertx = vertx;
+        this.client = client;
+        this.namespace = namespace;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxEventsPerSecond = maxEventsPerSecond;
+    }
+
+    /**
+     * Record the given event, to be written with the next batch.
+     * @param event The event.
+     */
+    synchronized void record(Event event) {
+        long now = System.currentTimeMillis();
+        Key key = new Key(event);
+        Aggregate aggregate = aggregates.get(key);
+        if (aggregate != null && now - aggregate.firstRecordedMs < AGGREGATION_WINDOW_MS) {
+            aggregate.count++;
+            aggregate.lastRecordedMs = now;
+            aggregate.dirty = true;
+            LOGGER.debug("Aggregated event {}, count {}", key, aggregate.count);
+        } else {
+            TokenBucket limiter = objectLimiters.computeIfAbsent(key.involvedObject, k -> new TokenBucket(now));
+            if (!limiter.tryAcquire(now)) {
+                dropped++;
+                LOGGER.debug("Dropped event {} over the rate limit of the involved object ({} dropped in total)", key, dropped);
+                return;
+            }
+            aggregates.put(key, new Aggregate(event, now));
+        }
+        if (timerId == null) {
+            timerId = vertx.setTimer(flushIntervalMs, id -> flush());
+        }
+    }
+
+    /* test */ synchronized long dropped() {
+        return dropped;
+    }
+
+    private void flush() {
+        List<Aggregate> batch = new ArrayList<>();
+        boolean deferred = false;
+        synchronized (this) {
+            timerId = null;
+            int budget = (int) Math.max(1, maxEventsPerSecond * flushIntervalMs / 1000);
+            Iterator<Aggregate> iterator = aggregates.values().iterator();
+            while (iterator.hasNext() && batch.size() < budget) {
+                Aggregate aggregate = iterator.next();
+                if (aggregate.dirty && !aggregate.writing) {
+                    aggregate.dirty = false;
+                    aggregate.writing = true;
+                    batch.add(aggregate);
+                }
+            }
+            while (iterator.hasNext() && !deferred) {
+                Aggregate aggregate = iterator.next();
+                deferred = aggregate.dirty && !aggregate.writing;
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        boolean more = deferred;
+        LOGGER.debug("Writing {} events", batch.size());
+        vertx.executeBlocking(promise -> {
+            for (Aggregate aggregate : batch) {
+                write(aggregate);
+            }
+            promise.complete();
+        }, false, ignored -> flushed(more));
+    }
+
+    private synchronized void flushed(boolean deferred) {
+        if (deferred && timerId == null) {
+            // Some of the recorded events were deferred by the global rate limit
+            timerId = vertx.setTimer(flushIntervalMs, id -> flush());
+        }
+    }
+
+    private void write(Aggregate aggregate) {
+        Event event;
+        int count;
+        long firstRecordedMs;
+        long lastRecordedMs;
+        synchronized (this) {
+            event = aggregate.event;
+            count = aggregate.count;
+            firstRecordedMs = aggregate.firstRecordedMs;
+            lastRecordedMs = aggregate.lastRecordedMs;
+        }
+        EventBuilder builder = new EventBuilder(event)
+                .withCount(count)
+                .withFirstTimestamp(timestamp(firstRecordedMs, TIMESTAMP))
+                .withLastTimestamp(timestamp(lastRecordedMs, TIMESTAMP));
+        if (count > 1) {
+            builder.withNewSeries()
+                    .withCount(count)
+                    .withLastObservedTime(new MicroTime(timestamp(lastRecordedMs, MICRO_TIMESTAMP)))
+                .endSeries();
+        }
+        Event written;
+        try {
+            if (event.getMetadata().getName() == null) {
+                LOGGER.debug("Creating event {}", event);
+                written = client.v1().events().inNamespace(namespace).create(builder.build());
+            } else {
+                LOGGER.debug("Updating event {} with count {}", event.getMetadata().getName(), count);
+                written = client.v1().events().inNamespace(namespace).withName(event.getMetadata().getName()).replace(builder.build());
+            }
+        } catch (Exception e) {
+            LOGGER.error("Error writing event {}", event, e);
+            written = null;
+        }
+        synchronized (this) {
+            if (written != null) {
+                aggregate.event = written;
+            }
+            aggregate.writing = false;
+            if (aggregate.dirty && timerId == null) {
+                // Recorded again while it was being written
+                timerId = vertx.setTimer(flushIntervalMs, id -> flush());
+            }
+        }
+    }
+
+    private static String timestamp(long epochMs, DateTimeFormatter formatter) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneOffset.UTC).format(formatter);
+    }
+
+    /**
+     * The identity of an event for the purpose of aggregation.
+     */
+    static class Key {
+        private final String involvedObject;
+        private final String type;
+        private final String reason;
+        private final String message;
+
+        Key(Event event) {
+            ObjectReference ref = event.getInvolvedObject();
+            this.involvedObject = ref == null ? "" : ref.getKind() + "/" + ref.getNamespace() + "/" + ref.getName() + "/" + ref.getUid();
+            this.type = event.getType();
+            this.reason = event.getReason();
+            this.message = event.getMessage();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return involvedObject.equals(key.involvedObject)
+                    && Objects.equals(type, key.type)
+                    && Objects.equals(reason, key.reason)
+                    && Objects.equals(message, key.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(involvedObject, type, reason, message);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + involvedObject + ", " + type + ", " + reason + ", " + message + ")";
+        }
+    }
+
+    /**
+     * An Event and the number of times it has been recorded.
+     */
+    static class Aggregate {
+        private Event event;
+        private int count = 1;
+        private final long firstRecordedMs;
+        private long lastRecordedMs;
+        /** Whether it has been recorded since it was last written. */
+        private boolean dirty = true;
+        /** Whether it is being written. */
+        private boolean writing;
+
+        Aggregate(Event event, long now) {
+            this.event = event;
+            this.firstRecordedMs = now;
+            this.lastRecordedMs = now;
+        }
+    }
+
+    /**
+     * A token bucket allowing a burst of {@link #OBJECT_BURST} then one every {@link #OBJECT_REFILL_MS}.
+     */
+    static class TokenBucket {
+        private double tokens = OBJECT_BURST;
+        private long lastRefillMs;
+
+        TokenBucket(long now) {
+            this.lastRefillMs = now;
+        }
+
+        boolean tryAcquire(long now) {
+            tokens = Math.min(OBJECT_BURST, tokens + (double) (now - lastRefillMs) / OBJECT_REFILL_MS);
+            lastRefillMs = now;
+            if (tokens >= 1) {
+                tokens--;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -7,7 +7,6 @@ package io.strimzi.operator.topic;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.Event;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.api.kafka.KafkaTopicList;
@@ -34,10 +33,12 @@ public class K8sImpl implements K8s {
     private final CrdOperator<KubernetesClient, KafkaTopic, KafkaTopicList> crdOperator;
 
     private final Vertx vertx;
+    private final EventRecorder eventRecorder;
 
-    public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace) {
+    public K8sImpl(Vertx vertx, KubernetesClient client, Labels labels, String namespace, EventRecorder eventRecorder) {
         this.vertx = vertx;
         this.client = client;
+        this.eventRecorder = eventRecorder;
         this.crdOperator = new CrdOperator<>(vertx, client, KafkaTopic.class, KafkaTopicList.class, KafkaTopic.RESOURCE_KIND);
         this.labels = labels;
         this.namespace = namespace;
@@ -123,24 +124,13 @@ public class K8sImpl implements K8s {
     }
 
     /**
-     * Create the given k8s event
+     * Record the given k8s event. The event is written asynchronously by the {@link EventRecorder},
+     * which aggregates repeats of the same event and limits the rate at which events are written.
      */
     @Override
     public Future<Void> createEvent(Event event) {
-        Promise<Void> handler = Promise.promise();
-        vertx.executeBlocking(future -> {
-            try {
-                try {
-                    LOGGER.debug("Creating event {}", event);
-                    client.v1().events().inNamespace(namespace).create(event);
-                } catch (KubernetesClientException e) {
-                    LOGGER.error("Error creating event {}", event, e);
-                }
-                future.complete();
-            } catch (Exception e) {
-                future.fail(e);
-            }
-        }, handler);
-        return handler.future();
+        LOGGER.debug("Recording event {}", event);
+        eventRecorder.record(event);
+        return Future.succeededFuture();
     }
 }
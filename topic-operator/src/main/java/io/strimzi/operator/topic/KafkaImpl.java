@@ -12,6 +12,7 @@ import java.util.concurrent.ExecutionException;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -53,17 +54,10 @@ public class KafkaImpl implements Kafka {
      */
     @Override
     public Future<Void> deleteTopic(Reconciliation reconciliation, TopicName topicName) {
-        Promise<Void> handler = Promise.promise();
         LOGGER.debugCr(reconciliation, "Deleting topic {}", topicName);
         KafkaFuture<Void> future = adminClient.deleteTopics(
                 singleton(topicName.toString())).values().get(topicName.toString());
-        mapFuture(future).onComplete(ar -> {
-            // Complete the result future on the context thread.
-            vertx.runOnContext(ignored -> {
-                handler.handle(ar);
-            });
-        });
-        return handler.future();
+        return mapFuture(future);
     }
 
     @Override
@@ -163,11 +157,21 @@ public class KafkaImpl implements Kafka {
         }
     }
 
-    private <T> Future<T> mapFuture(KafkaFuture<T> future) {
+    /**
+     * Map the given KafkaFuture to a Vert.x Future which is completed on the caller's context thread.
+     */
+    protected <T> Future<T> mapFuture(KafkaFuture<T> future) {
+        return mapFuture(future, vertx.getOrCreateContext());
+    }
+
+    /**
+     * Map the given KafkaFuture to a Vert.x Future which is completed on the given {@code context} thread.
+     */
+    protected <T> Future<T> mapFuture(KafkaFuture<T> future, Context context) {
         Promise<T> handler = Promise.promise();
         try {
             future.whenComplete((result, error) -> {
-                vertx.runOnContext(ignored -> {
+                context.runOnContext(ignored -> {
                     if (error != null) {
                         handler.fail(error);
                     } else {
@@ -5,7 +5,9 @@
 package io.strimzi.operator.topic;
 
 import io.apicurio.registry.utils.kafka.ProducerActions;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.apache.logging.log4j.Logger;
@@ -90,7 +92,10 @@ public class KafkaStreamsTopicStore implements TopicStore {
                         LOGGER.error("Error sending topic command", t);
                     }
                 });
-        return Future.fromCompletionStage(result).compose(
+        // Complete on the caller's context thread, if there is one
+        Context context = Vertx.currentContext();
+        Future<Throwable> future = context != null ? Future.fromCompletionStage(result, context) : Future.fromCompletionStage(result);
+        return future.compose(
             t -> t != null ? Future.failedFuture(t) : Future.succeededFuture()
         );
     }
@@ -14,6 +14,7 @@ import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.topic.zk.Zk;
 import io.vertx.core.AbstractVerticle;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -33,6 +34,7 @@ import io.strimzi.operator.common.InvalidConfigurationException;
 import java.security.Security;
 import java.time.Duration;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -54,6 +56,7 @@ public class Session extends AbstractVerticle {
     private AdminClient adminClient;
     /*test*/ K8sImpl k8s;
     private KafkaStreamsTopicStoreService service; // if used
+    private TopicShards shards; // if used
     /*test*/ TopicOperator topicOperator;
     /*test*/ Watch topicWatch;
     /*test*/ ZkTopicsWatcher topicsWatcher;
@@ -116,6 +119,10 @@ public class Session extends AbstractVerticle {
             longHandler.handle(null);
 
             promise.future().compose(ignored -> {
+                if (shards != null) {
+                    LOGGER.debug("Leaving topic operator shards");
+                    shards.stop();
+                }
                 if (service != null) {
                     service.stop();
                 }
@@ -159,28 +166,43 @@ public class Session extends AbstractVerticle {
 
         this.adminClient = AdminClient.create(adminClientProperties());
         LOGGER.debug("Using AdminClient {}", adminClient);
-        this.kafka = new KafkaImpl(adminClient, vertx);
+        long batchLingerMs = config.get(Config.ADMIN_BATCH_LINGER_MS);
+        if (batchLingerMs > 0) {
+            this.kafka = new BatchingKafkaImpl(adminClient, vertx, batchLingerMs, config.get(Config.ADMIN_BATCH_MAX_SIZE));
+        } else {
+            this.kafka = new KafkaImpl(adminClient, vertx);
+        }
         LOGGER.debug("Using Kafka {}", kafka);
         Labels labels = config.get(Config.LABELS);
 
         String namespace = config.get(Config.NAMESPACE);
         LOGGER.debug("Using namespace {}", namespace);
-        this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace);
+        EventRecorder eventRecorder = new EventRecorder(vertx, kubeClient, namespace,
+                config.get(Config.EVENT_FLUSH_INTERVAL_MS), config.get(Config.EVENT_RATE_LIMIT));
+        this.k8s = new K8sImpl(vertx, kubeClient, labels, namespace, eventRecorder);
         LOGGER.debug("Using k8s {}", k8s);
 
         String clientId = config.get(Config.CLIENT_ID);
         LOGGER.debug("Using client-Id {}", clientId);
 
+        int partitions = config.get(Config.EVENT_LOOP_PARTITIONS);
+        Future<TopicContexts> contextsFuture = partitions > 1 ? TopicContexts.deploy(vertx, partitions) : Future.succeededFuture();
+
+        Promise<Zk> zkPromise = Promise.promise();
         Zk.create(vertx, config.get(Config.ZOOKEEPER_CONNECT),
                 this.config.get(Config.ZOOKEEPER_SESSION_TIMEOUT_MS).intValue(),
                 this.config.get(Config.ZOOKEEPER_CONNECTION_TIMEOUT_MS).intValue(),
+                zkPromise);
+        CompositeFuture.all(zkPromise.future(), contextsFuture).onComplete(
             zkResult -> {
                 if (zkResult.failed()) {
                     start.fail(zkResult.cause());
                     return;
                 }
-                this.zk = zkResult.result();
+                this.zk = zkResult.result().resultAt(0);
                 LOGGER.debug("Using ZooKeeper {}", zk);
+                TopicContexts contexts = zkResult.result().resultAt(1);
+                LOGGER.debug("Using {} event loop partitions", contexts != null ? contexts.size() : 1);
 
                 String topicsPath = config.get(Config.TOPICS_PATH);
                 TopicStore topicStore;
@@ -213,7 +235,28 @@ public class Session extends AbstractVerticle {
 
                 LOGGER.debug("Using TopicStore {}", topicStore);
 
-                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
+                if (config.get(Config.SHARDING_ENABLED)) {
+                    String shardId = config.get(Config.SHARD_ID);
+                    if (shardId.isEmpty()) {
+                        shardId = System.getenv("HOSTNAME");
+                    }
+                    if (shardId == null || shardId.isEmpty()) {
+                        start.fail(new InvalidConfigurationException("Sharding is enabled but " + Config.TC_SHARD_ID + " is not set"));
+                        return;
+                    }
+                    this.shards = new TopicShards(vertx, kubeClient, namespace, shardId, config.get(Config.SHARD_LEASE_DURATION_MS),
+                        () -> topicOperator != null ? topicOperator.inflightTopics() : Set.of(),
+                        ignored -> {
+                            if (!stopped && topicOperator != null) {
+                                topicOperator.reconcileAllTopics("shard rebalance ");
+                            }
+                        },
+                        ignored -> System.exit(1));
+                    LOGGER.debug("Using topic operator shard {}", shardId);
+                    shards.start();
+                }
+
+                this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider(), contexts, shards);
                 LOGGER.debug("Using Operator {}", topicOperator);
 
                 this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
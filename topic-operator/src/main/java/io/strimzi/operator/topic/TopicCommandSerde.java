@@ -6,12 +6,15 @@ package io.strimzi.operator.topic;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.apicurio.registry.utils.kafka.SelfSerde;
+import org.apache.kafka.common.utils.ByteUtils;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 
 /**
- * TopicCommand Kafka Serde
+ * TopicCommand Kafka Serde.
+ * Commands are written using the compact binary encoding,
+ * but records written as JSON by earlier versions can still be read.
  */
 public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
@@ -23,6 +26,40 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
     @Override
     public byte[] serialize(String topic, TopicCommand data) {
+        return TopicSerialization.toBinary(out -> {
+            TopicCommand.Type type = data.getType();
+            ByteUtils.writeVarint(data.getVersion(), out);
+            out.writeByte(type.getId());
+            TopicSerialization.writeString(out, data.getUuid());
+            if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+                TopicSerialization.writeTopic(out, data.getTopic());
+            } else {
+                TopicSerialization.writeString(out, data.getKey());
+            }
+        });
+    }
+
+    @Override
+    public TopicCommand deserialize(String t, byte[] data) {
+        if (!TopicSerialization.isBinary(data)) {
+            return deserializeJson(data);
+        }
+        return TopicSerialization.fromBinary(data, in -> {
+            int version = ByteUtils.readVarint(in);
+            TopicCommand.Type type = TopicCommand.Type.fromId(in.readByte());
+            String uuid = TopicSerialization.readString(in);
+            Topic topic = null;
+            TopicName name = null;
+            if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+                topic = TopicSerialization.readTopic(in);
+            } else {
+                name = new TopicName(TopicSerialization.readString(in));
+            }
+            return new TopicCommand(uuid, type, topic, name, version);
+        });
+    }
+
+    /* test */ byte[] serializeJson(TopicCommand data) {
         return TopicSerialization.toBytes((mapper, root) -> {
             root.put(UUID, data.getUuid());
             TopicCommand.Type type = data.getType();
@@ -37,8 +74,7 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
         });
     }
 
-    @Override
-    public TopicCommand deserialize(String t, byte[] data) {
+    private TopicCommand deserializeJson(byte[] data) {
         return TopicSerialization.fromJson(data, (mapper, bytes) -> {
             try {
                 JsonNode root = mapper.readTree(bytes);
@@ -0,0 +1,61 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Context;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A fixed set of Vert.x event loop contexts between which the topics are partitioned by the hash of their name.
+ * All the work for a given topic runs on the context which owns it, so the operations on that topic stay
+ * strictly ordered, while the work for topics owned by different contexts can use different cores.
+ */
+class TopicContexts {
+
+    private final List<Context> contexts;
+
+    private TopicContexts(List<Context> contexts) {
+        this.contexts = contexts;
+    }
+
+    /**
+     * Deploy {@code partitions} instances of a verticle, each with its own event loop context.
+     * @param vertx The Vertx instance.
+     * @param partitions The number of contexts.
+     * @return A future which completes with the contexts once they've all been deployed.
+     */
+    static Future<TopicContexts> deploy(Vertx vertx, int partitions) {
+        List<Context> contexts = Collections.synchronizedList(new ArrayList<>(partitions));
+        return vertx.deployVerticle(() -> new AbstractVerticle() {
+            @Override
+            public void start() {
+                contexts.add(context);
+            }
+        }, new DeploymentOptions().setInstances(partitions))
+            .map(deploymentId -> new TopicContexts(List.copyOf(contexts)));
+    }
+
+    /**
+     * @return The number of contexts.
+     */
+    int size() {
+        return contexts.size();
+    }
+
+    /**
+     * @param topicName The topic.
+     * @return The context which owns the given topic.
+     */
+    Context contextFor(TopicName topicName) {
+        return contexts.get(Math.floorMod(topicName.hashCode(), contexts.size()));
+    }
+}
@@ -26,6 +26,7 @@ import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -69,6 +70,10 @@ class TopicOperator {
     private final TopicStore topicStore;
     private final Config config;
     private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    /** The contexts between which the topics are partitioned, or null if all the work runs on the caller's context */
+    private final TopicContexts contexts;
+    /** The shards between which the topics are split, or null if this operator owns all the topics */
+    private final TopicShards shards;
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
@@ -386,7 +391,21 @@ class TopicOperator {
                          String namespace,
                          Config config,
                          MetricsProvider metrics) {
+        this(vertx, kafka, k8s, topicStore, labels, namespace, config, metrics, null, null);
+    }
+
+    public TopicOperator(Vertx vertx, Kafka kafka,
+                         K8s k8s,
+                         TopicStore topicStore,
+                         Labels labels,
+                         String namespace,
+                         Config config,
+                         MetricsProvider metrics,
+                         TopicContexts contexts,
+                         TopicShards shards) {
         this.kafka = kafka;
+        this.contexts = contexts;
+        this.shards = shards;
         this.k8s = k8s;
         this.vertx = vertx;
         this.labels = labels;
@@ -444,14 +463,26 @@ class TopicOperator {
         this.topicCounter.set(topics);
     }
 
+    private boolean isOwnedByAnotherShard(TopicName topicName) {
+        return shards != null && !shards.owns(topicName);
+    }
+
     /**
-     * Run the given {@code action} on the context thread,
+     * Run the given {@code action} on the context thread (the context owning the topic when the topics
+     * are partitioned between several contexts),
      * immediately if there are currently no other actions with the given {@code key},
      * or when the other actions with the given {@code key} have completed.
      * When the given {@code action} is complete it must complete its argument future,
-     * which will complete the returned future
+     * which will complete the returned future.
+     * If the topic is owned by another shard the {@code action} is not run and the returned future is already succeeded.
+     * The ownership is checked again once the lock is acquired, because the topic might have been handed over
+     * to another shard while waiting for it.
      */
     public Future<Void> executeWithTopicLockHeld(LogContext logContext, TopicName key, Reconciliation action) {
+        if (isOwnedByAnotherShard(key)) {
+            LOGGER.debugCr(logContext.toReconciliation(), "Ignoring action {} on topic {} owned by another shard", action, key);
+            return Future.succeededFuture();
+        }
         String lockName = key.toString();
         int timeoutMs = 30 * 1_000;
         Promise<Void> result = Promise.promise();
@@ -479,9 +510,17 @@ class TopicOperator {
                 return waiters + 1;
             }
         });
-        vertx.sharedData().getLockWithTimeout(lockName, timeoutMs, lockResult -> {
+        Handler<Void> lockAndExecute = ignored -> vertx.sharedData().getLockWithTimeout(lockName, timeoutMs, lockResult -> {
             if (lockResult.succeeded()) {
                 LOGGER.debugCr(logContext.toReconciliation(), "Lock acquired");
+                if (isOwnedByAnotherShard(key)) {
+                    // The topic was handed over to another shard while waiting for the lock
+                    lockResult.result().release();
+                    LOGGER.debugCr(logContext.toReconciliation(), "Lock released, ignoring action {} on topic {} now owned by another shard", action, key);
+                    inflight.compute(key, decrement);
+                    result.complete();
+                    return;
+                }
                 LOGGER.debugCr(logContext.toReconciliation(), "Executing action {} on topic {}", action, lockName);
                 action.execute().onComplete(actionResult -> {
                     LOGGER.debugCr(logContext.toReconciliation(), "Executing handler for action {} on topic {}", action, lockName);
@@ -542,7 +581,18 @@ class TopicOperator {
                 }
             }
         });
-        return result.future();
+        Context topicContext = contexts != null ? contexts.contextFor(key) : null;
+        if (topicContext == null || topicContext == Vertx.currentContext()) {
+            lockAndExecute.handle(null);
+            return result.future();
+        } else {
+            // Run the action on the context owning the topic, but complete the returned future on the caller's context
+            Context callerContext = vertx.getOrCreateContext();
+            topicContext.runOnContext(lockAndExecute);
+            Promise<Void> callerResult = Promise.promise();
+            result.future().onComplete(actionResult -> callerContext.runOnContext(ignored -> callerResult.handle(actionResult)));
+            return callerResult.future();
+        }
     }
 
     /**
@@ -822,6 +872,9 @@ class TopicOperator {
 
     /** Called when a topic znode is deleted in ZK */
     Future<Void> onTopicDeleted(LogContext logContext, TopicName topicName) {
+        if (isOwnedByAnotherShard(topicName)) {
+            return Future.succeededFuture();
+        }
         Future<Void> confirmedNonexistence = awaitExistential(logContext, topicName, false);
         return confirmedNonexistence
         .compose(
@@ -1276,6 +1329,13 @@ class TopicOperator {
         return inflight.size() > 0;
     }
 
+    /**
+     * @return The topics with actions which are running or waiting for the topic lock.
+     */
+    public Set<TopicName> inflightTopics() {
+        return new HashSet<>(inflight.keySet());
+    }
+
     /**
      * @return a new instance of BackOff with configured topic metadata max attempts
      */
@@ -1316,12 +1376,18 @@ class TopicOperator {
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
         )).compose(topicNamesFromKafka ->
                 // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
+                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new)
+                        .filter(topicName -> !isOwnedByAnotherShard(topicName)).collect(Collectors.toList()))
         ).compose(reconcileState -> {
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
                     new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
             )).map(ktList -> {
+                if (shards != null) {
+                    ktList = ktList.stream()
+                            .filter(kt -> !isOwnedByAnotherShard(new TopicName(kt)))
+                            .collect(Collectors.toList());
+                }
                 reconcileState.setKafkaTopics(ktList);
                 return reconcileState;
             });
@@ -1391,9 +1457,10 @@ class TopicOperator {
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
      */
     private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
-        Set<TopicName> succeeded = new HashSet<>();
-        Set<TopicName> undetermined = new HashSet<>();
-        Map<TopicName, Throwable> failed = new HashMap<>();
+        // When the topics are partitioned between several contexts, the reconciliations update these concurrently
+        Set<TopicName> succeeded = ConcurrentHashMap.newKeySet();
+        Set<TopicName> undetermined = ConcurrentHashMap.newKeySet();
+        Map<TopicName, Throwable> failed = new ConcurrentHashMap<>();
 
         LOGGER.debugOp("Reconciling kafka topics {}", topicsFromKafka);
 
@@ -7,16 +7,18 @@ package io.strimzi.operator.topic;
 import io.apicurio.registry.utils.kafka.SelfSerde;
 
 /**
- * Topic Kafka Serde
+ * Topic Kafka Serde.
+ * Topics are written using the compact binary encoding,
+ * but records written as JSON by earlier versions can still be read.
  */
 public class TopicSerde extends SelfSerde<Topic> {
     @Override
     public byte[] serialize(String topic, Topic data) {
-        return TopicSerialization.toJson(data);
+        return TopicSerialization.toBinary(data);
     }
 
     @Override
     public Topic deserialize(String topic, byte[] data) {
-        return TopicSerialization.fromJson(data);
+        return TopicSerialization.fromBinary(data);
     }
 }
@@ -18,9 +18,17 @@ import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.utils.ByteUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -45,6 +53,12 @@ class TopicSerialization {
     public static final String JSON_KEY_REPLICAS = "replicas";
     public static final String JSON_KEY_CONFIG = "config";
 
+    // The first byte of the binary encoding used for the records of the KafkaStreamsTopicStore.
+    // It can never be the first byte of the (JSON object) encoding used by earlier versions,
+    // so both can be read from the same store topic.
+    static final byte BINARY_MAGIC = 0;
+    static final byte BINARY_VERSION = 1;
+
     @SuppressWarnings("unchecked")
     private static Map<String, String> topicConfigFromTopicConfig(KafkaTopic kafkaTopic) {
         if (kafkaTopic.getSpec().getConfig() != null) {
@@ -324,6 +338,124 @@ class TopicSerialization {
         return builder.build();
     }
 
+    /**
+     * Returns the compact binary encoding of the given Topic.
+     * This is what is stored in the records of the {@link KafkaStreamsTopicStore}.
+     */
+    public static byte[] toBinary(Topic topic) {
+        return toBinary(out -> writeTopic(out, topic));
+    }
+
+    /**
+     * Returns the Topic represented by the given bytes, which can be either
+     * the binary encoding produced by {@link #toBinary(Topic)} or
+     * the JSON encoding produced by {@link #toJson(Topic)}.
+     */
+    public static Topic fromBinary(byte[] bytes) {
+        if (!isBinary(bytes)) {
+            return fromJson(bytes);
+        }
+        return fromBinary(bytes, TopicSerialization::readTopic);
+    }
+
+    static void writeTopic(DataOutput out, Topic topic) throws IOException {
+        writeString(out, topic.getOrAsKubeName().toString());
+        writeString(out, topic.getTopicName().toString());
+        ByteUtils.writeVarint(topic.getNumPartitions(), out);
+        ByteUtils.writeVarint(topic.getNumReplicas(), out);
+        Map<String, String> config = topic.getConfig();
+        ByteUtils.writeVarint(config.size(), out);
+        for (Map.Entry<String, String> entry : config.entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+    }
+
+    static Topic readTopic(DataInput in) throws IOException {
+        Topic.Builder builder = new Topic.Builder()
+                .withMapName(readString(in))
+                .withTopicName(readString(in))
+                .withNumPartitions(ByteUtils.readVarint(in))
+                .withNumReplicas((short) ByteUtils.readVarint(in));
+        int configSize = ByteUtils.readVarint(in);
+        for (int i = 0; i < configSize; i++) {
+            builder.withConfigEntry(readString(in), readString(in));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Write a nullable string as its varint length (-1 for null) followed by its UTF-8 bytes.
+     */
+    static void writeString(DataOutput out, String str) throws IOException {
+        if (str == null) {
+            ByteUtils.writeVarint(-1, out);
+        } else {
+            byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            ByteUtils.writeVarint(bytes.length, out);
+            out.write(bytes);
+        }
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = ByteUtils.readVarint(in);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return true if the given bytes use the binary encoding, false if they're (legacy) JSON.
+     */
+    static boolean isBinary(byte[] bytes) {
+        return bytes.length > 0 && bytes[0] == BINARY_MAGIC;
+    }
+
+    /**
+     * A writer of the body of a binary record.
+     */
+    interface BinaryWriter {
+        void write(DataOutput out) throws IOException;
+    }
+
+    /**
+     * A reader of the body of a binary record.
+     */
+    interface BinaryReader<T> {
+        T read(DataInput in) throws IOException;
+    }
+
+    static byte[] toBinary(BinaryWriter writer) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            out.writeByte(BINARY_MAGIC);
+            out.writeByte(BINARY_VERSION);
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return baos.toByteArray();
+    }
+
+    static <T> T fromBinary(byte[] bytes, BinaryReader<T> reader) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte magic = in.readByte();
+            if (magic != BINARY_MAGIC) {
+                throw new IllegalArgumentException("Not a binary topic store record, magic byte was " + magic);
+            }
+            byte version = in.readByte();
+            if (version != BINARY_VERSION) {
+                throw new IllegalArgumentException("Unsupported binary topic store record version " + version);
+            }
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     static byte[] toBytes(BiConsumer<ObjectMapper, ObjectNode> consumer) {
         ObjectMapper mapper = objectMapper();
         ObjectNode root = mapper.createObjectNode();
@@ -0,0 +1,379 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.apache.kafka.common.utils.Utils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * <p>Splits the topics between several topic operator replicas (shards).</p>
+ *
+ * <p>Each replica holds a {@link Lease} which it renews every third of the lease duration.
+ * The replicas whose leases have not expired are the members of a consistent hash ring,
+ * and each topic is owned by the member following the hash of its name on the ring.
+ * When a replica joins or leaves only the topics between it and its predecessors on the ring change owner.
+ * Leases which expired more than a lease duration ago, left behind by replicas which did not shut down
+ * cleanly, are deleted on renewal.</p>
+ *
+ * <p>To hand the topics over cleanly a replica stops reconciling the topics it loses as soon as it
+ * sees the new membership, but only starts reconciling the topics it gains once the membership has been
+ * stable for a whole lease duration. Each replica publishes in its lease the members as it sees them and
+ * the topics it no longer owns but still has reconciliations in flight for. A gained topic is reconciled
+ * only once all the other replicas have seen the new members and have no reconciliations in flight for it.
+ * The {@code onRebalance} handler is then called, so that the gained topics can be reconciled.</p>
+ *
+ * <p>A replica which cannot renew its lease stops owning any topics once the lease expires.
+ * Its reconciliations which are still in flight cannot be cancelled, so the {@code onLeaseExpired} handler
+ * is called to exit before another replica takes the topics over.</p>
+ */
+class TopicShards {
+
+    private final static Logger LOGGER = LogManager.getLogger(TopicShards.class);
+
+    /** The label identifying the topic operator shard leases. */
+    static final String SHARD_LABEL = "strimzi.io/topic-operator-shard";
+    /** The annotation with the members as seen by the holder of the lease. */
+    static final String MEMBERS_ANNOTATION = "strimzi.io/shard-members";
+    /** The annotation with the topics the holder of the lease no longer owns but still reconciles. */
+    static final String RECONCILING_TOPICS_ANNOTATION = "strimzi.io/reconciling-topics";
+    /** The number of points each member has on the hash ring. */
+    static final int VIRTUAL_NODES = 64;
+
+    private final Vertx vertx;
+    private final KubernetesClient client;
+    private final String namespace;
+    private final String shardId;
+    private final long leaseDurationMs;
+    private final LongSupplier clock;
+    private final Supplier<Set<TopicName>> inflightTopics;
+    private final Handler<Void> onRebalance;
+    private final Handler<Void> onLeaseExpired;
+
+    /** The members as of the last renewal. Only accessed from the context which started this. */
+    private Set<String> members = Collections.emptySet();
+    /** When the members last changed. Only accessed from the context which started this. */
+    private long membersChangedMs;
+    /** The members as of the last renewal which have been stable for a lease duration. */
+    private Set<String> settledMembers = Collections.emptySet();
+    private boolean handOverPending;
+    /** The ring as of the last renewal. */
+    private volatile NavigableMap<Integer, String> ring = Collections.emptyNavigableMap();
+    /** The ring as of the last renewal which has been stable for a lease duration. */
+    private volatile NavigableMap<Integer, String> settledRing = Collections.emptyNavigableMap();
+    /** The settled ring whose topics were all handed over to their owners. */
+    private volatile NavigableMap<Integer, String> previousSettledRing = Collections.emptyNavigableMap();
+    /** Whether all the other members have published that they see the settled members. */
+    private volatile boolean othersSeeSettledMembers;
+    /** The topics which the other members published as still being reconciled by them. */
+    private volatile Set<String> topicsReconciledByOthers = Collections.emptySet();
+    private volatile long validUntilMs;
+    private volatile Long timerId;
+    private volatile Long expiryTimerId;
+    private volatile boolean stopped;
+
+    TopicShards(Vertx vertx, KubernetesClient client, String namespace, String shardId, long leaseDurationMs,
+                Supplier<Set<TopicName>> inflightTopics, Handler<Void> onRebalance, Handler<Void> onLeaseExpired) {
+        this(vertx, client, namespace, shardId, leaseDurationMs, System::currentTimeMillis, inflightTopics, onRebalance, onLeaseExpired);
+    }
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    /* test */ TopicShards(Vertx vertx, KubernetesClient client, String namespace, String shardId, long leaseDurationMs, LongSupplier clock,
+                Supplier<Set<TopicName>> inflightTopics, Handler<Void> onRebalance, Handler<Void> onLeaseExpired) {
+        this.vertx = vertx;
+        this.client = client;
+        this.namespace = namespace;
+        this.shardId = shardId;
+        this.leaseDurationMs = leaseDurationMs;
+        this.clock = clock;
+        this.inflightTopics = inflightTopics;
+        this.onRebalance = onRebalance;
+        this.onLeaseExpired = onLeaseExpired;
+    }
+
+    /**
+     * Take out this replica's lease and start renewing it.
+     * @return A future which completes once the lease has been taken out.
+     */
+    Future<Void> start() {
+        return renew().onComplete(ignored -> {
+            scheduleRenewal();
+            // Independent of the renewals, which might be stuck while the Kubernetes API is not available
+            expiryTimerId = vertx.setPeriodic(renewalIntervalMs(), id -> checkLeaseExpiry());
+        });
+    }
+
+    /**
+     * Stop renewing this replica's lease and delete it, so that the other replicas can take over its topics
+     * without waiting for the lease to expire.
+     * @return A future which completes once the lease has been deleted.
+     */
+    Future<Void> stop() {
+        stopped = true;
+        Long timerId = this.timerId;
+        if (timerId != null) {
+            vertx.cancelTimer(timerId);
+        }
+        Long expiryTimerId = this.expiryTimerId;
+        if (expiryTimerId != null) {
+            vertx.cancelTimer(expiryTimerId);
+        }
+        ring = Collections.emptyNavigableMap();
+        settledRing = Collections.emptyNavigableMap();
+        return vertx.executeBlocking(promise -> {
+            client.leases().inNamespace(namespace).withName(leaseName(shardId)).delete();
+            LOGGER.info("Deleted lease {} of shard {}", leaseName(shardId), shardId);
+            promise.complete();
+        });
+    }
+
+    /**
+     * @param topicName The topic.
+     * @return Whether the given topic is currently owned by this replica.
+     */
+    boolean owns(TopicName topicName) {
+        if (stopped || clock.getAsLong() >= validUntilMs) {
+            return false;
+        }
+        if (!shardId.equals(owner(ring, topicName))
+                || !shardId.equals(owner(settledRing, topicName))) {
+            return false;
+        }
+        return shardId.equals(owner(previousSettledRing, topicName))
+                || isHandedOver(topicName);
+    }
+
+    /**
+     * A gained topic is handed over once all the other members have seen the settled members,
+     * so that they don't start any new reconciliations of it, and none of them still reconciles it.
+     */
+    private boolean isHandedOver(TopicName topicName) {
+        return othersSeeSettledMembers && !topicsReconciledByOthers.contains(topicName.toString());
+    }
+
+    /**
+     * @return Whether some of the topics gained by this replica might not have been handed over yet.
+     */
+    private boolean isHandOverPending() {
+        if (!othersSeeSettledMembers) {
+            return true;
+        }
+        for (String topic : topicsReconciledByOthers) {
+            TopicName topicName = new TopicName(topic);
+            if (shardId.equals(owner(settledRing, topicName))
+                    && !shardId.equals(owner(previousSettledRing, topicName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The members of the ring as of the last renewal.
+     */
+    Set<String> members() {
+        return Collections.unmodifiableSet(members);
+    }
+
+    private long renewalIntervalMs() {
+        return Math.max(1, leaseDurationMs / 3);
+    }
+
+    private void scheduleRenewal() {
+        if (!stopped) {
+            timerId = vertx.setTimer(renewalIntervalMs(), id -> {
+                timerId = null;
+                renew().onComplete(ignored -> scheduleRenewal());
+            });
+        }
+    }
+
+    /**
+     * Renew this replica's lease, publishing the members as this replica sees them and the topics it no longer
+     * owns but still reconciles, refresh the members, and delete the leases which expired a long time ago.
+     * Only the topics which this replica does not own are published, which keeps the lease small.
+     * @return A future which completes once the lease has been renewed.
+     */
+    /* test */ Future<Void> renew() {
+        long now = clock.getAsLong();
+        // The members are read before the in-flight topics: once the other members see the members they expect,
+        // the published topics include all the reconciliations which might have been started for the topics they gained
+        Set<String> publishedMembers = members;
+        NavigableMap<Integer, String> publishedRing = ring(publishedMembers);
+        Set<String> publishedTopics = new TreeSet<>();
+        for (TopicName topicName : inflightTopics.get()) {
+            if (!shardId.equals(owner(publishedRing, topicName))) {
+                publishedTopics.add(topicName.toString());
+            }
+        }
+        return vertx.<Map<String, Lease>>executeBlocking(promise -> {
+            client.leases().inNamespace(namespace).withName(leaseName(shardId)).createOrReplace(lease(now, publishedMembers, publishedTopics));
+            Map<String, Lease> others = new HashMap<>();
+            for (Lease lease : client.leases().inNamespace(namespace).withLabel(SHARD_LABEL, "true").list().getItems()) {
+                String holder = lease.getSpec() != null ? lease.getSpec().getHolderIdentity() : null;
+                long expiresAtMs = expiresAtMs(lease);
+                if (expiresAtMs > now && holder != null && !shardId.equals(holder)) {
+                    others.put(holder, lease);
+                } else if (expiresAtMs + leaseDurationMs < now) {
+                    String name = lease.getMetadata().getName();
+                    LOGGER.info("Deleting lease {} of a former topic operator shard", name);
+                    try {
+                        client.leases().inNamespace(namespace).withName(name).delete();
+                    } catch (RuntimeException e) {
+                        LOGGER.warn("Error deleting lease {}", name, e);
+                    }
+                }
+            }
+            promise.complete(others);
+        }).<Void>map(others -> {
+            validUntilMs = now + leaseDurationMs;
+            Set<String> live = new TreeSet<>(others.keySet());
+            live.add(shardId);
+            if (!live.equals(members)) {
+                LOGGER.info("Topic operator shards changed from {} to {}", members, live);
+                ring = ring(live);
+                members = live;
+                membersChangedMs = now;
+            } else if (!settledMembers.equals(members) && now - membersChangedMs >= leaseDurationMs) {
+                LOGGER.info("Topic operator shards {} settled", members);
+                settledMembers = members;
+                settledRing = ring;
+                handOverPending = true;
+            }
+            updateOthers(others);
+            maybeCompleteHandOver();
+            return null;
+        }).recover(error -> {
+            LOGGER.warn("Error renewing lease {} of shard {}", leaseName(shardId), shardId, error);
+            return Future.succeededFuture();
+        });
+    }
+
+    private void updateOthers(Map<String, Lease> others) {
+        boolean othersSeeSettledMembers = true;
+        Set<String> topicsReconciledByOthers = new TreeSet<>();
+        for (Lease lease : others.values()) {
+            if (!annotationValues(lease, MEMBERS_ANNOTATION).equals(settledMembers)) {
+                othersSeeSettledMembers = false;
+            }
+            topicsReconciledByOthers.addAll(annotationValues(lease, RECONCILING_TOPICS_ANNOTATION));
+        }
+        this.topicsReconciledByOthers = topicsReconciledByOthers;
+        this.othersSeeSettledMembers = othersSeeSettledMembers;
+    }
+
+    private void maybeCompleteHandOver() {
+        if (handOverPending) {
+            if (isHandOverPending()) {
+                LOGGER.info("Waiting for the other topic operator shards to hand the topics over to {}", shardId);
+            } else {
+                LOGGER.info("Topics were handed over to {}", shardId);
+                previousSettledRing = settledRing;
+                handOverPending = false;
+                onRebalance.handle(null);
+            }
+        }
+    }
+
+    /* test */ void checkLeaseExpiry() {
+        if (!stopped && clock.getAsLong() >= validUntilMs) {
+            Set<TopicName> topics = inflightTopics.get();
+            if (!topics.isEmpty()) {
+                LOGGER.error("Lease {} of shard {} expired while reconciling topics {}. Exiting before another shard takes them over.",
+                        leaseName(shardId), shardId, topics);
+                onLeaseExpired.handle(null);
+            }
+        }
+    }
+
+    /* test */ static String leaseName(String shardId) {
+        return "strimzi-topic-operator-shard-" + shardId;
+    }
+
+    private Lease lease(long renewTimeMs, Set<String> publishedMembers, Set<String> publishedTopics) {
+        return new LeaseBuilder()
+                .withNewMetadata()
+                    .withName(leaseName(shardId))
+                    .withNamespace(namespace)
+                    .withLabels(Collections.singletonMap(SHARD_LABEL, "true"))
+                    .withAnnotations(Map.of(MEMBERS_ANNOTATION, String.join(",", publishedMembers),
+                            RECONCILING_TOPICS_ANNOTATION, String.join(",", publishedTopics)))
+                .endMetadata()
+                .withNewSpec()
+                    .withHolderIdentity(shardId)
+                    .withLeaseDurationSeconds((int) Math.max(1, (leaseDurationMs + 999) / 1000))
+                    .withRenewTime(ZonedDateTime.ofInstant(Instant.ofEpochMilli(renewTimeMs), ZoneOffset.UTC))
+                .endSpec()
+                .build();
+    }
+
+    /**
+     * @param lease The lease.
+     * @param annotation The annotation with comma-separated values.
+     * @return The values of the annotation, or an empty set if it is not set.
+     */
+    /* test */ static Set<String> annotationValues(Lease lease, String annotation) {
+        String value = lease.getMetadata().getAnnotations() != null ? lease.getMetadata().getAnnotations().get(annotation) : null;
+        if (value == null || value.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new TreeSet<>(Set.of(value.split(",")));
+    }
+
+    /**
+     * @param lease The lease.
+     * @return When the lease expires, in milliseconds. Leases without a renew time or duration have already expired.
+     */
+    private static long expiresAtMs(Lease lease) {
+        if (lease.getSpec() == null
+                || lease.getSpec().getRenewTime() == null
+                || lease.getSpec().getLeaseDurationSeconds() == null) {
+            return 0;
+        }
+        return lease.getSpec().getRenewTime().toInstant().toEpochMilli() + lease.getSpec().getLeaseDurationSeconds() * 1_000L;
+    }
+
+    /* test */ static NavigableMap<Integer, String> ring(Set<String> members) {
+        NavigableMap<Integer, String> ring = new TreeMap<>();
+        for (String member : members) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(member + "-" + i), member);
+            }
+        }
+        return ring;
+    }
+
+    /* test */ static String owner(NavigableMap<Integer, String> ring, TopicName topicName) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Integer, String> entry = ring.ceilingEntry(hash(topicName.toString()));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    private static int hash(String key) {
+        return Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8)));
+    }
+}
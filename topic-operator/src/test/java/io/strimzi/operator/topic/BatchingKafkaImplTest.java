@@ -0,0 +1,164 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
+import org.apache.kafka.clients.admin.DeleteTopicsResult;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class BatchingKafkaImplTest {
+
+    private final Vertx vertx = Vertx.vertx();
+
+    @AfterEach
+    public void teardown() {
+        vertx.close();
+    }
+
+    private static KafkaFuture<Void> result(String topicName) {
+        KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+        if (topicName.startsWith("existing")) {
+            future.completeExceptionally(new TopicExistsException(topicName));
+        } else {
+            future.complete(null);
+        }
+        return future;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCreatesAreCoalesced(VertxTestContext context) {
+        Admin admin = mock(Admin.class);
+        List<List<String>> requests = new ArrayList<>();
+        when(admin.createTopics(any(Collection.class))).thenAnswer(invocation -> {
+            Collection<NewTopic> newTopics = invocation.getArgument(0);
+            List<String> names = newTopics.stream().map(NewTopic::name).collect(Collectors.toList());
+            requests.add(names);
+            Map<String, KafkaFuture<Void>> values = new HashMap<>();
+            names.forEach(name -> values.put(name, result(name)));
+            CreateTopicsResult result = mock(CreateTopicsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        BatchingKafkaImpl kafka = new BatchingKafkaImpl(admin, vertx, 100, 1000);
+        Future<Void> foo = kafka.createTopic(Reconciliation.DUMMY_RECONCILIATION, new Topic.Builder("foo", 1).build());
+        Future<Void> bar = kafka.createTopic(Reconciliation.DUMMY_RECONCILIATION, new Topic.Builder("bar", 2).build());
+        Future<Void> existing = kafka.createTopic(Reconciliation.DUMMY_RECONCILIATION, new Topic.Builder("existing", 3).build());
+
+        Checkpoint checkpoint = context.checkpoint(2);
+        CompositeFuture.all(foo, bar).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(requests, is(asList(asList("foo", "bar", "existing"))));
+            checkpoint.flag();
+        })));
+        existing.onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e, instanceOf(TopicExistsException.class));
+            checkpoint.flag();
+        })));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testResultsAreCompletedOnTheContextsOfTheirTopics(VertxTestContext context) throws ExecutionException, InterruptedException {
+        Admin admin = mock(Admin.class);
+        List<List<String>> requests = new ArrayList<>();
+        when(admin.createTopics(any(Collection.class))).thenAnswer(invocation -> {
+            Collection<NewTopic> newTopics = invocation.getArgument(0);
+            List<String> names = newTopics.stream().map(NewTopic::name).collect(Collectors.toList());
+            requests.add(names);
+            Map<String, KafkaFuture<Void>> values = new HashMap<>();
+            names.forEach(name -> values.put(name, result(name)));
+            CreateTopicsResult result = mock(CreateTopicsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        // Find two topics owned by different contexts
+        TopicContexts contexts = TopicContexts.deploy(vertx, 2).toCompletionStage().toCompletableFuture().get();
+        TopicName foo = new TopicName("foo");
+        TopicName bar = IntStream.range(0, 100).mapToObj(i -> new TopicName("bar-" + i))
+                .filter(topicName -> contexts.contextFor(topicName) != contexts.contextFor(foo))
+                .findFirst().orElseThrow();
+
+        BatchingKafkaImpl kafka = new BatchingKafkaImpl(admin, vertx, 100, 1000);
+        Checkpoint checkpoint = context.checkpoint(2);
+        for (TopicName topicName : asList(foo, bar)) {
+            Context topicContext = contexts.contextFor(topicName);
+            topicContext.runOnContext(ignored -> kafka.createTopic(Reconciliation.DUMMY_RECONCILIATION, new Topic.Builder(topicName, 1).build())
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    // Both topics share one request, but each result is completed on the context of its topic
+                    assertThat(requests.size(), is(1));
+                    assertThat(Set.copyOf(requests.get(0)), is(Set.of(foo.toString(), bar.toString())));
+                    assertThat(Vertx.currentContext(), is(sameInstance(topicContext)));
+                    checkpoint.flag();
+                }))));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchIsSentWhenFullOrTopicRepeated(VertxTestContext context) {
+        Admin admin = mock(Admin.class);
+        List<List<String>> requests = new ArrayList<>();
+        when(admin.deleteTopics(any(Collection.class))).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            requests.add(new ArrayList<>(names));
+            Map<String, KafkaFuture<Void>> values = new HashMap<>();
+            names.forEach(name -> values.put(name, result(name)));
+            DeleteTopicsResult result = mock(DeleteTopicsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        BatchingKafkaImpl kafka = new BatchingKafkaImpl(admin, vertx, 60_000, 3);
+        Future<Void> a = kafka.deleteTopic(Reconciliation.DUMMY_RECONCILIATION, new TopicName("a"));
+        Future<Void> b = kafka.deleteTopic(Reconciliation.DUMMY_RECONCILIATION, new TopicName("b"));
+        // a is already pending, so the pending batch gets sent first
+        Future<Void> a2 = kafka.deleteTopic(Reconciliation.DUMMY_RECONCILIATION, new TopicName("a"));
+        Future<Void> c = kafka.deleteTopic(Reconciliation.DUMMY_RECONCILIATION, new TopicName("c"));
+        // the batch is now full
+        Future<Void> d = kafka.deleteTopic(Reconciliation.DUMMY_RECONCILIATION, new TopicName("d"));
+
+        CompositeFuture.all(a, b, a2, c, d).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(requests, is(asList(asList("a", "b"), asList("a", "c", "d"))));
+            context.completeNow();
+        })));
+    }
+}
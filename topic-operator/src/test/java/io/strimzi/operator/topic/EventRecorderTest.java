@@ -0,0 +1,141 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.Event;
+import io.fabric8.kubernetes.api.model.EventBuilder;
+import io.fabric8.kubernetes.api.model.EventList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.V1APIGroupDSL;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class EventRecorderTest {
+
+    private final Vertx vertx = Vertx.vertx();
+    private final List<Event> created = new CopyOnWriteArrayList<>();
+    private final List<Event> replaced = new CopyOnWriteArrayList<>();
+    private KubernetesClient client;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        AtomicInteger names = new AtomicInteger();
+        MixedOperation<Event, EventList, Resource<Event>> events = mock(MixedOperation.class);
+        when(events.inNamespace(anyString())).thenReturn(events);
+        when(events.create(any(Event.class))).thenAnswer(invocation -> {
+            Event event = new EventBuilder((Event) invocation.getArgument(0))
+                    .editMetadata().withName("event-" + names.getAndIncrement()).endMetadata()
+                    .build();
+            created.add(event);
+            return event;
+        });
+        when(events.withName(anyString())).thenAnswer(invocation -> {
+            Resource<Event> resource = mock(Resource.class);
+            when(resource.replace(any(Event.class))).thenAnswer(invocation2 -> {
+                Event event = invocation2.getArgument(0);
+                replaced.add(event);
+                return event;
+            });
+            return resource;
+        });
+        V1APIGroupDSL v1 = mock(V1APIGroupDSL.class);
+        when(v1.events()).thenReturn(events);
+        client = mock(KubernetesClient.class);
+        when(client.v1()).thenReturn(v1);
+    }
+
+    @AfterEach
+    public void teardown() {
+        vertx.close();
+    }
+
+    private static Event event(String objectName, String message) {
+        return new EventBuilder()
+                .withNewMetadata().withGenerateName("topic-operator").withNamespace("ns").endMetadata()
+                .withNewInvolvedObject().withKind("KafkaTopic").withName(objectName).withNamespace("ns").endInvolvedObject()
+                .withType("Warning")
+                .withMessage(message)
+                .build();
+    }
+
+    @Test
+    public void testRepeatedEventsAreAggregated(VertxTestContext context) {
+        EventRecorder recorder = new EventRecorder(vertx, client, "ns", 100, 10);
+        for (int i = 0; i < 5; i++) {
+            recorder.record(event("my-topic", "Failure"));
+        }
+        vertx.setTimer(500, id -> {
+            context.verify(() -> {
+                assertThat(created.size(), is(1));
+                assertThat(created.get(0).getCount(), is(5));
+                assertThat(created.get(0).getSeries(), is(notNullValue()));
+                assertThat(replaced.size(), is(0));
+            });
+            recorder.record(event("my-topic", "Failure"));
+            recorder.record(event("my-topic", "Failure"));
+            vertx.setTimer(500, id2 -> context.verify(() -> {
+                assertThat(created.size(), is(1));
+                assertThat(replaced.size(), is(1));
+                assertThat(replaced.get(0).getMetadata().getName(), is("event-0"));
+                assertThat(replaced.get(0).getCount(), is(7));
+                assertThat(replaced.get(0).getSeries().getCount(), is(7));
+                context.completeNow();
+            }));
+        });
+    }
+
+    @Test
+    public void testEventsAreRateLimitedPerObject(VertxTestContext context) {
+        EventRecorder recorder = new EventRecorder(vertx, client, "ns", 100, 1000);
+        for (int i = 0; i < EventRecorder.OBJECT_BURST + 5; i++) {
+            recorder.record(event("my-topic", "Failure " + i));
+        }
+        recorder.record(event("other-topic", "Failure"));
+        vertx.setTimer(500, id -> context.verify(() -> {
+            assertThat(created.size(), is(EventRecorder.OBJECT_BURST + 1));
+            assertThat(created.get(0).getSeries(), is(nullValue()));
+            assertThat(recorder.dropped(), is(5L));
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void testWritesAreRateLimitedGlobally(VertxTestContext context) {
+        // one write per 300ms flush
+        EventRecorder recorder = new EventRecorder(vertx, client, "ns", 300, 4);
+        for (int i = 0; i < 3; i++) {
+            recorder.record(event("topic-" + i, "Failure"));
+        }
+        vertx.setTimer(450, id -> {
+            context.verify(() -> assertThat(created.size(), is(1)));
+            vertx.setTimer(1000, id2 -> context.verify(() -> {
+                assertThat(created.size(), is(3));
+                context.completeNow();
+            }));
+        });
+    }
+}
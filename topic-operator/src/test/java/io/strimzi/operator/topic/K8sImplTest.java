@@ -66,7 +66,8 @@ public class K8sImplTest {
             return ktl;
         });
 
-        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default");
+        K8sImpl k8s = new K8sImpl(vertx, mockClient, new Labels("foo", "bar"), "default",
+                new EventRecorder(vertx, mockClient, "default", 1000, 10));
 
         k8s.listResources().onComplete(context.succeeding(kafkaTopics -> context.verify(() -> {
             assertThat(kafkaTopics, is(mockKafkaTopicsList));
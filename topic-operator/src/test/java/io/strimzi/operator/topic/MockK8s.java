@@ -125,7 +125,7 @@ public class MockK8s implements K8s {
         return handler.future();
     }
 
-    private List<KafkaTopicStatus> statuses = new ArrayList<>();
+    private List<KafkaTopicStatus> statuses = Collections.synchronizedList(new ArrayList<>());
 
     public List<KafkaTopicStatus> getStatuses() {
         return Collections.unmodifiableList(statuses);
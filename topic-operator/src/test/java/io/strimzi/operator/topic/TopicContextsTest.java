@@ -0,0 +1,47 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class TopicContextsTest {
+
+    private final Vertx vertx = Vertx.vertx();
+
+    @AfterEach
+    public void teardown() {
+        vertx.close();
+    }
+
+    @Test
+    public void testTopicsArePartitionedBetweenContexts(VertxTestContext context) {
+        TopicContexts.deploy(vertx, 4).onComplete(context.succeeding(contexts -> context.verify(() -> {
+            assertThat(contexts.size(), is(4));
+            Set<Context> used = new HashSet<>();
+            for (int i = 0; i < 100; i++) {
+                Context owner = contexts.contextFor(new TopicName("topic-" + i));
+                // the same topic is always owned by the same context
+                assertThat(contexts.contextFor(new TopicName("topic-" + i)), is(sameInstance(owner)));
+                used.add(owner);
+            }
+            assertThat(used.size(), is(4));
+            context.completeNow();
+        })));
+    }
+}
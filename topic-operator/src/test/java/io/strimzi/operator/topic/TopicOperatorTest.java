@@ -17,6 +17,7 @@ import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
@@ -38,9 +39,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -48,6 +52,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static io.fabric8.kubernetes.client.Watcher.Action.ADDED;
 import static io.fabric8.kubernetes.client.Watcher.Action.DELETED;
 import static io.fabric8.kubernetes.client.Watcher.Action.MODIFIED;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
@@ -1355,6 +1360,53 @@ public class TopicOperatorTest {
         }));
     }
 
+    @Test
+    public void testReconcileAllTopicsWithPartitionedContexts(VertxTestContext context) throws InterruptedException {
+        int topicCount = 200;
+        Map<TopicName, Integer> storeReads = new ConcurrentHashMap<>();
+        Set<Context> readContexts = ConcurrentHashMap.newKeySet();
+        MockTopicStore topicStore = new MockTopicStore() {
+            @Override
+            public Future<Topic> read(TopicName name) {
+                storeReads.merge(name, 1, Integer::sum);
+                readContexts.add(Vertx.currentContext());
+                return super.read(name);
+            }
+        };
+
+        Set<String> topicNames = new HashSet<>();
+        CountDownLatch topicsCreatedInK8sAndStored = new CountDownLatch(2 * topicCount);
+        for (int i = 0; i < topicCount; i++) {
+            Topic topic = new Topic.Builder("topic-" + i, 1, (short) 1, emptyMap()).build();
+            topicNames.add(topic.getTopicName().toString());
+            mockK8s.setCreateResponse(topic.getResourceName(), null);
+            mockK8s.createResource(TopicSerialization.toTopicResource(topic, labels)).onComplete(ar -> topicsCreatedInK8sAndStored.countDown());
+            topicStore.setCreateTopicResponse(topic.getTopicName(), null);
+            topicStore.create(topic).onComplete(ar -> topicsCreatedInK8sAndStored.countDown());
+        }
+        topicsCreatedInK8sAndStored.await();
+        mockKafka.setTopicsList(topicNames);
+        mockKafka.setTopicMetadataResponse(topicName -> Future.succeededFuture(Utils.getTopicMetadata(new Topic.Builder(topicName, 1, (short) 1, emptyMap()).build())));
+
+        Checkpoint async = context.checkpoint();
+        TopicContexts.deploy(vertx, 4)
+            .compose(contexts -> new TopicOperator(vertx, mockKafka, mockK8s, topicStore, labels, "default-namespace", config, metrics, contexts, null)
+                    .reconcileAllTopics("periodic"))
+            .onComplete(context.succeeding(e -> context.verify(() -> {
+                // The topics were reconciled from Kafka on the contexts owning them
+                assertThat(readContexts.size(), is(4));
+                // Each topic was reconciled from Kafka exactly once and none of them was lost from the results
+                assertThat(storeReads.size(), is(topicCount));
+                assertThat(storeReads.values().stream().allMatch(reads -> reads == 1), is(true));
+
+                MeterRegistry registry = metrics.meterRegistry();
+                assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations").tag("kind", "KafkaTopic").counter().count(), is((double) topicCount));
+                assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "KafkaTopic").counter().count(), is((double) topicCount));
+                assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.failed").tag("kind", "KafkaTopic").counter().count(), is(0.0));
+                async.flag();
+            })));
+    }
+
     /**
      * Created new MetricsProvider and makes sure it doesn't contain any metrics from previous tests.
      *
@@ -0,0 +1,117 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing the JSON and the binary encodings of the records in the {@link KafkaStreamsTopicStore}.
+ * This is not run as part of the build. To run it:
+ * <pre>
+ *     mvn -pl topic-operator test-compile
+ *     mvn -pl topic-operator exec:java -Dexec.classpathScope=test \
+ *         -Dexec.mainClass=io.strimzi.operator.topic.TopicSerializationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TopicSerializationBenchmark {
+
+    @Param({"0", "5", "20"})
+    public int configEntries;
+
+    private final TopicSerde topicSerde = new TopicSerde();
+    private final TopicCommandSerde commandSerde = new TopicCommandSerde();
+
+    private Topic topic;
+    private TopicCommand command;
+    private byte[] topicJson;
+    private byte[] topicBinary;
+    private byte[] commandJson;
+    private byte[] commandBinary;
+
+    @Setup
+    public void setup() {
+        Topic.Builder builder = new Topic.Builder()
+                .withTopicName("my-topic-with-a-reasonably-long-name")
+                .withMapName("my-topic-with-a-reasonably-long-name")
+                .withNumPartitions(12)
+                .withNumReplicas((short) 3);
+        for (int i = 0; i < configEntries; i++) {
+            builder.withConfigEntry("config.entry." + i, String.valueOf(i * 1000L));
+        }
+        topic = builder.build();
+        command = TopicCommand.update(topic);
+        topicJson = TopicSerialization.toJson(topic);
+        topicBinary = topicSerde.serialize("dummy", topic);
+        commandJson = commandSerde.serializeJson(command);
+        commandBinary = commandSerde.serialize("dummy", command);
+    }
+
+    @Benchmark
+    public byte[] serializeTopicJson() {
+        return TopicSerialization.toJson(topic);
+    }
+
+    @Benchmark
+    public byte[] serializeTopicBinary() {
+        return topicSerde.serialize("dummy", topic);
+    }
+
+    @Benchmark
+    public Topic deserializeTopicJson() {
+        return topicSerde.deserialize("dummy", topicJson);
+    }
+
+    @Benchmark
+    public Topic deserializeTopicBinary() {
+        return topicSerde.deserialize("dummy", topicBinary);
+    }
+
+    @Benchmark
+    public byte[] serializeCommandJson() {
+        return commandSerde.serializeJson(command);
+    }
+
+    @Benchmark
+    public byte[] serializeCommandBinary() {
+        return commandSerde.serialize("dummy", command);
+    }
+
+    @Benchmark
+    public TopicCommand deserializeCommandJson() {
+        return commandSerde.deserialize("dummy", commandJson);
+    }
+
+    @Benchmark
+    public TopicCommand deserializeCommandBinary() {
+        return commandSerde.deserialize("dummy", commandBinary);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TopicSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
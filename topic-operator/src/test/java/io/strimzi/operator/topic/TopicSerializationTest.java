@@ -49,7 +49,10 @@ public class TopicSerializationTest {
 
         TopicCommand data = TopicCommand.create(topic);
         byte[] bytes = serde.serialize("dummy", data);
+        Assertions.assertEquals(TopicSerialization.BINARY_MAGIC, bytes[0]);
+        String uuid = data.getUuid();
         data = serde.deserialize("dummy", bytes);
+        Assertions.assertEquals(uuid, data.getUuid());
         Assertions.assertEquals(TopicCommand.Type.CREATE, data.getType());
         Assertions.assertEquals(topic, data.getTopic());
         Assertions.assertEquals(TopicCommand.CURRENT_VERSION, data.getVersion());
@@ -148,6 +151,71 @@ public class TopicSerializationTest {
     }
 
 
+    @Test
+    public void testBinarySerializationRoundTrip() {
+        Topic wroteTopic = new Topic.Builder()
+                .withTopicName("tom")
+                .withMapName("bob")
+                .withNumReplicas((short) 3)
+                .withNumPartitions(300)
+                .withConfigEntry("foo", "bar")
+                .withConfigEntry("sensitive", null)
+                .build();
+        byte[] bytes = TopicSerialization.toBinary(wroteTopic);
+        assertThat(bytes[0], is(TopicSerialization.BINARY_MAGIC));
+        assertThat(bytes[1], is(TopicSerialization.BINARY_VERSION));
+        assertThat(bytes.length < TopicSerialization.toJson(wroteTopic).length, is(true));
+        Topic readTopic = TopicSerialization.fromBinary(bytes);
+        assertThat(readTopic, is(wroteTopic));
+        assertThat(readTopic.getResourceName(), is(new ResourceName("bob")));
+    }
+
+    @Test
+    public void testBinaryDeserializationOfJson() {
+        Topic wroteTopic = new Topic.Builder()
+                .withTopicName("tom")
+                .withMapName("bob")
+                .withNumReplicas((short) 1)
+                .withNumPartitions(2)
+                .withConfigEntry("foo", "bar")
+                .build();
+        Topic readTopic = new TopicSerde().deserialize("dummy", TopicSerialization.toJson(wroteTopic));
+        assertThat(readTopic, is(wroteTopic));
+    }
+
+    @Test
+    public void testBinaryDeserializationOfUnknownVersion() {
+        byte[] bytes = TopicSerialization.toBinary(new Topic.Builder("tom", 1).build());
+        bytes[1] = TopicSerialization.BINARY_VERSION + 1;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TopicSerialization.fromBinary(bytes));
+    }
+
+    @Test
+    public void testTopicCommandSerdeReadsJson() {
+        TopicCommandSerde serde = new TopicCommandSerde();
+
+        Topic topic = new Topic.Builder()
+                .withTopicName("foobar")
+                .withNumPartitions(2)
+                .withNumReplicas((short) 1)
+                .withConfigEntry("cleanup.policy", "bar")
+                .build();
+        TopicCommand wrote = TopicCommand.update(topic);
+        TopicCommand read = serde.deserialize("dummy", serde.serializeJson(wrote));
+        Assertions.assertEquals(wrote.getUuid(), read.getUuid());
+        Assertions.assertEquals(TopicCommand.Type.UPDATE, read.getType());
+        Assertions.assertEquals(topic, read.getTopic());
+        Assertions.assertEquals(TopicCommand.CURRENT_VERSION, read.getVersion());
+
+        TopicName tn = new TopicName("deleteme");
+        wrote = TopicCommand.delete(tn);
+        read = serde.deserialize("dummy", serde.serializeJson(wrote));
+        Assertions.assertEquals(wrote.getUuid(), read.getUuid());
+        Assertions.assertEquals(TopicCommand.Type.DELETE, read.getType());
+        Assertions.assertEquals(tn, read.getName());
+    }
+
+
     @Test
     public void testToNewTopic() {
         Topic topic = new Topic.Builder()
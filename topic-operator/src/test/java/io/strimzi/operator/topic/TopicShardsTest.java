@@ -0,0 +1,170 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.test.mockkube.MockKube;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+public class TopicShardsTest {
+
+    private static final long LEASE_DURATION_MS = 15_000;
+    private static final List<TopicName> TOPICS = IntStream.range(0, 100).mapToObj(i -> new TopicName("topic-" + i)).collect(Collectors.toList());
+
+    private final Vertx vertx = Vertx.vertx();
+
+    @AfterEach
+    public void teardown() {
+        vertx.close();
+    }
+
+    @Test
+    public void testJoiningMemberOnlyTakesItsShareOfTopics() {
+        NavigableMap<Integer, String> before = TopicShards.ring(Set.of("a", "b", "c"));
+        NavigableMap<Integer, String> after = TopicShards.ring(Set.of("a", "b", "c", "d"));
+        int moved = 0;
+        for (int i = 0; i < 10_000; i++) {
+            TopicName topicName = new TopicName("topic-" + i);
+            String oldOwner = TopicShards.owner(before, topicName);
+            String newOwner = TopicShards.owner(after, topicName);
+            if (!oldOwner.equals(newOwner)) {
+                // topics only ever move to the new member
+                assertThat(newOwner, is("d"));
+                moved++;
+            }
+        }
+        // roughly a quarter of the topics move
+        assertThat(moved, lessThan(4_000));
+    }
+
+    @Test
+    public void testTopicsAreHandedOverWhenShardsJoinAndLeave() throws ExecutionException, InterruptedException {
+        KubernetesClient client = new MockKube().build();
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        AtomicReference<Set<TopicName>> aInflight = new AtomicReference<>(Set.of());
+        AtomicInteger aRebalances = new AtomicInteger();
+        AtomicInteger bRebalances = new AtomicInteger();
+        TopicShards a = new TopicShards(vertx, client, "ns", "a", LEASE_DURATION_MS, clock::get, aInflight::get,
+            ignored -> aRebalances.incrementAndGet(), ignored -> { });
+        TopicShards b = new TopicShards(vertx, client, "ns", "b", LEASE_DURATION_MS, clock::get, Set::of,
+            ignored -> bRebalances.incrementAndGet(), ignored -> { });
+
+        // Nothing is owned until the members have settled
+        renew(a);
+        assertThat(TOPICS.stream().noneMatch(a::owns), is(true));
+        clock.addAndGet(LEASE_DURATION_MS);
+        renew(a);
+        assertThat(TOPICS.stream().allMatch(a::owns), is(true));
+        assertThat(aRebalances.get(), is(1));
+
+        // b joins while a is still reconciling one of the topics b gains
+        NavigableMap<Integer, String> ring = TopicShards.ring(Set.of("a", "b"));
+        List<TopicName> gained = TOPICS.stream().filter(topicName -> "b".equals(TopicShards.owner(ring, topicName))).collect(Collectors.toList());
+        List<TopicName> kept = TOPICS.stream().filter(topicName -> "a".equals(TopicShards.owner(ring, topicName))).collect(Collectors.toList());
+        assertThat(gained.isEmpty() || kept.isEmpty(), is(false));
+        TopicName reconciled = gained.get(0);
+        aInflight.set(Set.of(reconciled, kept.get(0)));
+        renew(b);
+        renew(a);
+        renew(a);
+        assertThat(a.members(), is(Set.of("a", "b")));
+        assertThat(b.members(), is(Set.of("a", "b")));
+        // a stops reconciling the topics it loses immediately and publishes that it still reconciles one of them
+        assertThat(kept.stream().allMatch(a::owns), is(true));
+        assertThat(gained.stream().noneMatch(a::owns), is(true));
+        assertThat(TopicShards.annotationValues(lease(client, "a"), TopicShards.MEMBERS_ANNOTATION), is(Set.of("a", "b")));
+        assertThat(TopicShards.annotationValues(lease(client, "a"), TopicShards.RECONCILING_TOPICS_ANNOTATION), is(Set.of(reconciled.toString())));
+
+        // b takes over the gained topics once they have settled, except the one a still reconciles
+        elapseLeaseDuration(clock, a, b);
+        assertThat(b.owns(reconciled), is(false));
+        assertThat(gained.stream().filter(topicName -> !topicName.equals(reconciled)).allMatch(b::owns), is(true));
+        assertThat(kept.stream().noneMatch(b::owns), is(true));
+        assertThat(bRebalances.get(), is(0));
+
+        aInflight.set(Set.of());
+        renew(a);
+        renew(b);
+        assertThat(gained.stream().allMatch(b::owns), is(true));
+        assertThat(bRebalances.get(), is(1));
+        for (TopicName topicName : TOPICS) {
+            // every topic is owned by exactly one shard
+            assertThat(a.owns(topicName) ^ b.owns(topicName), is(true));
+        }
+
+        // b crashes: its topics go back to a once its lease has expired and the members have settled,
+        // and its lease is deleted once it has been expired for a lease duration
+        clock.addAndGet(LEASE_DURATION_MS + 1);
+        renew(a);
+        assertThat(a.members(), is(Set.of("a")));
+        assertThat(lease(client, "b") != null, is(true));
+        clock.addAndGet(LEASE_DURATION_MS);
+        renew(a);
+        assertThat(lease(client, "b") == null, is(true));
+        assertThat(TOPICS.stream().allMatch(a::owns), is(true));
+    }
+
+    @Test
+    public void testExitsWhenLeaseExpiresWithReconciliationsInflight() throws ExecutionException, InterruptedException {
+        KubernetesClient client = new MockKube().build();
+        AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+        AtomicReference<Set<TopicName>> inflight = new AtomicReference<>(Set.of());
+        AtomicInteger exits = new AtomicInteger();
+        TopicShards a = new TopicShards(vertx, client, "ns", "a", LEASE_DURATION_MS, clock::get, inflight::get,
+            ignored -> { }, ignored -> exits.incrementAndGet());
+
+        renew(a);
+        clock.addAndGet(LEASE_DURATION_MS);
+        renew(a);
+        assertThat(TOPICS.stream().allMatch(a::owns), is(true));
+
+        // The lease cannot be renewed
+        clock.addAndGet(LEASE_DURATION_MS);
+        assertThat(TOPICS.stream().noneMatch(a::owns), is(true));
+        a.checkLeaseExpiry();
+        assertThat(exits.get(), is(0));
+
+        inflight.set(Set.of(TOPICS.get(0)));
+        a.checkLeaseExpiry();
+        assertThat(exits.get(), is(1));
+    }
+
+    /**
+     * Let a lease duration pass, with the shards renewing their leases every third of it.
+     */
+    private static void elapseLeaseDuration(AtomicLong clock, TopicShards... shards) throws ExecutionException, InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            clock.addAndGet(LEASE_DURATION_MS / 3);
+            for (TopicShards shard : shards) {
+                renew(shard);
+            }
+        }
+    }
+
+    private static void renew(TopicShards shards) throws ExecutionException, InterruptedException {
+        shards.renew().toCompletionStage().toCompletableFuture().get();
+    }
+
+    private static Lease lease(KubernetesClient client, String shardId) {
+        return client.leases().inNamespace("ns").withName(TopicShards.leaseName(shardId)).get();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.tracing.agent;
+
+import io.jaegertracing.internal.metrics.Counter;
+import io.jaegertracing.internal.metrics.Gauge;
+import io.jaegertracing.internal.metrics.Metrics;
+import io.jaegertracing.internal.metrics.Timer;
+import io.jaegertracing.spi.MetricsFactory;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanNotificationInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Jaeger metrics factory which exposes the metrics of the tracer as attributes of a single MBean, so that the overhead
+ * of the tracing (sampled and dropped spans, the reporter queue length and so on) can be scraped by the Prometheus JMX
+ * exporter together with the other metrics of the component.
+ */
+public class JmxMetricsFactory implements MetricsFactory, DynamicMBean {
+    public static final String OBJECT_NAME = "io.strimzi.tracing:type=TracingAgent";
+
+    private final Map<String, LongSupplier> attributes = new ConcurrentSkipListMap<>();
+
+    @Override
+    public Counter createCounter(String name, Map<String, String> tags) {
+        LongAdder value = new LongAdder();
+        attributes.put(Metrics.addTagsToMetricName(name, tags), value::sum);
+        return value::add;
+    }
+
+    @Override
+    public Timer createTimer(String name, Map<String, String> tags) {
+        LongAdder count = new LongAdder();
+        LongAdder totalMicros = new LongAdder();
+        String metricName = Metrics.addTagsToMetricName(name, tags);
+        attributes.put(metricName + ".count", count::sum);
+        attributes.put(metricName + ".totalMicros", totalMicros::sum);
+
+        return micros -> {
+            count.increment();
+            totalMicros.add(micros);
+        };
+    }
+
+    @Override
+    public Gauge createGauge(String name, Map<String, String> tags) {
+        AtomicLong value = new AtomicLong();
+        attributes.put(Metrics.addTagsToMetricName(name, tags), value::get);
+        return value::set;
+    }
+
+    /**
+     * Registers the metrics in the platform MBean server
+     *
+     * @throws Exception    When the MBean cannot be registered
+     */
+    public void register() throws Exception {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        LongSupplier value = attributes.get(attribute);
+
+        if (value == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        return value.getAsLong();
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] names) {
+        AttributeList list = new AttributeList();
+
+        for (String name : names) {
+            LongSupplier value = attributes.get(name);
+            if (value != null) {
+                list.add(new Attribute(name, value.getAsLong()));
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("The tracing metrics are read-only");
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        // The tracing metrics have no operations
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        MBeanAttributeInfo[] infos = attributes.keySet().stream()
+                .map(name -> new MBeanAttributeInfo(name, "long", name, true, false, false))
+                .toArray(MBeanAttributeInfo[]::new);
+
+        return new MBeanInfo(getClass().getName(), "Metrics of the tracing agent", infos, null, new MBeanOperationInfo[0], new MBeanNotificationInfo[0]);
+    }
+}
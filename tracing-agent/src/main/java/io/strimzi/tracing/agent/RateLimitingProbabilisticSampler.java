@@ -0,0 +1,75 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.tracing.agent;
+
+import io.jaegertracing.internal.metrics.Counter;
+import io.jaegertracing.internal.samplers.SamplingStatus;
+import io.jaegertracing.internal.utils.RateLimiter;
+import io.jaegertracing.spi.Sampler;
+
+import java.util.Map;
+
+/**
+ * Sampler which samples the traces with the given probability, but never more than the given number of traces per
+ * second. The probability keeps the sampled traces spread over time, while the rate limit bounds the tracing overhead
+ * when the message rate is higher than expected.
+ */
+public class RateLimitingProbabilisticSampler implements Sampler {
+    public static final String TYPE = "ratelimiting-probabilistic";
+
+    private final double samplingRate;
+    private final double maxTracesPerSecond;
+    private final long positiveSamplingBoundary;
+    private final long negativeSamplingBoundary;
+    private final RateLimiter rateLimiter;
+    private final Counter rateLimited;
+    private final Map<String, Object> tags;
+
+    /**
+     * Constructor
+     *
+     * @param samplingRate          Probability of sampling a trace between 0.0 and 1.0
+     * @param maxTracesPerSecond    Maximal number of sampled traces per second
+     * @param rateLimited           Counter of the traces which were not sampled because of the rate limit
+     */
+    public RateLimitingProbabilisticSampler(double samplingRate, double maxTracesPerSecond, Counter rateLimited) {
+        if (samplingRate < 0.0 || samplingRate > 1.0) {
+            throw new IllegalArgumentException("The sampling rate must be between 0.0 and 1.0, received " + samplingRate);
+        }
+
+        this.samplingRate = samplingRate;
+        this.maxTracesPerSecond = maxTracesPerSecond;
+        // The same boundaries as in the Jaeger probabilistic sampler, so that the sampling decision depends only on the trace ID
+        this.positiveSamplingBoundary = (long) (((1L << 63) - 1) * samplingRate);
+        this.negativeSamplingBoundary = (long) ((1L << 63) * samplingRate);
+        this.rateLimiter = new RateLimiter(maxTracesPerSecond, Math.max(maxTracesPerSecond, 1.0));
+        this.rateLimited = rateLimited;
+        this.tags = Map.of("sampler.type", TYPE, "sampler.param", samplingRate);
+    }
+
+    @Override
+    public SamplingStatus sample(String operation, long id) {
+        boolean sampled = id > 0 ? id <= positiveSamplingBoundary : id >= negativeSamplingBoundary;
+
+        if (sampled && !rateLimiter.checkCredit(1.0)) {
+            rateLimited.inc(1);
+            sampled = false;
+        }
+
+        return SamplingStatus.of(sampled, tags);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimitingProbabilisticSampler(" +
+                "samplingRate=" + samplingRate +
+                ", maxTracesPerSecond=" + maxTracesPerSecond +
+                ")";
+    }
+}
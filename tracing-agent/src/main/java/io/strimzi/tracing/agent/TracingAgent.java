@@ -10,12 +10,31 @@ import io.opentracing.util.GlobalTracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+
 /**
  * A very simple Java agent which initializes the Jaeger Tracer
+ *
+ * By default, the tracer is configured only from the Jaeger environment variables. When the
+ * {@code STRIMZI_TRACING_MODE} environment variable is set to {@code production}, the tracer is configured to keep
+ * the overhead low enough to keep the tracing enabled on high throughput components:
+ * <ul>
+ *     <li>The traces are sampled with the probability from {@code STRIMZI_TRACING_SAMPLING_RATE} (0.001 by default), but never
+ *     more than {@code STRIMZI_TRACING_MAX_TRACES_PER_SECOND} traces per second (10 by default).</li>
+ *     <li>The spans are exported asynchronously in batches. The reporter queue is bounded by
+ *     {@code JAEGER_REPORTER_MAX_QUEUE_SIZE} (1000 by default) and the spans are dropped when it is full.</li>
+ *     <li>The metrics of the tracer are exposed in the {@code io.strimzi.tracing:type=TracingAgent} MBean.</li>
+ * </ul>
  */
 public class TracingAgent {
     private static final Logger LOGGER = LoggerFactory.getLogger(TracingAgent.class);
 
+    static final String PRODUCTION_MODE = "production";
+    private static final double DEFAULT_SAMPLING_RATE = 0.001;
+    private static final double DEFAULT_MAX_TRACES_PER_SECOND = 10.0;
+    private static final int DEFAULT_REPORTER_MAX_QUEUE_SIZE = 1000;
+    private static final int DEFAULT_REPORTER_FLUSH_INTERVAL_MS = 1000;
+
     /**
      * Agent entry point
      *
@@ -26,12 +45,80 @@ public class TracingAgent {
             String jaegerServiceName = System.getenv("JAEGER_SERVICE_NAME");
 
             if (jaegerServiceName != null) {
-                LOGGER.info("Initializing Jaeger tracing with service name {}", jaegerServiceName);
-                Tracer tracer = Configuration.fromEnv().getTracer();
+                Tracer tracer;
+
+                if (PRODUCTION_MODE.equals(System.getenv("STRIMZI_TRACING_MODE"))) {
+                    LOGGER.info("Initializing Jaeger tracing in production mode with service name {}", jaegerServiceName);
+                    tracer = productionTracer(System.getenv());
+                } else {
+                    LOGGER.info("Initializing Jaeger tracing with service name {}", jaegerServiceName);
+                    tracer = Configuration.fromEnv().getTracer();
+                }
+
                 GlobalTracer.registerIfAbsent(tracer);
             } else {
                 LOGGER.error("Jaeger tracing cannot be initialized because JAEGER_SERVICE_NAME environment variable is not defined");
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates the tracer with the low overhead sampler and reporter settings
+     *
+     * @param env   The environment variables
+     *
+     * @return  The tracer
+     */
+    static Tracer productionTracer(Map<String, String> env) {
+        JmxMetricsFactory metricsFactory = new JmxMetricsFactory();
+
+        try {
+            metricsFactory.register();
+        } catch (Exception e) {
+            LOGGER.warn("Failed to register the tracing metrics MBean {}", JmxMetricsFactory.OBJECT_NAME, e);
+        }
+
+        double samplingRate = doubleOrDefault(env, "STRIMZI_TRACING_SAMPLING_RATE", DEFAULT_SAMPLING_RATE);
+        if (samplingRate < 0.0 || samplingRate > 1.0) {
+            LOGGER.warn("Sampling rate {} is not between 0.0 and 1.0, using {}", samplingRate, DEFAULT_SAMPLING_RATE);
+            samplingRate = DEFAULT_SAMPLING_RATE;
+        }
+
+        double maxTracesPerSecond = doubleOrDefault(env, "STRIMZI_TRACING_MAX_TRACES_PER_SECOND", DEFAULT_MAX_TRACES_PER_SECOND);
+        RateLimitingProbabilisticSampler sampler = new RateLimitingProbabilisticSampler(samplingRate, maxTracesPerSecond,
+                metricsFactory.createCounter("strimzi_tracing_sampler_rate_limited", Map.of()));
+        LOGGER.info("Using {}", sampler);
+
+        Configuration.ReporterConfiguration reporter = Configuration.ReporterConfiguration.fromEnv();
+        if (reporter.getMaxQueueSize() == null) {
+            reporter.withMaxQueueSize(DEFAULT_REPORTER_MAX_QUEUE_SIZE);
+        }
+        if (reporter.getFlushIntervalMs() == null) {
+            reporter.withFlushInterval(DEFAULT_REPORTER_FLUSH_INTERVAL_MS);
+        }
+
+        return Configuration.fromEnv()
+                // The sampler from the configuration is replaced, so it should not be the remote sampler which polls the agent
+                .withSampler(new Configuration.SamplerConfiguration().withType("const").withParam(1))
+                .withReporter(reporter)
+                .withMetricsFactory(metricsFactory)
+                .getTracerBuilder()
+                .withSampler(sampler)
+                .build();
+    }
+
+    private static double doubleOrDefault(Map<String, String> env, String name, double defaultValue) {
+        String value = env.get(name);
+
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid value {} of {}, using {}", value, name, defaultValue);
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.tracing.agent;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.AttributeNotFoundException;
+import javax.management.ReflectionException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RateLimitingProbabilisticSamplerTest {
+    private static final String RATE_LIMITED = "strimzi_tracing_sampler_rate_limited";
+
+    @Test
+    public void testRateLimitedTracesAreCounted() throws AttributeNotFoundException {
+        JmxMetricsFactory metricsFactory = new JmxMetricsFactory();
+        RateLimitingProbabilisticSampler sampler = new RateLimitingProbabilisticSampler(1.0, 1.0, metricsFactory.createCounter(RATE_LIMITED, Map.of()));
+
+        long sampled = LongStream.rangeClosed(1, 10)
+                .filter(id -> sampler.sample("operation", id).isSampled())
+                .count();
+
+        // The first trace uses up the credit of the rate limiter
+        assertThat(sampled, is(1L));
+        assertThat(metricsFactory.getAttribute(RATE_LIMITED), is(9L));
+    }
+
+    @Test
+    public void testTracesWhichAreNotSampledAreNotRateLimited() throws AttributeNotFoundException {
+        JmxMetricsFactory metricsFactory = new JmxMetricsFactory();
+        RateLimitingProbabilisticSampler sampler = new RateLimitingProbabilisticSampler(0.0, 1.0, metricsFactory.createCounter(RATE_LIMITED, Map.of()));
+
+        long sampled = LongStream.rangeClosed(1, 10)
+                .filter(id -> sampler.sample("operation", id).isSampled())
+                .count();
+
+        assertThat(sampled, is(0L));
+        assertThat(metricsFactory.getAttribute(RATE_LIMITED), is(0L));
+    }
+
+    @Test
+    public void testMetricsMBean() {
+        JmxMetricsFactory metricsFactory = new JmxMetricsFactory();
+        metricsFactory.createCounter(RATE_LIMITED, Map.of());
+
+        assertThat(Arrays.stream(metricsFactory.getMBeanInfo().getAttributes()).anyMatch(info -> RATE_LIMITED.equals(info.getName())), is(true));
+        assertThrows(AttributeNotFoundException.class, () -> metricsFactory.getAttribute("unknown"));
+
+        ReflectionException e = assertThrows(ReflectionException.class, () -> metricsFactory.invoke("reset", new Object[0], new String[0]));
+        assertThat(e.getTargetException(), instanceOf(NoSuchMethodException.class));
+    }
+}
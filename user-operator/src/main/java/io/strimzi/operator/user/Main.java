@@ -17,6 +17,7 @@ import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.operator.AdminApiBatcher;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
 import io.strimzi.operator.user.operator.QuotasOperator;
 import io.strimzi.operator.user.operator.ScramCredentialsOperator;
@@ -79,9 +80,14 @@ public class Main {
         CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> crdOperations = new CrdOperator<>(vertx, client, KafkaUser.class, KafkaUserList.class, KafkaUser.RESOURCE_KIND);
         return createAdminClient(adminClientProvider, config, secretOperations)
                 .compose(adminClient -> {
-                    SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, adminClient);
+                    AdminApiBatcher batcher = null;
+                    if (config.getAdminBatchLingerMs() > 0) {
+                        batcher = new AdminApiBatcher(vertx, adminClient, config.getAdminBatchLingerMs(), config.getAdminBatchMaxSize());
+                    }
+
+                    SimpleAclOperator aclOperations = new SimpleAclOperator(vertx, adminClient, batcher);
                     ScramCredentialsOperator scramCredentialsOperator = new ScramCredentialsOperator(vertx, adminClient);
-                    QuotasOperator quotasOperator = new QuotasOperator(vertx, adminClient);
+                    QuotasOperator quotasOperator = new QuotasOperator(vertx, adminClient, batcher);
 
                     KafkaUserOperator kafkaUserOperations = new KafkaUserOperator(vertx, certManager, crdOperations,
                             secretOperations, scramCredentialsOperator, quotasOperator, aclOperations, config);
@@ -61,10 +61,14 @@ public class UserOperator extends AbstractVerticle {
                 LOGGER.info("Started operator for {} kind", "KafkaUser");
                 watch = w;
 
+                // The operator works without the cache when the clients CA Secrets cannot be watched
+                return kafkaUserOperator.startClientsCaSecretCache().otherwiseEmpty();
+            })
+            .compose(ignored -> {
                 LOGGER.info("Setting up periodic reconciliation for namespace {}", namespace);
                 this.reconcileTimer = vertx.setPeriodic(this.reconciliationInterval, res2 -> {
                     LOGGER.info("Triggering periodic reconciliation for namespace {}", namespace);
-                    reconcileAll("timer");
+                    reconcileAll(KafkaUserOperator.PERIODIC_TRIGGER);
                 });
 
                 return startHealthServer().map((Void) null);
@@ -81,6 +85,9 @@ public class UserOperator extends AbstractVerticle {
             watch.close();
         }
 
+        kafkaUserOperator.stopClientsCaSecretCache();
+        kafkaUserOperator.closeCertificateIssuer();
+
         client.close();
         stop.complete();
     }
@@ -28,12 +28,21 @@ public class UserOperatorConfig {
     public static final String STRIMZI_CLIENTS_CA_RENEWAL = "STRIMZI_CA_RENEWAL";
     public static final String STRIMZI_SECRET_PREFIX = "STRIMZI_SECRET_PREFIX";
     public static final String STRIMZI_ACLS_ADMIN_API_SUPPORTED = "STRIMZI_ACLS_ADMIN_API_SUPPORTED";
+    public static final String STRIMZI_ADMIN_BATCH_LINGER_MS = "STRIMZI_ADMIN_BATCH_LINGER_MS";
+    public static final String STRIMZI_ADMIN_BATCH_MAX_SIZE = "STRIMZI_ADMIN_BATCH_MAX_SIZE";
+    public static final String STRIMZI_CERTIFICATE_ISSUER_POOL_SIZE = "STRIMZI_CERTIFICATE_ISSUER_POOL_SIZE";
+    public static final String STRIMZI_CERTIFICATE_ISSUER_QUEUE_SIZE = "STRIMZI_CERTIFICATE_ISSUER_QUEUE_SIZE";
 
     public static final long DEFAULT_FULL_RECONCILIATION_INTERVAL_MS = 120_000;
     public static final String DEFAULT_KAFKA_BOOTSTRAP_SERVERS = "localhost:9091";
     public static final String DEFAULT_SECRET_PREFIX = "";
     // Defaults to true for backwards compatibility in standalone UO deployments
     public static final boolean DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED = true;
+    // Batching of the ACL and quota changes is disabled by default
+    public static final long DEFAULT_ADMIN_BATCH_LINGER_MS = 0;
+    public static final int DEFAULT_ADMIN_BATCH_MAX_SIZE = 1000;
+    public static final int DEFAULT_CERTIFICATE_ISSUER_POOL_SIZE = 2;
+    public static final int DEFAULT_CERTIFICATE_ISSUER_QUEUE_SIZE = 10_000;
 
     private final String namespace;
     private final long reconciliationIntervalMs;
@@ -48,6 +57,10 @@ public class UserOperatorConfig {
     private final int clientsCaValidityDays;
     private final int clientsCaRenewalDays;
     private final boolean aclsAdminApiSupported;
+    private final long adminBatchLingerMs;
+    private final int adminBatchMaxSize;
+    private final int certificateIssuerPoolSize;
+    private final int certificateIssuerQueueSize;
 
     /**
      * Constructor
@@ -65,6 +78,10 @@ public class UserOperatorConfig {
      * @param aclsAdminApiSupported Indicates whether Kafka Admin API can be used to manage ACL rights
      * @param clientsCaValidityDays Number of days for which the certificate should be valid
      * @param clientsCaRenewalDays How long before the certificate expiration should the user certificate be renewed
+     * @param adminBatchLingerMs How long the ACL and quota changes are held to be merged into combined requests (0 to disable batching)
+     * @param adminBatchMaxSize The maximum number of ACL bindings, ACL filters or quota alterations in a combined request
+     * @param certificateIssuerPoolSize The number of worker threads issuing the user certificates
+     * @param certificateIssuerQueueSize The maximum number of user certificates waiting to be issued
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"})
     public UserOperatorConfig(String namespace,
@@ -79,7 +96,11 @@ public class UserOperatorConfig {
                               String secretPrefix,
                               boolean aclsAdminApiSupported,
                               int clientsCaValidityDays,
-                              int clientsCaRenewalDays) {
+                              int clientsCaRenewalDays,
+                              long adminBatchLingerMs,
+                              int adminBatchMaxSize,
+                              int certificateIssuerPoolSize,
+                              int certificateIssuerQueueSize) {
         this.namespace = namespace;
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.kafkaBootstrapServers = kafkaBootstrapServers;
@@ -93,6 +114,10 @@ public class UserOperatorConfig {
         this.aclsAdminApiSupported = aclsAdminApiSupported;
         this.clientsCaValidityDays = clientsCaValidityDays;
         this.clientsCaRenewalDays = clientsCaRenewalDays;
+        this.adminBatchLingerMs = adminBatchLingerMs;
+        this.adminBatchMaxSize = adminBatchMaxSize;
+        this.certificateIssuerPoolSize = certificateIssuerPoolSize;
+        this.certificateIssuerQueueSize = certificateIssuerQueueSize;
     }
 
     /**
@@ -157,9 +182,31 @@ public class UserOperatorConfig {
 
         int clientsCaRenewalDays = getIntProperty(map, UserOperatorConfig.STRIMZI_CLIENTS_CA_RENEWAL, CertificateAuthority.DEFAULT_CERTS_RENEWAL_DAYS);
 
+        long adminBatchLingerMs = DEFAULT_ADMIN_BATCH_LINGER_MS;
+        String adminBatchLingerMsEnvVar = map.get(UserOperatorConfig.STRIMZI_ADMIN_BATCH_LINGER_MS);
+        if (adminBatchLingerMsEnvVar != null) {
+            adminBatchLingerMs = Long.parseLong(adminBatchLingerMsEnvVar);
+        }
+
+        int adminBatchMaxSize = getIntProperty(map, UserOperatorConfig.STRIMZI_ADMIN_BATCH_MAX_SIZE, DEFAULT_ADMIN_BATCH_MAX_SIZE);
+        if (adminBatchMaxSize <= 0) {
+            throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_ADMIN_BATCH_MAX_SIZE + " has to be a positive number");
+        }
+
+        int certificateIssuerPoolSize = getIntProperty(map, UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUER_POOL_SIZE, DEFAULT_CERTIFICATE_ISSUER_POOL_SIZE);
+        if (certificateIssuerPoolSize <= 0) {
+            throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUER_POOL_SIZE + " has to be a positive number");
+        }
+
+        int certificateIssuerQueueSize = getIntProperty(map, UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUER_QUEUE_SIZE, DEFAULT_CERTIFICATE_ISSUER_QUEUE_SIZE);
+        if (certificateIssuerQueueSize <= 0) {
+            throw new InvalidConfigurationException(UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUER_QUEUE_SIZE + " has to be a positive number");
+        }
+
         return new UserOperatorConfig(namespace, reconciliationInterval, kafkaBootstrapServers, labels,
                 caCertSecretName, caKeySecretName, clusterCaCertSecretName, eoKeySecretName, caNamespace, secretPrefix,
-                aclsAdminApiSupported, clientsCaValidityDays, clientsCaRenewalDays);
+                aclsAdminApiSupported, clientsCaValidityDays, clientsCaRenewalDays, adminBatchLingerMs, adminBatchMaxSize,
+                certificateIssuerPoolSize, certificateIssuerQueueSize);
     }
 
     /**
@@ -289,6 +336,34 @@ public class UserOperatorConfig {
         return aclsAdminApiSupported;
     }
 
+    /**
+     * @return  How many milliseconds the ACL and quota changes are held to be merged into combined requests (0 when batching is disabled)
+     */
+    public long getAdminBatchLingerMs() {
+        return adminBatchLingerMs;
+    }
+
+    /**
+     * @return  The maximum number of ACL bindings, ACL filters or quota alterations in a combined request
+     */
+    public int getAdminBatchMaxSize() {
+        return adminBatchMaxSize;
+    }
+
+    /**
+     * @return  The number of worker threads issuing the user certificates
+     */
+    public int getCertificateIssuerPoolSize() {
+        return certificateIssuerPoolSize;
+    }
+
+    /**
+     * @return  The maximum number of user certificates waiting to be issued
+     */
+    public int getCertificateIssuerQueueSize() {
+        return certificateIssuerQueueSize;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -304,6 +379,10 @@ public class UserOperatorConfig {
                 ",aclsAdminApiSupported=" + aclsAdminApiSupported +
                 ",clientsCaValidityDays=" + clientsCaValidityDays +
                 ",clientsCaRenewalDays=" + clientsCaRenewalDays +
+                ",adminBatchLingerMs=" + adminBatchLingerMs +
+                ",adminBatchMaxSize=" + adminBatchMaxSize +
+                ",certificateIssuerPoolSize=" + certificateIssuerPoolSize +
+                ",certificateIssuerQueueSize=" + certificateIssuerQueueSize +
                 ")";
     }
 }
@@ -32,7 +32,10 @@ import io.strimzi.operator.common.PasswordGenerator;
 import javax.naming.InvalidNameException;
 import javax.naming.ldap.LdapName;
 import java.io.IOException;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -46,6 +49,7 @@ public class KafkaUserModel {
 
     public static final String KEY_PASSWORD = "password";
     public static final String KEY_SASL_JAAS_CONFIG = "sasl.jaas.config";
+    public static final String ANNO_STRIMZI_IO_SCRAM_CREDENTIAL_FINGERPRINT = "strimzi.io/scram-credential-fingerprint";
 
     protected final String namespace;
     protected final String name;
@@ -55,6 +59,7 @@ public class KafkaUserModel {
     protected String caCert;
     protected CertAndKey userCertAndKey;
     protected String scramSha512Password;
+    protected String appliedScramSha512PasswordFingerprint;
     protected Set<SimpleAclRule> simpleAclRules = null;
 
     public static final String KAFKA_USER_OPERATOR_NAME = "strimzi-user-operator";
@@ -201,10 +206,59 @@ public class KafkaUserModel {
      * @param validityDays The number of days the certificate should be valid for.
      * @param renewalDays The renewal days.
      */
-    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
     public void maybeGenerateCertificates(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
                                           Secret clientsCaCertSecret, Secret clientsCaKeySecret,
                                           Secret userSecret, int validityDays, int renewalDays) {
+        ClientsCa clientsCa = clientsCa(reconciliation, certManager, passwordGenerator, clientsCaCertSecret, clientsCaKeySecret, validityDays, renewalDays);
+
+        if (maybeReuseCertificates(clientsCa, clientsCaCertSecret, userSecret)) {
+            return;
+        }
+
+        if (hasValidCertificate(clientsCa, clientsCaCertSecret, userSecret)) {
+            // coming from an older operator version, the user secret exists but without keystore and password
+            try {
+                this.userCertAndKey = clientsCa.addKeyAndCertToKeyStore(name,
+                        decodeFromSecret(userSecret, "user.key"),
+                        decodeFromSecret(userSecret, "user.crt"));
+            } catch (IOException e) {
+                LOGGER.errorCr(reconciliation, "Error generating the keystore for user {}", name, e);
+            }
+        } else {
+            try {
+                this.userCertAndKey = clientsCa.generateSignedCert(name);
+            } catch (IOException e) {
+                LOGGER.errorCr(reconciliation, "Error generating signed certificate for user {}", name, e);
+            }
+        }
+    }
+
+    /**
+     * Uses the certificate, key and keystore from the existing user secret when they are still valid. Unlike
+     * {@link #maybeGenerateCertificates}, this never forks OpenSSL.
+     *
+     * @param reconciliation The reconciliation
+     * @param certManager CertManager instance for handling certificates
+     * @param passwordGenerator PasswordGenerator instance for generating passwords
+     * @param clientsCaCertSecret The clients CA certificate Secret.
+     * @param clientsCaKeySecret The clients CA key Secret.
+     * @param userSecret Secret with the user certificate
+     * @param validityDays The number of days the certificate should be valid for.
+     * @param renewalDays The renewal days.
+     *
+     * @return True if the existing certificates are used. False if they have to be generated using
+     *         {@link #maybeGenerateCertificates}.
+     */
+    public boolean maybeReuseCertificates(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
+                                          Secret clientsCaCertSecret, Secret clientsCaKeySecret,
+                                          Secret userSecret, int validityDays, int renewalDays) {
+        ClientsCa clientsCa = clientsCa(reconciliation, certManager, passwordGenerator, clientsCaCertSecret, clientsCaKeySecret, validityDays, renewalDays);
+
+        return maybeReuseCertificates(clientsCa, clientsCaCertSecret, userSecret);
+    }
+
+    private ClientsCa clientsCa(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
+                                Secret clientsCaCertSecret, Secret clientsCaKeySecret, int validityDays, int renewalDays) {
         validateCACertificates(clientsCaCertSecret, clientsCaKeySecret);
 
         ClientsCa clientsCa = new ClientsCa(reconciliation, certManager,
@@ -217,52 +271,55 @@ public class KafkaUserModel {
                 renewalDays,
                 false, null);
         this.caCert = clientsCa.currentCaCertBase64();
-        if (userSecret != null) {
-            // Secret already exists -> lets verify if it has keys from the same CA
-            String originalCaCrt = clientsCaCertSecret.getData().get("ca.crt");
-            String caCrt = userSecret.getData().get("ca.crt");
-            String userCrt = userSecret.getData().get("user.crt");
-            String userKey = userSecret.getData().get("user.key");
+
+        return clientsCa;
+    }
+
+    private boolean maybeReuseCertificates(ClientsCa clientsCa, Secret clientsCaCertSecret, Secret userSecret) {
+        if (hasValidCertificate(clientsCa, clientsCaCertSecret, userSecret)) {
             String userKeyStore = userSecret.getData().get("user.p12");
             String userKeyStorePassword = userSecret.getData().get("user.password");
-            if (originalCaCrt != null
-                    && originalCaCrt.equals(caCrt)
-                    && userCrt != null
-                    && !userCrt.isEmpty()
-                    && userKey != null
-                    && !userKey.isEmpty()
-                    && !clientsCa.isExpiring(userSecret, "user.crt")) {
-
-                if (userKeyStore != null
-                        && !userKeyStore.isEmpty()
-                        && userKeyStorePassword != null
-                        && !userKeyStorePassword.isEmpty()) {
-
-                    this.userCertAndKey = new CertAndKey(
-                            decodeFromSecret(userSecret, "user.key"),
-                            decodeFromSecret(userSecret, "user.crt"),
-                            null,
-                            decodeFromSecret(userSecret, "user.p12"),
-                            new String(decodeFromSecret(userSecret, "user.password"), StandardCharsets.US_ASCII));
-                } else {
-                    // coming from an older operator version, the user secret exists but without keystore and password
-                    try {
-                        this.userCertAndKey = clientsCa.addKeyAndCertToKeyStore(name,
-                                decodeFromSecret(userSecret, "user.key"),
-                                decodeFromSecret(userSecret, "user.crt"));
-                    } catch (IOException e) {
-                        LOGGER.errorCr(reconciliation, "Error generating the keystore for user {}", name, e);
-                    }
-                }
-                return;
+
+            if (userKeyStore != null
+                    && !userKeyStore.isEmpty()
+                    && userKeyStorePassword != null
+                    && !userKeyStorePassword.isEmpty()) {
+
+                this.userCertAndKey = new CertAndKey(
+                        decodeFromSecret(userSecret, "user.key"),
+                        decodeFromSecret(userSecret, "user.crt"),
+                        null,
+                        decodeFromSecret(userSecret, "user.p12"),
+                        new String(decodeFromSecret(userSecret, "user.password"), StandardCharsets.US_ASCII));
+                return true;
             }
         }
 
-        try {
-            this.userCertAndKey = clientsCa.generateSignedCert(name);
-        } catch (IOException e) {
-            LOGGER.errorCr(reconciliation, "Error generating signed certificate for user {}", name, e);
+        return false;
+    }
+
+    /**
+     * Checks whether the existing user secret has a certificate and key which were issued by the current clients CA
+     * and which are not expiring
+     */
+    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
+    private static boolean hasValidCertificate(ClientsCa clientsCa, Secret clientsCaCertSecret, Secret userSecret) {
+        if (userSecret == null) {
+            return false;
         }
+
+        String originalCaCrt = clientsCaCertSecret.getData().get("ca.crt");
+        String caCrt = userSecret.getData().get("ca.crt");
+        String userCrt = userSecret.getData().get("user.crt");
+        String userKey = userSecret.getData().get("user.key");
+
+        return originalCaCrt != null
+                && originalCaCrt.equals(caCrt)
+                && userCrt != null
+                && !userCrt.isEmpty()
+                && userKey != null
+                && !userKey.isEmpty()
+                && !clientsCa.isExpiring(userSecret, "user.crt");
     }
 
     private void validateCACertificates(Secret clientsCaCertSecret, Secret clientsCaKeySecret)   {
@@ -345,7 +402,8 @@ public class KafkaUserModel {
                     .withName(getSecretName())
                     .withNamespace(namespace)
                     .withLabels(Util.mergeLabelsOrAnnotations(labels.toMap(), templateSecretLabels))
-                    .withAnnotations(Util.mergeLabelsOrAnnotations(null, templateSecretAnnotations))
+                    .withAnnotations(Util.mergeLabelsOrAnnotations(appliedScramSha512PasswordFingerprint != null
+                            ? Map.of(ANNO_STRIMZI_IO_SCRAM_CREDENTIAL_FINGERPRINT, appliedScramSha512PasswordFingerprint) : null, templateSecretAnnotations))
                     .withOwnerReferences(createOwnerReference())
                 .endMetadata()
                 .withType("Opaque")
@@ -605,6 +663,51 @@ public class KafkaUserModel {
         return scramSha512Password;
     }
 
+    /**
+     * The fingerprint identifies the SCRAM-SHA-512 credentials of the user without revealing the password. It is
+     * stored in the user Secret once the credentials have been applied, so that the next reconciliations can skip
+     * upserting them again when the password did not change.
+     *
+     * @return  Returns the fingerprint of the SCRAM-SHA-512 user name and password or null if the user has no password
+     */
+    public String getScramSha512PasswordFingerprint() {
+        if (scramSha512Password == null) {
+            return null;
+        }
+
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] digest = sha256.digest((name + ":" + scramSha512Password).getBytes(StandardCharsets.UTF_8));
+
+            return String.format("%064x", new BigInteger(1, digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create SHA-256 MessageDigest instance", e);
+        }
+    }
+
+    /**
+     * Sets the fingerprint of the SCRAM-SHA-512 credentials which are known to be applied in Kafka. It is stored in
+     * the annotations of the user Secret.
+     *
+     * @param fingerprint   The fingerprint of the applied credentials or null if not known
+     */
+    public void setAppliedScramSha512PasswordFingerprint(String fingerprint) {
+        this.appliedScramSha512PasswordFingerprint = fingerprint;
+    }
+
+    /**
+     * @param userSecret    The user Secret or null if it does not exist
+     *
+     * @return  The fingerprint of the SCRAM-SHA-512 credentials last applied according to the user Secret or null
+     */
+    public static String getAppliedScramSha512PasswordFingerprint(Secret userSecret) {
+        if (userSecret == null || userSecret.getMetadata() == null || userSecret.getMetadata().getAnnotations() == null) {
+            return null;
+        }
+
+        return userSecret.getMetadata().getAnnotations().get(ANNO_STRIMZI_IO_SCRAM_CREDENTIAL_FINGERPRINT);
+    }
+
     /**
      * Returns true if the user is configured without authentication section and is not using any authentication.
      * Such user might be used for example for things such as OAUTH authentication where the users are not managed by
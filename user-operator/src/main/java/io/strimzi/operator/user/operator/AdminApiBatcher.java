@@ -0,0 +1,195 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Merges the ACL and quota changes of concurrent user reconciliations into combined Admin requests.
+ *
+ * The ACL bindings to create, the ACL binding filters to delete and the client quota alterations are each held for
+ * up to {@code lingerMs} and then sent in a single CreateAcls, DeleteAcls or AlterClientQuotas request.
+ * The per-binding, per-filter and per-entity results of the request are used to complete the Future returned to
+ * each of the reconciliations.
+ */
+public class AdminApiBatcher {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AdminApiBatcher.class.getName());
+
+    private final Vertx vertx;
+    private final long lingerMs;
+    private final int maxBatchSize;
+
+    private final Batch<AclBinding, AclBinding> aclCreations;
+    private final Batch<AclBindingFilter, AclBindingFilter> aclDeletions;
+    private final Batch<ClientQuotaEntity, ClientQuotaAlteration> quotaAlterations;
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vertx instance
+     * @param adminClient   Kafka Admin client instance
+     * @param lingerMs      How long the changes are held before being sent
+     * @param maxBatchSize  The maximum number of bindings, filters or alterations in a single request
+     */
+    public AdminApiBatcher(Vertx vertx, Admin adminClient, long lingerMs, int maxBatchSize) {
+        this.vertx = vertx;
+        this.lingerMs = lingerMs;
+        this.maxBatchSize = maxBatchSize;
+        this.aclCreations = new Batch<>("CreateAcls", Function.identity(),
+            requests -> adminClient.createAcls(requests).values());
+        this.aclDeletions = new Batch<>("DeleteAcls", Function.identity(),
+            requests -> adminClient.deleteAcls(requests).values());
+        this.quotaAlterations = new Batch<>("AlterClientQuotas", ClientQuotaAlteration::entity,
+            requests -> adminClient.alterClientQuotas(requests).values());
+    }
+
+    /**
+     * Creates the ACL bindings with the next CreateAcls request
+     *
+     * @param reconciliation    The reconciliation
+     * @param aclBindings       The ACL bindings to create
+     *
+     * @return  Future which completes when all the bindings have been created
+     */
+    public Future<Void> createAcls(Reconciliation reconciliation, Collection<AclBinding> aclBindings) {
+        return aclCreations.add(reconciliation, aclBindings);
+    }
+
+    /**
+     * Deletes the ACLs matching the filters with the next DeleteAcls request
+     *
+     * @param reconciliation    The reconciliation
+     * @param aclBindingFilters The filters of the ACLs to delete
+     *
+     * @return  Future which completes when the ACLs matching all the filters have been deleted
+     */
+    public Future<Void> deleteAcls(Reconciliation reconciliation, Collection<AclBindingFilter> aclBindingFilters) {
+        return aclDeletions.add(reconciliation, aclBindingFilters);
+    }
+
+    /**
+     * Alters the client quotas with the next AlterClientQuotas request
+     *
+     * @param reconciliation    The reconciliation
+     * @param alteration        The alteration of the quotas of a single entity
+     *
+     * @return  Future which completes when the quotas have been altered
+     */
+    public Future<Void> alterClientQuotas(Reconciliation reconciliation, ClientQuotaAlteration alteration) {
+        return quotaAlterations.add(reconciliation, List.of(alteration));
+    }
+
+    /**
+     * The pending requests of one kind, keyed by the binding, filter or entity they apply to.
+     * A key can appear only once in a given Admin request, so adding a request for a key which is already pending
+     * sends the pending batch first. This also keeps the alterations of an entity in order.
+     *
+     * @param <K>   The type of the key of the request
+     * @param <T>   The type of the request
+     */
+    class Batch<K, T> {
+        private final String kind;
+        private final Function<T, K> key;
+        private final Function<Collection<T>, Map<K, ? extends KafkaFuture<?>>> send;
+        private Map<K, T> requests = new LinkedHashMap<>();
+        private Map<K, Promise<Void>> promises = new HashMap<>();
+        private Long timerId;
+
+        Batch(String kind, Function<T, K> key, Function<Collection<T>, Map<K, ? extends KafkaFuture<?>>> send) {
+            this.kind = kind;
+            this.key = key;
+            this.send = send;
+        }
+
+        @SuppressWarnings({"rawtypes"}) // Has to use Raw type because of the CompositeFuture
+        synchronized Future<Void> add(Reconciliation reconciliation, Collection<T> newRequests) {
+            LOGGER.debugCr(reconciliation, "Queueing {} {} requests", newRequests.size(), kind);
+            List<Future> futures = new ArrayList<>(newRequests.size());
+
+            for (T request : newRequests) {
+                K requestKey = key.apply(request);
+
+                if (requests.containsKey(requestKey)) {
+                    flush();
+                }
+
+                Promise<Void> promise = Promise.promise();
+                requests.put(requestKey, request);
+                promises.put(requestKey, promise);
+                futures.add(promise.future());
+
+                if (requests.size() >= maxBatchSize) {
+                    flush();
+                }
+            }
+
+            if (!requests.isEmpty() && timerId == null) {
+                timerId = vertx.setTimer(lingerMs, id -> timedFlush());
+            }
+
+            return CompositeFuture.all(futures).mapEmpty();
+        }
+
+        private synchronized void timedFlush() {
+            timerId = null;
+            flush();
+        }
+
+        private void flush() {
+            if (timerId != null) {
+                vertx.cancelTimer(timerId);
+                timerId = null;
+            }
+
+            if (requests.isEmpty()) {
+                return;
+            }
+
+            Map<K, T> requests = this.requests;
+            Map<K, Promise<Void>> promises = this.promises;
+            this.requests = new LinkedHashMap<>();
+            this.promises = new HashMap<>();
+            LOGGER.debugOp("Sending {} request with {} entries", kind, requests.size());
+
+            Map<K, ? extends KafkaFuture<?>> futures;
+            try {
+                futures = send.apply(requests.values());
+            } catch (Exception e) {
+                promises.values().forEach(promise -> promise.fail(e));
+                return;
+            }
+
+            for (Map.Entry<K, Promise<Void>> entry : promises.entrySet()) {
+                KafkaFuture<?> future = futures.get(entry.getKey());
+
+                if (future == null) {
+                    entry.getValue().fail(new IllegalStateException("No " + kind + " result for " + entry.getKey()));
+                } else {
+                    Util.kafkaFutureToVertxFuture(vertx, future).<Void>mapEmpty().onComplete(entry.getValue());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The state of all users fetched by a single Admin API request, which is used by the periodic reconciliation instead
+ * of describing the state of each user separately.
+ *
+ * The state of each user is taken from the snapshot only once. It is not taken at all once the operator has changed
+ * the state of the user, including changes done while the snapshot was being fetched. In these cases the state of the
+ * user has to be described again.
+ *
+ * @param <T>   The type of the state of a user
+ */
+class AdminApiSnapshot<T> {
+    private final T empty;
+
+    private Snapshot<T> current;
+    private Snapshot<T> pending;
+
+    /**
+     * Constructor
+     *
+     * @param empty The state of the users which are not in the snapshot
+     */
+    AdminApiSnapshot(T empty) {
+        this.empty = empty;
+    }
+
+    /**
+     * Starts a new snapshot. This has to be called before sending the request which fetches the state of all users.
+     *
+     * @return  The new snapshot which should be passed to {@link #complete} or {@link #abort}
+     */
+    synchronized Snapshot<T> start() {
+        pending = new Snapshot<>();
+        return pending;
+    }
+
+    /**
+     * Completes the snapshot with the fetched state of all users and makes it the current one.
+     *
+     * @param snapshot  The snapshot returned by {@link #start()}
+     * @param state     The state of all users
+     */
+    synchronized void complete(Snapshot<T> snapshot, Map<String, T> state) {
+        snapshot.state.putAll(state);
+        snapshot.state.keySet().removeAll(snapshot.taken);
+
+        if (pending == snapshot) {
+            pending = null;
+        }
+
+        current = snapshot;
+    }
+
+    /**
+     * Aborts a snapshot whose state could not be fetched. The current snapshot remains in use.
+     *
+     * @param snapshot  The snapshot returned by {@link #start()}
+     */
+    synchronized void abort(Snapshot<T> snapshot) {
+        if (pending == snapshot) {
+            pending = null;
+        }
+    }
+
+    /**
+     * @param user  The user
+     *
+     * @return  The state of the user from the current snapshot or null when there is no current snapshot or when it
+     *          was already taken or invalidated for the user
+     */
+    synchronized T take(String user) {
+        if (current == null || !current.taken.add(user)) {
+            return null;
+        }
+
+        T state = current.state.remove(user);
+        return state != null ? state : empty;
+    }
+
+    /**
+     * Stops the state of the user being taken from the current and pending snapshots. This has to be called before
+     * the operator changes the state of the user.
+     *
+     * @param user  The user
+     */
+    synchronized void invalidate(String user) {
+        if (current != null) {
+            current.taken.add(user);
+            current.state.remove(user);
+        }
+
+        if (pending != null) {
+            pending.taken.add(user);
+        }
+    }
+
+    /**
+     * The state of all users and the users for which it was already taken or invalidated
+     *
+     * @param <T>   The type of the state of a user
+     */
+    static class Snapshot<T> {
+        private final Map<String, T> state = new HashMap<>();
+        private final Set<String> taken = new HashSet<>();
+    }
+}
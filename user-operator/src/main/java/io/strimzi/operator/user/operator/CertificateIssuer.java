@@ -0,0 +1,198 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Issues the user certificates on a bounded pool of worker threads, so that forking OpenSSL and the temporary file
+ * I/O do not block the event loop.
+ *
+ * The issuance tasks wait in a bounded queue until a worker is free. The tasks are ordered by the deadline of the
+ * user certificate, which is the expiry of the existing certificate for renewals. Certificates which are about to
+ * expire are therefore renewed before the certificates of new users are issued. When the queue is full, the task is
+ * rejected and the reconciliation of the user fails, so that it is retried later.
+ */
+public class CertificateIssuer {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CertificateIssuer.class.getName());
+
+    /**
+     * Deadline of the certificates of new users
+     */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final Vertx vertx;
+    private final WorkerExecutor workerExecutor;
+    private final int poolSize;
+    private final int maxQueueSize;
+
+    private final PriorityQueue<Task<?>> queue = new PriorityQueue<>(Comparator.<Task<?>>comparingLong(task -> task.deadline)
+            .thenComparingLong(task -> task.sequence));
+    private long sequence = 0;
+    private int running = 0;
+
+    private final AtomicInteger queueSize;
+    private final Counter issuedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Timer waitTimer;
+    private final Timer durationTimer;
+
+    /**
+     * Constructor
+     *
+     * @param vertx         Vertx instance
+     * @param metrics       Metrics provider
+     * @param poolSize      The number of worker threads issuing the certificates
+     * @param maxQueueSize  The maximum number of issuance tasks waiting for a worker
+     */
+    public CertificateIssuer(Vertx vertx, MetricsProvider metrics, int poolSize, int maxQueueSize) {
+        this.vertx = vertx;
+        this.workerExecutor = vertx.createSharedWorkerExecutor("user-certificate-issuer", poolSize);
+        this.poolSize = poolSize;
+        this.maxQueueSize = maxQueueSize;
+
+        Tags metricTags = Tags.of(Tag.of("kind", "KafkaUser"));
+
+        queueSize = metrics.gauge(AbstractOperator.METRICS_PREFIX + "certificates.issuance.queue",
+                "Number of certificate issuance tasks waiting for a worker",
+                metricTags);
+
+        issuedCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "certificates.issuance",
+                "Number of completed certificate issuance tasks",
+                metricTags);
+
+        failedCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "certificates.issuance.failed",
+                "Number of failed certificate issuance tasks",
+                metricTags);
+
+        rejectedCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "certificates.issuance.rejected",
+                "Number of certificate issuance tasks rejected because the queue was full",
+                metricTags);
+
+        waitTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "certificates.issuance.wait",
+                "The time certificate issuance tasks wait for a worker",
+                metricTags);
+
+        durationTimer = metrics.timer(AbstractOperator.METRICS_PREFIX + "certificates.issuance.duration",
+                "The time certificate issuance tasks take",
+                metricTags);
+    }
+
+    /**
+     * Queues a certificate issuance task
+     *
+     * @param reconciliation    The reconciliation
+     * @param deadline          The time (in milliseconds since the epoch) by which the certificate is needed, which is
+     *                          the expiry of the existing certificate or {@link #NO_DEADLINE} for new users
+     * @param task              The blocking task issuing the certificate
+     * @param <T>               The type of the result of the task
+     *
+     * @return  Future which completes on the context of the caller with the result of the task
+     */
+    public synchronized <T> Future<T> issue(Reconciliation reconciliation, long deadline, Callable<T> task) {
+        if (queue.size() >= maxQueueSize) {
+            rejectedCounter.increment();
+            LOGGER.warnCr(reconciliation, "Certificate issuance queue is full ({} tasks)", queue.size());
+            return Future.failedFuture(new IllegalStateException("The certificate issuance queue is full"));
+        }
+
+        Task<T> queued = new Task<>(reconciliation, deadline, sequence++, task, vertx.getOrCreateContext());
+        queue.add(queued);
+        queueSize.set(queue.size());
+        LOGGER.debugCr(reconciliation, "Queued certificate issuance ({} tasks queued, {} running)", queue.size(), running);
+
+        dispatch();
+
+        return queued.promise.future();
+    }
+
+    private void dispatch() {
+        while (running < poolSize && !queue.isEmpty()) {
+            Task<?> task = queue.poll();
+            queueSize.set(queue.size());
+            running++;
+            run(task);
+        }
+    }
+
+    private <T> void run(Task<T> task) {
+        long started = System.nanoTime();
+        waitTimer.record(started - task.queuedNanos, TimeUnit.NANOSECONDS);
+
+        workerExecutor.<T>executeBlocking(promise -> {
+            try {
+                promise.complete(task.callable.call());
+            } catch (Exception e) {
+                promise.fail(e);
+            }
+        }, false, result -> completed(task, result, started));
+    }
+
+    private synchronized <T> void completed(Task<T> task, AsyncResult<T> result, long started) {
+        durationTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+        if (result.succeeded()) {
+            issuedCounter.increment();
+        } else {
+            failedCounter.increment();
+            LOGGER.warnCr(task.reconciliation, "Certificate issuance failed", result.cause());
+        }
+
+        running--;
+        task.context.runOnContext(ignore -> task.promise.handle(result));
+
+        dispatch();
+    }
+
+    /**
+     * Closes the worker pool
+     */
+    public void close() {
+        workerExecutor.close();
+    }
+
+    /**
+     * A queued certificate issuance task
+     *
+     * @param <T>   The type of the result of the task
+     */
+    static class Task<T> {
+        private final Reconciliation reconciliation;
+        private final long deadline;
+        private final long sequence;
+        private final Callable<T> callable;
+        private final Context context;
+        private final Promise<T> promise = Promise.promise();
+        private final long queuedNanos = System.nanoTime();
+
+        Task(Reconciliation reconciliation, long deadline, long sequence, Callable<T> callable, Context context) {
+            this.reconciliation = reconciliation;
+            this.deadline = deadline;
+            this.sequence = sequence;
+            this.callable = callable;
+            this.context = context;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the clients CA certificate and key Secrets in memory, so that the reconciliations of the TLS users do not
+ * fetch them from the Kubernetes API server each time.
+ *
+ * Both Secrets are watched. The cached pair of Secrets is used only while both watches are open. Any change to
+ * either of the Secrets drops the cached pair, and the next reconciliation fetches both Secrets again. A fetch which
+ * was started before a change is not cached, so the cached certificate and key always belong to the same rotation.
+ */
+public class ClientsCaSecretCache {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ClientsCaSecretCache.class.getName());
+
+    private final Vertx vertx;
+    private final SecretOperator secretOperations;
+    private final String namespace;
+    private final String caCertSecretName;
+    private final String caKeySecretName;
+
+    private final Map<String, Watch> watches = new HashMap<>();
+    private boolean closed = false;
+    private long generation = 0;
+    private CaSecrets cached;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vertx instance
+     * @param secretOperations  Secret operator
+     * @param namespace         Namespace of the clients CA Secrets
+     * @param caCertSecretName  Name of the clients CA certificate Secret
+     * @param caKeySecretName   Name of the clients CA key Secret
+     */
+    public ClientsCaSecretCache(Vertx vertx, SecretOperator secretOperations, String namespace, String caCertSecretName, String caKeySecretName) {
+        this.vertx = vertx;
+        this.secretOperations = secretOperations;
+        this.namespace = namespace;
+        this.caCertSecretName = caCertSecretName;
+        this.caKeySecretName = caKeySecretName;
+    }
+
+    /**
+     * Starts watching the clients CA Secrets. Until both watches are open, the Secrets are fetched for each
+     * reconciliation.
+     *
+     * @return  Future which completes when both watches are open
+     */
+    public Future<Void> start() {
+        return CompositeFuture.all(createWatch(caCertSecretName), createWatch(caKeySecretName)).mapEmpty();
+    }
+
+    private Future<Watch> createWatch(String name) {
+        return Util.async(vertx, () -> secretOperations.watch(namespace, name, new CaSecretWatcher(name)))
+                .onSuccess(watch -> watchOpened(name, watch))
+                .onFailure(e -> LOGGER.warnOp("Failed to watch the clients CA Secret {} in namespace {}", name, namespace, e));
+    }
+
+    private synchronized void watchOpened(String name, Watch watch) {
+        if (closed) {
+            watch.close();
+        } else {
+            // The Secrets might have changed before the watch was opened
+            invalidate();
+            watches.put(name, watch);
+        }
+    }
+
+    private synchronized void watchClosed(String name) {
+        watches.remove(name);
+        invalidate();
+    }
+
+    private synchronized void invalidate() {
+        generation++;
+        cached = null;
+    }
+
+    private synchronized void store(long fetchGeneration, CaSecrets secrets) {
+        if (fetchGeneration == generation && watches.size() == 2) {
+            cached = secrets;
+        }
+    }
+
+    /**
+     * Returns the clients CA Secrets from the cache or fetches them when they are not cached
+     *
+     * @return  Future with the clients CA certificate and key Secrets
+     */
+    public Future<CaSecrets> get() {
+        long fetchGeneration;
+
+        synchronized (this) {
+            if (cached != null) {
+                return Future.succeededFuture(cached);
+            }
+
+            fetchGeneration = generation;
+        }
+
+        Future<Secret> caCertFuture = secretOperations.getAsync(namespace, caCertSecretName);
+        Future<Secret> caKeyFuture = secretOperations.getAsync(namespace, caKeySecretName);
+
+        return CompositeFuture.join(caCertFuture, caKeyFuture)
+                .map(ignored -> {
+                    CaSecrets secrets = new CaSecrets(caCertFuture.result(), caKeyFuture.result());
+                    store(fetchGeneration, secrets);
+                    return secrets;
+                });
+    }
+
+    /**
+     * Stops watching the clients CA Secrets
+     */
+    public synchronized void close() {
+        closed = true;
+        invalidate();
+
+        for (Watch watch : watches.values()) {
+            watch.close();
+        }
+
+        watches.clear();
+    }
+
+    /**
+     * The clients CA certificate and key Secrets
+     */
+    public static class CaSecrets {
+        private final Secret caCertSecret;
+        private final Secret caKeySecret;
+
+        /**
+         * Constructor
+         *
+         * @param caCertSecret  The clients CA certificate Secret
+         * @param caKeySecret   The clients CA key Secret
+         */
+        public CaSecrets(Secret caCertSecret, Secret caKeySecret) {
+            this.caCertSecret = caCertSecret;
+            this.caKeySecret = caKeySecret;
+        }
+
+        /**
+         * @return  The clients CA certificate Secret
+         */
+        public Secret caCertSecret() {
+            return caCertSecret;
+        }
+
+        /**
+         * @return  The clients CA key Secret
+         */
+        public Secret caKeySecret() {
+            return caKeySecret;
+        }
+    }
+
+    /**
+     * Drops the cached Secrets when one of them changes and reopens the watch when it fails
+     */
+    class CaSecretWatcher implements Watcher<Secret> {
+        private final String name;
+
+        CaSecretWatcher(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void eventReceived(Action action, Secret secret) {
+            LOGGER.debugOp("Clients CA Secret {} in namespace {} was {}", name, namespace, action);
+            invalidate();
+        }
+
+        @Override
+        public void onClose(WatcherException e) {
+            watchClosed(name);
+
+            if (e != null) {
+                LOGGER.errorOp("Watch of the clients CA Secret {} in namespace {} closed with exception", name, namespace, e);
+                createWatch(name);
+            } else {
+                LOGGER.infoOp("Watch of the clients CA Secret {} in namespace {} closed", name, namespace);
+            }
+        }
+    }
+}
@@ -12,12 +12,14 @@ import io.strimzi.api.kafka.model.KafkaUserQuotas;
 import io.strimzi.api.kafka.model.KafkaUserSpec;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
+import io.strimzi.operator.cluster.model.Ca;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
@@ -31,10 +33,15 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Operator for a Kafka Users.
@@ -43,6 +50,16 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         CrdOperator<KubernetesClient, KafkaUser, KafkaUserList>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaUserOperator.class.getName());
 
+    /**
+     * Trigger of the periodic reconciliations
+     */
+    public static final String PERIODIC_TRIGGER = "timer";
+
+    /**
+     * Trigger of the clean-up of the users which have no KafkaUser resource
+     */
+    public static final String ORPHANED_USERS_TRIGGER = "orphaned-users";
+
     private final SecretOperator secretOperations;
     private final SimpleAclOperator aclOperations;
     private final CertManager certManager;
@@ -50,6 +67,8 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
     private final QuotasOperator quotasOperator;
     private final PasswordGenerator passwordGenerator = new PasswordGenerator(12);
     private final UserOperatorConfig config;
+    private final CertificateIssuer certificateIssuer;
+    private final ClientsCaSecretCache clientsCaSecretCache;
 
     /**
      * Creates the instance of KafkaUserOperator
@@ -78,25 +97,123 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         this.quotasOperator = quotasOperator;
         this.aclOperations = aclOperations;
         this.config = config;
+        this.certificateIssuer = new CertificateIssuer(vertx, metrics, config.getCertificateIssuerPoolSize(), config.getCertificateIssuerQueueSize());
+        this.clientsCaSecretCache = new ClientsCaSecretCache(vertx, secretOperations, config.getCaNamespace(), config.getCaCertSecretName(), config.getCaKeySecretName());
     }
 
+    /**
+     * Starts watching the clients CA Secrets, so that they are not fetched for every reconciliation
+     *
+     * @return  Future which completes when the clients CA Secrets are watched
+     */
+    public Future<Void> startClientsCaSecretCache() {
+        return clientsCaSecretCache.start();
+    }
+
+    /**
+     * Stops watching the clients CA Secrets
+     */
+    public void stopClientsCaSecretCache() {
+        clientsCaSecretCache.close();
+    }
+
+    /**
+     * Closes the worker pool issuing the user certificates
+     */
+    public void closeCertificateIssuer() {
+        certificateIssuer.close();
+    }
+
+    /**
+     * Lists the KafkaUser resources which should be reconciled. The users which have ACLs, quotas or SCRAM credentials
+     * in Kafka but no KafkaUser resource are cleaned up here (see {@link #deleteOrphanedUsers}) instead of being
+     * reconciled one by one.
+     *
+     * The users are listed in Kafka before the KafkaUser resources are listed. A user which is created in the
+     * meantime therefore never looks orphaned.
+     *
+     * @param namespace Namespace of the KafkaUser resources
+     *
+     * @return  Future with the names of the KafkaUser resources matching the selector
+     */
     @Override
     public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
-        return CompositeFuture.join(super.allResourceNames(namespace),
-                config.isAclsAdminApiSupported() ? aclOperations.getAllUsers() : Future.succeededFuture(Set.of()),
-                quotasOperator.getAllUsers(),
-                scramCredentialsOperator.getAllUsers()).map(compositeFuture -> {
-                    Set<NamespaceAndName> names = compositeFuture.resultAt(0);
-                    names.addAll(toResourceRef(namespace, compositeFuture.resultAt(1)));
-                    names.addAll(toResourceRef(namespace, compositeFuture.resultAt(2)));
-                    names.addAll(toResourceRef(namespace, compositeFuture.resultAt(3)));
-                    return names;
-                });
+        return CompositeFuture.join(config.isAclsAdminApiSupported() ? aclOperations.getAllUsernames() : Future.succeededFuture(Set.of()),
+                quotasOperator.getAllUsernames(),
+                scramCredentialsOperator.getAllUsers())
+                .compose(kafkaUsers -> resourceOperator.listAsync(namespace, Optional.empty())
+                        .compose(kafkaUserResources -> {
+                            Set<String> existing = new HashSet<>(kafkaUserResources.size());
+                            Set<NamespaceAndName> names = new HashSet<>(kafkaUserResources.size());
+
+                            for (KafkaUser kafkaUser : kafkaUserResources) {
+                                existing.add(kafkaUser.getMetadata().getName());
+
+                                if (Util.matchesSelector(selector(), kafkaUser)) {
+                                    names.add(new NamespaceAndName(namespace, kafkaUser.getMetadata().getName()));
+                                }
+                            }
+
+                            return deleteOrphanedUsers(namespace, existing, kafkaUsers.resultAt(0), kafkaUsers.resultAt(1), kafkaUsers.resultAt(2))
+                                    .map(names);
+                        }));
     }
 
-    List<NamespaceAndName> toResourceRef(String namespace, Collection<String> names) {
-        return names.stream()
-                .map(name -> new NamespaceAndName(namespace, name))
+    /**
+     * Deletes the ACLs, quotas, SCRAM credentials and Secrets of the users which have no KafkaUser resource. The ACLs,
+     * quotas and SCRAM credentials of all of them are each deleted with a single Admin API request. Failures are only
+     * logged, because the orphaned users are found again by the next periodic reconciliation.
+     *
+     * @param namespace     Namespace of the KafkaUser resources
+     * @param existing      Names of all KafkaUser resources in the namespace
+     * @param aclUsers      Names of the users with ACLs in the Kafka format
+     * @param quotaUsers    Names of the users with quotas in the Kafka format
+     * @param scramUsers    Names of the users with SCRAM credentials
+     *
+     * @return  Future which completes when the orphaned users have been deleted
+     */
+    private Future<Void> deleteOrphanedUsers(String namespace, Set<String> existing, Set<String> aclUsers, Set<String> quotaUsers, List<String> scramUsers) {
+        Reconciliation reconciliation = new Reconciliation(ORPHANED_USERS_TRIGGER, kind(), namespace, "*");
+
+        List<String> orphanedAclUsers = orphaned(existing, aclUsers);
+        List<String> orphanedQuotaUsers = orphaned(existing, quotaUsers);
+        List<String> orphanedScramUsers = orphaned(existing, scramUsers);
+
+        Set<String> orphanedUsers = new HashSet<>();
+        Stream.of(orphanedAclUsers, orphanedQuotaUsers, orphanedScramUsers)
+                .flatMap(List::stream)
+                .forEach(username -> orphanedUsers.add(KafkaUserModel.decodeUsername(username)));
+
+        if (orphanedUsers.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        LOGGER.infoCr(reconciliation, "Deleting users {} which have no KafkaUser resource", orphanedUsers);
+
+        List<Future> deleted = new ArrayList<>(3 + orphanedUsers.size());
+        deleted.add(orphanedAclUsers.isEmpty() ? Future.succeededFuture() : aclOperations.deleteUsers(reconciliation, orphanedAclUsers));
+        deleted.add(orphanedQuotaUsers.isEmpty() ? Future.succeededFuture() : quotasOperator.deleteUsers(reconciliation, orphanedQuotaUsers));
+        deleted.add(orphanedScramUsers.isEmpty() ? Future.succeededFuture() : scramCredentialsOperator.deleteUsers(reconciliation, orphanedScramUsers));
+
+        for (String user : orphanedUsers) {
+            deleted.add(secretOperations.reconcile(reconciliation, namespace, KafkaUserModel.getSecretName(config.getSecretPrefix(), user), null));
+        }
+
+        return CompositeFuture.join(deleted)
+                .onFailure(error -> LOGGER.warnCr(reconciliation, "Failed to delete users which have no KafkaUser resource", error))
+                .<Void>mapEmpty()
+                .otherwiseEmpty();
+    }
+
+    /**
+     * @param existing  Names of all KafkaUser resources
+     * @param usernames Names of the users in the Kafka format
+     *
+     * @return  The usernames which do not belong to any of the KafkaUser resources
+     */
+    private static List<String> orphaned(Set<String> existing, Collection<String> usernames) {
+        return usernames.stream()
+                .filter(username -> !existing.contains(KafkaUserModel.decodeUsername(username)))
                 .collect(Collectors.toList());
     }
 
@@ -126,8 +243,8 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         Promise<KafkaUserStatus> handler = Promise.promise();
 
         secretOperations.getAsync(reconciliation.namespace(), user.getSecretName())
-                .compose(userSecret -> maybeGenerateCredentials(reconciliation, user, userSecret))
-                .compose(ignore -> reconcileCredentialsQuotasAndAcls(reconciliation, user, userStatus))
+                .compose(userSecret -> maybeGenerateCredentials(reconciliation, user, userSecret)
+                        .compose(ignore -> reconcileCredentialsQuotasAndAcls(reconciliation, user, userSecret, userStatus)))
                 .onComplete(reconciliationResult -> {
                     StatusUtils.setStatusConditionAndObservedGeneration(resource, userStatus, reconciliationResult.mapEmpty());
                     userStatus.setUsername(user.getUserName());
@@ -203,15 +320,13 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
      * @return                  Future describing the result
      */
     private Future<Void> maybeGenerateTlsCredentials(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret)   {
-        Future<Secret> caCertFuture = secretOperations.getAsync(config.getCaNamespace(), config.getCaCertSecretName());
-        Future<Secret> caKeyFuture = secretOperations.getAsync(config.getCaNamespace(), config.getCaKeySecretName());
-
-        return CompositeFuture.join(caCertFuture, caKeyFuture)
+        return clientsCaSecretCache.get()
                 .compose(caSecrets -> {
-                    Secret clientsCaCertSecret = caSecrets.resultAt(0);
-                    Secret clientsCaKeySecret = caSecrets.resultAt(1);
+                    Secret clientsCaCertSecret = caSecrets.caCertSecret();
+                    Secret clientsCaKeySecret = caSecrets.caKeySecret();
 
-                    user.maybeGenerateCertificates(
+                    // Most reconciliations keep the existing certificate, which does not need to wait for a worker
+                    if (user.maybeReuseCertificates(
                             reconciliation,
                             certManager,
                             passwordGenerator,
@@ -220,22 +335,62 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                             userSecret,
                             config.getClientsCaValidityDays(),
                             config.getClientsCaRenewalDays()
-                    );
+                    )) {
+                        return Future.succeededFuture();
+                    }
+
+                    // Issuing the certificate forks OpenSSL, so it is done on the certificate issuer worker pool
+                    return certificateIssuer.issue(reconciliation, certificateDeadline(reconciliation, userSecret), () -> {
+                        user.maybeGenerateCertificates(
+                                reconciliation,
+                                certManager,
+                                passwordGenerator,
+                                clientsCaCertSecret,
+                                clientsCaKeySecret,
+                                userSecret,
+                                config.getClientsCaValidityDays(),
+                                config.getClientsCaRenewalDays()
+                        );
 
-                    return Future.succeededFuture();
+                        return null;
+                    });
                 });
     }
 
+    /**
+     * Returns the deadline by which the user certificate has to be issued. This is the expiry of the existing user
+     * certificate, so that the renewals of certificates which are about to expire are issued first.
+     *
+     * @param reconciliation    The reconciliation
+     * @param userSecret        Secret with existing user credentials or null if the secret doesn't exist yet
+     *
+     * @return  The expiry of the existing user certificate or {@link CertificateIssuer#NO_DEADLINE} when there is none
+     */
+    private static long certificateDeadline(Reconciliation reconciliation, Secret userSecret)  {
+        try {
+            X509Certificate userCert = Ca.cert(userSecret, "user.crt");
+
+            if (userCert != null) {
+                return userCert.getNotAfter().getTime();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.debugCr(reconciliation, "Failed to decode the existing user certificate", e);
+        }
+
+        return CertificateIssuer.NO_DEADLINE;
+    }
+
     /**
      * Reconciles the credentials, quotas and ACLs
      *
      * @param reconciliation    Unique identification for the reconciliation
      * @param user              Model describing the KafkaUser
+     * @param userSecret        Secret with existing user credentials or null if the secret doesn't exist yet
      * @param userStatus        Status subresource of the KafkaUser custom resource
      *
      * @return                  Future describing the result
      */
-    private CompositeFuture reconcileCredentialsQuotasAndAcls(Reconciliation reconciliation, KafkaUserModel user, KafkaUserStatus userStatus)   {
+    private CompositeFuture reconcileCredentialsQuotasAndAcls(Reconciliation reconciliation, KafkaUserModel user, Secret userSecret, KafkaUserStatus userStatus)   {
         Set<SimpleAclRule> tlsAcls = null;
         Set<SimpleAclRule> scramOrNoneAcls = null;
         KafkaUserQuotas tlsQuotas = null;
@@ -249,23 +404,37 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
             scramOrNoneQuotas = user.getQuotas();
         }
 
-        // Reconcile the user SCRAM-SHA-512 credentials
-        Future<ReconcileResult<String>> scramCredentialsFuture = scramCredentialsOperator.reconcile(reconciliation, user.getName(), user.getScramSha512Password());
+        // Reconcile the user SCRAM-SHA-512 credentials. When the password did not change since it was last applied,
+        // they are upserted only if they are missing in Kafka.
+        String password = user.getScramSha512Password();
+        String fingerprint = user.getScramSha512PasswordFingerprint();
+        String appliedFingerprint = KafkaUserModel.getAppliedScramSha512PasswordFingerprint(userSecret);
+        Future<ReconcileResult<String>> scramCredentialsFuture;
 
-        // Quotas need to reconciled for both regular and TLS username. It will be (possibly) set for one user and deleted for the other
-        Future<ReconcileResult<KafkaUserQuotas>> tlsQuotasFuture = quotasOperator.reconcile(reconciliation, KafkaUserModel.getTlsUserName(reconciliation.name()), tlsQuotas);
-        Future<ReconcileResult<KafkaUserQuotas>> quotasFuture = quotasOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(reconciliation.name()), scramOrNoneQuotas);
+        if (password != null && fingerprint.equals(appliedFingerprint)) {
+            scramCredentialsFuture = scramCredentialsOperator.reconcileUnchanged(reconciliation, user.getName(), password);
+        } else {
+            scramCredentialsFuture = scramCredentialsOperator.reconcile(reconciliation, user.getName(), password);
+        }
 
-        // Reconcile the user secret generated by the user operator with the credentials
-        Future<ReconcileResult<Secret>> userSecretFuture = reconcileUserSecret(reconciliation, user, userStatus);
+        // Quotas need to reconciled for both regular and TLS username. It will be (possibly) set for one user and deleted for the other
+        Future<ReconcileResult<KafkaUserQuotas>> tlsQuotasFuture = reconcileQuotas(reconciliation, KafkaUserModel.getTlsUserName(reconciliation.name()), tlsQuotas);
+        Future<ReconcileResult<KafkaUserQuotas>> quotasFuture = reconcileQuotas(reconciliation, KafkaUserModel.getScramUserName(reconciliation.name()), scramOrNoneQuotas);
+
+        // Reconcile the user secret generated by the user operator with the credentials. The fingerprint of the
+        // credentials is recorded in the secret only once they have been applied.
+        Future<ReconcileResult<Secret>> userSecretFuture = scramCredentialsFuture.transform(scramResult -> {
+            user.setAppliedScramSha512PasswordFingerprint(scramResult.succeeded() ? fingerprint : appliedFingerprint);
+            return reconcileUserSecret(reconciliation, user, userStatus);
+        });
 
         // ACLs need to reconciled for both regular and TLS username. It will be (possibly) set for one user and deleted for the other
         Future<ReconcileResult<Set<SimpleAclRule>>> aclsTlsUserFuture;
         Future<ReconcileResult<Set<SimpleAclRule>>> aclsScramUserFuture;
 
         if (config.isAclsAdminApiSupported()) {
-            aclsTlsUserFuture = aclOperations.reconcile(reconciliation, KafkaUserModel.getTlsUserName(reconciliation.name()), tlsAcls);
-            aclsScramUserFuture = aclOperations.reconcile(reconciliation, KafkaUserModel.getScramUserName(reconciliation.name()), scramOrNoneAcls);
+            aclsTlsUserFuture = reconcileAcls(reconciliation, KafkaUserModel.getTlsUserName(reconciliation.name()), tlsAcls);
+            aclsScramUserFuture = reconcileAcls(reconciliation, KafkaUserModel.getScramUserName(reconciliation.name()), scramOrNoneAcls);
         } else {
             aclsTlsUserFuture = Future.succeededFuture(ReconcileResult.noop(null));
             aclsScramUserFuture = Future.succeededFuture(ReconcileResult.noop(null));
@@ -274,6 +443,44 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         return CompositeFuture.join(scramCredentialsFuture, tlsQuotasFuture, quotasFuture, aclsTlsUserFuture, aclsScramUserFuture, userSecretFuture);
     }
 
+    /**
+     * Reconciles the ACLs of a user. The periodic reconciliation uses the ACLs of all users described at its start
+     * when listing the users (see {@link #allResourceNames(String)}), while the other reconciliations describe the
+     * current ACLs of the user.
+     *
+     * @param reconciliation    Unique identification for the reconciliation
+     * @param username          Name of the user in the Kafka format
+     * @param desired           Desired ACL rules or null if the user should not have any
+     *
+     * @return                  Future describing the result
+     */
+    private Future<ReconcileResult<Set<SimpleAclRule>>> reconcileAcls(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
+        if (PERIODIC_TRIGGER.equals(reconciliation.trigger())) {
+            return aclOperations.reconcileFromSnapshot(reconciliation, username, desired);
+        } else {
+            return aclOperations.reconcile(reconciliation, username, desired);
+        }
+    }
+
+    /**
+     * Reconciles the quotas of a user. The periodic reconciliation uses the quotas of all users described at its start
+     * when listing the users (see {@link #allResourceNames(String)}), while the other reconciliations describe the
+     * current quotas of the user.
+     *
+     * @param reconciliation    Unique identification for the reconciliation
+     * @param username          Name of the user in the Kafka format
+     * @param desired           Desired quotas or null if the user should not have any
+     *
+     * @return                  Future describing the result
+     */
+    private Future<ReconcileResult<KafkaUserQuotas>> reconcileQuotas(Reconciliation reconciliation, String username, KafkaUserQuotas desired) {
+        if (PERIODIC_TRIGGER.equals(reconciliation.trigger())) {
+            return quotasOperator.reconcileFromSnapshot(reconciliation, username, desired);
+        } else {
+            return quotasOperator.reconcile(reconciliation, username, desired);
+        }
+    }
+
     /**
      * Reconciles the Kubernetes secret with the generated credentials and sets the secret name in the KafkaUser status subresource
      *
@@ -305,11 +512,11 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         String user = reconciliation.name();
         LOGGER.debugCr(reconciliation, "Deleting User {} from namespace {}", user, namespace);
         return CompositeFuture.join(secretOperations.reconcile(reconciliation, namespace, KafkaUserModel.getSecretName(config.getSecretPrefix(), user), null),
-                config.isAclsAdminApiSupported() ? aclOperations.reconcile(reconciliation, KafkaUserModel.getTlsUserName(user), null) : Future.succeededFuture(ReconcileResult.noop(null)),
-                config.isAclsAdminApiSupported() ? aclOperations.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null) : Future.succeededFuture(ReconcileResult.noop(null)),
+                config.isAclsAdminApiSupported() ? reconcileAcls(reconciliation, KafkaUserModel.getTlsUserName(user), null) : Future.succeededFuture(ReconcileResult.noop(null)),
+                config.isAclsAdminApiSupported() ? reconcileAcls(reconciliation, KafkaUserModel.getScramUserName(user), null) : Future.succeededFuture(ReconcileResult.noop(null)),
                 scramCredentialsOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null)
-                        .compose(ignore -> quotasOperator.reconcile(reconciliation, KafkaUserModel.getTlsUserName(user), null))
-                        .compose(ignore -> quotasOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null)))
+                        .compose(ignore -> reconcileQuotas(reconciliation, KafkaUserModel.getTlsUserName(user), null))
+                        .compose(ignore -> reconcileQuotas(reconciliation, KafkaUserModel.getScramUserName(user), null)))
             .map(Boolean.TRUE);
     }
 
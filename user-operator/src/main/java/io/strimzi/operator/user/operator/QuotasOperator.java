@@ -9,7 +9,9 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.QuotaUtils;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
@@ -18,7 +20,10 @@ import org.apache.kafka.common.quota.ClientQuotaFilter;
 import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
 import org.apache.kafka.common.quota.ClientQuotaEntity;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -26,10 +31,18 @@ import java.util.Set;
 
 /**
  * KafkaUserQuotasOperator is responsible for managing quotas in Apache Kafka / Apache Zookeeper.
+ *
+ * The quotas of all users fetched by {@link #getAllUsers()} are kept as a snapshot, so that the periodic reconciliation
+ * does not need to describe the quotas of every user one by one (see {@link #reconcileFromSnapshot}).
  */
 public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Set<String>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(QuotasOperator.class.getName());
 
+    private final AdminApiBatcher batcher;
+
+    // Quotas of all users fetched by getAllUsers(), indexed by the user name
+    private final AdminApiSnapshot<Map<String, Double>> snapshot = new AdminApiSnapshot<>(Map.of());
+
     /**
      * Constructor
      *
@@ -37,7 +50,20 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
      * @param adminClient Kafka Admin client instance
      */
     public QuotasOperator(Vertx vertx, Admin adminClient) {
+        this(vertx, adminClient, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param batcher Batcher used to merge the quota changes of several users into combined requests or null to send
+     *                the changes of each user separately
+     */
+    public QuotasOperator(Vertx vertx, Admin adminClient, AdminApiBatcher batcher) {
         super(vertx, adminClient);
+        this.batcher = batcher;
     }
 
     /**
@@ -52,28 +78,53 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
     @Override
     public Future<ReconcileResult<KafkaUserQuotas>> reconcile(Reconciliation reconciliation, String username, KafkaUserQuotas desired) {
         return getAsync(reconciliation, username)
-                .compose(current -> {
-                    if (desired == null) {
-                        if (current == null)    {
-                            LOGGER.debugCr(reconciliation, "No expected quotas and no existing quotas -> NoOp");
-                            return Future.succeededFuture(ReconcileResult.noop(null));
-                        } else {
-                            LOGGER.debugCr(reconciliation, "No expected quotas, but {} existing quotas -> Deleting quotas", current);
-                            return internalDelete(reconciliation, username);
-                        }
-                    } else {
-                        if (current == null)  {
-                            LOGGER.debugCr(reconciliation, "{} expected quotas, but no existing quotas -> Adding quotas", desired);
-                            return internalAlter(reconciliation, username, desired);
-                        } else if (!QuotaUtils.quotasEquals(current, desired)) {
-                            LOGGER.debugCr(reconciliation, "{} expected quotas and {} existing quotas differ -> Reconciling quotas", desired, current);
-                            return internalAlter(reconciliation, username, desired);
-                        } else {
-                            LOGGER.debugCr(reconciliation, "{} expected quotas are the same as existing quotas -> NoOp", desired);
-                            return Future.succeededFuture(ReconcileResult.noop(desired));
-                        }
-                    }
-                });
+                .compose(current -> reconcile(reconciliation, username, desired, current));
+    }
+
+    /**
+     * Reconciles the quotas of given user using the quotas from the snapshot taken by the last {@link #getAllUsers()}
+     * call instead of describing them. The snapshot is used only once for each user and not at all for users whose
+     * quotas have been changed since it was taken. In these cases, or when there is no snapshot, the quotas are
+     * described as in {@link #reconcile(Reconciliation, String, KafkaUserQuotas)}.
+     *
+     * @param reconciliation    The reconciliation
+     * @param username          User name of the reconciled user. When using TLS client auth, the username should be already in the Kafka format, e.g. CN=my-user
+     * @param desired           The desired quotas configuration
+     *
+     * @return the Future with reconcile result
+     */
+    public Future<ReconcileResult<KafkaUserQuotas>> reconcileFromSnapshot(Reconciliation reconciliation, String username, KafkaUserQuotas desired) {
+        Map<String, Double> quotas = snapshot.take(username);
+
+        if (quotas == null) {
+            return reconcile(reconciliation, username, desired);
+        }
+
+        LOGGER.debugCr(reconciliation, "Using quotas {} of user {} from the snapshot", quotas, username);
+        return reconcile(reconciliation, username, desired, quotas.isEmpty() ? null : QuotaUtils.fromClientQuota(quotas));
+    }
+
+    private Future<ReconcileResult<KafkaUserQuotas>> reconcile(Reconciliation reconciliation, String username, KafkaUserQuotas desired, KafkaUserQuotas current) {
+        if (desired == null) {
+            if (current == null)    {
+                LOGGER.debugCr(reconciliation, "No expected quotas and no existing quotas -> NoOp");
+                return Future.succeededFuture(ReconcileResult.noop(null));
+            } else {
+                LOGGER.debugCr(reconciliation, "No expected quotas, but {} existing quotas -> Deleting quotas", current);
+                return internalDelete(reconciliation, username);
+            }
+        } else {
+            if (current == null)  {
+                LOGGER.debugCr(reconciliation, "{} expected quotas, but no existing quotas -> Adding quotas", desired);
+                return internalAlter(reconciliation, username, desired);
+            } else if (!QuotaUtils.quotasEquals(current, desired)) {
+                LOGGER.debugCr(reconciliation, "{} expected quotas and {} existing quotas differ -> Reconciling quotas", desired, current);
+                return internalAlter(reconciliation, username, desired);
+            } else {
+                LOGGER.debugCr(reconciliation, "{} expected quotas are the same as existing quotas -> NoOp", desired);
+                return Future.succeededFuture(ReconcileResult.noop(desired));
+            }
+        }
     }
 
     /**
@@ -97,6 +148,42 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
                 .map(ReconcileResult.deleted());
     }
 
+    /**
+     * Deletes the quotas of the given users with a single AlterClientQuotas request. This is used to clean up the
+     * quotas of users whose KafkaUser resources do not exist anymore.
+     *
+     * @param reconciliation The reconciliation
+     * @param usernames Names of the users in the Kafka format, e.g. CN=my-user for TLS users
+     *
+     * @return the Future which completes when the quotas have been deleted
+     */
+    public Future<Void> deleteUsers(Reconciliation reconciliation, Collection<String> usernames) {
+        KafkaUserQuotas emptyQuotas = new KafkaUserQuotas();
+        emptyQuotas.setProducerByteRate(null);
+        emptyQuotas.setConsumerByteRate(null);
+        emptyQuotas.setRequestPercentage(null);
+        emptyQuotas.setControllerMutationRate(null);
+        Set<ClientQuotaAlteration.Op> alterations = QuotaUtils.toClientQuotaAlterationOps(emptyQuotas);
+
+        List<ClientQuotaAlteration> cqas = new ArrayList<>(usernames.size());
+        for (String username : usernames) {
+            LOGGER.debugCr(reconciliation, "Deleting quotas for user {}", username);
+            cqas.add(new ClientQuotaAlteration(new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username)), alterations));
+            snapshot.invalidate(username);
+        }
+
+        if (batcher != null) {
+            List<Future> altered = new ArrayList<>(cqas.size());
+            for (ClientQuotaAlteration cqa : cqas) {
+                altered.add(batcher.alterClientQuotas(reconciliation, cqa));
+            }
+
+            return CompositeFuture.join(altered).mapEmpty();
+        } else {
+            return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.alterClientQuotas(cqas).all());
+        }
+    }
+
     /**
      * Set the quotas for the given user.
      *
@@ -111,8 +198,16 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
 
         ClientQuotaEntity cqe = new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username));
         ClientQuotaAlteration cqa = new ClientQuotaAlteration(cqe, alterations);
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.alterClientQuotas(Collections.singleton(cqa)).all())
-                .map(ReconcileResult.patched(desired));
+        snapshot.invalidate(username);
+
+        Future<Void> altered;
+        if (batcher != null) {
+            altered = batcher.alterClientQuotas(reconciliation, cqa);
+        } else {
+            altered = Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.alterClientQuotas(Collections.singleton(cqa)).all());
+        }
+
+        return altered.map(ReconcileResult.patched(desired));
     }
 
     /**
@@ -141,22 +236,54 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
     }
 
     /**
-     * @return Set with all usernames which have some ACLs set
+     * @return Set with all usernames which have some quotas set
      */
     @Override
     public Future<Set<String>> getAllUsers() {
+        return getAllUsernames()
+                .map(usernames -> {
+                    Set<String> users = new HashSet<>(usernames.size());
+
+                    for (String username : usernames) {
+                        // Quotas of TLS users use the user's subject (e.g. CN=my-user) and need to be decoded
+                        users.add(KafkaUserModel.decodeUsername(username));
+                    }
+
+                    return users;
+                });
+    }
+
+    /**
+     * Returns the names of all users which have some quotas set in the format used by Kafka, e.g. CN=my-user for TLS
+     * users. The quotas of all users are kept as a snapshot for {@link #reconcileFromSnapshot}.
+     *
+     * @return Set with all usernames in the Kafka format which have some quotas set
+     */
+    public Future<Set<String>> getAllUsernames() {
         LOGGER.debugOp("Searching for Users with any quotas");
 
+        AdminApiSnapshot.Snapshot<Map<String, Double>> newSnapshot = snapshot.start();
         return Util.kafkaFutureToVertxFuture(vertx, adminClient.describeClientQuotas(ClientQuotaFilter.all()).entities())
+                .onFailure(error -> snapshot.abort(newSnapshot))
                 .compose(quotas -> {
                     Set<String> users = new HashSet<>(quotas.size());
+                    Map<String, Map<String, Double>> quotasByUser = new HashMap<>(quotas.size());
 
-                    for (ClientQuotaEntity entity : quotas.keySet()) {
-                        if (entity.entries().containsKey(ClientQuotaEntity.USER)) {
-                            users.add(entity.entries().get(ClientQuotaEntity.USER));
+                    for (Map.Entry<ClientQuotaEntity, Map<String, Double>> entry : quotas.entrySet()) {
+                        Map<String, String> entries = entry.getKey().entries();
+
+                        String username = entries.get(ClientQuotaEntity.USER);
+
+                        // Only the quotas of the user alone are reconciled (not the ones of the user and a client ID).
+                        // The default user quotas have no user name and do not belong to any user.
+                        if (username != null && entries.size() == 1) {
+                            users.add(username);
+                            quotasByUser.put(username, entry.getValue());
                         }
                     }
 
+                    snapshot.complete(newSnapshot, quotasByUser);
+
                     return Future.succeededFuture(users);
                 });
     }
@@ -8,6 +8,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -16,6 +17,7 @@ import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
 import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
 import org.apache.kafka.clients.admin.ScramCredentialInfo;
 import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
 import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
 import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
 import org.apache.kafka.common.errors.ResourceNotFoundException;
@@ -23,6 +25,8 @@ import org.apache.kafka.common.errors.ResourceNotFoundException;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, List<String>> {
@@ -80,6 +84,86 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
         }
     }
 
+    /**
+     * Reconciles the SCRAM credentials of a user whose password is known to be unchanged since it was last applied.
+     * The credentials are upserted only when Kafka does not have SCRAM-SHA-512 credentials for the user with the
+     * expected number of iterations (for example because they were deleted outside of the operator). This avoids
+     * Kafka recomputing the salted password and storing it again in every reconciliation.
+     *
+     * @param reconciliation    The reconciliation
+     * @param username          Name of the user
+     * @param desired           The password of the user
+     *
+     * @return  Future with the reconcile result
+     */
+    public Future<ReconcileResult<String>> reconcileUnchanged(Reconciliation reconciliation, String username, String desired) {
+        return credentialsExist(reconciliation, username)
+                .compose(exist -> {
+                    if (exist) {
+                        LOGGER.debugCr(reconciliation, "SCRAM credentials for user {} are unchanged", username);
+                        return Future.succeededFuture(ReconcileResult.noop(desired));
+                    } else {
+                        return reconcile(reconciliation, username, desired);
+                    }
+                });
+    }
+
+    private Future<Boolean> credentialsExist(Reconciliation reconciliation, String username) {
+        Promise<Boolean> existPromise = Promise.promise();
+
+        adminClient.describeUserScramCredentials(List.of(username)).description(username).whenComplete((description, error) -> {
+            vertx.runOnContext(ignore -> {
+                if (error != null) {
+                    if (error instanceof ResourceNotFoundException) {
+                        existPromise.complete(false);
+                    } else {
+                        LOGGER.warnCr(reconciliation, "Failed to describe SCRAM credentials for user {}", username);
+                        existPromise.fail(error);
+                    }
+                } else {
+                    existPromise.complete(description.credentialInfos().stream()
+                            .anyMatch(info -> info.mechanism() == SCRAM_MECHANISM && info.iterations() == ITERATIONS));
+                }
+            });
+        });
+
+        return existPromise.future();
+    }
+
+    /**
+     * Deletes the SCRAM credentials of the given users with a single AlterUserScramCredentials request. This is used
+     * to clean up the credentials of users whose KafkaUser resources do not exist anymore.
+     *
+     * @param reconciliation    The reconciliation
+     * @param usernames         Names of the users
+     *
+     * @return  Future which completes when the credentials have been deleted
+     */
+    public Future<Void> deleteUsers(Reconciliation reconciliation, Collection<String> usernames) {
+        List<UserScramCredentialAlteration> deletions = new ArrayList<>(usernames.size());
+
+        for (String username : usernames) {
+            LOGGER.debugCr(reconciliation, "Deleting SCRAM credentials for user {}", username);
+            deletions.add(new UserScramCredentialDeletion(username, SCRAM_MECHANISM));
+        }
+
+        List<Future> deleted = new ArrayList<>(deletions.size());
+        adminClient.alterUserScramCredentials(deletions).values().forEach((username, kafkaFuture) -> deleted.add(
+                Util.kafkaFutureToVertxFuture(reconciliation, vertx, kafkaFuture)
+                        .recover(error -> {
+                            if (error instanceof ResourceNotFoundException) {
+                                // Resource was not found => return success
+                                LOGGER.debugCr(reconciliation, "Previously deleted SCRAM credentials for user {}", username);
+                                return Future.succeededFuture();
+                            } else {
+                                LOGGER.warnCr(reconciliation, "Failed to delete SCRAM credentials for user {}", username);
+                                return Future.failedFuture(error);
+                            }
+                        })));
+
+        return CompositeFuture.join(deleted).mapEmpty();
+    }
+
     /**
      * @return List with all usernames which have some scram credentials set
      */
@@ -27,18 +27,28 @@ import org.apache.kafka.common.utils.SecurityUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * SimpleAclOperator is responsible for managing the authorization rules in Apache Kafka / Apache Zookeeper.
+ *
+ * The ACLs of all users fetched by {@link #getAllUsers()} are kept as a snapshot, so that the periodic reconciliation
+ * does not need to describe the ACLs of every user one by one (see {@link #reconcileFromSnapshot}).
  */
 public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRule>, Set<String>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(SimpleAclOperator.class.getName());
 
     private static final List<String> IGNORED_USERS = Arrays.asList("*", "ANONYMOUS");
 
+    // ACL bindings of all principals fetched by getAllUsers(), indexed by the principal
+    private final AdminApiSnapshot<Collection<AclBinding>> snapshot = new AdminApiSnapshot<>(List.of());
+
+    private final AdminApiBatcher batcher;
+
     /**
      * Constructor
      *
@@ -46,7 +56,20 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      * @param adminClient Kafka Admin client instance
      */
     public SimpleAclOperator(Vertx vertx, Admin adminClient) {
+        this(vertx, adminClient, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx Vertx instance
+     * @param adminClient Kafka Admin client instance
+     * @param batcher Batcher used to merge the ACL changes of several users into combined requests or null to send
+     *                the changes of each user separately
+     */
+    public SimpleAclOperator(Vertx vertx, Admin adminClient, AdminApiBatcher batcher) {
         super(vertx, adminClient);
+        this.batcher = batcher;
     }
 
     /**
@@ -61,25 +84,60 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
     @Override
     public Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
         return getAsync(reconciliation, username)
-                .compose(current -> {
-                    if (desired == null || desired.isEmpty()) {
-                        if (current.size() == 0)    {
-                            LOGGER.debugCr(reconciliation, "No expected Acl rules and no existing Acl rules -> NoOp");
-                            return Future.succeededFuture(ReconcileResult.noop(desired));
-                        } else {
-                            LOGGER.debugCr(reconciliation, "No expected Acl rules, but {} existing Acl rules -> Deleting rules", current.size());
-                            return internalDelete(reconciliation, username, current);
-                        }
-                    } else {
-                        if (current.isEmpty())  {
-                            LOGGER.debugCr(reconciliation, "{} expected Acl rules, but no existing Acl rules -> Adding rules", desired.size());
-                            return internalCreate(reconciliation, username, desired);
-                        } else  {
-                            LOGGER.debugCr(reconciliation, "{} expected Acl rules and {} existing Acl rules -> Reconciling rules", desired.size(), current.size());
-                            return internalUpdate(reconciliation, username, desired, current);
-                        }
-                    }
-                });
+                .compose(current -> reconcile(reconciliation, username, desired, current));
+    }
+
+    /**
+     * Reconciles Acl rules for given user using the ACLs from the snapshot taken by the last {@link #getAllUsers()}
+     * call instead of describing them. The snapshot is used only once for each user and not at all for users whose
+     * ACLs have been changed since it was taken. In these cases, or when there is no snapshot, the ACLs are described
+     * as in {@link #reconcile(Reconciliation, String, Set)}.
+     *
+     * @param reconciliation The reconciliation
+     * @param username  User name of the reconciled user. When using TLS client auth, the username should be already in the Kafka format, e.g. CN=my-user
+     * @param desired   The list of desired Acl rules
+     *
+     * @return the Future with reconcile result
+     */
+    public Future<ReconcileResult<Set<SimpleAclRule>>> reconcileFromSnapshot(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
+        Collection<AclBinding> aclBindings = snapshot.take(principal(username));
+
+        if (aclBindings == null) {
+            return reconcile(reconciliation, username, desired);
+        }
+
+        LOGGER.debugCr(reconciliation, "Using {} ACL rules of user {} from the snapshot", aclBindings.size(), username);
+        Set<SimpleAclRule> current = new HashSet<>(aclBindings.size());
+
+        try {
+            for (AclBinding aclBinding : aclBindings) {
+                current.add(SimpleAclRule.fromAclBinding(aclBinding));
+            }
+        } catch (IllegalArgumentException e) {
+            return Future.failedFuture(e);
+        }
+
+        return reconcile(reconciliation, username, desired, current);
+    }
+
+    private Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired, Set<SimpleAclRule> current) {
+        if (desired == null || desired.isEmpty()) {
+            if (current.size() == 0)    {
+                LOGGER.debugCr(reconciliation, "No expected Acl rules and no existing Acl rules -> NoOp");
+                return Future.succeededFuture(ReconcileResult.noop(desired));
+            } else {
+                LOGGER.debugCr(reconciliation, "No expected Acl rules, but {} existing Acl rules -> Deleting rules", current.size());
+                return internalDelete(reconciliation, username, current);
+            }
+        } else {
+            if (current.isEmpty())  {
+                LOGGER.debugCr(reconciliation, "{} expected Acl rules, but no existing Acl rules -> Adding rules", desired.size());
+                return internalCreate(reconciliation, username, desired);
+            } else  {
+                LOGGER.debugCr(reconciliation, "{} expected Acl rules and {} existing Acl rules -> Reconciling rules", desired.size(), current.size());
+                return internalUpdate(reconciliation, username, desired, current);
+            }
+        }
     }
 
     /**
@@ -93,8 +151,16 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
         Collection<AclBinding> aclBindings = getAclBindings(username, desired);
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.createAcls(aclBindings).all())
-                .map(ReconcileResult.created(desired));
+        snapshot.invalidate(principal(username));
+
+        Future<Void> created;
+        if (batcher != null) {
+            created = batcher.createAcls(reconciliation, aclBindings);
+        } else {
+            created = Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.createAcls(aclBindings).all());
+        }
+
+        return created.map(ReconcileResult.created(desired));
     }
 
     /**
@@ -173,8 +239,42 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     private Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(Reconciliation reconciliation, String username, Set<SimpleAclRule> current) {
         Collection<AclBindingFilter> aclBindingFilters = getAclBindingFilters(username, current);
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.deleteAcls(aclBindingFilters).all())
-                .map(ReconcileResult.deleted());
+        snapshot.invalidate(principal(username));
+
+        Future<?> deleted;
+        if (batcher != null) {
+            deleted = batcher.deleteAcls(reconciliation, aclBindingFilters);
+        } else {
+            deleted = Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.deleteAcls(aclBindingFilters).all());
+        }
+
+        return deleted.map(ReconcileResult.deleted());
+    }
+
+    /**
+     * Deletes all ACLs of the given users with a single DeleteAcls request. This is used to clean up the ACLs of
+     * users whose KafkaUser resources do not exist anymore.
+     *
+     * @param reconciliation The reconciliation
+     * @param usernames Names of the users in the Kafka format, e.g. CN=my-user for TLS users
+     *
+     * @return The Future which completes when the ACLs have been deleted
+     */
+    public Future<Void> deleteUsers(Reconciliation reconciliation, Collection<String> usernames) {
+        Collection<AclBindingFilter> aclBindingFilters = new ArrayList<>(usernames.size());
+
+        for (String username : usernames) {
+            LOGGER.debugCr(reconciliation, "Deleting all ACL rules of user {}", username);
+            aclBindingFilters.add(new AclBindingFilter(ResourcePatternFilter.ANY,
+                    new AccessControlEntryFilter(principal(username), null, AclOperation.ANY, AclPermissionType.ANY)));
+            snapshot.invalidate(principal(username));
+        }
+
+        if (batcher != null) {
+            return batcher.deleteAcls(reconciliation, aclBindingFilters).mapEmpty();
+        } else {
+            return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.deleteAcls(aclBindingFilters).all()).mapEmpty();
+        }
     }
 
     /**
@@ -211,11 +311,39 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     @Override
     public Future<Set<String>> getAllUsers() {
+        return getAllUsernames()
+                .map(usernames -> {
+                    Set<String> users = new HashSet<>(usernames.size());
+
+                    for (String username : usernames) {
+                        // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
+                        users.add(KafkaUserModel.decodeUsername(username));
+                    }
+
+                    return users;
+                });
+    }
+
+    /**
+     * Returns the names of all users which have some ACLs set in the format used by Kafka, e.g. CN=my-user for TLS
+     * users. The ACLs of all users are kept as a snapshot for {@link #reconcileFromSnapshot}.
+     *
+     * @return Set with all usernames in the Kafka format which have some ACLs set
+     */
+    public Future<Set<String>> getAllUsernames() {
         LOGGER.debugOp("Searching for Users with any ACL rules");
 
+        AdminApiSnapshot.Snapshot<Collection<AclBinding>> newSnapshot = snapshot.start();
         DescribeAclsResult result = adminClient.describeAcls(AclBindingFilter.ANY);
         return Util.kafkaFutureToVertxFuture(vertx, result.values())
+                .onFailure(error -> snapshot.abort(newSnapshot))
                 .compose(aclBindings -> {
+                    Map<String, Collection<AclBinding>> aclBindingsByPrincipal = new HashMap<>();
+                    for (AclBinding aclBinding : aclBindings) {
+                        aclBindingsByPrincipal.computeIfAbsent(aclBinding.entry().principal(), principal -> new ArrayList<>()).add(aclBinding);
+                    }
+                    snapshot.complete(newSnapshot, aclBindingsByPrincipal);
+
                     Set<String> users = new HashSet<>();
                     Set<String> ignored = new HashSet<>(IGNORED_USERS.size());
 
@@ -223,7 +351,6 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
                         KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
                         if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
-                            // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
                             String username = KafkaUserModel.decodeUsername(principal.getName());
 
                             if (IGNORED_USERS.contains(username)) {
@@ -237,7 +364,7 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
                                     LOGGER.debugOp("Adding user {} to Set of users with ACLs", username);
                                 }
 
-                                users.add(username);
+                                users.add(principal.getName());
                             }
                         }
                     }
@@ -245,4 +372,8 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
                     return Future.succeededFuture(users);
                 });
     }
+
+    private static String principal(String username) {
+        return new KafkaPrincipal("User", username).toString();
+    }
 }
@@ -0,0 +1,400 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaUserList;
+import io.strimzi.api.kafka.model.AclOperation;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserAuthentication;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.api.kafka.model.KafkaUserQuotasBuilder;
+import io.strimzi.api.kafka.model.KafkaUserScramSha512ClientAuthentication;
+import io.strimzi.api.kafka.model.KafkaUserTlsClientAuthentication;
+import io.strimzi.certs.CertManager;
+import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.strimzi.operator.user.operator.AdminApiBatcher;
+import io.strimzi.operator.user.operator.KafkaUserOperator;
+import io.strimzi.operator.user.operator.QuotasOperator;
+import io.strimzi.operator.user.operator.ScramCredentialsOperator;
+import io.strimzi.operator.user.operator.SimpleAclOperator;
+import io.strimzi.test.mockkube.MockKube;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.streams.integration.utils.EmbeddedKafkaCluster;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Measures how many KafkaUsers the User Operator reconciles per minute.
+ *
+ * The benchmark runs an in-JVM Kafka broker with the ACL authorizer and uses MockKube for the Kubernetes API, so it
+ * needs neither network access nor a Kubernetes cluster. It creates the given number of KafkaUsers, alternating
+ * between TLS and SCRAM-SHA-512 authentication, each with ACL rules and every other one with quotas. It then measures
+ * three phases:
+ * <ul>
+ *     <li>create: all users are reconciled at once, as after they are created</li>
+ *     <li>periodic: the periodic reconciliation of all users which did not change</li>
+ *     <li>delete: all users are reconciled at once after they are deleted</li>
+ * </ul>
+ * For each phase it prints the throughput, the latency percentiles of the reconciliations and the number of each
+ * kind of Admin API request.
+ *
+ * This is not run as part of the build. To run it:
+ * <pre>
+ *     mvn -pl user-operator test-compile
+ *     mvn -pl user-operator exec:java -Dexec.classpathScope=test \
+ *         -Dexec.mainClass=io.strimzi.operator.user.UserOperatorBenchmark \
+ *         -Dexec.args="1000"
+ * </pre>
+ * The arguments are the number of users (1000 by default) and optionally {@code openssl} to issue the user
+ * certificates with OpenSSL instead of a mock certificate manager. User Operator environment variables (for
+ * example {@code STRIMZI_ADMIN_BATCH_LINGER_MS}) can be passed as system properties to benchmark the other
+ * configurations.
+ */
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
+public class UserOperatorBenchmark {
+    private static final String NAMESPACE = "benchmark";
+    private static final String CA_CERT_NAME = "clients-ca-cert";
+    private static final String CA_KEY_NAME = "clients-ca";
+
+    private final int users;
+    private final Map<String, LongAdder> adminRequests = new TreeMap<>();
+
+    private Vertx vertx;
+    private KubernetesClient client;
+    private KafkaUserOperator operator;
+
+    UserOperatorBenchmark(int users) {
+        this.users = users;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        boolean openSsl = args.length > 1 && "openssl".equals(args[1]);
+
+        // Logging every reconciliation would distort the results
+        Configurator.setLevel("io.strimzi", Level.WARN);
+        Configurator.setLevel("kafka", Level.WARN);
+        Configurator.setLevel("org.apache", Level.WARN);
+
+        UserOperatorBenchmark benchmark = new UserOperatorBenchmark(users);
+        benchmark.setup(openSsl ? new OpenSslCertManager() : new MockCertManager());
+
+        List<String> names = benchmark.createUsers();
+        List<PhaseResult> results = new ArrayList<>();
+        results.add(benchmark.run("create", () -> benchmark.reconcile("watch", names)));
+        results.add(benchmark.run("periodic", () -> benchmark.operator.allResourceNames(NAMESPACE)
+                .compose(allNames -> benchmark.reconcile(KafkaUserOperator.PERIODIC_TRIGGER,
+                        allNames.stream().map(NamespaceAndName::getName).collect(Collectors.toList())))));
+        benchmark.deleteUsers();
+        results.add(benchmark.run("delete", () -> benchmark.reconcile("watch", names)));
+
+        System.out.println();
+        System.out.println("Users: " + users + (openSsl ? " (OpenSSL certificates)" : ""));
+        results.forEach(result -> System.out.println(result));
+
+        // The embedded Kafka cluster cannot be stopped from outside of JUnit
+        System.exit(results.stream().anyMatch(result -> result.failures > 0) ? 1 : 0);
+    }
+
+    private void setup(CertManager certManager) throws Exception {
+        Properties kafkaConfig = new Properties();
+        kafkaConfig.setProperty("authorizer.class.name", "kafka.security.authorizer.AclAuthorizer");
+        kafkaConfig.setProperty("super.users", "User:ANONYMOUS");
+
+        EmbeddedKafkaCluster kafkaCluster = new EmbeddedKafkaCluster(1, kafkaConfig);
+        kafkaCluster.start();
+
+        Admin adminClient = countingAdmin(Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaCluster.bootstrapServers())));
+
+        MockKube mockKube = new MockKube();
+        mockKube.withCustomResourceDefinition(Crds.kafkaUser(), KafkaUser.class, KafkaUserList.class, KafkaUser::getStatus, KafkaUser::setStatus);
+        client = mockKube.build();
+        createClientsCaSecrets(certManager);
+
+        vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+                new MicrometerMetricsOptions()
+                        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+                        .setEnabled(true)));
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(config(kafkaCluster.bootstrapServers()));
+
+        AdminApiBatcher batcher = null;
+        if (config.getAdminBatchLingerMs() > 0) {
+            batcher = new AdminApiBatcher(vertx, adminClient, config.getAdminBatchLingerMs(), config.getAdminBatchMaxSize());
+        }
+
+        operator = new KafkaUserOperator(vertx, certManager,
+                new CrdOperator<>(vertx, client, KafkaUser.class, KafkaUserList.class, KafkaUser.RESOURCE_KIND),
+                new SecretOperator(vertx, client),
+                new ScramCredentialsOperator(vertx, adminClient),
+                new QuotasOperator(vertx, adminClient, batcher),
+                new SimpleAclOperator(vertx, adminClient, batcher),
+                config);
+    }
+
+    /**
+     * @param bootstrapServers  Bootstrap servers of the Kafka cluster
+     *
+     * @return  The User Operator configuration with the User Operator environment variables passed as system properties
+     */
+    private static Map<String, String> config(String bootstrapServers) {
+        Map<String, String> config = new HashMap<>();
+
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith("STRIMZI_")) {
+                config.put(name, System.getProperty(name));
+            }
+        }
+
+        config.put(UserOperatorConfig.STRIMZI_NAMESPACE, NAMESPACE);
+        config.put(UserOperatorConfig.STRIMZI_CA_NAMESPACE, NAMESPACE);
+        config.put(UserOperatorConfig.STRIMZI_CA_CERT_SECRET_NAME, CA_CERT_NAME);
+        config.put(UserOperatorConfig.STRIMZI_CA_KEY_SECRET_NAME, CA_KEY_NAME);
+        config.put(UserOperatorConfig.STRIMZI_KAFKA_BOOTSTRAP_SERVERS, bootstrapServers);
+
+        return config;
+    }
+
+    /**
+     * Wraps the Admin client to count the requests of each kind
+     */
+    private Admin countingAdmin(Admin adminClient) {
+        return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() != Object.class && !"close".equals(method.getName())) {
+                synchronized (adminRequests) {
+                    adminRequests.computeIfAbsent(method.getName(), ignored -> new LongAdder()).increment();
+                }
+            }
+
+            try {
+                return method.invoke(adminClient, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private void createClientsCaSecrets(CertManager certManager) throws Exception {
+        File keyFile = File.createTempFile("clients-ca", "key");
+        File certFile = File.createTempFile("clients-ca", "crt");
+
+        try {
+            certManager.generateSelfSignedCert(keyFile, certFile, new Subject.Builder().withCommonName("clients-ca").build(), 365);
+
+            client.secrets().inNamespace(NAMESPACE).create(clientsCaSecret(CA_CERT_NAME, "ca.crt", Files.readAllBytes(certFile.toPath())));
+            client.secrets().inNamespace(NAMESPACE).create(clientsCaSecret(CA_KEY_NAME, "ca.key", Files.readAllBytes(keyFile.toPath())));
+        } finally {
+            Files.deleteIfExists(keyFile.toPath());
+            Files.deleteIfExists(certFile.toPath());
+        }
+    }
+
+    private static Secret clientsCaSecret(String name, String key, byte[] value) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .addToData(key, Base64.getEncoder().encodeToString(value))
+                .build();
+    }
+
+    private List<String> createUsers() {
+        List<String> names = new ArrayList<>(users);
+
+        for (int i = 0; i < users; i++) {
+            String name = "user-" + i;
+            KafkaUserAuthentication authentication = i % 2 == 0 ? new KafkaUserTlsClientAuthentication() : new KafkaUserScramSha512ClientAuthentication();
+            KafkaUserQuotas quotas = i % 4 < 2 ? null : new KafkaUserQuotasBuilder()
+                    .withProducerByteRate(1_048_576)
+                    .withConsumerByteRate(2_097_152)
+                    .build();
+
+            KafkaUser user = new KafkaUserBuilder()
+                    .withMetadata(new ObjectMetaBuilder().withName(name).withNamespace(NAMESPACE).build())
+                    .withNewSpec()
+                        .withAuthentication(authentication)
+                        .withQuotas(quotas)
+                        .withNewKafkaUserAuthorizationSimple()
+                            .addNewAcl()
+                                .withNewAclRuleTopicResource()
+                                    .withName("topic-" + i)
+                                .endAclRuleTopicResource()
+                                .withOperation(AclOperation.READ)
+                            .endAcl()
+                            .addNewAcl()
+                                .withNewAclRuleTopicResource()
+                                    .withName("topic-" + i)
+                                .endAclRuleTopicResource()
+                                .withOperation(AclOperation.DESCRIBE)
+                            .endAcl()
+                            .addNewAcl()
+                                .withNewAclRuleGroupResource()
+                                    .withName("group-" + i)
+                                .endAclRuleGroupResource()
+                                .withOperation(AclOperation.READ)
+                            .endAcl()
+                        .endKafkaUserAuthorizationSimple()
+                    .endSpec()
+                    .build();
+
+            Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).create(user);
+            names.add(name);
+        }
+
+        return names;
+    }
+
+    private void deleteUsers() {
+        Crds.kafkaUserOperation(client).inNamespace(NAMESPACE).delete();
+    }
+
+    /**
+     * Reconciles the users at once, as the watch or the periodic reconciliation do
+     *
+     * @param trigger   The trigger of the reconciliations
+     * @param names     The names of the users
+     *
+     * @return  Future with the latencies of the reconciliations in nanoseconds and the number of failed reconciliations
+     */
+    @SuppressWarnings({"rawtypes"}) // Has to use Raw type because of the CompositeFuture
+    private Future<Latencies> reconcile(String trigger, Collection<String> names) {
+        Latencies latencies = new Latencies(names.size());
+        List<Future> futures = new ArrayList<>(names.size());
+
+        for (String name : names) {
+            long start = System.nanoTime();
+            futures.add(operator.reconcile(new Reconciliation(trigger, KafkaUser.RESOURCE_KIND, NAMESPACE, name))
+                    .onComplete(result -> latencies.record(System.nanoTime() - start, result.succeeded())));
+        }
+
+        Promise<Latencies> promise = Promise.promise();
+        CompositeFuture.join(futures).onComplete(ignored -> promise.complete(latencies));
+        return promise.future();
+    }
+
+    private PhaseResult run(String phase, Supplier<Future<Latencies>> reconciliations) throws Exception {
+        synchronized (adminRequests) {
+            adminRequests.clear();
+        }
+
+        long start = System.nanoTime();
+        Latencies latencies = reconciliations.get().toCompletionStage().toCompletableFuture().get();
+        long duration = System.nanoTime() - start;
+
+        Map<String, Long> requests;
+        synchronized (adminRequests) {
+            requests = adminRequests.entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum(), (a, b) -> a, TreeMap::new));
+        }
+
+        return new PhaseResult(phase, duration, latencies, requests);
+    }
+
+    /**
+     * The latencies of the reconciliations of a phase
+     */
+    static class Latencies {
+        private final long[] latencies;
+        private int count = 0;
+        private int failures = 0;
+
+        Latencies(int size) {
+            this.latencies = new long[size];
+        }
+
+        synchronized void record(long latency, boolean succeeded) {
+            latencies[count++] = latency;
+
+            if (!succeeded) {
+                failures++;
+            }
+        }
+
+        synchronized long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.min(count - 1, Math.ceil(percentile / 100.0 * count) - 1)];
+        }
+    }
+
+    /**
+     * The results of a phase
+     */
+    static class PhaseResult {
+        private final String phase;
+        private final long durationNanos;
+        private final int reconciliations;
+        private final int failures;
+        private final Latencies latencies;
+        private final Map<String, Long> adminRequests;
+
+        PhaseResult(String phase, long durationNanos, Latencies latencies, Map<String, Long> adminRequests) {
+            this.phase = phase;
+            this.durationNanos = durationNanos;
+            this.reconciliations = latencies.count;
+            this.failures = latencies.failures;
+            this.latencies = latencies;
+            this.adminRequests = adminRequests;
+        }
+
+        private static String millis(long nanos) {
+            return String.format("%.1f", nanos / 1_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            double minutes = durationNanos / (double) TimeUnit.MINUTES.toNanos(1);
+
+            return String.format("%-9s %6d reconciliations (%d failed) in %s ms, %.0f per minute; latency ms p50=%s p90=%s p99=%s max=%s; Admin requests %s",
+                    phase, reconciliations, failures, millis(durationNanos), reconciliations / minutes,
+                    millis(latencies.percentile(50)), millis(latencies.percentile(90)),
+                    millis(latencies.percentile(99)), millis(latencies.percentile(100)),
+                    adminRequests);
+        }
+    }
+}
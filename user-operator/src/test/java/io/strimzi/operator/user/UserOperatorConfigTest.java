@@ -130,4 +130,42 @@ public class UserOperatorConfigTest {
         UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
         assertThat(config.isAclsAdminApiSupported(), is(UserOperatorConfig.DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED));
     }
+
+    @Test
+    public void testFromMapAdminBatch()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getAdminBatchLingerMs(), is(UserOperatorConfig.DEFAULT_ADMIN_BATCH_LINGER_MS));
+        assertThat(config.getAdminBatchMaxSize(), is(UserOperatorConfig.DEFAULT_ADMIN_BATCH_MAX_SIZE));
+
+        envVars.put(UserOperatorConfig.STRIMZI_ADMIN_BATCH_LINGER_MS, "50");
+        envVars.put(UserOperatorConfig.STRIMZI_ADMIN_BATCH_MAX_SIZE, "200");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getAdminBatchLingerMs(), is(50L));
+        assertThat(config.getAdminBatchMaxSize(), is(200));
+
+        envVars.put(UserOperatorConfig.STRIMZI_ADMIN_BATCH_MAX_SIZE, "0");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
+
+    @Test
+    public void testFromMapCertificateIssuer()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.envVars);
+
+        UserOperatorConfig config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getCertificateIssuerPoolSize(), is(UserOperatorConfig.DEFAULT_CERTIFICATE_ISSUER_POOL_SIZE));
+        assertThat(config.getCertificateIssuerQueueSize(), is(UserOperatorConfig.DEFAULT_CERTIFICATE_ISSUER_QUEUE_SIZE));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUER_POOL_SIZE, "4");
+        envVars.put(UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUER_QUEUE_SIZE, "100");
+
+        config = UserOperatorConfig.fromMap(envVars);
+        assertThat(config.getCertificateIssuerPoolSize(), is(4));
+        assertThat(config.getCertificateIssuerQueueSize(), is(100));
+
+        envVars.put(UserOperatorConfig.STRIMZI_CERTIFICATE_ISSUER_POOL_SIZE, "0");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.fromMap(envVars));
+    }
 }
@@ -308,6 +308,30 @@ public class KafkaUserModelTest {
         checkOwnerReference(model.createOwnerReference(), generatedSecret);
     }
 
+    @Test
+    public void testMaybeReuseCertificates()    {
+        KafkaUserModel model = KafkaUserModel.fromCrd(tlsUser, UserOperatorConfig.DEFAULT_SECRET_PREFIX, UserOperatorConfig.DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED);
+        assertThat(model.maybeReuseCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, clientsCaCert, clientsCaKey, ResourceUtils.createUserSecretTls(), 365, 30), is(true));
+        Secret generatedSecret = model.generateSecret();
+
+        // These values match those in ResourceUtils.createUserSecretTls()
+        assertThat(new String(model.decodeFromSecret(generatedSecret, "ca.crt")),  is("clients-ca-crt"));
+        assertThat(new String(model.decodeFromSecret(generatedSecret, "user.crt")), is("expected-crt"));
+        assertThat(new String(model.decodeFromSecret(generatedSecret, "user.key")), is("expected-key"));
+        assertThat(new String(model.decodeFromSecret(generatedSecret, "user.p12")), is("expected-p12"));
+        assertThat(new String(model.decodeFromSecret(generatedSecret, "user.password")), is("expected-password"));
+
+        // No user secret yet
+        model = KafkaUserModel.fromCrd(tlsUser, UserOperatorConfig.DEFAULT_SECRET_PREFIX, UserOperatorConfig.DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED);
+        assertThat(model.maybeReuseCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, clientsCaCert, clientsCaKey, null, 365, 30), is(false));
+
+        // User secret from a previous version without the keystore
+        Secret oldSecret = ResourceUtils.createUserSecretTls();
+        oldSecret.getData().remove("user.p12");
+        oldSecret.getData().remove("user.password");
+        assertThat(model.maybeReuseCertificates(Reconciliation.DUMMY_RECONCILIATION, mockCertManager, passwordGenerator, clientsCaCert, clientsCaKey, oldSecret, 365, 30), is(false));
+    }
+
     @Test
     public void testGenerateSecretGeneratesCertificateWithExistingScramSha()    {
         Secret userCert = ResourceUtils.createUserSecretScramSha();
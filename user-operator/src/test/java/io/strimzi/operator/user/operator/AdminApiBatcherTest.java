@@ -0,0 +1,158 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AccessControlEntry;
+import org.apache.kafka.common.acl.AclBinding;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.errors.InvalidRequestException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePattern;
+import org.apache.kafka.common.resource.ResourceType;
+import org.apache.kafka.common.security.auth.KafkaPrincipal;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class AdminApiBatcherTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static AclBinding aclBinding(String username, String topic) {
+        return new AclBinding(new ResourcePattern(ResourceType.TOPIC, topic, PatternType.LITERAL),
+                new AccessControlEntry(new KafkaPrincipal(KafkaPrincipal.USER_TYPE, username).toString(), "*", AclOperation.READ, AclPermissionType.ALLOW));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAclCreationsOfSeveralUsersAreMerged(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        AdminApiBatcher batcher = new AdminApiBatcher(vertx, mockAdminClient, 100, 1000);
+
+        AclBinding foo1 = aclBinding("foo", "topic-1");
+        AclBinding foo2 = aclBinding("foo", "topic-2");
+        AclBinding bar = aclBinding("bar", "topic-1");
+
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenAnswer(invocation -> {
+            Map<AclBinding, KafkaFuture<Void>> values = new HashMap<>();
+            for (AclBinding aclBinding : (Collection<AclBinding>) invocation.getArgument(0)) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (aclBinding.equals(bar)) {
+                    future.completeExceptionally(new InvalidRequestException("Invalid binding"));
+                } else {
+                    future.complete(null);
+                }
+                values.put(aclBinding, future);
+            }
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        Future<Void> fooFuture = batcher.createAcls(Reconciliation.DUMMY_RECONCILIATION, List.of(foo1, foo2));
+        Future<Void> barFuture = batcher.createAcls(Reconciliation.DUMMY_RECONCILIATION, List.of(bar));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(fooFuture, barFuture).onComplete(ignored -> context.verify(() -> {
+            // A single request for both users
+            verify(mockAdminClient, times(1)).createAcls(any());
+            assertThat(aclBindingsCaptor.getValue(), containsInAnyOrder(foo1, foo2, bar));
+
+            // The results are distributed to each user
+            assertThat(fooFuture.succeeded(), is(true));
+            assertThat(barFuture.failed(), is(true));
+            assertThat(barFuture.cause(), instanceOf(InvalidRequestException.class));
+
+            async.flag();
+        }));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testQuotaAlterationsOfTheSameUserAreNotMerged(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        AdminApiBatcher batcher = new AdminApiBatcher(vertx, mockAdminClient, 100, 1000);
+
+        ClientQuotaEntity foo = new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, "foo"));
+        ClientQuotaEntity bar = new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, "bar"));
+
+        List<Collection<ClientQuotaAlteration>> requests = new ArrayList<>();
+        when(mockAdminClient.alterClientQuotas(any())).thenAnswer(invocation -> {
+            Collection<ClientQuotaAlteration> alterations = invocation.getArgument(0);
+            requests.add(new ArrayList<>(alterations));
+            Map<ClientQuotaEntity, KafkaFuture<Void>> values = new HashMap<>();
+            for (ClientQuotaAlteration alteration : alterations) {
+                values.put(alteration.entity(), KafkaFuture.completedFuture(null));
+            }
+            AlterClientQuotasResult result = mock(AlterClientQuotasResult.class);
+            when(result.values()).thenReturn(values);
+            return result;
+        });
+
+        Future<Void> foo1Future = batcher.alterClientQuotas(Reconciliation.DUMMY_RECONCILIATION,
+                new ClientQuotaAlteration(foo, Set.of(new ClientQuotaAlteration.Op("producer_byte_rate", 1024.0))));
+        Future<Void> barFuture = batcher.alterClientQuotas(Reconciliation.DUMMY_RECONCILIATION,
+                new ClientQuotaAlteration(bar, Set.of(new ClientQuotaAlteration.Op("producer_byte_rate", 1024.0))));
+        Future<Void> foo2Future = batcher.alterClientQuotas(Reconciliation.DUMMY_RECONCILIATION,
+                new ClientQuotaAlteration(foo, Set.of(new ClientQuotaAlteration.Op("producer_byte_rate", 2048.0))));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(foo1Future, barFuture, foo2Future).onComplete(context.succeeding(ignored -> context.verify(() -> {
+            // The second alteration of foo is sent in order, in a second request
+            assertThat(requests.size(), is(2));
+            assertThat(requests.get(0).size(), is(2));
+            assertThat(requests.get(1).size(), is(1));
+            assertThat(requests.get(1).iterator().next().ops().iterator().next().value(), is(2048.0));
+
+            async.flag();
+        })));
+    }
+}
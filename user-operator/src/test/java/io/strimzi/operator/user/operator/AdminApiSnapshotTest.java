@@ -0,0 +1,56 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AdminApiSnapshotTest {
+    @Test
+    public void testStateIsTakenOnlyOnce()  {
+        AdminApiSnapshot<Map<String, Double>> snapshot = new AdminApiSnapshot<>(Map.of());
+        assertThat(snapshot.take("foo"), is(nullValue()));
+
+        snapshot.complete(snapshot.start(), Map.of("foo", Map.of("producer_byte_rate", 1024.0)));
+
+        assertThat(snapshot.take("foo"), is(Map.of("producer_byte_rate", 1024.0)));
+        assertThat(snapshot.take("foo"), is(nullValue()));
+        // Users which are not in the snapshot have the empty state
+        assertThat(snapshot.take("bar"), is(Map.of()));
+        assertThat(snapshot.take("bar"), is(nullValue()));
+    }
+
+    @Test
+    public void testInvalidatedStateIsNotTaken()  {
+        AdminApiSnapshot<Map<String, Double>> snapshot = new AdminApiSnapshot<>(Map.of());
+        snapshot.complete(snapshot.start(), Map.of("foo", Map.of("producer_byte_rate", 1024.0)));
+
+        snapshot.invalidate("foo");
+        assertThat(snapshot.take("foo"), is(nullValue()));
+
+        // Changes done while a new snapshot is being fetched invalidate it as well
+        AdminApiSnapshot.Snapshot<Map<String, Double>> pending = snapshot.start();
+        snapshot.invalidate("bar");
+        snapshot.complete(pending, Map.of("foo", Map.of("producer_byte_rate", 2048.0), "bar", Map.of("producer_byte_rate", 1024.0)));
+
+        assertThat(snapshot.take("foo"), is(Map.of("producer_byte_rate", 2048.0)));
+        assertThat(snapshot.take("bar"), is(nullValue()));
+    }
+
+    @Test
+    public void testAbortedSnapshotKeepsCurrentOne()  {
+        AdminApiSnapshot<Map<String, Double>> snapshot = new AdminApiSnapshot<>(Map.of());
+        snapshot.complete(snapshot.start(), Map.of("foo", Map.of("producer_byte_rate", 1024.0)));
+
+        snapshot.abort(snapshot.start());
+
+        assertThat(snapshot.take("foo"), is(Map.of("producer_byte_rate", 1024.0)));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class CertificateIssuerTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testRenewalsNearExpiryAreIssuedFirst(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CertificateIssuer issuer = new CertificateIssuer(vertx, new MicrometerMetricsProvider(registry), 1, 10);
+
+        List<String> issued = new CopyOnWriteArrayList<>();
+        CountDownLatch blocked = new CountDownLatch(1);
+
+        // Occupies the only worker until all other tasks are queued
+        Future<Void> first = issuer.issue(Reconciliation.DUMMY_RECONCILIATION, CertificateIssuer.NO_DEADLINE, () -> {
+            blocked.await();
+            issued.add("first");
+            return null;
+        });
+        Future<Void> newUser = issuer.issue(Reconciliation.DUMMY_RECONCILIATION, CertificateIssuer.NO_DEADLINE, () -> {
+            issued.add("new-user");
+            return null;
+        });
+        Future<Void> laterRenewal = issuer.issue(Reconciliation.DUMMY_RECONCILIATION, 2_000L, () -> {
+            issued.add("later-renewal");
+            return null;
+        });
+        Future<Void> renewal = issuer.issue(Reconciliation.DUMMY_RECONCILIATION, 1_000L, () -> {
+            issued.add("renewal");
+            return null;
+        });
+        Future<Void> failing = issuer.issue(Reconciliation.DUMMY_RECONCILIATION, CertificateIssuer.NO_DEADLINE, () -> {
+            throw new RuntimeException("Failed to issue");
+        });
+        blocked.countDown();
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(first, newUser, laterRenewal, renewal, failing).onComplete(ignored -> context.verify(() -> {
+            assertThat(issued, is(List.of("first", "renewal", "later-renewal", "new-user")));
+            assertThat(failing.failed(), is(true));
+
+            assertThat(registry.get("strimzi.certificates.issuance").counter().count(), is(4.0));
+            assertThat(registry.get("strimzi.certificates.issuance.failed").counter().count(), is(1.0));
+            assertThat(registry.get("strimzi.certificates.issuance.duration").timer().count(), is(5L));
+            assertThat(registry.get("strimzi.certificates.issuance.queue").gauge().value(), is(0.0));
+
+            async.flag();
+        }));
+    }
+
+    @Test
+    public void testTasksAreRejectedWhenTheQueueIsFull(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CertificateIssuer issuer = new CertificateIssuer(vertx, new MicrometerMetricsProvider(registry), 1, 1);
+
+        CountDownLatch blocked = new CountDownLatch(1);
+
+        Future<Void> running = issuer.issue(Reconciliation.DUMMY_RECONCILIATION, CertificateIssuer.NO_DEADLINE, () -> {
+            blocked.await();
+            return null;
+        });
+        Future<Void> queued = issuer.issue(Reconciliation.DUMMY_RECONCILIATION, CertificateIssuer.NO_DEADLINE, () -> null);
+        Future<Void> rejected = issuer.issue(Reconciliation.DUMMY_RECONCILIATION, CertificateIssuer.NO_DEADLINE, () -> null);
+        blocked.countDown();
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(running, queued, rejected).onComplete(ignored -> context.verify(() -> {
+            assertThat(running.succeeded(), is(true));
+            assertThat(queued.succeeded(), is(true));
+            assertThat(rejected.failed(), is(true));
+            assertThat(rejected.cause(), instanceOf(IllegalStateException.class));
+            assertThat(registry.get("strimzi.certificates.issuance.rejected").counter().count(), is(1.0));
+
+            async.flag();
+        }));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.strimzi.operator.common.operator.resource.SecretOperator;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ClientsCaSecretCacheTest {
+    private static final String NAMESPACE = "namespace";
+    private static final String CA_CERT_NAME = "ca-cert";
+    private static final String CA_KEY_NAME = "ca-key";
+
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Secret secret(String name, String resourceVersion) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSecretsAreFetchedAgainOnlyAfterTheyChange(VertxTestContext context) {
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        Map<String, Watcher<Secret>> watchers = new HashMap<>();
+        when(mockSecretOps.watch(eq(NAMESPACE), anyString(), any(Watcher.class))).thenAnswer(invocation -> {
+            watchers.put(invocation.getArgument(1), invocation.getArgument(2));
+            return mock(Watch.class);
+        });
+        when(mockSecretOps.getAsync(NAMESPACE, CA_CERT_NAME)).thenReturn(Future.succeededFuture(secret(CA_CERT_NAME, "1")));
+        when(mockSecretOps.getAsync(NAMESPACE, CA_KEY_NAME)).thenReturn(Future.succeededFuture(secret(CA_KEY_NAME, "1")));
+
+        ClientsCaSecretCache cache = new ClientsCaSecretCache(vertx, mockSecretOps, NAMESPACE, CA_CERT_NAME, CA_KEY_NAME);
+
+        Checkpoint async = context.checkpoint();
+        cache.start()
+            .compose(ignored -> cache.get())
+            .compose(ignored -> cache.get())
+            .compose(secrets -> {
+                context.verify(() -> {
+                    // The second reconciliation uses the cached Secrets
+                    verify(mockSecretOps, times(1)).getAsync(NAMESPACE, CA_CERT_NAME);
+                    assertThat(secrets.caCertSecret().getMetadata().getResourceVersion(), is("1"));
+                });
+
+                // Rotation of the CA certificate
+                when(mockSecretOps.getAsync(NAMESPACE, CA_CERT_NAME)).thenReturn(Future.succeededFuture(secret(CA_CERT_NAME, "2")));
+                watchers.get(CA_CERT_NAME).eventReceived(Watcher.Action.MODIFIED, secret(CA_CERT_NAME, "2"));
+
+                return cache.get();
+            })
+            .compose(secrets -> {
+                context.verify(() -> {
+                    verify(mockSecretOps, times(2)).getAsync(NAMESPACE, CA_CERT_NAME);
+                    verify(mockSecretOps, times(2)).getAsync(NAMESPACE, CA_KEY_NAME);
+                    assertThat(secrets.caCertSecret().getMetadata().getResourceVersion(), is("2"));
+                });
+
+                // Without the watch, the Secrets are fetched for every reconciliation
+                watchers.get(CA_KEY_NAME).onClose((WatcherException) null);
+
+                return cache.get().compose(ignored -> cache.get());
+            })
+            .onComplete(context.succeeding(ignored -> context.verify(() -> {
+                verify(mockSecretOps, times(4)).getAsync(NAMESPACE, CA_CERT_NAME);
+                async.flag();
+            })));
+    }
+}
@@ -4,20 +4,24 @@
  */
 package io.strimzi.operator.user.operator;
 
-import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.api.kafka.model.KafkaUserBuilder;
 import io.strimzi.api.kafka.model.KafkaUserQuotas;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.certs.CertManager;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.MockCertManager;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.user.ResourceUtils;
+import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.vertx.core.Future;
@@ -30,12 +34,14 @@ import io.vertx.junit5.VertxTestContext;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashSet;
@@ -58,6 +64,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -65,6 +72,7 @@ import static org.mockito.Mockito.when;
 public class KafkaUserOperatorTest {
     protected static Vertx vertx;
     private final CertManager mockCertManager = new MockCertManager();
+    private final List<KafkaUserOperator> operators = new ArrayList<>();
 
     @BeforeAll
     public static void before() {
@@ -81,6 +89,27 @@ public class KafkaUserOperatorTest {
         vertx.close();
     }
 
+    @AfterEach
+    public void closeOperators() {
+        operators.forEach(KafkaUserOperator::closeCertificateIssuer);
+        operators.clear();
+    }
+
+    private KafkaUserOperator createOperator(CrdOperator crdOps, SecretOperator secretOps, ScramCredentialsOperator scramOps,
+                                             QuotasOperator quotasOps, SimpleAclOperator aclOps, UserOperatorConfig config) {
+        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, crdOps, secretOps, scramOps, quotasOps, aclOps, config);
+        operators.add(op);
+        return op;
+    }
+
+    /**
+     * @return  The number of certificate issuance tasks which were handed to a worker so far
+     */
+    private static long certificateIssuanceCount() {
+        Timer waitTimer = new MicrometerMetricsProvider().meterRegistry().find(AbstractOperator.METRICS_PREFIX + "certificates.issuance.wait").timer();
+        return waitTimer != null ? waitTimer.count() : 0;
+    }
+
     @Test
     public void testCreateTlsUser(VertxTestContext context)    {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
@@ -100,7 +129,7 @@ public class KafkaUserOperatorTest {
         when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
         KafkaUser user = ResourceUtils.createKafkaUserTls();
         Secret clientsCa = ResourceUtils.createClientsCaCertSecret();
         Secret clientsCaKey = ResourceUtils.createClientsCaKeySecret();
@@ -111,6 +140,8 @@ public class KafkaUserOperatorTest {
         when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
         when(mockCrdOps.updateStatusAsync(any(), any(KafkaUser.class))).thenReturn(Future.succeededFuture());
 
+        long issuedBefore = certificateIssuanceCount();
+
         Checkpoint async = context.checkpoint();
         op.createOrUpdate(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME), user)
             .onComplete(context.succeeding(v -> context.verify(() -> {
@@ -139,6 +170,8 @@ public class KafkaUserOperatorTest {
                 assertThat(new String(Base64.getDecoder().decode(captured.getData().get("ca.crt"))), is("clients-ca-crt"));
                 assertThat(new String(Base64.getDecoder().decode(captured.getData().get("user.crt"))), is("crt file"));
                 assertThat(new String(Base64.getDecoder().decode(captured.getData().get("user.key"))), is("key file"));
+                // The certificate of a new user is issued on a certificate issuer worker
+                assertThat(certificateIssuanceCount(), is(issuedBefore + 1));
 
                 List<String> capturedAclNames = aclNameCaptor.getAllValues();
                 assertThat(capturedAclNames, hasSize(2));
@@ -174,7 +207,7 @@ public class KafkaUserOperatorTest {
         when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig(Map.of(), false));
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig(Map.of(), false));
         KafkaUser user = new KafkaUserBuilder()
                 .withNewMetadata()
                     .withName(ResourceUtils.NAME)
@@ -258,7 +291,7 @@ public class KafkaUserOperatorTest {
         when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
         when(mockCrdOps.updateStatusAsync(any(), any(KafkaUser.class))).thenReturn(Future.succeededFuture());
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
         Secret clientsCa = ResourceUtils.createClientsCaCertSecret();
         Secret clientsCaKey = ResourceUtils.createClientsCaKeySecret();
         Secret userCert = ResourceUtils.createUserSecretTls();
@@ -268,6 +301,8 @@ public class KafkaUserOperatorTest {
 
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
 
+        long issuedBefore = certificateIssuanceCount();
+
         Checkpoint async = context.checkpoint();
         op.createOrUpdate(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME), user)
             .onComplete(context.succeeding(v -> context.verify(() -> {
@@ -305,6 +340,9 @@ public class KafkaUserOperatorTest {
                 assertThat(aclRules, is(ResourceUtils.createExpectedSimpleAclRules(user)));
                 assertThat(capturedAcls.get(1), is(nullValue()));
 
+                // The existing certificate is reused without waiting for a certificate issuer worker
+                assertThat(certificateIssuanceCount(), is(issuedBefore));
+
                 async.flag();
             })));
     }
@@ -340,7 +378,7 @@ public class KafkaUserOperatorTest {
         when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
         when(mockCrdOps.updateStatusAsync(any(), any(KafkaUser.class))).thenReturn(Future.succeededFuture());
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
 
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
 
@@ -398,7 +436,7 @@ public class KafkaUserOperatorTest {
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
         when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
         KafkaUser user = ResourceUtils.createKafkaUserTls();
 
         Secret clientsCa = ResourceUtils.createClientsCaCertSecret();
@@ -461,7 +499,7 @@ public class KafkaUserOperatorTest {
 
         when(quotasOps.reconcile(any(), anyString(), eq(null))).thenReturn(Future.succeededFuture());
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
 
         Checkpoint async = context.checkpoint();
         op.delete(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME))
@@ -484,6 +522,47 @@ public class KafkaUserOperatorTest {
             })));
     }
 
+    @Test
+    public void testPeriodicReconciliationUsesAclAndQuotaSnapshots(VertxTestContext context)    {
+        CrdOperator mockCrdOps = mock(CrdOperator.class);
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
+        ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
+        QuotasOperator quotasOps = mock(QuotasOperator.class);
+
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUser user = ResourceUtils.createKafkaUserTls();
+        Secret clientsCa = ResourceUtils.createClientsCaCertSecret();
+        Secret clientsCaKey = ResourceUtils.createClientsCaKeySecret();
+
+        when(mockSecretOps.reconcile(any(), anyString(), anyString(), any())).thenReturn(Future.succeededFuture());
+
+        ArgumentCaptor<String> aclNameCaptor = ArgumentCaptor.forClass(String.class);
+        when(aclOps.reconcileFromSnapshot(any(), aclNameCaptor.capture(), any())).thenReturn(Future.succeededFuture());
+
+        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+
+        when(mockSecretOps.getAsync(anyString(), eq(clientsCa.getMetadata().getName()))).thenReturn(Future.succeededFuture(clientsCa));
+        when(mockSecretOps.getAsync(anyString(), eq(clientsCaKey.getMetadata().getName()))).thenReturn(Future.succeededFuture(clientsCaKey));
+        when(mockSecretOps.getAsync(anyString(), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(null));
+
+        when(mockCrdOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(user);
+        when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
+        when(mockCrdOps.updateStatusAsync(any(), any(KafkaUser.class))).thenReturn(Future.succeededFuture());
+        when(quotasOps.reconcileFromSnapshot(any(), any(), any())).thenReturn(Future.succeededFuture());
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(new Reconciliation(KafkaUserOperator.PERIODIC_TRIGGER, KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(aclOps, never()).reconcile(any(), any(), any());
+                verify(quotasOps, never()).reconcile(any(), any(), any());
+                verify(quotasOps, times(2)).reconcileFromSnapshot(any(), any(), any());
+                assertThat(aclNameCaptor.getAllValues(), is(List.of(KafkaUserModel.getTlsUserName(ResourceUtils.NAME), KafkaUserModel.getScramUserName(ResourceUtils.NAME))));
+
+                async.flag();
+            })));
+    }
+
     @Test
     public void testReconcileNewTlsUser(VertxTestContext context)    {
         CrdOperator mockCrdOps = mock(CrdOperator.class);
@@ -492,7 +571,7 @@ public class KafkaUserOperatorTest {
         ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
         QuotasOperator quotasOps = mock(QuotasOperator.class);
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
         KafkaUser user = ResourceUtils.createKafkaUserTls();
         Secret clientsCa = ResourceUtils.createClientsCaCertSecret();
         Secret clientsCaKey = ResourceUtils.createClientsCaKeySecret();
@@ -575,7 +654,7 @@ public class KafkaUserOperatorTest {
         ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
         QuotasOperator quotasOps = mock(QuotasOperator.class);
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
         KafkaUser user = ResourceUtils.createKafkaUserTls();
         Secret clientsCa = ResourceUtils.createClientsCaCertSecret();
         Secret clientsCaKey = ResourceUtils.createClientsCaKeySecret();
@@ -659,7 +738,7 @@ public class KafkaUserOperatorTest {
         ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
         QuotasOperator quotasOps = mock(QuotasOperator.class);
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
         KafkaUser user = ResourceUtils.createKafkaUserTls();
         Secret clientsCa = ResourceUtils.createClientsCaCertSecret();
         Secret userCert = ResourceUtils.createUserSecretTls();
@@ -723,12 +802,20 @@ public class KafkaUserOperatorTest {
         KafkaUser existingScramShaUser = ResourceUtils.createKafkaUserTls();
         existingScramShaUser.getMetadata().setName("existing-scram-sha-user");
 
-        when(mockCrdOps.listAsync(eq(ResourceUtils.NAMESPACE), eq(Optional.of(new LabelSelector(null, Labels.fromMap(ResourceUtils.LABELS).toMap()))))).thenReturn(
-                Future.succeededFuture(Arrays.asList(newTlsUser, newScramShaUser, existingTlsUser, existingScramShaUser)));
+        KafkaUser unlabelledUser = ResourceUtils.createKafkaUserTls();
+        unlabelledUser.getMetadata().setName("unlabelled-user");
+        unlabelledUser.getMetadata().setLabels(null);
+
+        when(mockCrdOps.listAsync(eq(ResourceUtils.NAMESPACE), eq(Optional.empty()))).thenReturn(
+                Future.succeededFuture(Arrays.asList(newTlsUser, newScramShaUser, existingTlsUser, existingScramShaUser, unlabelledUser)));
         when(mockSecretOps.list(eq(ResourceUtils.NAMESPACE), eq(Labels.fromMap(ResourceUtils.LABELS).withStrimziKind(KafkaUser.RESOURCE_KIND)))).thenReturn(Arrays.asList(existingTlsUserSecret, existingScramShaUserSecret));
-        when(aclOps.getAllUsers()).thenReturn(Future.succeededFuture(new HashSet<String>(Arrays.asList("existing-tls-user", "second-deleted-user"))));
+        when(aclOps.getAllUsernames()).thenReturn(Future.succeededFuture(Set.of("CN=existing-tls-user", "second-deleted-user", "CN=unlabelled-user")));
+        when(aclOps.deleteUsers(any(), any())).thenReturn(Future.succeededFuture());
         when(scramOps.getAllUsers()).thenReturn(Future.succeededFuture(List.of("existing-tls-user", "deleted-scram-sha-user")));
-        when(quotasOps.getAllUsers()).thenReturn(Future.succeededFuture(Set.of("existing-tls-user", "quota-user")));
+        when(quotasOps.getAllUsernames()).thenReturn(Future.succeededFuture(Set.of("CN=existing-tls-user", "quota-user")));
+        when(quotasOps.deleteUsers(any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.deleteUsers(any(), any())).thenReturn(Future.succeededFuture());
+        when(mockSecretOps.reconcile(any(), eq(ResourceUtils.NAMESPACE), anyString(), isNull())).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
 
         when(mockCrdOps.get(eq(newTlsUser.getMetadata().getNamespace()), eq(newTlsUser.getMetadata().getName()))).thenReturn(newTlsUser);
         when(mockCrdOps.get(eq(newScramShaUser.getMetadata().getNamespace()), eq(newScramShaUser.getMetadata().getName()))).thenReturn(newScramShaUser);
@@ -765,6 +852,7 @@ public class KafkaUserOperatorTest {
                 return Future.succeededFuture(Boolean.TRUE);
             }
         };
+        operators.add(op);
 
         // call reconcileAll and pass in promise to the handler to run assertions on completion
         op.reconcileAll("test", ResourceUtils.NAMESPACE, ar -> reconcileAllCompleted.complete());
@@ -772,7 +860,14 @@ public class KafkaUserOperatorTest {
         reconcileAllCompleted.future().compose(v -> context.verify(() -> {
             assertThat(createdOrUpdated, is(new HashSet(asList("new-tls-user", "existing-tls-user",
                     "new-scram-sha-user", "existing-scram-sha-user"))));
-            assertThat(deleted, is(new HashSet(asList("quota-user", "second-deleted-user", "deleted-scram-sha-user"))));
+            // Users without KafkaUser resource are deleted without being reconciled
+            assertThat(deleted.isEmpty(), is(true));
+            verify(aclOps).deleteUsers(any(), eq(List.of("second-deleted-user")));
+            verify(quotasOps).deleteUsers(any(), eq(List.of("quota-user")));
+            verify(scramOps).deleteUsers(any(), eq(List.of("deleted-scram-sha-user")));
+            verify(mockSecretOps).reconcile(any(), eq(ResourceUtils.NAMESPACE), eq("second-deleted-user"), isNull());
+            verify(mockSecretOps).reconcile(any(), eq(ResourceUtils.NAMESPACE), eq("quota-user"), isNull());
+            verify(mockSecretOps).reconcile(any(), eq(ResourceUtils.NAMESPACE), eq("deleted-scram-sha-user"), isNull());
             async.flag();
         }));
     }
@@ -799,11 +894,18 @@ public class KafkaUserOperatorTest {
         KafkaUser existingScramShaUser = ResourceUtils.createKafkaUserTls();
         existingScramShaUser.getMetadata().setName("existing-scram-sha-user");
 
-        when(mockCrdOps.listAsync(eq(ResourceUtils.NAMESPACE), eq(Optional.of(new LabelSelector(null, Labels.fromMap(ResourceUtils.LABELS).toMap()))))).thenReturn(
-                Future.succeededFuture(Arrays.asList(newTlsUser, newScramShaUser, existingTlsUser, existingScramShaUser)));
+        KafkaUser unlabelledUser = ResourceUtils.createKafkaUserTls();
+        unlabelledUser.getMetadata().setName("unlabelled-user");
+        unlabelledUser.getMetadata().setLabels(null);
+
+        when(mockCrdOps.listAsync(eq(ResourceUtils.NAMESPACE), eq(Optional.empty()))).thenReturn(
+                Future.succeededFuture(Arrays.asList(newTlsUser, newScramShaUser, existingTlsUser, existingScramShaUser, unlabelledUser)));
         when(mockSecretOps.list(eq(ResourceUtils.NAMESPACE), eq(Labels.fromMap(ResourceUtils.LABELS).withStrimziKind(KafkaUser.RESOURCE_KIND)))).thenReturn(Arrays.asList(existingTlsUserSecret, existingScramShaUserSecret));
         when(scramOps.getAllUsers()).thenReturn(Future.succeededFuture(List.of("existing-tls-user", "deleted-scram-sha-user")));
-        when(quotasOps.getAllUsers()).thenReturn(Future.succeededFuture(Set.of("existing-tls-user", "quota-user")));
+        when(quotasOps.getAllUsernames()).thenReturn(Future.succeededFuture(Set.of("CN=existing-tls-user", "quota-user")));
+        when(quotasOps.deleteUsers(any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.deleteUsers(any(), any())).thenReturn(Future.succeededFuture());
+        when(mockSecretOps.reconcile(any(), eq(ResourceUtils.NAMESPACE), anyString(), isNull())).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
 
         when(mockCrdOps.get(eq(newTlsUser.getMetadata().getNamespace()), eq(newTlsUser.getMetadata().getName()))).thenReturn(newTlsUser);
         when(mockCrdOps.get(eq(newScramShaUser.getMetadata().getNamespace()), eq(newScramShaUser.getMetadata().getName()))).thenReturn(newScramShaUser);
@@ -840,6 +942,7 @@ public class KafkaUserOperatorTest {
                 return Future.succeededFuture(Boolean.TRUE);
             }
         };
+        operators.add(op);
 
         // call reconcileAll and pass in promise to the handler to run assertions on completion
         op.reconcileAll("test", ResourceUtils.NAMESPACE, ar -> reconcileAllCompleted.complete());
@@ -847,8 +950,11 @@ public class KafkaUserOperatorTest {
         reconcileAllCompleted.future().compose(v -> context.verify(() -> {
             assertThat(createdOrUpdated, is(new HashSet(asList("new-tls-user", "existing-tls-user",
                     "new-scram-sha-user", "existing-scram-sha-user"))));
-            assertThat(deleted, is(new HashSet(asList("quota-user", "deleted-scram-sha-user"))));
-            verify(aclOps, never()).getAllUsers();
+            assertThat(deleted.isEmpty(), is(true));
+            verify(quotasOps).deleteUsers(any(), eq(List.of("quota-user")));
+            verify(scramOps).deleteUsers(any(), eq(List.of("deleted-scram-sha-user")));
+            verify(aclOps, never()).getAllUsernames();
+            verify(aclOps, never()).deleteUsers(any(), any());
             async.flag();
         }));
     }
@@ -861,7 +967,7 @@ public class KafkaUserOperatorTest {
         ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
         QuotasOperator quotasOps = mock(QuotasOperator.class);
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
         KafkaUser user = ResourceUtils.createKafkaUserScramSha();
 
         ArgumentCaptor<String> secretNamespaceCaptor = ArgumentCaptor.forClass(String.class);
@@ -933,6 +1039,54 @@ public class KafkaUserOperatorTest {
             })));
     }
 
+    @Test
+    public void testReconcileScramShaUserSkipsUnchangedCredentials(VertxTestContext context)    {
+        CrdOperator mockCrdOps = mock(CrdOperator.class);
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
+        ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
+        QuotasOperator quotasOps = mock(QuotasOperator.class);
+
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUser user = ResourceUtils.createKafkaUserScramSha();
+        Secret userSecret = ResourceUtils.createUserSecretScramSha();
+
+        ArgumentCaptor<Secret> secretCaptor = ArgumentCaptor.forClass(Secret.class);
+        when(mockSecretOps.reconcile(any(), anyString(), anyString(), secretCaptor.capture())).thenReturn(Future.succeededFuture());
+
+        when(aclOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcileUnchanged(any(), any(), any())).thenReturn(Future.succeededFuture());
+
+        when(mockSecretOps.getAsync(anyString(), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(userSecret));
+
+        when(mockCrdOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(user);
+        when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
+        when(mockCrdOps.updateStatusAsync(any(), any(KafkaUser.class))).thenReturn(Future.succeededFuture());
+        when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME))
+            .compose(v -> {
+                context.verify(() -> {
+                    // Without a fingerprint the credentials are upserted and the fingerprint is recorded
+                    verify(scramOps, times(1)).reconcile(any(), eq(ResourceUtils.NAME), any());
+                    verify(scramOps, never()).reconcileUnchanged(any(), any(), any());
+                    assertThat(secretCaptor.getValue().getMetadata().getAnnotations().get(KafkaUserModel.ANNO_STRIMZI_IO_SCRAM_CREDENTIAL_FINGERPRINT), is(notNullValue()));
+                });
+
+                when(mockSecretOps.getAsync(anyString(), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(secretCaptor.getValue()));
+                return op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME));
+            })
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // With the fingerprint of the same password the credentials are only checked
+                verify(scramOps, times(1)).reconcile(any(), eq(ResourceUtils.NAME), any());
+                verify(scramOps, times(1)).reconcileUnchanged(any(), eq(ResourceUtils.NAME), any());
+
+                async.flag();
+            })));
+    }
+
     @Test
     public void testReconcileNewScramShaUserWithProvidedPassword(VertxTestContext context)    {
         String desiredPassword = "12345678";
@@ -963,7 +1117,7 @@ public class KafkaUserOperatorTest {
         ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
         QuotasOperator quotasOps = mock(QuotasOperator.class);
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
 
         ArgumentCaptor<String> secretNamespaceCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> secretNameCaptor = ArgumentCaptor.forClass(String.class);
@@ -1043,7 +1197,7 @@ public class KafkaUserOperatorTest {
         ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
         QuotasOperator quotasOps = mock(QuotasOperator.class);
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
         KafkaUser user = ResourceUtils.createKafkaUserScramSha();
         Secret userCert = ResourceUtils.createUserSecretScramSha();
         String password = new String(Base64.getDecoder().decode(userCert.getData().get(KafkaUserModel.KEY_PASSWORD)));
@@ -1125,7 +1279,7 @@ public class KafkaUserOperatorTest {
         ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
         QuotasOperator quotasOps = mock(QuotasOperator.class);
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
         KafkaUser user = ResourceUtils.createKafkaUserScramSha();
         Secret userCert = ResourceUtils.createUserSecretTls();
 
@@ -1185,7 +1339,7 @@ public class KafkaUserOperatorTest {
         ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
         QuotasOperator quotasOps = mock(QuotasOperator.class);
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
         Secret clientsCa = ResourceUtils.createClientsCaCertSecret();
         Secret clientsCaKey = ResourceUtils.createClientsCaKeySecret();
 
@@ -1287,7 +1441,7 @@ public class KafkaUserOperatorTest {
         when(mockCrdOps.updateStatusAsync(any(), userCaptor.capture())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
 
         Checkpoint async = context.checkpoint();
         op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME))
@@ -1325,7 +1479,7 @@ public class KafkaUserOperatorTest {
         when(mockCrdOps.updateStatusAsync(any(), userCaptor.capture())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
 
-        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUserOperator op = createOperator(mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
 
         Checkpoint async = context.checkpoint();
         op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME))
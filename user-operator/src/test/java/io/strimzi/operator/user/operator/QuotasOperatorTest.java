@@ -0,0 +1,180 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.api.kafka.model.KafkaUserQuotasBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.InvalidRequestException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.apache.kafka.common.quota.ClientQuotaFilter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class QuotasOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testGetAllUsersDecodesTlsUsers(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        QuotasOperator quotasOperator = new QuotasOperator(vertx, mockAdminClient);
+
+        Map<ClientQuotaEntity, Map<String, Double>> quotas = Map.of(
+                new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, "CN=tls-user")), Map.of("producer_byte_rate", 1024d),
+                new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, "scram-user")), Map.of("consumer_byte_rate", 2048d),
+                new ClientQuotaEntity(Map.of(ClientQuotaEntity.CLIENT_ID, "my-client")), Map.of("request_percentage", 20d));
+        when(mockAdminClient.describeClientQuotas(any())).thenReturn(new DescribeClientQuotasResult(KafkaFuture.completedFuture(quotas)));
+
+        KafkaUserQuotas tlsUserQuotas = new KafkaUserQuotasBuilder().withProducerByteRate(1024).build();
+
+        Checkpoint async = context.checkpoint();
+        quotasOperator.getAllUsers()
+                .onComplete(context.succeeding(users -> context.verify(() -> {
+                    // The quota entities of TLS users use the subject of their certificate
+                    assertThat(users, is(Set.of("tls-user", "scram-user")));
+                })))
+                // The quotas of the TLS user are taken from the snapshot under its Kafka user name
+                .compose(users -> quotasOperator.reconcileFromSnapshot(Reconciliation.DUMMY_RECONCILIATION, "CN=tls-user", tlsUserQuotas))
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).describeClientQuotas(any(ClientQuotaFilter.class));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testGetAllUsersIgnoresDefaultUserQuotas(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        QuotasOperator quotasOperator = new QuotasOperator(vertx, mockAdminClient);
+
+        // The default user quotas (kafka-configs --entity-type users --entity-default) have no user name
+        Map<ClientQuotaEntity, Map<String, Double>> quotas = Map.of(
+                new ClientQuotaEntity(Collections.singletonMap(ClientQuotaEntity.USER, null)), Map.of("producer_byte_rate", 512d),
+                new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, "CN=tls-user")), Map.of("producer_byte_rate", 1024d));
+        when(mockAdminClient.describeClientQuotas(any())).thenReturn(new DescribeClientQuotasResult(KafkaFuture.completedFuture(quotas)));
+
+        Checkpoint async = context.checkpoint();
+        quotasOperator.getAllUsernames()
+                .onComplete(context.succeeding(usernames -> context.verify(() -> assertThat(usernames, is(Set.of("CN=tls-user"))))))
+                .compose(usernames -> quotasOperator.getAllUsers())
+                .onComplete(context.succeeding(users -> context.verify(() -> {
+                    assertThat(users, is(Set.of("tls-user")));
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testDeleteUsersWithPartialFailure(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        QuotasOperator quotasOperator = new QuotasOperator(vertx, mockAdminClient);
+        List<Collection<ClientQuotaAlteration>> requests = mockAlterClientQuotas(mockAdminClient, "bar");
+
+        Checkpoint async = context.checkpoint();
+        quotasOperator.deleteUsers(Reconciliation.DUMMY_RECONCILIATION, List.of("foo", "bar", "baz"))
+                .onComplete(context.failing(error -> context.verify(() -> {
+                    assertThat(error, instanceOf(InvalidRequestException.class));
+
+                    // The quotas of all users are removed with a single request regardless of the failure
+                    assertThat(requests.size(), is(1));
+                    assertThat(users(requests.get(0)), is(Set.of("foo", "bar", "baz")));
+                    assertThat(requests.get(0).stream().allMatch(cqa -> cqa.ops().stream().allMatch(op -> op.value() == null)), is(true));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testDeleteUsersWithPartialFailureInBatch(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        QuotasOperator quotasOperator = new QuotasOperator(vertx, mockAdminClient, new AdminApiBatcher(vertx, mockAdminClient, 100, 1000));
+        List<Collection<ClientQuotaAlteration>> requests = mockAlterClientQuotas(mockAdminClient, "bar");
+
+        Checkpoint async = context.checkpoint();
+        quotasOperator.deleteUsers(Reconciliation.DUMMY_RECONCILIATION, List.of("foo", "bar", "baz"))
+                .onComplete(context.failing(error -> context.verify(() -> {
+                    assertThat(error, instanceOf(InvalidRequestException.class));
+
+                    // The deletions are merged into a single batch and the failure of one user does not stop the others
+                    assertThat(requests.size(), is(1));
+                    assertThat(users(requests.get(0)), is(Set.of("foo", "bar", "baz")));
+
+                    async.flag();
+                })));
+    }
+
+    /**
+     * Mocks the alterClientQuotas call which fails for the given user and succeeds for all others
+     *
+     * @return  The list of the alterations of each request
+     */
+    private static List<Collection<ClientQuotaAlteration>> mockAlterClientQuotas(Admin mockAdminClient, String failingUser) {
+        List<Collection<ClientQuotaAlteration>> requests = new ArrayList<>();
+
+        when(mockAdminClient.alterClientQuotas(any())).thenAnswer(invocation -> {
+            Collection<ClientQuotaAlteration> alterations = invocation.getArgument(0);
+            requests.add(new ArrayList<>(alterations));
+
+            Map<ClientQuotaEntity, KafkaFuture<Void>> values = new HashMap<>();
+            for (ClientQuotaAlteration alteration : alterations) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (failingUser.equals(alteration.entity().entries().get(ClientQuotaEntity.USER))) {
+                    future.completeExceptionally(new InvalidRequestException("Invalid quota"));
+                } else {
+                    future.complete(null);
+                }
+                values.put(alteration.entity(), future);
+            }
+
+            return new AlterClientQuotasResult(values);
+        });
+
+        return requests;
+    }
+
+    private static Set<String> users(Collection<ClientQuotaAlteration> alterations) {
+        return alterations.stream().map(cqa -> cqa.entity().entries().get(ClientQuotaEntity.USER)).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.apache.kafka.common.errors.UnsupportedSaslMechanismException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ScramCredentialsOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testDeleteUsersIgnoresMissingCredentials(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ScramCredentialsOperator scramOperator = new ScramCredentialsOperator(vertx, mockAdminClient);
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = mockAlterUserScramCredentials(mockAdminClient,
+                Map.of("bar", new ResourceNotFoundException("No credentials")));
+
+        Checkpoint async = context.checkpoint();
+        scramOperator.deleteUsers(Reconciliation.DUMMY_RECONCILIATION, List.of("foo", "bar"))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).alterUserScramCredentials(alterationsCaptor.capture());
+                    assertThat(users(alterationsCaptor.getValue()), is(Set.of("foo", "bar")));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testDeleteUsersWithPartialFailure(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ScramCredentialsOperator scramOperator = new ScramCredentialsOperator(vertx, mockAdminClient);
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = mockAlterUserScramCredentials(mockAdminClient,
+                Map.of("bar", new UnsupportedSaslMechanismException("Unsupported mechanism"),
+                        "baz", new ResourceNotFoundException("No credentials")));
+
+        Checkpoint async = context.checkpoint();
+        scramOperator.deleteUsers(Reconciliation.DUMMY_RECONCILIATION, List.of("foo", "bar", "baz"))
+                .onComplete(context.failing(error -> context.verify(() -> {
+                    assertThat(error, instanceOf(UnsupportedSaslMechanismException.class));
+
+                    // The credentials of all users are deleted with a single request regardless of the failure
+                    verify(mockAdminClient, times(1)).alterUserScramCredentials(alterationsCaptor.capture());
+                    assertThat(users(alterationsCaptor.getValue()), is(Set.of("foo", "bar", "baz")));
+                    assertThat(alterationsCaptor.getValue().stream()
+                            .allMatch(alteration -> alteration instanceof UserScramCredentialDeletion
+                                    && ((UserScramCredentialDeletion) alteration).mechanism() == ScramMechanism.SCRAM_SHA_512), is(true));
+
+                    async.flag();
+                })));
+    }
+
+    /**
+     * Mocks the alterUserScramCredentials call which fails with the given errors for some users and succeeds for all
+     * others
+     *
+     * @return  Captor of the alterations
+     */
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<UserScramCredentialAlteration>> mockAlterUserScramCredentials(Admin mockAdminClient, Map<String, Throwable> errors) {
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = ArgumentCaptor.forClass(List.class);
+
+        when(mockAdminClient.alterUserScramCredentials(alterationsCaptor.capture())).thenAnswer(invocation -> {
+            List<UserScramCredentialAlteration> alterations = invocation.getArgument(0);
+
+            Map<String, KafkaFuture<Void>> values = new HashMap<>();
+            for (UserScramCredentialAlteration alteration : alterations) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (errors.containsKey(alteration.user())) {
+                    future.completeExceptionally(errors.get(alteration.user()));
+                } else {
+                    future.complete(null);
+                }
+                values.put(alteration.user(), future);
+            }
+
+            return new AlterUserScramCredentialsResult(values);
+        });
+
+        return alterationsCaptor;
+    }
+
+    private static Set<String> users(List<UserScramCredentialAlteration> alterations) {
+        return alterations.stream().map(UserScramCredentialAlteration::user).collect(Collectors.toSet());
+    }
+}
@@ -8,6 +8,7 @@ import io.strimzi.api.kafka.model.AclOperation;
 import io.strimzi.api.kafka.model.AclResourcePatternType;
 import io.strimzi.api.kafka.model.AclRuleType;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
@@ -53,6 +54,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -233,6 +236,78 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testReconcileFromSnapshotDescribesAclsOnlyOnce(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding readAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+        AclBinding writeAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.WRITE, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+        SimpleAclRule writeRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.WRITE);
+
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        assertDoesNotThrow(() -> {
+            mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding));
+            mockCreateAcls(mockAdminClient, aclBindingsCaptor);
+        });
+
+        Checkpoint async = context.checkpoint();
+        aclOp.getAllUsers()
+                .compose(users -> aclOp.reconcileFromSnapshot(Reconciliation.DUMMY_RECONCILIATION, "CN=foo", new HashSet<>(asList(readRule, writeRule))))
+                .compose(rr -> {
+                    context.verify(() -> {
+                        // Only the snapshot was described
+                        verify(mockAdminClient, times(1)).describeAcls(any());
+                        assertThat(aclBindingsCaptor.getValue(), is(Collections.singletonList(writeAclBinding)));
+                    });
+                    return aclOp.reconcileFromSnapshot(Reconciliation.DUMMY_RECONCILIATION, "bar", null);
+                })
+                .compose(rr -> {
+                    context.verify(() -> {
+                        // Users without any ACLs in the snapshot are not described either
+                        verify(mockAdminClient, times(1)).describeAcls(any());
+                        assertThat(rr instanceof ReconcileResult.Noop, is(true));
+                    });
+                    return aclOp.reconcileFromSnapshot(Reconciliation.DUMMY_RECONCILIATION, "CN=foo", new HashSet<>(asList(readRule, writeRule)));
+                })
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    // The snapshot was already used for this user and its ACLs have changed since
+                    verify(mockAdminClient, times(2)).describeAcls(any());
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testDeleteUsersDeletesAllAclsInSingleRequest(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor = ArgumentCaptor.forClass(Collection.class);
+        assertDoesNotThrow(() -> mockDeleteAcls(mockAdminClient, emptyList(), aclBindingFiltersCaptor));
+
+        Checkpoint async = context.checkpoint();
+        aclOp.deleteUsers(Reconciliation.DUMMY_RECONCILIATION, asList("CN=foo", "bar"))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).deleteAcls(any());
+
+                    Collection<AclBindingFilter> capturedAclBindingFilters = aclBindingFiltersCaptor.getValue();
+                    assertThat(capturedAclBindingFilters, hasSize(2));
+                    assertThat(capturedAclBindingFilters.stream().map(filter -> filter.entryFilter().principal()).collect(Collectors.toSet()),
+                            is(new HashSet<>(asList("User:CN=foo", "User:bar"))));
+                    assertThat(capturedAclBindingFilters.stream().allMatch(filter -> filter.patternFilter().equals(ResourcePatternFilter.ANY)), is(true));
+
+                    async.flag();
+                })));
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings) {
         DescribeAclsResult result = mock(DescribeAclsResult.class);
         KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);